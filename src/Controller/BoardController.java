@@ -1,14 +1,26 @@
 package Controller;
 
 import Model.Board.Bank;
+import Model.Board.ComputerPlayer;
 import Model.Board.Dice;
 import Model.Board.Gameboard;
 import Model.Board.Player;
+import Model.Broadcast.StateBroadcaster;
+import Model.Events.TurnEvent;
+import Model.GameLog;
 import Model.GameState;
 import Model.Property.Property;
+import Model.Rules.GoSalary;
+import Model.Spaces.FreeParkingSpace;
+import Model.Spaces.Ownable;
 import Model.Spaces.RailroadSpace;
 import Model.Spaces.Space;
 import Model.Spaces.UtilitySpace;
+import Model.Termination.GameEnd;
+import Model.Trade.Trade;
+import Model.Trade.TradeEvaluator;
+import Model.Trade.TradeOffer;
+import Model.Trade.TradeStatus;
 
 import java.util.List;
 
@@ -23,6 +35,8 @@ public class BoardController {
     private Bank bank;
     private List<Player> players;
     private Dice dice;
+    private StateBroadcaster broadcaster;
+    private TradeEvaluator tradeEvaluator;
 
     /**
      * Author: Marena Abboud
@@ -73,26 +87,48 @@ public class BoardController {
      * @return True if the player gets another turn (e.g., rolled doubles), false otherwise
      */
     public boolean handlePlayerTurn(Player player) {
-        System.out.println("\n" + player.getName() + " is taking their turn.");
+        TurnEvent event = TurnEvent.start();
+        int fromPosition = player.getPosition();
+        int cashBefore = player.getMoney();
+        boolean jailed = gameState.isPlayerInJail(player);
+        if (GameLog.isEnabled()) {
+            System.out.println("\n" + player.getName() + " is taking their turn.");
+        }
+
+        boolean getAnotherTurn = jailed ? handleJailTurn(player) : playTurn(player);
 
-        // Check if player is in jail
-        if (gameState.isPlayerInJail(player)) {
-            return handleJailTurn(player);
+        if (event != null) {
+            event.finish(gameState.getGameId(), gameState.getTurnsPlayed(), player, fromPosition, jailed, cashBefore);
         }
+        gameState.getMetrics().turnPlayed();
+        return getAnotherTurn;
+    }
 
+    /**
+     * Rolls and moves a player who is not in jail and resolves the space they land on.
+     *
+     * @param player The player taking the turn
+     * @return true if the player gets another turn
+     */
+    private boolean playTurn(Player player) {
         // Roll the dice and move player
-        int[] diceValues = rollDice();
-        int roll = diceValues[0] + diceValues[1];
-        boolean isDoubles = (diceValues[0] == diceValues[1]);
+        int roll = dice.rollDice();
+        boolean isDoubles = dice.getDie1Value() == dice.getDie2Value();
 
-        System.out.println(player.getName() + " rolled " + diceValues[0] + " + " + diceValues[1] + " = " + roll);
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " rolled " + dice.getDie1Value() + " + " + dice.getDie2Value() + " = " + roll);
+        }
 
         // Check for three consecutive doubles (go to jail)
         if (isDoubles) {
-            System.out.println(player.getName() + " rolled doubles!");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " rolled doubles!");
+            }
 
             if (dice.shouldGoToJail()) {
-                System.out.println(player.getName() + " rolled three consecutive doubles and is going to jail!");
+                if (GameLog.isEnabled()) {
+                    System.out.println(player.getName() + " rolled three consecutive doubles and is going to jail!");
+                }
                 sendToJail(player);
                 return false;
             }
@@ -119,46 +155,55 @@ public class BoardController {
      * @return False (player's turn ends after jail processing)
      */
     private boolean handleJailTurn(Player player) {
-        System.out.println(player.getName() + " is in Jail (Turn " + (player.getTurnsInJail() + 1) + " in jail)");
-        player.setTurnsInJail(player.getTurnsInJail() + 1);
-
-        // This would be expanded based on player's choice (UI interaction)
-        // For now, implementing a simple strategy:
-
-        // Option 1: Use Get Out of Jail Free card if available
-        if (player.hasGetOutOfJailFreeCard()) {
-            useGetOutOfJailCard(player);
-            return false;
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " is in Jail (Turn " + (player.getTurnsInJail() + 1) + " in jail)");
         }
+        player.setTurnsInJail(player.getTurnsInJail() + 1);
 
-        // Option 2: Pay to get out if can afford it
-        if (player.getMoney() >= 50) {
-            payToGetOutOfJail(player);
-            return false;
+        // Leave with a card or the fine only when that is expected to cost less than staying
+        switch (gameState.getJailDecisions().decide(player, gameState)) {
+            case USE_CARD:
+                useGetOutOfJailCard(player);
+                return false;
+            case PAY:
+                payToGetOutOfJail(player);
+                return false;
+            default:
+                break;
         }
 
-        // Option 3: Roll for doubles
-        int[] diceValues = rollDice();
-        boolean isDoubles = (diceValues[0] == diceValues[1]);
+        // Otherwise roll for doubles
+        int roll = dice.rollDice();
+        boolean isDoubles = dice.getDie1Value() == dice.getDie2Value();
 
-        System.out.println(player.getName() + " rolled " + diceValues[0] + " + " + diceValues[1]);
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " rolled " + dice.getDie1Value() + " + " + dice.getDie2Value());
+        }
 
         if (isDoubles) {
-            System.out.println(player.getName() + " rolled doubles and gets out of Jail!");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " rolled doubles and gets out of Jail!");
+            }
             releaseFromJail(player);
-            movePlayer(player, diceValues[0] + diceValues[1]);
+            movePlayer(player, roll);
             handleSpaceLanding(player);
         } else if (player.getTurnsInJail() >= 3) {
             // After 3 turns, player must pay and get out if possible
             if (player.getMoney() >= 50) {
-                System.out.println(player.getName() + " has been in Jail for 3 turns and must pay $50 to get out.");
+                if (GameLog.isEnabled()) {
+                    System.out.println(player.getName() + " has been in Jail for 3 turns and must pay $50 to get out.");
+                }
                 payToGetOutOfJail(player);
             } else {
-                System.out.println(player.getName() + " cannot afford to pay the jail fee after 3 turns.");
+                if (GameLog.isEnabled()) {
+                    System.out.println(player.getName() + " cannot afford to pay the jail fee after 3 turns.");
+                }
                 // Handle bankruptcy or other strategies here
             }
         } else {
-            System.out.println(player.getName() + " stays in Jail.");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " stays in Jail.");
+            }
         }
 
         return false;
@@ -188,13 +233,15 @@ public class BoardController {
 
         // Check if player passed Go
         if (newPosition < oldPosition && oldPosition + steps >= board.getSpaces().size()) {
-            System.out.println(player.getName() + " passed Go and collects $200!");
-            bank.playerPassedGo(player);
+            GoSalary salary = gameState.getRules().getGoSalary();
+            bank.playerPassedGo(player, newPosition == 0 ? salary.landing() : salary.passing());
         }
 
         player.setPosition(newPosition);
-        System.out.println(player.getName() + " moved from " + oldPosition + " to " + newPosition +
-                " (" + board.getspace(newPosition).getName() + ")");
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " moved from " + oldPosition + " to " + newPosition +
+                    " (" + board.getspace(newPosition).getName() + ")");
+        }
     }
 
     /**
@@ -225,7 +272,9 @@ public class BoardController {
             } else if (currentSpace.getType().equals("Go To Jail")) {
                 sendToJail(player);
             } else if (currentSpace.getType().equals("Tax")) {
-                handleTaxSpace(player, currentSpace.getName());
+                handleTaxSpace(player, currentSpace);
+            } else if (currentSpace instanceof FreeParkingSpace) {
+                gameState.getRules().getFreeParking().land(player, (FreeParkingSpace) currentSpace);
             }
         }
     }
@@ -238,33 +287,105 @@ public class BoardController {
      * @param property The property landed on
      */
     private void handlePropertyLanding(Player player, Property property) {
-        System.out.println(player.getName() + " landed on " + property.getName());
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " landed on " + property.getName());
+        }
 
         if (property.isOwned()) {
             if (property.getOwner() != player) {
                 if (property.isMortgaged()) {
-                    System.out.println(property.getName() + " is mortgaged, no rent is due.");
+                    if (GameLog.isEnabled()) {
+                        System.out.println(property.getName() + " is mortgaged, no rent is due.");
+                    }
                 } else {
                     int rent = property.calculateRent(gameState);
-                    System.out.println(player.getName() + " must pay $" + rent + " rent to " + property.getOwner().getName());
-                    player.payRent(property.getOwner(), rent);
+                    if (GameLog.isEnabled()) {
+                        System.out.println(player.getName() + " must pay $" + rent + " rent to " + property.getOwner().getName());
+                    }
+                    payRent(player, property.getOwner(), rent);
                 }
             } else {
-                System.out.println(player.getName() + " owns this property.");
+                if (GameLog.isEnabled()) {
+                    System.out.println(player.getName() + " owns this property.");
+                }
             }
         } else {
             // Property is not owned
-            System.out.println(property.getName() + " is not owned. It costs $" + property.getPrice());
+            if (GameLog.isEnabled()) {
+                System.out.println(property.getName() + " is not owned. It costs $" + property.getPrice());
+            }
 
             // This would be expanded with UI interaction for buying decision
             // For demonstration, assume player buys if they can afford it
-            if (player.getMoney() >= property.getPrice()) {
+            if (wantsToBuy(player, property)) {
                 bank.sellProperty(property, player);
             } else {
-                System.out.println(player.getName() + " cannot afford " + property.getName());
-                // Could implement auction here
+                declinePurchase(player, property);
+            }
+        }
+    }
+
+    /**
+     * Decides whether a player buys the unowned space they landed on, and lets the other
+     * players see the decision. Computer players ask their strategy; everyone else buys
+     * whatever they can afford.
+     *
+     * @param player The player who landed on the space
+     * @param space  The space for sale
+     * @return true if the player buys the space
+     */
+    private boolean wantsToBuy(Player player, Ownable space) {
+        boolean buy = player instanceof ComputerPlayer
+                ? ((ComputerPlayer) player).shouldBuy(space, gameState)
+                : player.getMoney() >= space.getPrice();
+        gameState.getOpponentTracker().purchaseDecided(player, space, buy);
+        return buy;
+    }
+
+    /**
+     * Passes on a space the player landing on it did not buy, as the house rules say.
+     *
+     * @param player The player who landed on the space
+     * @param space  The property, railroad or utility they did not buy
+     */
+    private void declinePurchase(Player player, Space space) {
+        if (GameLog.isEnabled()) {
+            if (player.getMoney() >= ((Ownable) space).getPrice()) {
+                System.out.println(player.getName() + " chooses not to buy " + space.getName());
+            } else {
+                System.out.println(player.getName() + " cannot afford " + space.getName());
+            }
+        }
+        gameState.getRules().getDeclineRule().declined(space, bank, gameState.getPlayers());
+    }
+
+    /**
+     * Makes a player pay rent, first selling buildings and mortgaging properties
+     * if they are short and doing so would raise enough. A player who still cannot
+     * pay hands the owner what cash they have and is bankrupt. Nothing is paid if
+     * the house rules excuse it.
+     *
+     * @param player The player paying
+     * @param owner  The owner receiving the rent
+     * @param rent   The rent due
+     * @return true if the rent was paid or excused
+     */
+    private boolean payRent(Player player, Player owner, int rent) {
+        if (!gameState.getRules().getRentRule().collects(owner, gameState)) {
+            if (GameLog.isEnabled()) {
+                System.out.println(owner.getName() + " is in Jail and cannot collect rent.");
+            }
+            return true;
+        }
+        boolean paid = gameState.payDebt(player, owner, rent, "Rent");
+        if (paid) {
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " paid $" + rent + " rent to " + owner.getName() +
+                        ". New balance: $" + player.getMoney());
             }
+            gameState.getMetrics().rentPaid(rent);
         }
+        return paid;
     }
 
     /**
@@ -275,25 +396,32 @@ public class BoardController {
      * @param railroad The railroad landed on
      */
     private void handleRailroadLanding(Player player, RailroadSpace railroad) {
-        System.out.println(player.getName() + " landed on " + railroad.getName());
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " landed on " + railroad.getName());
+        }
 
         if (railroad.isOwned()) {
             if (railroad.getOwner() != player) {
                 int rent = railroad.calculateRent(gameState);
-                System.out.println(player.getName() + " must pay $" + rent + " rent to " + railroad.getOwner().getName());
-                player.payRent(railroad.getOwner(), rent);
+                if (GameLog.isEnabled()) {
+                    System.out.println(player.getName() + " must pay $" + rent + " rent to " + railroad.getOwner().getName());
+                }
+                payRent(player, railroad.getOwner(), rent);
             } else {
-                System.out.println(player.getName() + " owns this railroad.");
+                if (GameLog.isEnabled()) {
+                    System.out.println(player.getName() + " owns this railroad.");
+                }
             }
         } else {
-            System.out.println(railroad.getName() + " is not owned. It costs $" + railroad.getPrice());
+            if (GameLog.isEnabled()) {
+                System.out.println(railroad.getName() + " is not owned. It costs $" + railroad.getPrice());
+            }
 
             // This would be expanded with UI interaction
-            if (player.getMoney() >= railroad.getPrice()) {
+            if (wantsToBuy(player, railroad)) {
                 player.buyRailroad(railroad);
             } else {
-                System.out.println(player.getName() + " cannot afford " + railroad.getName());
-                // Could implement auction here
+                declinePurchase(player, railroad);
             }
         }
     }
@@ -306,7 +434,9 @@ public class BoardController {
      * @param utility The utility landed on
      */
     private void handleUtilityLanding(Player player, UtilitySpace utility) {
-        System.out.println(player.getName() + " landed on " + utility.getName());
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " landed on " + utility.getName());
+        }
 
         if (utility.isOwned()) {
             if (utility.getOwner() != player) {
@@ -314,20 +444,25 @@ public class BoardController {
                 int diceRoll = dice.rollDice();
                 int rent = utility.calculateRent(diceRoll, gameState);
 
-                System.out.println(player.getName() + " rolled " + diceRoll + " and must pay $" + rent + " to " + utility.getOwner().getName());
-                player.payRent(utility.getOwner(), rent);
+                if (GameLog.isEnabled()) {
+                    System.out.println(player.getName() + " rolled " + diceRoll + " and must pay $" + rent + " to " + utility.getOwner().getName());
+                }
+                payRent(player, utility.getOwner(), rent);
             } else {
-                System.out.println(player.getName() + " owns this utility.");
+                if (GameLog.isEnabled()) {
+                    System.out.println(player.getName() + " owns this utility.");
+                }
             }
         } else {
-            System.out.println(utility.getName() + " is not owned. It costs $" + utility.getPrice());
+            if (GameLog.isEnabled()) {
+                System.out.println(utility.getName() + " is not owned. It costs $" + utility.getPrice());
+            }
 
             // This would be expanded with UI interaction
-            if (player.getMoney() >= utility.getPrice()) {
+            if (wantsToBuy(player, utility)) {
                 player.buyUtility(utility);
             } else {
-                System.out.println(player.getName() + " cannot afford " + utility.getName());
-                // Could implement auction here
+                declinePurchase(player, utility);
             }
         }
     }
@@ -340,7 +475,9 @@ public class BoardController {
      */
     private void handleChanceCard(Player player) {
         String cardText = gameState.drawChanceCard();
-        System.out.println(player.getName() + " drew a Chance card: " + cardText);
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " drew a Chance card: " + cardText);
+        }
         player.processCardEffect(cardText, gameState);
     }
 
@@ -352,7 +489,9 @@ public class BoardController {
      */
     private void handleCommunityChestCard(Player player) {
         String cardText = gameState.drawCommunityChestCard();
-        System.out.println(player.getName() + " drew a Community Chest card: " + cardText);
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " drew a Community Chest card: " + cardText);
+        }
         player.processCardEffect(cardText, gameState);
     }
 
@@ -361,20 +500,18 @@ public class BoardController {
      * Handles landing on a tax space.
      *
      * @param player The player who landed on the tax space
-     * @param taxSpaceName The name of the tax space
+     * @param taxSpace The tax space
      */
-    private void handleTaxSpace(Player player, String taxSpaceName) {
-        int taxAmount = 0;
-
-        if (taxSpaceName.equals("Income Tax")) {
-            taxAmount = 200;
-        } else if (taxSpaceName.equals("Luxury Tax")) {
-            taxAmount = 100;
-        }
+    private void handleTaxSpace(Player player, Space taxSpace) {
+        int taxAmount = board.getTaxAmount(taxSpace);
 
         if (taxAmount > 0) {
-            System.out.println(player.getName() + " must pay $" + taxAmount + " in taxes");
-            player.subtractMoney(taxAmount);
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " must pay $" + taxAmount + " in taxes");
+            }
+            if (player.subtractMoney(taxAmount)) {
+                gameState.getRules().getFreeParking().collect(board.getFreeParkingSpace(), taxAmount);
+            }
         }
     }
 
@@ -385,9 +522,10 @@ public class BoardController {
      * @param player The player to send to jail
      */
     public void sendToJail(Player player) {
-        player.setPosition(10); // Jail is at position 10
         gameState.sendToJail(player);
-        System.out.println(player.getName() + " has been sent to Jail!");
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " has been sent to Jail!");
+        }
     }
 
     /**
@@ -399,9 +537,13 @@ public class BoardController {
     public void payToGetOutOfJail(Player player) {
         if (player.subtractMoney(50)) {
             gameState.releaseFromJail(player);
-            System.out.println(player.getName() + " paid $50 to get out of Jail.");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " paid $50 to get out of Jail.");
+            }
         } else {
-            System.out.println(player.getName() + " does not have enough money to pay the jail fee.");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " does not have enough money to pay the jail fee.");
+            }
         }
     }
 
@@ -418,9 +560,13 @@ public class BoardController {
             // Return the card to the appropriate deck
             // This would need logic to determine which deck it came from
             gameState.returnGetOutOfJailFreeCard("Chance"); // Default to Chance deck
-            System.out.println(player.getName() + " used a Get Out of Jail Free card.");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " used a Get Out of Jail Free card.");
+            }
         } else {
-            System.out.println(player.getName() + " does not have a Get Out of Jail Free card.");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " does not have a Get Out of Jail Free card.");
+            }
         }
     }
 
@@ -433,7 +579,9 @@ public class BoardController {
     public void releaseFromJail(Player player) {
         gameState.releaseFromJail(player);
         player.setTurnsInJail(0);
-        System.out.println(player.getName() + " has been released from Jail!");
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " has been released from Jail!");
+        }
     }
 
     /**
@@ -448,22 +596,58 @@ public class BoardController {
         }
 
         Player currentPlayer = gameState.getCurrentPlayer();
+        if (currentPlayer instanceof ComputerPlayer) {
+            ((ComputerPlayer) currentPlayer).selectStrategy(gameState);
+        }
         boolean getAnotherTurn = handlePlayerTurn(currentPlayer);
 
+        // Computer players build and mortgage between rolls
+        if (currentPlayer instanceof ComputerPlayer && !currentPlayer.isBankrupt()) {
+            ((ComputerPlayer) currentPlayer).manageHoldings(board, gameState);
+        }
+
         // Check if player went bankrupt
         if (currentPlayer.isBankrupt()) {
             handlePlayerBankruptcy(currentPlayer);
             getAnotherTurn = false;
         }
 
+        // A card drawn this turn can bankrupt other players too, such as a birthday they could not pay for
+        List<Player> remaining = gameState.getPlayers();
+        for (int i = remaining.size() - 1; i >= 0 && gameState.isGameActive(); i--) {
+            Player other = remaining.get(i);
+            if (other != currentPlayer && other.isBankrupt()) {
+                handlePlayerBankruptcy(other);
+            }
+        }
+
         // Move to next player if needed
         if (!getAnotherTurn) {
             gameState.nextTurn();
-            System.out.println("Turn ended. Current player: " + gameState.getCurrentPlayer().getName());
+            if (GameLog.isEnabled()) {
+                System.out.println("Turn ended. Current player: " + gameState.getCurrentPlayer().getName());
+            }
+            GameEnd end = gameState.isGameActive() ? gameState.checkTermination() : null;
+            if (end != null) {
+                if (GameLog.isEnabled()) {
+                    System.out.println(end.getMessage() + " The game is over.");
+                }
+                gameState.endGame(end);
+            }
         } else {
-            System.out.println(currentPlayer.getName() + " gets another turn for rolling doubles!");
+            if (GameLog.isEnabled()) {
+                System.out.println(currentPlayer.getName() + " gets another turn for rolling doubles!");
+            }
+        }
+
+        // Let spectators know what changed this turn
+        if (broadcaster != null) {
+            broadcaster.publish();
         }
 
+        if (!gameState.isGameActive()) {
+            gameState.getMetrics().gameFinished(gameState.getTurnsPlayed(), gameState.getEndReason());
+        }
         return gameState.isGameActive();
     }
 
@@ -477,6 +661,59 @@ public class BoardController {
         gameState.handlePlayerBankruptcy(player);
     }
 
+    /**
+     * Opens a trade negotiation. Offers made to a computer player are answered straight
+     * away, and so is every counter-offer that comes back to a computer player, so the
+     * returned trade is either settled, rejected, or waiting on a human player.
+     *
+     * @param offer The opening offer
+     * @return The negotiation
+     */
+    public Trade proposeTrade(TradeOffer offer) {
+        Trade trade = new Trade(offer);
+        if (GameLog.isEnabled()) {
+            System.out.println(offer);
+        }
+        respondToTrade(trade);
+        return trade;
+    }
+
+    /**
+     * Lets computer players answer a negotiation until it is over or waiting on a human.
+     *
+     * @param trade The negotiation
+     * @return The status afterwards
+     */
+    public TradeStatus respondToTrade(Trade trade) {
+        if (tradeEvaluator == null) {
+            tradeEvaluator = new TradeEvaluator(board);
+            tradeEvaluator.setOpponentTracker(gameState.getOpponentTracker());
+        }
+        while (trade.getStatus() == TradeStatus.PENDING
+                && trade.getCurrentOffer().getRecipient() instanceof ComputerPlayer) {
+            tradeEvaluator.respond(trade);
+        }
+        return trade.getStatus();
+    }
+
+    /**
+     * Sets the broadcaster that publishes the game to spectators after every turn.
+     *
+     * @param broadcaster The broadcaster, or null to stop publishing
+     */
+    public void setBroadcaster(StateBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    /**
+     * Gets the broadcaster that publishes the game to spectators.
+     *
+     * @return The broadcaster, or null if the game is not being broadcast
+     */
+    public StateBroadcaster getBroadcaster() {
+        return broadcaster;
+    }
+
     /**
      * Author: Marena Abboud
      * Gets the current game state.
@@ -538,6 +775,17 @@ public class BoardController {
         if (isGameOver() && players.size() == 1) {
             return players.get(0);
         }
+        GameEnd end = gameState.getEndReason();
+        if (isGameOver() && end != null && end.isDecidedByNetWorth()) {
+            // A game stopped early goes to the richest player
+            Player richest = null;
+            for (Player player : players) {
+                if (richest == null || player.getNetWorth().getTotal() > richest.getNetWorth().getTotal()) {
+                    richest = player;
+                }
+            }
+            return richest;
+        }
         return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,324 @@
+package Model.Auction;
+
+import Model.Board.Player;
+import Model.GameLog;
+import Model.Spaces.Ownable;
+import Model.Spaces.Space;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Auctions one purchasable space: a property, railroad or utility.
+ * Players bid either as humans, calling {@link #placeBid(Player, int)} from any thread, or
+ * through a {@link Bidder}. Automated bidders are asked all at once on worker threads and an
+ * answer that does not come within the bidder timeout counts as a pass, so a slow strategy
+ * can never hold the game up. All bids land in one thread-safe {@link BidBook}.
+ *
+ * <p>A simulation can instead have the automated bidders asked one after another on the calling
+ * thread, in the order they were added, with no timeout; the result then depends only on the
+ * bidders, so a seeded game replays exactly.
+ *
+ * <p>An English auction asks the automated bidders in rounds until a round brings no new bid,
+ * then gives human bidders the round timeout to raise before closing. A sealed auction asks
+ * everyone once and closes when all bids are in or the round timeout runs out.
+ * The auction only decides the winner; the bank transfers the space and the money.
+ */
+public class Auction {
+    /** How long an automated bidder has to answer, unless changed. */
+    public static final long DEFAULT_BIDDER_TIMEOUT_MILLIS = 50;
+    /** How long human bidders have to raise before the auction closes, unless changed. */
+    public static final long DEFAULT_ROUND_TIMEOUT_MILLIS = 10000;
+
+    private static final ExecutorService BIDDER_THREADS = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "auction-bidder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Space lot;
+    private final AuctionFormat format;
+    private final BidBook book;
+    private final List<Player> humans;
+    private final Map<Player, Bidder> bidders;
+    private final Map<Player, Integer> topBids;
+    private long bidderTimeoutMillis;
+    private long roundTimeoutMillis;
+    private boolean inSeatOrder;
+
+    /**
+     * Constructs an auction.
+     *
+     * @param lot              The space being auctioned
+     * @param format           The auction format
+     * @param minimumIncrement The least an open bid must raise the high bid by
+     */
+    public Auction(Space lot, AuctionFormat format, int minimumIncrement) {
+        if (priceOf(lot) <= 0) {
+            throw new IllegalArgumentException(lot.getName() + " cannot be auctioned");
+        }
+        this.lot = lot;
+        this.format = format;
+        this.book = new BidBook(format, minimumIncrement);
+        this.humans = new ArrayList<>();
+        this.bidders = new LinkedHashMap<>();
+        this.topBids = new ConcurrentHashMap<>();
+        this.bidderTimeoutMillis = DEFAULT_BIDDER_TIMEOUT_MILLIS;
+        this.roundTimeoutMillis = DEFAULT_ROUND_TIMEOUT_MILLIS;
+    }
+
+    /**
+     * Adds a player who bids by calling {@link #placeBid(Player, int)}.
+     *
+     * @param player The player
+     */
+    public void addHumanBidder(Player player) {
+        humans.add(player);
+    }
+
+    /**
+     * Adds a player whose bids are decided by a bidder.
+     *
+     * @param player The player
+     * @param bidder Their bidding strategy
+     */
+    public void addBidder(Player player, Bidder bidder) {
+        bidders.put(player, bidder);
+    }
+
+    /**
+     * Sets how long each automated bidder has to answer.
+     *
+     * @param bidderTimeoutMillis The timeout in milliseconds
+     */
+    public void setBidderTimeoutMillis(long bidderTimeoutMillis) {
+        this.bidderTimeoutMillis = bidderTimeoutMillis;
+    }
+
+    /**
+     * Sets whether automated bidders are asked one at a time on the calling thread, in the
+     * order they were added, rather than all at once on worker threads against the timeout.
+     *
+     * @param inSeatOrder true to ask the bidders in seat order on the calling thread
+     */
+    public void setInSeatOrder(boolean inSeatOrder) {
+        this.inSeatOrder = inSeatOrder;
+    }
+
+    /**
+     * Sets how long human bidders have to bid before the auction closes.
+     *
+     * @param roundTimeoutMillis The timeout in milliseconds
+     */
+    public void setRoundTimeoutMillis(long roundTimeoutMillis) {
+        this.roundTimeoutMillis = roundTimeoutMillis;
+    }
+
+    /**
+     * Places a bid for a player. Safe to call from any thread while the auction runs.
+     *
+     * @param player The player bidding
+     * @param amount The amount
+     * @return true if the bid was accepted
+     */
+    public boolean placeBid(Player player, int amount) {
+        if (!humans.contains(player) && !bidders.containsKey(player)) {
+            return false;
+        }
+        boolean accepted = book.place(player, amount);
+        if (accepted) {
+            topBids.merge(player, amount, Math::max);
+        }
+        if (accepted && format == AuctionFormat.ENGLISH && GameLog.isEnabled()) {
+            System.out.println(player.getName() + " bids $" + amount);
+        }
+        return accepted;
+    }
+
+    /**
+     * Asks every automated bidder that is not already winning for a bid, all at once,
+     * and waits at most the bidder timeout for their answers. In seat order the bidders are
+     * asked one after another instead, each seeing the bids of those before it.
+     *
+     * @return The number of bids accepted in this round
+     * @throws InterruptedException If the calling thread is interrupted
+     */
+    public int solicitBids() throws InterruptedException {
+        long before = book.getVersion();
+        if (inSeatOrder) {
+            for (Map.Entry<Player, Bidder> entry : bidders.entrySet()) {
+                Player player = entry.getKey();
+                if ((format == AuctionFormat.ENGLISH && player == book.getLeader())
+                        || (format == AuctionFormat.SEALED && book.hasSealedBid(player))) {
+                    continue;
+                }
+                int amount = entry.getValue().nextBid(lot, book.getVisibleHighBid(), format);
+                if (amount > 0) {
+                    placeBid(player, amount);
+                }
+            }
+            return (int) (book.getVersion() - before);
+        }
+
+        Player leader = format == AuctionFormat.ENGLISH ? book.getLeader() : null;
+        int visibleHighBid = book.getVisibleHighBid();
+
+        // Closed once the timeout passes, so a bidder that ignores being cancelled and answers
+        // late has its bid thrown away rather than landing in a later round
+        AtomicBoolean roundOpen = new AtomicBoolean(true);
+        List<Callable<Void>> requests = new ArrayList<>();
+        for (Map.Entry<Player, Bidder> entry : bidders.entrySet()) {
+            Player player = entry.getKey();
+            Bidder bidder = entry.getValue();
+            if (player == leader || (format == AuctionFormat.SEALED && book.hasSealedBid(player))) {
+                continue;
+            }
+            requests.add(() -> {
+                int amount = bidder.nextBid(lot, visibleHighBid, format);
+                if (amount > 0) {
+                    synchronized (roundOpen) {
+                        if (roundOpen.get()) {
+                            placeBid(player, amount);
+                        }
+                    }
+                }
+                return null;
+            });
+        }
+        if (!requests.isEmpty()) {
+            // Answers still outstanding at the timeout are cancelled and count as passes
+            try {
+                BIDDER_THREADS.invokeAll(requests, bidderTimeoutMillis, TimeUnit.MILLISECONDS);
+            } finally {
+                synchronized (roundOpen) {
+                    roundOpen.set(false);
+                }
+            }
+        }
+        return (int) (book.getVersion() - before);
+    }
+
+    /**
+     * Runs the auction until nobody bids any more, then closes it.
+     *
+     * @return The winner, or null if nobody bid
+     */
+    public Player run() {
+        try {
+            if (format == AuctionFormat.SEALED) {
+                solicitBids();
+                while (!humans.isEmpty() && book.getSealedBidCount() < humans.size() + bidders.size()
+                        && book.awaitBid(book.getVersion(), roundTimeoutMillis)) {
+                    // keep waiting while human bids are still coming in
+                }
+            } else {
+                while (!book.isClosed()) {
+                    long version = book.getVersion();
+                    if (solicitBids() > 0) {
+                        continue;
+                    }
+                    if (humans.isEmpty() || !book.awaitBid(version, roundTimeoutMillis)) {
+                        break; // going once, going twice, sold
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return close();
+    }
+
+    /**
+     * Stops accepting bids.
+     *
+     * @return The winner, or null if nobody bid
+     */
+    public Player close() {
+        book.close();
+        return book.getLeader();
+    }
+
+    /**
+     * Gets the space being auctioned.
+     *
+     * @return The lot
+     */
+    public Space getLot() {
+        return lot;
+    }
+
+    /**
+     * Gets the format of the auction.
+     *
+     * @return The format
+     */
+    public AuctionFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Gets the player currently winning.
+     *
+     * @return The leader, or null if nobody has bid
+     */
+    public Player getLeader() {
+        return book.getLeader();
+    }
+
+    /**
+     * Gets the winning amount so far.
+     *
+     * @return The high bid, 0 if nobody has bid
+     */
+    public int getHighBid() {
+        return book.getHighBid();
+    }
+
+    /**
+     * Gets everyone taking part, human and automated.
+     *
+     * @return The players who may bid
+     */
+    public List<Player> getParticipants() {
+        List<Player> participants = new ArrayList<>(humans);
+        participants.addAll(bidders.keySet());
+        return participants;
+    }
+
+    /**
+     * Gets the highest bid a player has had accepted. In a sealed auction this is their only bid.
+     *
+     * @param player The player
+     * @return Their highest bid, 0 if they never bid
+     */
+    public int getTopBid(Player player) {
+        return topBids.getOrDefault(player, 0);
+    }
+
+    /**
+     * Gets the bids placed so far.
+     *
+     * @return The bid book
+     */
+    public BidBook getBidBook() {
+        return book;
+    }
+
+    /**
+     * Gets the list price of a space that can be bought.
+     *
+     * @param space The space
+     * @return Its price, or 0 if it cannot be bought
+     */
+    public static int priceOf(Space space) {
+        return space instanceof Ownable ? ((Ownable) space).getPrice() : 0;
+    }
+}
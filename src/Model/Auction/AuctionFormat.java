@@ -0,0 +1,11 @@
+package Model.Auction;
+
+/**
+ * The ways an {@link Auction} can be run.
+ */
+public enum AuctionFormat {
+    /** Open ascending bids: every bid must beat the current high bid, and the auction ends when nobody raises. */
+    ENGLISH,
+    /** One hidden bid per player: the highest bid wins, the earliest one on a tie. */
+    SEALED
+}
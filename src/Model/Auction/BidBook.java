@@ -0,0 +1,181 @@
+package Model.Auction;
+
+import Model.Board.Player;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The bids placed in one auction. Bids may arrive from any thread, for example a human
+ * typing in the GUI while automated bidders answer on worker threads; every method is
+ * synchronized, so each bid is checked against the current state and accepted or rejected
+ * as a whole. Threads can wait for the next accepted bid with {@link #awaitBid(long, long)}.
+ */
+public class BidBook {
+    private final AuctionFormat format;
+    private final int minimumIncrement;
+
+    // Open (English) bidding
+    private Player leader;
+    private int highBid;
+
+    // Sealed bidding, in the order the bids arrived
+    private final Map<Player, Integer> sealedBids;
+
+    private long version;
+    private boolean closed;
+
+    /**
+     * Constructs an empty bid book.
+     *
+     * @param format           How bids are compared
+     * @param minimumIncrement The least an open bid must raise the high bid by
+     */
+    public BidBook(AuctionFormat format, int minimumIncrement) {
+        this.format = format;
+        this.minimumIncrement = Math.max(1, minimumIncrement);
+        this.sealedBids = new LinkedHashMap<>();
+    }
+
+    /**
+     * Places a bid. In an open auction the bid must beat the high bid by the minimum increment;
+     * in a sealed auction each player gets a single bid. Nobody may bid more than they have.
+     *
+     * @param player The player bidding
+     * @param amount The amount
+     * @return true if the bid was accepted
+     */
+    public synchronized boolean place(Player player, int amount) {
+        if (closed || amount <= 0 || amount > player.getMoney()) {
+            return false;
+        }
+
+        if (format == AuctionFormat.SEALED) {
+            if (sealedBids.containsKey(player)) {
+                return false;
+            }
+            sealedBids.put(player, amount);
+        } else {
+            int minimum = leader == null ? 1 : highBid + minimumIncrement;
+            if (amount < minimum || player == leader) {
+                return false;
+            }
+            leader = player;
+            highBid = amount;
+        }
+
+        version++;
+        notifyAll();
+        return true;
+    }
+
+    /**
+     * Waits until a bid newer than a given version is accepted or the book is closed.
+     *
+     * @param seenVersion   The version the caller has already seen
+     * @param timeoutMillis The longest time to wait
+     * @return true if a newer bid arrived in time
+     * @throws InterruptedException If the waiting thread is interrupted
+     */
+    public synchronized boolean awaitBid(long seenVersion, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (version == seenVersion && !closed) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return false;
+            }
+            wait(remaining);
+        }
+        return version != seenVersion;
+    }
+
+    /**
+     * Stops accepting bids and wakes any waiting threads.
+     */
+    public synchronized void close() {
+        closed = true;
+        notifyAll();
+    }
+
+    /**
+     * Checks whether the book has been closed.
+     *
+     * @return true if no more bids are accepted
+     */
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Gets a number that changes every time a bid is accepted.
+     *
+     * @return The version
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the number of sealed bids placed.
+     *
+     * @return The number of sealed bids
+     */
+    public synchronized int getSealedBidCount() {
+        return sealedBids.size();
+    }
+
+    /**
+     * Checks whether a player has already placed their sealed bid.
+     *
+     * @param player The player
+     * @return true if they have bid
+     */
+    public synchronized boolean hasSealedBid(Player player) {
+        return sealedBids.containsKey(player);
+    }
+
+    /**
+     * Gets the player currently winning.
+     *
+     * @return The leader, or null if there are no bids
+     */
+    public synchronized Player getLeader() {
+        if (format == AuctionFormat.ENGLISH) {
+            return leader;
+        }
+        Player best = null;
+        int bestBid = 0;
+        for (Map.Entry<Player, Integer> bid : sealedBids.entrySet()) {
+            if (bid.getValue() > bestBid) {
+                best = bid.getKey();
+                bestBid = bid.getValue();
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Gets the winning amount so far. In a sealed auction this is only known to the auctioneer.
+     *
+     * @return The high bid, 0 if there are no bids
+     */
+    public synchronized int getHighBid() {
+        if (format == AuctionFormat.ENGLISH) {
+            return highBid;
+        }
+        int best = 0;
+        for (int bid : sealedBids.values()) {
+            best = Math.max(best, bid);
+        }
+        return best;
+    }
+
+    /**
+     * Gets the high bid as the bidders can see it: nothing is shown in a sealed auction.
+     *
+     * @return The visible high bid
+     */
+    public synchronized int getVisibleHighBid() {
+        return format == AuctionFormat.ENGLISH ? highBid : 0;
+    }
+}
@@ -0,0 +1,21 @@
+package Model.Auction;
+
+import Model.Spaces.Space;
+
+/**
+ * Decides the bids of an automated player in an {@link Auction}.
+ * The auction asks every automated bidder at once and only waits a limited time for
+ * each answer, so implementations should decide quickly and must not block.
+ */
+public interface Bidder {
+
+    /**
+     * Decides the next bid.
+     *
+     * @param lot     The space being auctioned
+     * @param highBid The current high bid, 0 if there is none (always 0 in a sealed auction)
+     * @param format  The auction format; a sealed auction asks only once
+     * @return The amount to bid, or 0 to pass
+     */
+    int nextBid(Space lot, int highBid, AuctionFormat format);
+}
@@ -0,0 +1,61 @@
+package Model.Auction;
+
+import Model.Board.Player;
+import Model.Spaces.Space;
+
+/**
+ * A bidder that keeps raising in fixed steps until the price reaches what it thinks the
+ * space is worth or what it can afford. In a sealed auction it bids its limit straight away.
+ */
+public class ValuationBidder implements Bidder {
+    /** The raise used when none is given. */
+    public static final int DEFAULT_STEP = 10;
+
+    private final Player player;
+    private final int valuation;
+    private final int step;
+
+    /**
+     * Constructs a bidder.
+     *
+     * @param player    The player bidding, whose cash caps every bid
+     * @param valuation The most the player will pay
+     * @param step      How much each bid raises the current high bid
+     */
+    public ValuationBidder(Player player, int valuation, int step) {
+        this.player = player;
+        this.valuation = valuation;
+        this.step = step;
+    }
+
+    /**
+     * Constructs a bidder raising by {@link #DEFAULT_STEP}.
+     *
+     * @param player    The player bidding
+     * @param valuation The most the player will pay
+     */
+    public ValuationBidder(Player player, int valuation) {
+        this(player, valuation, DEFAULT_STEP);
+    }
+
+    @Override
+    public int nextBid(Space lot, int highBid, AuctionFormat format) {
+        int limit = Math.min(valuation, player.getMoney());
+        if (limit <= highBid) {
+            return 0;
+        }
+        if (format == AuctionFormat.SEALED) {
+            return limit;
+        }
+        return highBid == 0 ? Math.min(limit, step) : Math.min(limit, highBid + step);
+    }
+
+    /**
+     * Gets the most this bidder will pay.
+     *
+     * @return The valuation
+     */
+    public int getValuation() {
+        return valuation;
+    }
+}
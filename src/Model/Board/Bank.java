@@ -5,13 +5,19 @@ package Model.Board;
  * It manages the money, property deeds, houses, and hotels.
  */
 
-import Model.Houses;
+import Model.Auction.Auction;
+import Model.Auction.AuctionFormat;
+import Model.Auction.ValuationBidder;
+import Model.BuildingInventory;
+import Model.GameLog;
+import Model.Property.ColorGroup;
 import Model.Property.Property;
 import Model.Spaces.RailroadSpace;
+import Model.Spaces.Space;
 import Model.Spaces.UtilitySpace;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -22,11 +28,11 @@ import java.util.Map;
 public class Bank {
     private int money;
     private List<Property> availableProperties;
-    private int houses;
-    private int hotels;
-    private static final int MAX_HOUSES = 32;
-    private static final int MAX_HOTELS = 12;
+    private final BuildingInventory buildings;
     private static final int STARTING_MONEY = 1500;
+    private BankObserver observer;
+    private Gameboard gameboard;
+    private boolean simulation;
 
     /**
      * Author: Marena
@@ -35,8 +41,7 @@ public class Bank {
     public Bank() {
         this.money = Integer.MAX_VALUE; // Bank has unlimited money
         this.availableProperties = new ArrayList<>();
-        this.houses = MAX_HOUSES;
-        this.hotels = MAX_HOTELS;
+        this.buildings = new BuildingInventory();
     }
 
     /**
@@ -49,6 +54,44 @@ public class Bank {
         this.availableProperties = new ArrayList<>(properties);
     }
 
+    /**
+     * Sets the board the bank's game is played on, whose color groups a development must cover.
+     *
+     * @param gameboard The game board
+     */
+    public void setGameboard(Gameboard gameboard) {
+        this.gameboard = gameboard;
+    }
+
+    /**
+     * Gets the board the bank's game is played on.
+     *
+     * @return The game board, or null if it has not been set
+     */
+    public Gameboard getGameboard() {
+        return gameboard;
+    }
+
+    /**
+     * Marks the bank's game as a simulation. A simulation's auctions ask each bidder in seat
+     * order on the game thread instead of on worker threads against a timeout, so a seeded
+     * game's auctions always end the same way.
+     *
+     * @param simulation true if the game is a simulation
+     */
+    public void setSimulation(boolean simulation) {
+        this.simulation = simulation;
+    }
+
+    /**
+     * Checks whether the bank's game is a simulation.
+     *
+     * @return true if auctions are run in seat order on the game thread
+     */
+    public boolean isSimulation() {
+        return simulation;
+    }
+
     /**
      * Author: Aiden Clare
      * Gets the list of available properties.
@@ -67,7 +110,9 @@ public class Bank {
      */
     public void giveStartingMoney(Player player) {
         player.addMoney(STARTING_MONEY);
-        System.out.println(player.getName() + " receives $" + STARTING_MONEY + " from the bank.");
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " receives $" + STARTING_MONEY + " from the bank.");
+        }
     }
 
     /**
@@ -77,8 +122,20 @@ public class Bank {
      * @param player The player who passed Go
      */
     public void playerPassedGo(Player player) {
-        player.addMoney(200);
-        System.out.println(player.getName() + " passed Go and collects $200 from the bank.");
+        playerPassedGo(player, 200);
+    }
+
+    /**
+     * Pays a player their salary for reaching Go.
+     *
+     * @param player The player who reached Go
+     * @param salary The salary due under the game's rules
+     */
+    public void playerPassedGo(Player player, int salary) {
+        player.addMoney(salary);
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " passed Go and collects $" + salary + " from the bank.");
+        }
     }
 
     /**
@@ -91,21 +148,27 @@ public class Bank {
      */
     public boolean sellProperty(Property property, Player player) {
         if (!availableProperties.contains(property)) {
-            System.out.println("This property is not available for purchase.");
+            if (GameLog.isEnabled()) {
+                System.out.println("This property is not available for purchase.");
+            }
             return false;
         }
 
         if (player.getMoney() < property.getPrice()) {
-            System.out.println(player.getName() + " does not have enough money to buy " + property.getName());
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " does not have enough money to buy " + property.getName());
+            }
             return false;
         }
 
         player.subtractMoney(property.getPrice());
         property.setOwner(player);
-        player.getProperties().add(property); // Add property to player's collection
+        player.addProperty(property); // Add property to player's collection
         availableProperties.remove(property);
 
-        System.out.println(player.getName() + " bought " + property.getName() + " for $" + property.getPrice());
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " bought " + property.getName() + " for $" + property.getPrice());
+        }
         return true;
     }
 
@@ -121,53 +184,360 @@ public class Bank {
      */
     public boolean sellHouses(Property property, Player player, int count, Gameboard gameboard) {
         // Check if bank has enough houses
-        if (houses < count) {
-            System.out.println("The bank does not have enough houses. Only " + houses + " available.");
+        if (buildings.getAvailableHouses() < count) {
+            if (GameLog.isEnabled()) {
+                System.out.println("The bank does not have enough houses. Only " + buildings.getAvailableHouses() + " available.");
+            }
             return false;
         }
 
         // Check if player owns the property
         if (property.getOwner() != player) {
-            System.out.println(player.getName() + " does not own " + property.getName());
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " does not own " + property.getName());
+            }
             return false;
         }
 
         // Check if property is part of a monopoly
         if (!gameboard.playerOwnsAllInColorGroup(player, property.getColorGroup())) {
-            System.out.println("You must own all properties in the " + property.getColorGroup() + " color group to buy houses.");
+            if (GameLog.isEnabled()) {
+                System.out.println("You must own all properties in the " + property.getColorGroup() + " color group to buy houses.");
+            }
             return false;
         }
 
-        // Check if houses will be evenly distributed
-        List<Property> propertiesInGroup = gameboard.getPropertiesByColorGroup(property.getColorGroup());
-        if (!willHousesBeEvenlyDistributed(propertiesInGroup, property, count)) {
-            System.out.println("Houses must be evenly distributed across all properties in a color group.");
+        // Check the group stays evenly built and the bank can supply the buildings
+        List<Property> propertiesInGroup = groupContaining(gameboard, property);
+        int[] levels = BuildingInventory.levelsOf(propertiesInGroup);
+        levels[propertiesInGroup.indexOf(property)] += count;
+        String problem = buildings.check(propertiesInGroup, levels);
+        if (problem != null) {
+            if (GameLog.isEnabled()) {
+                System.out.println(problem);
+            }
             return false;
         }
 
         // Calculate cost
-        int housePrice = Houses.getHousePrice(property.getColorGroup());
+        int housePrice = property.getHouseCost();
         int totalCost = housePrice * count;
 
         // Check if player has enough money
         if (player.getMoney() < totalCost) {
-            System.out.println(player.getName() + " does not have enough money to buy " + count + " houses.");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " does not have enough money to buy " + count + " houses.");
+            }
             return false;
         }
 
-        // Update money, house count, and property
+        // Update money, building stock, and property
         player.subtractMoney(totalCost);
-        houses -= count;
+        buildings.apply(propertiesInGroup, levels);
+        built(player, count, totalCost);
 
-        // Add houses to the property
-        for (int i = 0; i < count; i++) {
-            property.addHouse();
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " bought " + count + " houses for " + property.getName() + " at $" + totalCost);
+        }
+        return true;
+    }
+
+    /**
+     * Moves one of a player's color groups to a target development in a single transaction,
+     * for example 3/3/4 houses, or a hotel on every property. The even-building rules, the
+     * bank's stock and the player's cash are all checked once before anything changes, then
+     * every property is updated together. New buildings cost the house price each and
+     * buildings removed are bought back at half price, so a target may both add and remove.
+     *
+     * The properties must be the whole color group as it stands on the bank's board.
+     *
+     * @param player     The player developing the group
+     * @param properties The properties in the color group
+     * @param levels     The target for each property: 0-4 houses, or 5 for a hotel
+     * @return true if the group was developed, false if nothing changed
+     */
+    public boolean developColorGroup(Player player, List<Property> properties, int[] levels) {
+        if (properties.isEmpty() || levels.length != properties.size()) {
+            if (GameLog.isEnabled()) {
+                System.out.println("A target is needed for every property in the color group.");
+            }
+            return false;
+        }
+        if (gameboard == null) {
+            if (GameLog.isEnabled()) {
+                System.out.println("The bank does not know the board, so the color group cannot be checked.");
+            }
+            return false;
+        }
+
+        String colorGroup = properties.get(0).getColorGroup();
+        List<Property> wholeGroup = gameboard.getPropertiesByColorGroup(colorGroup);
+        if (wholeGroup.size() != properties.size() || !properties.containsAll(wholeGroup)) {
+            if (GameLog.isEnabled()) {
+                System.out.println("Every property in the " + colorGroup + " color group must be developed together.");
+            }
+            return false;
+        }
+        return develop(player, properties, levels);
+    }
+
+    /**
+     * Develops a color group already known to be complete.
+     */
+    private boolean develop(Player player, List<Property> properties, int[] levels) {
+        if (properties.isEmpty() || levels.length != properties.size()) {
+            if (GameLog.isEnabled()) {
+                System.out.println("A target is needed for every property in the color group.");
+            }
+            return false;
+        }
+
+        String colorGroup = properties.get(0).getColorGroup();
+        for (Property property : properties) {
+            if (property.getOwner() != player || !colorGroup.equals(property.getColorGroup())) {
+                if (GameLog.isEnabled()) {
+                    System.out.println("You must own all properties in the " + colorGroup + " color group to develop it.");
+                }
+                return false;
+            }
+        }
+
+        String problem = buildings.check(properties, levels);
+        if (problem != null) {
+            if (GameLog.isEnabled()) {
+                System.out.println(problem);
+            }
+            return false;
+        }
+
+        int added = 0;
+        int removed = 0;
+        for (int i = 0; i < levels.length; i++) {
+            int change = levels[i] - BuildingInventory.levelOf(properties.get(i));
+            if (change > 0) {
+                added += change;
+            } else {
+                removed -= change;
+            }
+        }
+
+        int housePrice = properties.get(0).getHouseCost();
+        int cost = housePrice * added - housePrice * removed / 2;
+        if (cost > 0 && player.getMoney() < cost) {
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " does not have enough money to develop the " + colorGroup
+                        + " group. It costs $" + cost + ".");
+            }
+            return false;
+        }
+
+        buildings.apply(properties, levels);
+        if (cost > 0) {
+            player.subtractMoney(cost);
+        } else if (cost < 0) {
+            player.addMoney(-cost);
+        }
+        if (added > removed) {
+            built(player, added - removed, cost);
         }
 
-        System.out.println(player.getName() + " bought " + count + " houses for " + property.getName() + " at $" + totalCost);
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " developed the " + colorGroup + " group to "
+                    + describeLevels(levels) + (cost >= 0 ? " for $" + cost : " and received $" + -cost));
+        }
         return true;
     }
 
+    /**
+     * Moves a color group to a target development in a single transaction.
+     *
+     * @param player The player developing the group
+     * @param group  The color group
+     * @param levels The target for each property of the group, in the group's order
+     * @return true if the group was developed, false if nothing changed
+     * @see #developColorGroup(Player, List, int[])
+     */
+    public boolean developColorGroup(Player player, ColorGroup group, int[] levels) {
+        return developColorGroup(player, group.getProperties(), levels);
+    }
+
+    /**
+     * Sells a number of houses spread evenly over one of a player's color groups, as a single order.
+     * Each house goes on the property with the fewest buildings.
+     *
+     * @param player     The player buying the houses
+     * @param colorGroup The color group to build on
+     * @param count      The number of houses to buy
+     * @param gameboard  The game board instance
+     * @return true if every house was built, false if nothing was
+     */
+    public boolean buildHouses(Player player, String colorGroup, int count, Gameboard gameboard) {
+        if (count <= 0) {
+            if (GameLog.isEnabled()) {
+                System.out.println("At least one house must be ordered.");
+            }
+            return false;
+        }
+
+        List<Property> propertiesInGroup = gameboard.getPropertiesByColorGroup(colorGroup);
+        int[] levels = BuildingInventory.levelsOf(propertiesInGroup);
+        for (int i = 0; i < count; i++) {
+            levels[lowest(levels)]++;
+        }
+        return develop(player, propertiesInGroup, levels);
+    }
+
+    /**
+     * Buys back a number of buildings spread evenly over one of a player's color groups,
+     * taking from the properties with the most buildings first. Breaking a hotel down
+     * needs houses from the bank, so during a shortage more buildings may have to be sold.
+     *
+     * @param player     The player selling
+     * @param colorGroup The color group to sell from
+     * @param count      The number of buildings to sell, a hotel counting as one
+     * @param gameboard  The game board instance
+     * @return true if every building was sold, false if nothing was
+     */
+    public boolean buyBackBuildings(Player player, String colorGroup, int count, Gameboard gameboard) {
+        List<Property> propertiesInGroup = gameboard.getPropertiesByColorGroup(colorGroup);
+        int[] levels = BuildingInventory.levelsOf(propertiesInGroup);
+        for (int i = 0; i < count; i++) {
+            int highest = highest(levels);
+            if (levels[highest] == 0) {
+                if (GameLog.isEnabled()) {
+                    System.out.println("The " + colorGroup + " group does not have " + count + " buildings to sell.");
+                }
+                return false;
+            }
+            levels[highest]--;
+        }
+        return develop(player, propertiesInGroup, levels);
+    }
+
+    /**
+     * Fills several players' build orders at once. When the bank has enough houses for every
+     * order they are all built as placed, or with as many houses as the rules and the hotel
+     * stock allow; when it does not, the houses it has are auctioned
+     * one at a time. Each round every player with an unfilled order that can still legally
+     * take a house bids up to their limit, the house price unless a computer player's strategy
+     * sets another. The player with the highest limit, the earliest order on a tie, pays one
+     * bid step over the runner-up's limit, but at least the house price, and gets a house.
+     *
+     * @param orders    The orders, in the order they were placed
+     * @param gameboard The game board instance
+     * @return The number of houses each player received
+     */
+    public Map<Player, Integer> placeBuildOrders(List<BuildOrder> orders, Gameboard gameboard) {
+        Map<Player, Integer> built = new LinkedHashMap<>();
+        int demand = 0;
+        for (BuildOrder order : orders) {
+            built.putIfAbsent(order.getPlayer(), 0);
+            demand += order.getHouses();
+        }
+
+        if (demand <= buildings.getAvailableHouses()) {
+            for (BuildOrder order : orders) {
+                // An order the rules do not allow in full, say for want of a hotel, gets as many as fit
+                for (int count = order.getHouses(); count > 0; count--) {
+                    if (buildHouses(order.getPlayer(), order.getColorGroup(), count, gameboard)) {
+                        built.merge(order.getPlayer(), count, Integer::sum);
+                        break;
+                    }
+                }
+            }
+            return built;
+        }
+
+        if (GameLog.isEnabled()) {
+            System.out.println("House shortage: " + demand + " houses wanted but the bank only has "
+                    + buildings.getAvailableHouses() + ". The houses will be auctioned.");
+        }
+
+        int[] remaining = new int[orders.size()];
+        for (int i = 0; i < remaining.length; i++) {
+            remaining[i] = orders.get(i).getHouses();
+        }
+
+        while (buildings.getAvailableHouses() > 0) {
+            // Each house goes as in an English auction between valuation bidders: the bidder
+            // with the highest limit wins, paying a step over the runner-up's limit
+            int winner = -1;
+            int winningLimit = 0;
+            int runnerUpLimit = 0;
+            int[] winningLevels = null;
+            List<Property> winningGroup = null;
+
+            for (int i = 0; i < remaining.length; i++) {
+                if (remaining[i] == 0) {
+                    continue;
+                }
+                BuildOrder order = orders.get(i);
+                Player player = order.getPlayer();
+                if (!gameboard.playerOwnsAllInColorGroup(player, order.getColorGroup())) {
+                    continue;
+                }
+                List<Property> propertiesInGroup = gameboard.getPropertiesByColorGroup(order.getColorGroup());
+                int housePrice = propertiesInGroup.get(0).getHouseCost();
+                if (player.getMoney() < housePrice) {
+                    continue;
+                }
+
+                int[] levels = BuildingInventory.levelsOf(propertiesInGroup);
+                int next = lowest(levels);
+                if (levels[next] >= 4) {
+                    continue; // the next building would be a hotel, which is not short
+                }
+                levels[next]++;
+                if (buildings.check(propertiesInGroup, levels) != null) {
+                    continue;
+                }
+
+                int limit = houseBidLimit(player, propertiesInGroup.get(next), housePrice);
+                if (limit < housePrice) {
+                    continue; // will not pay even the house price
+                }
+                if (limit > winningLimit) {
+                    runnerUpLimit = winningLimit;
+                    winningLimit = limit;
+                    winner = i;
+                    winningLevels = levels;
+                    winningGroup = propertiesInGroup;
+                } else if (limit > runnerUpLimit) {
+                    runnerUpLimit = limit;
+                }
+            }
+
+            if (winner < 0) {
+                break; // nobody can use another house
+            }
+
+            Player player = orders.get(winner).getPlayer();
+            int housePrice = winningGroup.get(0).getHouseCost();
+            int highestBid = Math.max(housePrice, Math.min(winningLimit, runnerUpLimit + ValuationBidder.DEFAULT_STEP));
+            player.subtractMoney(highestBid);
+            buildings.apply(winningGroup, winningLevels);
+            built(player, 1, highestBid);
+            remaining[winner]--;
+            built.merge(player, 1, Integer::sum);
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " won a house for the " + orders.get(winner).getColorGroup()
+                        + " group with a bid of $" + highestBid);
+            }
+        }
+        return built;
+    }
+
+    /**
+     * Gets the most a player will pay for a house during a shortage: what a computer player's
+     * strategy allows, or the house price for anyone else, and never more than their cash.
+     */
+    private static int houseBidLimit(Player player, Property property, int housePrice) {
+        int limit = player instanceof ComputerPlayer
+                ? ((ComputerPlayer) player).getStrategy().houseAuctionLimit(property, housePrice, (ComputerPlayer) player)
+                : housePrice;
+        return Math.min(limit, player.getMoney());
+    }
+
     /**
      * Author: Marena
      * Sells a hotel to a player for a specific property if the bank has enough hotels.
@@ -178,39 +548,60 @@ public class Bank {
      */
     public boolean sellHotel(Property property, Player player) {
         // Check if bank has enough hotels
-        if (hotels < 1) {
-            System.out.println("The bank does not have any hotels available.");
+        if (buildings.getAvailableHotels() < 1) {
+            if (GameLog.isEnabled()) {
+                System.out.println("The bank does not have any hotels available.");
+            }
             return false;
         }
 
         // Check if player owns the property
         if (property.getOwner() != player) {
-            System.out.println(player.getName() + " does not own " + property.getName());
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " does not own " + property.getName());
+            }
             return false;
         }
 
         // Check if property has 4 houses
         if (property.getHouses() != 4) {
-            System.out.println("You need 4 houses on " + property.getName() + " before you can buy a hotel.");
+            if (GameLog.isEnabled()) {
+                System.out.println("You need 4 houses on " + property.getName() + " before you can buy a hotel.");
+            }
+            return false;
+        }
+
+        // Check the rest of the group is built up evenly and none of it is mortgaged
+        List<Property> group = groupOf(property);
+        int[] levels = BuildingInventory.levelsOf(group);
+        levels[group.indexOf(property)] = BuildingInventory.HOTEL;
+        String problem = buildings.check(group, levels);
+        if (problem != null) {
+            if (GameLog.isEnabled()) {
+                System.out.println(problem);
+            }
             return false;
         }
 
         // Calculate cost
-        int hotelPrice = Houses.getHousePrice(property.getColorGroup());
+        int hotelPrice = property.getHouseCost();
 
         // Check if player has enough money
         if (player.getMoney() < hotelPrice) {
-            System.out.println(player.getName() + " does not have enough money to buy a hotel.");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " does not have enough money to buy a hotel.");
+            }
             return false;
         }
 
-        // Update money and property
+        // Update money and property; the 4 houses go back to the bank
         player.subtractMoney(hotelPrice);
-        property.addHouse(); // This will convert 4 houses to a hotel
-        hotels--;
-        houses += 4; // Return the 4 houses to the bank
+        buildings.apply(group, levels);
+        built(player, 1, hotelPrice);
 
-        System.out.println(player.getName() + " bought a hotel for " + property.getName() + " at $" + hotelPrice);
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " bought a hotel for " + property.getName() + " at $" + hotelPrice);
+        }
         return true;
     }
 
@@ -226,30 +617,44 @@ public class Bank {
     public boolean buyBackHouses(Property property, Player player, int count) {
         // Check if player owns the property
         if (property.getOwner() != player) {
-            System.out.println(player.getName() + " does not own " + property.getName());
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " does not own " + property.getName());
+            }
             return false;
         }
 
-        // Check if property has enough houses
-        if (property.getHouses() < count) {
-            System.out.println(property.getName() + " does not have " + count + " houses to sell.");
+        // Check if property has enough houses; a hotel counts as a fifth house
+        int level = BuildingInventory.levelOf(property);
+        if (level < count) {
+            if (GameLog.isEnabled()) {
+                System.out.println(property.getName() + " does not have " + count + " houses to sell.");
+            }
+            return false;
+        }
+
+        // The group must stay evenly built, and breaking a hotel down needs houses from the bank
+        List<Property> group = groupOf(property);
+        int[] levels = BuildingInventory.levelsOf(group);
+        levels[group.indexOf(property)] = level - count;
+        String problem = buildings.check(group, levels);
+        if (problem != null) {
+            if (GameLog.isEnabled()) {
+                System.out.println(problem);
+            }
             return false;
         }
 
         // Calculate refund (half of purchase price)
-        int housePrice = Houses.getHousePrice(property.getColorGroup());
+        int housePrice = property.getHouseCost();
         int refund = (housePrice * count) / 2;
 
-        // Remove houses from property
-        for (int i = 0; i < count; i++) {
-            property.removeHouse();
-        }
-
-        // Update money and house count
+        // Remove houses from property and return them to the bank
+        buildings.apply(group, levels);
         player.addMoney(refund);
-        houses += count;
 
-        System.out.println(player.getName() + " sold " + count + " houses from " + property.getName() + " for $" + refund);
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " sold " + count + " houses from " + property.getName() + " for $" + refund);
+        }
         return true;
     }
 
@@ -264,36 +669,43 @@ public class Bank {
     public boolean buyBackHotel(Property property, Player player) {
         // Check if player owns the property
         if (property.getOwner() != player) {
-            System.out.println(player.getName() + " does not own " + property.getName());
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " does not own " + property.getName());
+            }
             return false;
         }
 
         // Check if property has a hotel
         if (!property.hasHotel()) {
-            System.out.println(property.getName() + " does not have a hotel to sell.");
+            if (GameLog.isEnabled()) {
+                System.out.println(property.getName() + " does not have a hotel to sell.");
+            }
             return false;
         }
 
-        // Check if bank has enough houses to give back
-        if (houses < 4) {
-            System.out.println("The bank does not have enough houses to replace the hotel.");
+        // The group must stay evenly built, and the bank needs 4 houses to replace the hotel
+        List<Property> group = groupOf(property);
+        int[] levels = BuildingInventory.levelsOf(group);
+        levels[group.indexOf(property)] = 4;
+        String problem = buildings.check(group, levels);
+        if (problem != null) {
+            if (GameLog.isEnabled()) {
+                System.out.println(problem);
+            }
             return false;
         }
 
         // Calculate refund (half of purchase price)
-        int hotelPrice = Houses.getHousePrice(property.getColorGroup());
+        int hotelPrice = property.getHouseCost();
         int refund = hotelPrice / 2;
 
-        // Remove hotel from property and replace with 4 houses
-        property.setHasHotel(false);
-        property.setHouses(4);
-
-        // Update money, house count, and hotel count
+        // Remove hotel from property and replace with 4 houses from the bank
+        buildings.apply(group, levels);
         player.addMoney(refund);
-        hotels++;
-        houses -= 4;
 
-        System.out.println(player.getName() + " sold a hotel from " + property.getName() + " for $" + refund);
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " sold a hotel from " + property.getName() + " for $" + refund);
+        }
         return true;
     }
 
@@ -305,43 +717,7 @@ public class Bank {
      * @param players The list of players who can bid
      */
     public void auctionProperty(Property property, List<Player> players) {
-        System.out.println("Starting auction for " + property.getName());
-        System.out.println("Minimum bid: $1");
-
-        Map<Player, Integer> bids = new HashMap<>();
-        for (Player player : players) {
-            // In a real implementation, you would get bids from each player
-            // For simplicity, we'll simulate random bids
-            if (player.getMoney() > 0) {
-                int maxBid = Math.min(player.getMoney(), property.getPrice());
-                int bid = (int) (Math.random() * maxBid) + 1;
-                bids.put(player, bid);
-                System.out.println(player.getName() + " bids $" + bid);
-            }
-        }
-
-        // Find the highest bidder
-        Player highestBidder = null;
-        int highestBid = 0;
-
-        for (Map.Entry<Player, Integer> entry : bids.entrySet()) {
-            if (entry.getValue() > highestBid) {
-                highestBid = entry.getValue();
-                highestBidder = entry.getKey();
-            }
-        }
-
-        if (highestBidder != null) {
-            // Sell property to highest bidder
-            highestBidder.subtractMoney(highestBid);
-            property.setOwner(highestBidder);
-            highestBidder.getProperties().add(property); // Add property to player's collection
-            availableProperties.remove(property);
-
-            System.out.println(highestBidder.getName() + " won the auction for " + property.getName() + " with a bid of $" + highestBid);
-        } else {
-            System.out.println("No one bid on " + property.getName() + ". It remains with the bank.");
-        }
+        auction(property, players);
     }
 
     /**
@@ -352,38 +728,7 @@ public class Bank {
      * @param players The list of players who can bid
      */
     public void auctionRailroad(RailroadSpace railroad, List<Player> players) {
-        System.out.println("Starting auction for " + railroad.getName());
-        System.out.println("Minimum bid: $1");
-
-        Map<Player, Integer> bids = new HashMap<>();
-        for (Player player : players) {
-            if (player.getMoney() > 0) {
-                int maxBid = Math.min(player.getMoney(), railroad.getPrice());
-                int bid = (int) (Math.random() * maxBid) + 1;
-                bids.put(player, bid);
-                System.out.println(player.getName() + " bids $" + bid);
-            }
-        }
-
-        // Find the highest bidder
-        Player highestBidder = null;
-        int highestBid = 0;
-
-        for (Map.Entry<Player, Integer> entry : bids.entrySet()) {
-            if (entry.getValue() > highestBid) {
-                highestBid = entry.getValue();
-                highestBidder = entry.getKey();
-            }
-        }
-
-        if (highestBidder != null) {
-            // Sell railroad to highest bidder
-            highestBidder.subtractMoney(highestBid);
-            railroad.setOwner(highestBidder);
-            System.out.println(highestBidder.getName() + " won the auction for " + railroad.getName() + " with a bid of $" + highestBid);
-        } else {
-            System.out.println("No one bid on " + railroad.getName() + ". It remains with the bank.");
-        }
+        auction(railroad, players);
     }
 
     /**
@@ -394,62 +739,122 @@ public class Bank {
      * @param players The list of players who can bid
      */
     public void auctionUtility(UtilitySpace utility, List<Player> players) {
-        System.out.println("Starting auction for " + utility.getName());
-        System.out.println("Minimum bid: $1");
+        auction(utility, players);
+    }
 
-        Map<Player, Integer> bids = new HashMap<>();
+    /**
+     * Conducts an English auction for any space that can be bought. Every player bids
+     * automatically, raising until the price reaches the space's list price or their cash;
+     * computer players raise up to the limit their strategy sets instead of the list price.
+     *
+     * @param space   The property, railroad or utility to auction
+     * @param players The list of players who can bid
+     * @return The winner, or null if nobody bid
+     */
+    public Player auction(Space space, List<Player> players) {
+        Auction auction = new Auction(space, AuctionFormat.ENGLISH, 1);
+        int price = Auction.priceOf(space);
         for (Player player : players) {
-            if (player.getMoney() > 0) {
-                int maxBid = Math.min(player.getMoney(), utility.getPrice());
-                int bid = (int) (Math.random() * maxBid) + 1;
-                bids.put(player, bid);
-                System.out.println(player.getName() + " bids $" + bid);
-            }
+            int limit = player instanceof ComputerPlayer
+                    ? ((ComputerPlayer) player).getStrategy().auctionLimit(space, (ComputerPlayer) player)
+                    : price;
+            auction.addBidder(player, new ValuationBidder(player, limit));
         }
+        auction.setInSeatOrder(simulation);
 
-        // Find the highest bidder
-        Player highestBidder = null;
-        int highestBid = 0;
+        if (GameLog.isEnabled()) {
+            System.out.println("Starting auction for " + space.getName());
+            System.out.println("Minimum bid: $1");
+        }
+        auction.run();
+        return settleAuction(auction);
+    }
 
-        for (Map.Entry<Player, Integer> entry : bids.entrySet()) {
-            if (entry.getValue() > highestBid) {
-                highestBid = entry.getValue();
-                highestBidder = entry.getKey();
+    /**
+     * Closes an auction and hands the space to the winner for their winning bid.
+     *
+     * @param auction The auction
+     * @return The winner, or null if nobody bid
+     */
+    public Player settleAuction(Auction auction) {
+        Player winner = auction.close();
+        Space space = auction.getLot();
+        if (winner == null) {
+            if (GameLog.isEnabled()) {
+                System.out.println("No one bid on " + space.getName() + ". It remains with the bank.");
+            }
+            if (observer != null) {
+                observer.auctionSettled(auction, null);
             }
+            return null;
+        }
+
+        int highestBid = auction.getHighBid();
+        winner.subtractMoney(highestBid);
+        space.setOwner(winner);
+        if (space instanceof Property) {
+            winner.addProperty((Property) space); // Add property to player's collection
+            availableProperties.remove(space);
         }
 
-        if (highestBidder != null) {
-            // Sell utility to highest bidder
-            highestBidder.subtractMoney(highestBid);
-            utility.setOwner(highestBidder);
-            System.out.println(highestBidder.getName() + " won the auction for " + utility.getName() + " with a bid of $" + highestBid);
-        } else {
-            System.out.println("No one bid on " + utility.getName() + ". It remains with the bank.");
+        if (GameLog.isEnabled()) {
+            System.out.println(winner.getName() + " won the auction for " + space.getName() + " with a bid of $" + highestBid);
         }
+        if (observer != null) {
+            observer.auctionSettled(auction, winner);
+        }
+        return winner;
     }
 
     /**
-     * Author: Marena
-     * Checks if adding houses to a property will maintain even distribution across all properties in the color group.
-     *
-     * @param propertiesInGroup All properties in the color group
-     * @param property The property getting new houses
-     * @param count The number of houses to add
-     * @return true if houses will be evenly distributed, false otherwise
-     */
-    private boolean willHousesBeEvenlyDistributed(List<Property> propertiesInGroup, Property property, int count) {
-        int currentHouses = property.getHouses();
-        int newHouses = currentHouses + count;
-
-        for (Property p : propertiesInGroup) {
-            if (p != property) {
-                int diff = newHouses - p.getHouses();
-                if (diff > 1) {
-                    return false;
-                }
+     * Gets the properties in a property's color group, including the property itself.
+     */
+    private static List<Property> groupContaining(Gameboard gameboard, Property property) {
+        List<Property> propertiesInGroup = gameboard.getPropertiesByColorGroup(property.getColorGroup());
+        if (!propertiesInGroup.contains(property)) {
+            propertiesInGroup = new ArrayList<>(propertiesInGroup);
+            propertiesInGroup.add(property);
+        }
+        return propertiesInGroup;
+    }
+
+    /**
+     * Gets the properties in a property's color group on the bank's board, or only the
+     * property itself if the bank has not been given a board.
+     */
+    private List<Property> groupOf(Property property) {
+        return gameboard == null ? List.of(property) : groupContaining(gameboard, property);
+    }
+
+    private static String describeLevels(int[] levels) {
+        StringBuilder sb = new StringBuilder();
+        for (int level : levels) {
+            if (sb.length() > 0) {
+                sb.append('/');
             }
+            sb.append(level == BuildingInventory.HOTEL ? "H" : String.valueOf(level));
         }
-        return true;
+        return sb.toString();
+    }
+
+    private static int lowest(int[] levels) {
+        int lowest = 0;
+        for (int i = 1; i < levels.length; i++) {
+            if (levels[i] < levels[lowest]) {
+                lowest = i;
+            }
+        }
+        return lowest;
+    }
+
+    private static int highest(int[] levels) {
+        int highest = 0;
+        for (int i = 1; i < levels.length; i++) {
+            if (levels[i] > levels[highest]) {
+                highest = i;
+            }
+        }
+        return highest;
     }
 
     /**
@@ -459,7 +864,7 @@ public class Bank {
      * @return The number of houses available
      */
     public int getHouses() {
-        return houses;
+        return buildings.getAvailableHouses();
     }
 
     /**
@@ -469,7 +874,40 @@ public class Bank {
      * @return The number of hotels available
      */
     public int getHotels() {
-        return hotels;
+        return buildings.getAvailableHotels();
+    }
+
+    /**
+     * Gets the bank's stock of houses and hotels.
+     *
+     * @return The building inventory
+     */
+    public BuildingInventory getBuildingInventory() {
+        return buildings;
+    }
+
+    private void built(Player player, int count, int cost) {
+        if (observer != null) {
+            observer.buildingsBought(player, count, cost);
+        }
+    }
+
+    /**
+     * Sets who is told about auctions and building at this bank.
+     *
+     * @param observer The observer, or null for none
+     */
+    public void setObserver(BankObserver observer) {
+        this.observer = observer;
+    }
+
+    /**
+     * Gets who is told about auctions and building at this bank.
+     *
+     * @return The observer, or null if there is none
+     */
+    public BankObserver getObserver() {
+        return observer;
     }
 
 
@@ -0,0 +1,30 @@
+package Model.Board;
+
+import Model.Auction.Auction;
+
+/**
+ * Watches what players do at the bank. The bank calls its observer on the thread that made
+ * the deal, after the deal is done; an observer should be quick and must not call back into
+ * the bank.
+ */
+public interface BankObserver {
+
+    /**
+     * Called when an auction has closed and, if anyone bid, the lot has been handed over.
+     *
+     * @param auction The auction, with every participant's highest bid
+     * @param winner  The winner, or null if nobody bid
+     */
+    default void auctionSettled(Auction auction, Player winner) {
+    }
+
+    /**
+     * Called when a player has bought houses or hotels.
+     *
+     * @param player    The player who built
+     * @param buildings The number of buildings bought, a hotel counting as one
+     * @param cost      What the player paid
+     */
+    default void buildingsBought(Player player, int buildings, int cost) {
+    }
+}
@@ -0,0 +1,487 @@
+package Model.Board;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Describes a board edition: its spaces, prices, rents, color groups, tax amounts and card decks.
+ * Definitions are read from a compact line-based file, one entry per line with fields separated
+ * by '|' (see {@code standard.board} for the format). A definition never changes once parsed,
+ * so each resource is parsed once and the same definition is shared by every game built from it.
+ */
+public final class BoardDefinition {
+    /** The resource holding the standard board. */
+    public static final String STANDARD = "standard.board";
+
+    /** Number of rents on a property row: unimproved, 1-4 houses and a hotel. */
+    public static final int RENT_LEVELS = 6;
+
+    private static final Map<String, BoardDefinition> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * The kinds of space a board can have.
+     */
+    public enum Kind {
+        GO("go"),
+        PROPERTY("property"),
+        RAILROAD("railroad"),
+        UTILITY("utility"),
+        TAX("tax"),
+        CHANCE("chance"),
+        COMMUNITY_CHEST("chest"),
+        JAIL("jail"),
+        FREE_PARKING("parking"),
+        GO_TO_JAIL("gotojail");
+
+        private final String keyword;
+
+        Kind(String keyword) {
+            this.keyword = keyword;
+        }
+
+        private static Kind of(String keyword) {
+            for (Kind kind : values()) {
+                if (kind.keyword.equals(keyword)) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * One space of a board definition.
+     */
+    public static final class SpaceDefinition {
+        private final int position;
+        private final Kind kind;
+        private final String name;
+        private final String colorGroup;
+        private final int price;
+        private final int taxAmount;
+        private final int[] rents;
+
+        private SpaceDefinition(int position, Kind kind, String name, String colorGroup,
+                                int price, int taxAmount, int[] rents) {
+            this.position = position;
+            this.kind = kind;
+            this.name = name;
+            this.colorGroup = colorGroup;
+            this.price = price;
+            this.taxAmount = taxAmount;
+            this.rents = rents;
+        }
+
+        /**
+         * Gets the position of the space.
+         *
+         * @return The position
+         */
+        public int getPosition() {
+            return position;
+        }
+
+        /**
+         * Gets the kind of space.
+         *
+         * @return The kind
+         */
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * Gets the name of the space.
+         *
+         * @return The name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the color group of a property.
+         *
+         * @return The color group, or null if the space is not a property
+         */
+        public String getColorGroup() {
+            return colorGroup;
+        }
+
+        /**
+         * Gets the price of a property, railroad or utility.
+         *
+         * @return The price, 0 if the space cannot be bought
+         */
+        public int getPrice() {
+            return price;
+        }
+
+        /**
+         * Gets the amount due on a tax space.
+         *
+         * @return The tax, 0 if the space is not a tax space
+         */
+        public int getTaxAmount() {
+            return taxAmount;
+        }
+
+        /**
+         * Gets the rent of a property at a development level.
+         *
+         * @param level 0 for an unimproved property, 1-4 for houses, 5 for a hotel
+         * @return The rent
+         */
+        public int getRent(int level) {
+            return rents[level];
+        }
+
+        /**
+         * Gets the rents of a property at every development level.
+         *
+         * @return A copy of the rents, or null if the space is not a property
+         */
+        public int[] getRents() {
+            return rents == null ? null : rents.clone();
+        }
+    }
+
+    private final String name;
+    private final List<SpaceDefinition> spaces;
+    private final Map<String, Integer> houseCosts;
+    private final int[] railroadRents;
+    private final int[] utilityMultipliers;
+    private final List<String> chanceCards;
+    private final List<String> communityChestCards;
+    private final int jailPosition;
+
+    private BoardDefinition(String name, List<SpaceDefinition> spaces, Map<String, Integer> houseCosts,
+                            int[] railroadRents, int[] utilityMultipliers,
+                            List<String> chanceCards, List<String> communityChestCards, int jailPosition) {
+        this.name = name;
+        this.spaces = Collections.unmodifiableList(spaces);
+        this.houseCosts = Collections.unmodifiableMap(houseCosts);
+        this.railroadRents = railroadRents;
+        this.utilityMultipliers = utilityMultipliers;
+        this.chanceCards = Collections.unmodifiableList(chanceCards);
+        this.communityChestCards = Collections.unmodifiableList(communityChestCards);
+        this.jailPosition = jailPosition;
+    }
+
+    /**
+     * Gets the standard board.
+     *
+     * @return The shared standard definition
+     */
+    public static BoardDefinition standard() {
+        return load(STANDARD);
+    }
+
+    /**
+     * Gets a board definition from a resource, parsing it the first time it is asked for.
+     * Names without a leading '/' are looked up next to this class.
+     *
+     * @param resource The resource name
+     * @return The shared definition
+     * @throws IllegalArgumentException If the resource is missing or malformed
+     */
+    public static BoardDefinition load(String resource) {
+        return CACHE.computeIfAbsent(resource, BoardDefinition::read);
+    }
+
+    private static BoardDefinition read(String resource) {
+        InputStream in = BoardDefinition.class.getResourceAsStream(resource);
+        if (in == null) {
+            throw new IllegalArgumentException("Board definition not found: " + resource);
+        }
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return parse(reader, resource);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read board definition " + resource, e);
+        }
+    }
+
+    /**
+     * Parses a board definition from text. The result is not cached.
+     *
+     * @param text The definition
+     * @return The definition
+     * @throws IllegalArgumentException If the text is malformed
+     */
+    public static BoardDefinition parse(String text) {
+        try {
+            return parse(new StringReader(text), "board definition");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static BoardDefinition parse(Reader source, String sourceName) throws IOException {
+        BufferedReader reader = new BufferedReader(source);
+        String name = sourceName;
+        List<SpaceDefinition> spaces = new ArrayList<>();
+        Map<String, Integer> houseCosts = new LinkedHashMap<>();
+        int[] railroadRents = new int[0];
+        int[] utilityMultipliers = new int[0];
+        List<String> chanceCards = new ArrayList<>();
+        List<String> communityChestCards = new ArrayList<>();
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\\|", -1);
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = fields[i].trim();
+            }
+            String where = sourceName + " line " + lineNumber + ": ";
+            try {
+                switch (fields[0]) {
+                    case "name":
+                        require(fields, 2, where);
+                        name = fields[1];
+                        break;
+                    case "group":
+                        require(fields, 3, where);
+                        houseCosts.put(fields[1], Integer.parseInt(fields[2]));
+                        break;
+                    case "railroad-rents":
+                        railroadRents = numbers(fields, 1, fields.length - 1);
+                        break;
+                    case "utility-multipliers":
+                        utilityMultipliers = numbers(fields, 1, fields.length - 1);
+                        break;
+                    case "space":
+                        spaces.add(parseSpace(fields, houseCosts, where));
+                        break;
+                    case "card":
+                        require(fields, 3, where);
+                        if (fields[1].equals("chance")) {
+                            chanceCards.add(fields[2]);
+                        } else if (fields[1].equals("chest")) {
+                            communityChestCards.add(fields[2]);
+                        } else {
+                            throw new IllegalArgumentException(where + "unknown deck '" + fields[1] + "'");
+                        }
+                        break;
+                    default:
+                        throw new IllegalArgumentException(where + "unknown entry '" + fields[0] + "'");
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(where + "expected a number but got " + e.getMessage());
+            }
+        }
+
+        return build(name, spaces, houseCosts, railroadRents, utilityMultipliers, chanceCards,
+                communityChestCards, sourceName);
+    }
+
+    private static SpaceDefinition parseSpace(String[] fields, Map<String, Integer> houseCosts, String where) {
+        require(fields, 4, where);
+        int position = Integer.parseInt(fields[1]);
+        Kind kind = Kind.of(fields[2]);
+        String spaceName = fields[3];
+        if (kind == null) {
+            throw new IllegalArgumentException(where + "unknown kind of space '" + fields[2] + "'");
+        }
+        switch (kind) {
+            case PROPERTY:
+                require(fields, 6 + RENT_LEVELS, where);
+                if (!houseCosts.containsKey(fields[4])) {
+                    throw new IllegalArgumentException(where + "color group '" + fields[4] + "' is not declared");
+                }
+                return new SpaceDefinition(position, kind, spaceName, fields[4], Integer.parseInt(fields[5]), 0,
+                        numbers(fields, 6, RENT_LEVELS));
+            case RAILROAD:
+            case UTILITY:
+                require(fields, 5, where);
+                return new SpaceDefinition(position, kind, spaceName, null, Integer.parseInt(fields[4]), 0, null);
+            case TAX:
+                require(fields, 5, where);
+                return new SpaceDefinition(position, kind, spaceName, null, 0, Integer.parseInt(fields[4]), null);
+            default:
+                return new SpaceDefinition(position, kind, spaceName, null, 0, 0, null);
+        }
+    }
+
+    private static BoardDefinition build(String name, List<SpaceDefinition> spaces, Map<String, Integer> houseCosts,
+                                         int[] railroadRents, int[] utilityMultipliers, List<String> chanceCards,
+                                         List<String> communityChestCards, String sourceName) {
+        SpaceDefinition[] byPosition = new SpaceDefinition[spaces.size()];
+        int jailPosition = -1;
+        for (SpaceDefinition space : spaces) {
+            if (space.position < 0 || space.position >= byPosition.length || byPosition[space.position] != null) {
+                throw new IllegalArgumentException(sourceName + ": positions must run from 0 to "
+                        + (byPosition.length - 1) + " with one space each, but " + space.position + " does not fit");
+            }
+            byPosition[space.position] = space;
+            if (space.kind == Kind.JAIL) {
+                if (jailPosition >= 0) {
+                    throw new IllegalArgumentException(sourceName + ": a board can only have one jail");
+                }
+                jailPosition = space.position;
+            }
+        }
+        if (byPosition.length == 0 || byPosition[0].kind != Kind.GO) {
+            throw new IllegalArgumentException(sourceName + ": position 0 must be Go");
+        }
+        if (jailPosition < 0) {
+            throw new IllegalArgumentException(sourceName + ": the board has no jail");
+        }
+        return new BoardDefinition(name, new ArrayList<>(Arrays.asList(byPosition)), houseCosts,
+                railroadRents, utilityMultipliers, chanceCards, communityChestCards, jailPosition);
+    }
+
+    private static void require(String[] fields, int count, String where) {
+        if (fields.length < count) {
+            throw new IllegalArgumentException(where + "expected " + count + " fields but got " + fields.length);
+        }
+    }
+
+    private static int[] numbers(String[] fields, int from, int count) {
+        int[] numbers = new int[count];
+        for (int i = 0; i < count; i++) {
+            numbers[i] = Integer.parseInt(fields[from + i]);
+        }
+        return numbers;
+    }
+
+    /**
+     * Gets the name of the edition.
+     *
+     * @return The name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of spaces on the board.
+     *
+     * @return The board size
+     */
+    public int getSize() {
+        return spaces.size();
+    }
+
+    /**
+     * Gets every space, in board order.
+     *
+     * @return The read-only list of spaces
+     */
+    public List<SpaceDefinition> getSpaces() {
+        return spaces;
+    }
+
+    /**
+     * Gets the space at a position.
+     *
+     * @param position The position
+     * @return The space, or null if the position is off the board
+     */
+    public SpaceDefinition getSpace(int position) {
+        return position >= 0 && position < spaces.size() ? spaces.get(position) : null;
+    }
+
+    /**
+     * Gets the position of the jail.
+     *
+     * @return The jail position
+     */
+    public int getJailPosition() {
+        return jailPosition;
+    }
+
+    /**
+     * Gets the cost of a house in a color group.
+     *
+     * @param colorGroup The color group
+     * @return The house cost, or 0 if the board has no such group
+     */
+    public int getHouseCost(String colorGroup) {
+        Integer cost = houseCosts.get(colorGroup);
+        return cost == null ? 0 : cost;
+    }
+
+    /**
+     * Gets the color groups, in the order they were declared.
+     *
+     * @return The read-only list of color groups
+     */
+    public List<String> getColorGroups() {
+        return Collections.unmodifiableList(new ArrayList<>(houseCosts.keySet()));
+    }
+
+    /**
+     * Gets the rent for landing on a railroad.
+     *
+     * @param railroadsOwned The number of railroads the owner has
+     * @return The rent, 0 if the owner has none
+     */
+    public int getRailroadRent(int railroadsOwned) {
+        return scheduleValue(railroadRents, railroadsOwned);
+    }
+
+    /**
+     * Gets the multiple of the dice roll owed for landing on a utility.
+     *
+     * @param utilitiesOwned The number of utilities the owner has
+     * @return The multiplier, 0 if the owner has none
+     */
+    public int getUtilityMultiplier(int utilitiesOwned) {
+        return scheduleValue(utilityMultipliers, utilitiesOwned);
+    }
+
+    private static int scheduleValue(int[] schedule, int owned) {
+        if (owned <= 0 || schedule.length == 0) {
+            return 0;
+        }
+        return schedule[Math.min(owned, schedule.length) - 1];
+    }
+
+    /**
+     * Gets the tax due on the tax space at a position.
+     *
+     * @param position The position
+     * @return The tax, 0 if the space there is not a tax space
+     */
+    public int getTaxAmount(int position) {
+        SpaceDefinition space = getSpace(position);
+        return space == null ? 0 : space.taxAmount;
+    }
+
+    /**
+     * Gets the text of every Chance card.
+     *
+     * @return The read-only list of card texts
+     */
+    public List<String> getChanceCards() {
+        return chanceCards;
+    }
+
+    /**
+     * Gets the text of every Community Chest card.
+     *
+     * @return The read-only list of card texts
+     */
+    public List<String> getCommunityChestCards() {
+        return communityChestCards;
+    }
+}
@@ -0,0 +1,52 @@
+package Model.Board;
+
+/**
+ * A player's request to buy a number of houses for one of their color groups.
+ * Orders placed together are filled through {@link Bank#placeBuildOrders(java.util.List, Gameboard)},
+ * which auctions the houses when the bank cannot supply them all.
+ */
+public class BuildOrder {
+    private final Player player;
+    private final String colorGroup;
+    private final int houses;
+
+    /**
+     * Constructs a build order.
+     *
+     * @param player     The player buying
+     * @param colorGroup The color group to build on
+     * @param houses     The number of houses wanted, spread evenly over the group
+     */
+    public BuildOrder(Player player, String colorGroup, int houses) {
+        this.player = player;
+        this.colorGroup = colorGroup;
+        this.houses = houses;
+    }
+
+    /**
+     * Gets the player buying.
+     *
+     * @return The player
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the color group to build on.
+     *
+     * @return The color group
+     */
+    public String getColorGroup() {
+        return colorGroup;
+    }
+
+    /**
+     * Gets the number of houses wanted.
+     *
+     * @return The number of houses
+     */
+    public int getHouses() {
+        return houses;
+    }
+}
@@ -8,11 +8,13 @@
  */
 package Model.Board;
 
-import Model.Board.Strategy.AggressiveStrategy;
 import Model.Board.Strategy.ComputerPlayerStrategy;
-import Model.Board.Strategy.DefaultStrategy;
-import Model.Board.Strategy.DefensiveStrategy;
+import Model.Board.Strategy.StrategyRegistry;
+import Model.Board.Strategy.StrategySelector;
+import Model.Board.Strategy.StrategyState;
+import Model.Events.StrategyEvent;
 import Model.GameState;
+import Model.Spaces.Ownable;
 
 /**
  * Author: Ronell Washington
@@ -21,6 +23,8 @@ import Model.GameState;
 
 public class ComputerPlayer extends Player {
     private ComputerPlayerStrategy strategy;
+    private StrategySelector selector;
+    private final StrategyState strategyState = new StrategyState();
 
     /**
      * Author: Ronell Washington
@@ -30,8 +34,113 @@ public class ComputerPlayer extends Player {
      * @param name The name of the computer player.
      */
     public ComputerPlayer(String name) {
+        this(name, StrategySelector.byCash(StrategyRegistry.shared()));
+    }
+
+    /**
+     * Constructs a computer player that always plays one strategy, whatever its cash.
+     *
+     * @param name     The name of the computer player.
+     * @param strategy The strategy to play.
+     */
+    public ComputerPlayer(String name, ComputerPlayerStrategy strategy) {
+        this(name, StrategySelector.fixed(strategy));
+        this.strategy = strategy;
+    }
+
+    /**
+     * Constructs a computer player whose strategy is chosen at the start of each turn.
+     * The player starts on the default strategy until the selector first runs.
+     *
+     * @param name     The name of the computer player.
+     * @param selector Chooses the strategy for each turn.
+     */
+    public ComputerPlayer(String name, StrategySelector selector) {
         super(name);
-        this.strategy = new DefaultStrategy();
+        if (selector == null) {
+            throw new IllegalArgumentException("A strategy selector is required");
+        }
+        this.selector = selector;
+        this.strategy = StrategyRegistry.shared().get(StrategyRegistry.DEFAULT);
+    }
+
+    /**
+     * Gets the strategy the computer player is currently playing.
+     *
+     * @return The strategy
+     */
+    public ComputerPlayerStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Gets the policy that chooses the player's strategy each turn.
+     *
+     * @return The strategy selector
+     */
+    public StrategySelector getStrategySelector() {
+        return selector;
+    }
+
+    /**
+     * Sets the policy that chooses the player's strategy each turn.
+     *
+     * @param selector The strategy selector
+     */
+    public void setStrategySelector(StrategySelector selector) {
+        if (selector == null) {
+            throw new IllegalArgumentException("A strategy selector is required");
+        }
+        this.selector = selector;
+    }
+
+    /**
+     * Gets what the player's strategies remember from turn to turn.
+     *
+     * @return The player's strategy state
+     */
+    public StrategyState getStrategyState() {
+        return strategyState;
+    }
+
+    /**
+     * Chooses the strategy for the turn about to start.
+     *
+     * @param gameState The current state of the game.
+     * @return The strategy chosen
+     */
+    public ComputerPlayerStrategy selectStrategy(GameState gameState) {
+        strategy = selector.select(this, gameState);
+        return strategy;
+    }
+
+    /**
+     * Decides whether to buy an unowned space the player has landed on.
+     *
+     * @param space     The space for sale
+     * @param gameState The current state of the game
+     * @return true to buy the space
+     */
+    public boolean shouldBuy(Ownable space, GameState gameState) {
+        return strategy.shouldBuy(space, gameState, this);
+    }
+
+    /**
+     * Lets the strategy build, mortgage and unmortgage at the end of the player's turn.
+     *
+     * @param gameboard The gameboard on which the game is played.
+     * @param gameState The current state of the game.
+     */
+    public void manageHoldings(Gameboard gameboard, GameState gameState) {
+        StrategyEvent event = StrategyEvent.start();
+        int cashBefore = getMoney();
+        int propertiesBefore = getProperties().size();
+        long start = System.nanoTime();
+        strategy.manageHoldings(gameboard, gameState, this);
+        gameState.getMetrics().decisionMade(System.nanoTime() - start);
+        if (event != null) {
+            event.finish(gameState.getGameId(), this, strategy, cashBefore, propertiesBefore);
+        }
     }
 
 
@@ -47,27 +156,16 @@ public class ComputerPlayer extends Player {
     @Override
     public void takeTurn(Gameboard gameboard, GameState gameState) {
         super.takeTurn(gameboard, gameState);
-        evaluateStrategy();
-        strategy.executeStrategy(gameboard, gameState, this);
-    }
-
+        selectStrategy(gameState);
 
-    /**
-     * Author: Ronell Washington
-     * Evaluates and updates the computer player's strategy based on its current state.
-     * The strategy is determined by the player's money:
-     * - Aggressive strategy if money is greater than 1000.
-     * - Defensive strategy if money is less than 500.
-     * - Default strategy otherwise.
-     */
-    private void evaluateStrategy() {
-        if(getMoney() > 1000) {
-            strategy = new AggressiveStrategy();
-        } else if(getMoney() < 500) {
-            strategy = new DefensiveStrategy();
-        } else {
-            strategy = new DefaultStrategy();
+        StrategyEvent event = StrategyEvent.start();
+        int cashBefore = getMoney();
+        int propertiesBefore = getProperties().size();
+        long start = System.nanoTime();
+        strategy.executeStrategy(gameboard, gameState, this);
+        gameState.getMetrics().decisionMade(System.nanoTime() - start);
+        if (event != null) {
+            event.finish(gameState.getGameId(), this, strategy, cashBefore, propertiesBefore);
         }
-
     }
 }
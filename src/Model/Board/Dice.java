@@ -8,6 +8,7 @@ public class Dice {
     private Die die1;
     private Die die2;
     private int consecutiveDoubles;
+    private DiceStream stream;
 
     /**
      * Author: Tati Curtis
@@ -33,6 +34,26 @@ public class Dice {
         consecutiveDoubles = 0;
     }
 
+    /**
+     * Constructs six-sided dice that roll both dice at once from a seeded {@link DiceStream}.
+     * Dice made with the same seed roll the same sequence, so a game can be replayed.
+     *
+     * @param seed The seed for the rolls
+     */
+    public Dice(long seed) {
+        this(new DiceStream(seed));
+    }
+
+    /**
+     * Constructs dice that roll both dice at once from a stream of rolls.
+     *
+     * @param stream The stream of rolls
+     */
+    public Dice(DiceStream stream) {
+        this(new Die(stream.getSides()), new Die(stream.getSides()));
+        this.stream = stream;
+    }
+
     /**
      * Author: Tati Curtis
      * This method is used to roll the dice.
@@ -40,8 +61,18 @@ public class Dice {
      * @return
      */
     public int rollDice(){
-        int roll1 = die1.roll();
-        int roll2 = die2.roll();
+        int roll1;
+        int roll2;
+        if (stream != null) {
+            int outcome = stream.nextOutcome();
+            roll1 = stream.firstDie(outcome);
+            roll2 = stream.secondDie(outcome);
+            die1.setDieValue(roll1);
+            die2.setDieValue(roll2);
+        } else {
+            roll1 = die1.roll();
+            roll2 = die2.roll();
+        }
 
         if (roll1 == roll2) {
             consecutiveDoubles++;
@@ -0,0 +1,118 @@
+package Model.Board;
+
+/**
+ * The odds of every total for a roll of two dice, worked out once into tables so that
+ * engines estimating where players land can look them up instead of simulating rolls.
+ */
+public final class DiceOdds {
+    private static final DiceOdds STANDARD = new DiceOdds(6);
+
+    private final int sides;
+    private final double[] total;
+    private final double[] doublesTotal;
+    private final double doubles;
+
+    private DiceOdds(int sides) {
+        this.sides = sides;
+        this.total = new double[2 * sides + 1];
+        this.doublesTotal = new double[2 * sides + 1];
+        double outcome = 1.0 / ((double) sides * sides);
+        for (int die1 = 1; die1 <= sides; die1++) {
+            for (int die2 = 1; die2 <= sides; die2++) {
+                total[die1 + die2] += outcome;
+                if (die1 == die2) {
+                    doublesTotal[die1 + die2] += outcome;
+                }
+            }
+        }
+        this.doubles = 1.0 / sides;
+    }
+
+    /**
+     * Gets the odds for two six-sided dice.
+     *
+     * @return The standard odds
+     */
+    public static DiceOdds standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Gets the odds for two dice with a given number of sides.
+     *
+     * @param sides The number of sides on each die
+     * @return The odds
+     */
+    public static DiceOdds of(int sides) {
+        if (sides < 1) {
+            throw new IllegalArgumentException("Invalid number of sides: " + sides);
+        }
+        return sides == STANDARD.sides ? STANDARD : new DiceOdds(sides);
+    }
+
+    /**
+     * Gets the number of sides on each die.
+     *
+     * @return The number of sides
+     */
+    public int getSides() {
+        return sides;
+    }
+
+    /**
+     * Gets the lowest total the dice can roll.
+     *
+     * @return 2
+     */
+    public int getMinTotal() {
+        return 2;
+    }
+
+    /**
+     * Gets the highest total the dice can roll.
+     *
+     * @return Twice the number of sides
+     */
+    public int getMaxTotal() {
+        return 2 * sides;
+    }
+
+    /**
+     * Gets the chance of rolling a total.
+     *
+     * @param total The total of both dice
+     * @return The probability, or 0 if the total cannot be rolled
+     */
+    public double probabilityOfTotal(int total) {
+        return total < getMinTotal() || total > getMaxTotal() ? 0 : this.total[total];
+    }
+
+    /**
+     * Gets the chance of rolling doubles.
+     *
+     * @return The probability
+     */
+    public double probabilityOfDoubles() {
+        return doubles;
+    }
+
+    /**
+     * Gets the chance of rolling a total as doubles.
+     *
+     * @param total The total of both dice
+     * @return The probability, or 0 if the total cannot be rolled as doubles
+     */
+    public double probabilityOfDoublesTotalling(int total) {
+        return total < getMinTotal() || total > getMaxTotal() ? 0 : doublesTotal[total];
+    }
+
+    /**
+     * Gets the chance of rolling a total without doubles, which ends the turn.
+     *
+     * @param total The total of both dice
+     * @return The probability, or 0 if the total cannot be rolled without doubles
+     */
+    public double probabilityOfNonDoublesTotalling(int total) {
+        return probabilityOfTotal(total) - probabilityOfDoublesTotalling(total);
+    }
+}
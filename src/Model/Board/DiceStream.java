@@ -0,0 +1,118 @@
+package Model.Board;
+
+import java.util.SplittableRandom;
+
+/**
+ * A seeded source of rolls for a pair of dice, built for simulations that roll millions of times.
+ * Each roll of both dice is one outcome code, {@code (die1 - 1) * sides + (die2 - 1)}, cut from
+ * a random 64-bit word: the word is split into fields just wide enough to hold a code and fields
+ * past the last outcome are skipped, so every outcome is equally likely and one word serves
+ * several rolls. Codes are generated a block at a time into a primitive buffer.
+ *
+ * The sequence of rolls depends only on the seed and the number of sides, never on the block
+ * size, so a game played with the same seed replays exactly.
+ */
+public class DiceStream {
+    /** The number of rolls generated at a time unless another size is given. */
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    private final int sides;
+    private final int outcomes;
+    private final int bits;
+    private final long mask;
+    private final SplittableRandom random;
+    private final int[] block;
+    private int next;
+    private int size;
+    private long word;
+    private int bitsLeft;
+
+    /**
+     * Constructs a stream of rolls for two six-sided dice.
+     *
+     * @param seed The seed the rolls are generated from
+     */
+    public DiceStream(long seed) {
+        this(6, seed, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Constructs a stream of rolls for two dice with any number of sides.
+     *
+     * @param sides     The number of sides on each die
+     * @param seed      The seed the rolls are generated from
+     * @param blockSize The number of rolls to generate at a time
+     */
+    public DiceStream(int sides, long seed, int blockSize) {
+        if (sides < 1 || sides > 46340) {
+            throw new IllegalArgumentException("Invalid number of sides: " + sides);
+        }
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Invalid block size: " + blockSize);
+        }
+        this.sides = sides;
+        this.outcomes = sides * sides;
+        this.bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(outcomes - 1));
+        this.mask = (1L << bits) - 1;
+        this.random = new SplittableRandom(seed);
+        this.block = new int[blockSize];
+    }
+
+    /**
+     * Gets the number of sides on each die.
+     *
+     * @return The number of sides
+     */
+    public int getSides() {
+        return sides;
+    }
+
+    /**
+     * Rolls both dice.
+     *
+     * @return The outcome code of the roll
+     */
+    public int nextOutcome() {
+        if (next == size) {
+            refill();
+        }
+        return block[next++];
+    }
+
+    /**
+     * Gets the value of the first die in an outcome.
+     *
+     * @param outcome The outcome code
+     * @return The first die, from 1 to the number of sides
+     */
+    public int firstDie(int outcome) {
+        return outcome / sides + 1;
+    }
+
+    /**
+     * Gets the value of the second die in an outcome.
+     *
+     * @param outcome The outcome code
+     * @return The second die, from 1 to the number of sides
+     */
+    public int secondDie(int outcome) {
+        return outcome % sides + 1;
+    }
+
+    private void refill() {
+        size = 0;
+        next = 0;
+        while (size < block.length) {
+            if (bitsLeft < bits) {
+                word = random.nextLong();
+                bitsLeft = 64;
+            }
+            int outcome = (int) (word & mask);
+            word >>>= bits;
+            bitsLeft -= bits;
+            if (outcome < outcomes) {
+                block[size++] = outcome;
+            }
+        }
+    }
+}
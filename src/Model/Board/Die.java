@@ -24,6 +24,18 @@ public class Die {
         this.random = new Random();
     }
 
+    /**
+     * Constructs a die that rolls the same sequence every time it is given the same seed,
+     * so a game can be replayed.
+     *
+     * @param numberOfSides The number of sides
+     * @param seed          The seed for the die's rolls
+     */
+    public Die(int numberOfSides, long seed) {
+        this.numberOfSides = numberOfSides;
+        this.random = new Random(seed);
+    }
+
     /**
      * Author : Tati Curtis
      * This method is used to roll the die.
@@ -42,4 +54,22 @@ public class Die {
     public int getDieValue() {
         return lastRollValue;
     }
+
+    /**
+     * Gets the number of sides on the die.
+     *
+     * @return The number of sides
+     */
+    public int getNumberOfSides() {
+        return numberOfSides;
+    }
+
+    /**
+     * Shows a value rolled elsewhere, when the dice are rolled together from one stream.
+     *
+     * @param value The value rolled
+     */
+    void setDieValue(int value) {
+        lastRollValue = value;
+    }
 }
@@ -9,6 +9,7 @@ import Model.Property.Property;
 import Model.Spaces.*;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +23,12 @@ import java.util.Map;
 public class Gameboard {
     private List<Space> spaces;
     private Map<Integer, String> propertyOwnership;
+    private OwnershipIndex ownershipIndex;
+    private FreeParkingSpace freeParking;
+    private Map<String, List<Property>> colorGroups;
+    private List<RailroadSpace> railroads;
+    private List<UtilitySpace> utilities;
+    private final BoardDefinition definition;
 
     /**
      * Author: Aiden Clare
@@ -29,58 +36,95 @@ public class Gameboard {
      * Constructs a new gameboard with all spaces initialized.
      */
     public Gameboard() {
-        spaces = new ArrayList<>();
+        this(BoardDefinition.standard());
+    }
+
+    /**
+     * Constructs a gameboard laid out by a board definition.
+     *
+     * @param definition The board definition
+     */
+    public Gameboard(BoardDefinition definition) {
+        this.definition = definition;
+        spaces = new ArrayList<>(definition.getSize());
         propertyOwnership = new HashMap<>();
         initializeBoard();
+        ownershipIndex = new OwnershipIndex(spaces);
+        indexSpaces();
     }
 
     /**
      * Author: Aiden Clare
      * Edited by Marena
-     * Initializes all spaces on the board.
+     * Initializes all spaces on the board from its definition.
      */
     private void initializeBoard() {
-        // Initialize special spaces with specific implementations
-        spaces.add(new GoSpace()); // Position 0
-        spaces.add(new Property("Mediterranean Avenue", 1));
-        spaces.add(new SpecialSpace("Community Chest", 2, "Community Chest"));
-        spaces.add(new Property("Baltic Avenue", 3));
-        spaces.add(new SpecialSpace("Income Tax", 4, "Tax"));
-        spaces.add(new RailroadSpace("Reading Railroad", 5));
-        spaces.add(new Property("Oriental Avenue", 6));
-        spaces.add(new SpecialSpace("Chance", 7, "Chance"));
-        spaces.add(new Property("Vermont Avenue", 8));
-        spaces.add(new Property("Connecticut Avenue", 9));
-        spaces.add(new JailSpace()); // Position 10
-        spaces.add(new Property("St. Charles Place", 11));
-        spaces.add(new UtilitySpace("Electric Company", 12));
-        spaces.add(new Property("States Avenue", 13));
-        spaces.add(new Property("Virginia Avenue", 14));
-        spaces.add(new RailroadSpace("Pennsylvania Railroad", 15));
-        spaces.add(new Property("St. James Place", 16));
-        spaces.add(new SpecialSpace("Community Chest", 17, "Community Chest"));
-        spaces.add(new Property("Tennessee Avenue", 18));
-        spaces.add(new Property("New York Avenue", 19));
-        spaces.add(new FreeParkingSpace()); // Position 20
-        spaces.add(new Property("Kentucky Avenue", 21));
-        spaces.add(new SpecialSpace("Chance", 22, "Chance"));
-        spaces.add(new Property("Indiana Avenue", 23));
-        spaces.add(new Property("Illinois Avenue", 24));
-        spaces.add(new RailroadSpace("B. & O. Railroad", 25));
-        spaces.add(new Property("Atlantic Avenue", 26));
-        spaces.add(new Property("Ventnor Avenue", 27));
-        spaces.add(new UtilitySpace("Water Works", 28));
-        spaces.add(new Property("Marvin Gardens", 29));
-        spaces.add(new SpecialSpace("Go To Jail", 30, "Go To Jail"));
-        spaces.add(new Property("Pacific Avenue", 31));
-        spaces.add(new Property("North Carolina Avenue", 32));
-        spaces.add(new SpecialSpace("Community Chest", 33, "Community Chest"));
-        spaces.add(new Property("Pennsylvania Avenue", 34));
-        spaces.add(new RailroadSpace("Short Line", 35));
-        spaces.add(new SpecialSpace("Chance", 36, "Chance"));
-        spaces.add(new Property("Park Place", 37));
-        spaces.add(new SpecialSpace("Luxury Tax", 38, "Tax"));
-        spaces.add(new Property("Boardwalk", 39));
+        for (BoardDefinition.SpaceDefinition space : definition.getSpaces()) {
+            String name = space.getName();
+            int position = space.getPosition();
+            switch (space.getKind()) {
+                case GO:
+                    spaces.add(new GoSpace());
+                    break;
+                case PROPERTY:
+                    spaces.add(new Property(name, position, space.getPrice(), space.getColorGroup(), space.getRents(),
+                            definition.getHouseCost(space.getColorGroup())));
+                    break;
+                case RAILROAD:
+                    spaces.add(new RailroadSpace(name, position, space.getPrice()));
+                    break;
+                case UTILITY:
+                    spaces.add(new UtilitySpace(name, position, space.getPrice()));
+                    break;
+                case TAX:
+                    spaces.add(new SpecialSpace(name, position, "Tax"));
+                    break;
+                case CHANCE:
+                    spaces.add(new SpecialSpace(name, position, "Chance"));
+                    break;
+                case COMMUNITY_CHEST:
+                    spaces.add(new SpecialSpace(name, position, "Community Chest"));
+                    break;
+                case JAIL:
+                    spaces.add(new JailSpace(position));
+                    break;
+                case FREE_PARKING:
+                    spaces.add(new FreeParkingSpace(position));
+                    break;
+                default:
+                    spaces.add(new SpecialSpace(name, position, "Go To Jail"));
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Gets the definition this board was laid out from.
+     *
+     * @return The board definition
+     */
+    public BoardDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * Gets the position of the jail.
+     *
+     * @return The jail position
+     */
+    public int getJailPosition() {
+        return definition.getJailPosition();
+    }
+
+    /**
+     * Gets the tax due on a tax space.
+     *
+     * @param space The tax space
+     * @return The tax, 0 if the board's definition has no tax space of that name there
+     */
+    public int getTaxAmount(Space space) {
+        BoardDefinition.SpaceDefinition defined = definition.getSpace(space.getPosition());
+        return defined != null && defined.getName().equals(space.getName()) ? defined.getTaxAmount() : 0;
     }
 
     /**
@@ -127,6 +171,54 @@ public class Gameboard {
      */
     public void setSpaces(List<Space> spaces) {
         this.spaces = spaces;
+        this.ownershipIndex = new OwnershipIndex(spaces);
+        indexSpaces();
+    }
+
+    /**
+     * Gets the board's Free Parking space, where a jackpot house rule keeps its pot.
+     *
+     * @return The Free Parking space, or null if the board has none
+     */
+    public FreeParkingSpace getFreeParkingSpace() {
+        return freeParking;
+    }
+
+    /**
+     * Groups the spaces by kind once, so lookups during play do not walk the board.
+     */
+    private void indexSpaces() {
+        Map<String, List<Property>> groups = new HashMap<>();
+        List<RailroadSpace> railroadSpaces = new ArrayList<>();
+        List<UtilitySpace> utilitySpaces = new ArrayList<>();
+        freeParking = null;
+        for (Space space : spaces) {
+            if (space instanceof Property) {
+                Property property = (Property) space;
+                groups.computeIfAbsent(property.getColorGroup(), group -> new ArrayList<>()).add(property);
+            } else if (space instanceof RailroadSpace) {
+                railroadSpaces.add((RailroadSpace) space);
+            } else if (space instanceof UtilitySpace) {
+                utilitySpaces.add((UtilitySpace) space);
+            } else if (space instanceof FreeParkingSpace && freeParking == null) {
+                freeParking = (FreeParkingSpace) space;
+            }
+        }
+        for (Map.Entry<String, List<Property>> group : groups.entrySet()) {
+            group.setValue(Collections.unmodifiableList(group.getValue()));
+        }
+        colorGroups = groups;
+        railroads = Collections.unmodifiableList(railroadSpaces);
+        utilities = Collections.unmodifiableList(utilitySpaces);
+    }
+
+    /**
+     * Gets the index of who owns each property, railroad and utility on the board.
+     *
+     * @return The ownership index
+     */
+    public OwnershipIndex getOwnershipIndex() {
+        return ownershipIndex;
     }
 
     /**
@@ -155,38 +247,19 @@ public class Gameboard {
      * Gets all properties of a specific color group.
      *
      * @param colorGroup The color group to search for
-     * @return A list of properties in that color group
+     * @return An unmodifiable list of the properties in that color group, in board order
      */
     public List<Property> getPropertiesByColorGroup(String colorGroup) {
-        List<Property> propertiesInGroup = new ArrayList<>();
-
-        for (Space space : spaces) {
-            if (space instanceof Property) {
-                Property property = (Property) space;
-                if (property.getColorGroup().equals(colorGroup)) {
-                    propertiesInGroup.add(property);
-                }
-            }
-        }
-
-        return propertiesInGroup;
+        return colorGroups.getOrDefault(colorGroup, Collections.emptyList());
     }
 
     /**
      * Author: Marena
      * Gets all railroads on the board.
      *
-     * @return A list of all railroad spaces
+     * @return An unmodifiable list of all railroad spaces
      */
     public List<RailroadSpace> getRailroads() {
-        List<RailroadSpace> railroads = new ArrayList<>();
-
-        for (Space space : spaces) {
-            if (space instanceof RailroadSpace) {
-                railroads.add((RailroadSpace) space);
-            }
-        }
-
         return railroads;
     }
 
@@ -194,17 +267,9 @@ public class Gameboard {
      * Author: Marena
      * Gets all utilities on the board.
      *
-     * @return A list of all utility spaces
+     * @return An unmodifiable list of all utility spaces
      */
     public List<UtilitySpace> getUtilities() {
-        List<UtilitySpace> utilities = new ArrayList<>();
-
-        for (Space space : spaces) {
-            if (space instanceof UtilitySpace) {
-                utilities.add((UtilitySpace) space);
-            }
-        }
-
         return utilities;
     }
 
@@ -219,8 +284,8 @@ public class Gameboard {
     public boolean playerOwnsAllInColorGroup(Player player, String colorGroup) {
         List<Property> propertiesInGroup = getPropertiesByColorGroup(colorGroup);
 
-        for (Property property : propertiesInGroup) {
-            if (property.getOwner() != player) {
+        for (int i = 0; i < propertiesInGroup.size(); i++) {
+            if (propertiesInGroup.get(i).getOwner() != player) {
                 return false;
             }
         }
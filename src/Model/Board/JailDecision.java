@@ -0,0 +1,13 @@
+package Model.Board;
+
+/**
+ * What a player in jail does at the start of their turn.
+ */
+public enum JailDecision {
+    /** Play a Get Out of Jail Free card and move. */
+    USE_CARD,
+    /** Pay the fine and move. */
+    PAY,
+    /** Roll for doubles and stay in jail if they do not come up. */
+    ROLL
+}
@@ -0,0 +1,195 @@
+package Model.Board;
+
+import Model.GameState;
+import Model.Rules.RuleSet;
+import Model.Spaces.Ownable;
+import Model.Spaces.Space;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decides whether a player in jail should pay or play a card to get out, or stay and roll.
+ * A player who leaves moves whatever they roll, while a player who stays only moves on doubles,
+ * so the choice comes down to two expected costs for the coming turn:
+ * <ul>
+ *   <li>leaving costs the fine plus the rent expected on the spaces a non-doubles roll can
+ *       reach, less the chance of landing on a space that is still for sale;</li>
+ *   <li>staying costs the fine anyway if none of the rolls left before the last turn in jail
+ *       is doubles, plus the rent the player would have collected while in jail, if the house
+ *       rules stop prisoners collecting rent.</li>
+ * </ul>
+ * Early in the game, with spaces still for sale, leaving wins; once opponents have built
+ * around the board, sitting in jail is the cheapest place to be.
+ *
+ * Apart from the fine expected for staying, which only depends on how long the player has been
+ * in jail, the decision for each player depends only on the board, so that part is worked out
+ * once and kept in a table until something changes hands, is mortgaged or built on. Between
+ * those changes a decision is a table lookup, cheap enough to make every simulated turn.
+ */
+public class JailDecisionEngine {
+    /** The fine for leaving jail. */
+    public static final int FEE = 50;
+    /** The turns a player can spend in jail; the fine is due if the roll on the last one fails. */
+    public static final int MAX_TURNS_IN_JAIL = 3;
+
+    /**
+     * The share of its price a chance to buy a space is counted as worth. Buying at list price
+     * swaps cash for a deed worth about as much, so the purchase is no gain in itself; the chance
+     * is worth the rent the space brings in and keeping it from an opponent. On the standard board
+     * an unimproved space charges 6-12% of its price and each opponent lands on it about once
+     * every forty turns, so over a game of a hundred or more turns against one to three opponents
+     * it earns back between a quarter and all of its price. Half sits in the middle of that range,
+     * and is also what the bank lends against the deed.
+     */
+    static final double OPPORTUNITY_RATE = 0.5;
+
+    private final DiceOdds odds;
+    // The board's part of the advantage of leaving, for each player
+    private final Map<Player, Double> table = new IdentityHashMap<>();
+    private OwnershipIndex index;
+    private RuleSet rules;
+    private int ownershipChanges;
+    private int mortgageChanges;
+    private int buildingChanges;
+    private int playerCount;
+
+    /**
+     * Constructs an engine for two six-sided dice.
+     */
+    public JailDecisionEngine() {
+        this(DiceOdds.standard());
+    }
+
+    /**
+     * Constructs an engine for dice with given odds.
+     *
+     * @param odds The odds of each roll
+     */
+    public JailDecisionEngine(DiceOdds odds) {
+        this.odds = odds;
+    }
+
+    /**
+     * Decides what a player in jail does this turn.
+     *
+     * @param player    The player in jail, with this turn already counted in their turns in jail
+     * @param gameState The current game state
+     * @return What the player does
+     */
+    public JailDecision decide(Player player, GameState gameState) {
+        // On the last turn rolling first is free: the fine is only due if the roll fails
+        if (player.getTurnsInJail() >= MAX_TURNS_IN_JAIL || !prefersToLeave(player, gameState)) {
+            return JailDecision.ROLL;
+        }
+        if (player.hasGetOutOfJailFreeCard()) {
+            return JailDecision.USE_CARD;
+        }
+        return player.getMoney() >= FEE ? JailDecision.PAY : JailDecision.ROLL;
+    }
+
+    /**
+     * Checks whether leaving jail now is expected to cost less than staying, using the table
+     * for the current board.
+     *
+     * @param player    The player in jail
+     * @param gameState The current game state
+     * @return true if the player should leave
+     */
+    public boolean prefersToLeave(Player player, GameState gameState) {
+        if (boardChanged(gameState)) {
+            table.clear();
+        }
+        Double advantage = table.get(player);
+        if (advantage == null) {
+            advantage = boardAdvantageOfLeaving(player, gameState);
+            table.put(player, advantage);
+        }
+        return advantage + expectedFineForStaying(player) > 0;
+    }
+
+    /**
+     * Works out how much cheaper leaving jail is expected to be than staying this turn.
+     *
+     * @param player    The player in jail
+     * @param gameState The current game state
+     * @return The expected saving from leaving, negative if staying is cheaper
+     */
+    public double advantageOfLeaving(Player player, GameState gameState) {
+        return boardAdvantageOfLeaving(player, gameState) + expectedFineForStaying(player);
+    }
+
+    /**
+     * Gets the fine a player who stays expects to pay anyway: it is due on the last turn in
+     * jail unless one of the rolls left, this turn's included, comes up doubles.
+     *
+     * @param player The player in jail, with this turn already counted in their turns in jail
+     * @return The expected fine
+     */
+    public double expectedFineForStaying(Player player) {
+        int rollsLeft = Math.max(1, MAX_TURNS_IN_JAIL - player.getTurnsInJail() + 1);
+        return Math.pow(1 - odds.probabilityOfDoubles(), rollsLeft) * FEE;
+    }
+
+    /**
+     * Works out the part of the advantage of leaving that depends on the board: the rent and
+     * chances to buy a roll out of jail leads to, and the rent lost by staying.
+     */
+    private double boardAdvantageOfLeaving(Player player, GameState gameState) {
+        Gameboard gameboard = gameState.getBoard();
+        int size = gameboard.getSpaces().size();
+        int from = player.getPosition();
+
+        double rentOnLeaving = 0;
+        double opportunity = 0;
+        for (int total = odds.getMinTotal(); total <= odds.getMaxTotal(); total++) {
+            Space space = gameboard.getspace((from + total) % size);
+            if (!(space instanceof Ownable)) {
+                continue;
+            }
+            // Doubles move the player either way, so only the other rolls separate the choices
+            double chance = odds.probabilityOfNonDoublesTotalling(total);
+            Ownable ownable = (Ownable) space;
+            Player owner = ownable.getOwner();
+            if (owner == null) {
+                opportunity += chance * ownable.getPrice() * OPPORTUNITY_RATE;
+            } else if (owner != player) {
+                rentOnLeaving += chance * ownable.calculateRent(gameState, total);
+            }
+        }
+
+        double incomeLostInJail = 0;
+        if (!gameState.getRules().getRentRule().collects(player, gameState)) {
+            // Each opponent moves about once while the player waits, landing on a given space
+            // about once in every trip around the board
+            List<Ownable> holdings = gameboard.getOwnershipIndex().getHoldings(player);
+            int opponents = gameState.getPlayers().size() - 1;
+            for (int i = 0; i < holdings.size(); i++) {
+                incomeLostInJail += holdings.get(i).calculateRent(gameState, 7) * opponents / (double) size;
+            }
+        }
+
+        double costOfLeaving = FEE + rentOnLeaving - opportunity;
+        double costOfStaying = incomeLostInJail;
+        return costOfStaying - costOfLeaving;
+    }
+
+    private boolean boardChanged(GameState gameState) {
+        OwnershipIndex current = gameState.getBoard().getOwnershipIndex();
+        if (current == index && gameState.getRules() == rules
+                && current.getChangeCount() == ownershipChanges
+                && current.getMortgageChangeCount() == mortgageChanges
+                && current.getBuildingChangeCount() == buildingChanges
+                && gameState.getPlayers().size() == playerCount) {
+            return false;
+        }
+        index = current;
+        rules = gameState.getRules();
+        ownershipChanges = current.getChangeCount();
+        mortgageChanges = current.getMortgageChangeCount();
+        buildingChanges = current.getBuildingChangeCount();
+        playerCount = gameState.getPlayers().size();
+        return true;
+    }
+}
@@ -0,0 +1,465 @@
+package Model.Board;
+
+import Model.Property.Property;
+import Model.Spaces.Ownable;
+import Model.Spaces.RailroadSpace;
+import Model.Spaces.UtilitySpace;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Works out how a player who owes more than they hold can raise the difference
+ * while losing as little as possible.
+ * The two ways to raise cash are selling buildings back to the bank, which loses half
+ * of what they cost, and mortgaging properties, which only costs the 10% interest due
+ * when they are unmortgaged. Railroads and utilities the player owns can be mortgaged
+ * too, when the bank knows the board they are on. The planner follows the building rules:
+ * buildings in a color group are sold evenly, highest first, and a property can only be
+ * mortgaged once its whole group has no buildings left.
+ *
+ * <p>Planning is greedy: it keeps taking whichever available step loses the least per
+ * dollar raised, where selling buildings in a group is credited with the cheap mortgages
+ * it unlocks. It then drops steps that are not needed, most expensive first, so the plan
+ * overshoots the amount owed as little as possible. Because a player with no cash is
+ * bankrupt, a plan always leaves the player at least $1 after paying. Nothing changes until
+ * {@link Plan#execute(Player, Bank)} is called.
+ */
+public class LiquidationPlanner {
+
+    /**
+     * The kinds of step a plan can contain.
+     */
+    public enum Action {
+        SELL_HOTEL,
+        SELL_HOUSE,
+        MORTGAGE
+    }
+
+    /**
+     * One sale or mortgage in a plan.
+     */
+    public static final class Step {
+        private final Action action;
+        private final Ownable space;
+        private final int amount;
+        private final int loss;
+
+        Step(Action action, Ownable space, int amount, int loss) {
+            this.action = action;
+            this.space = space;
+            this.amount = amount;
+            this.loss = loss;
+        }
+
+        /**
+         * Gets what this step does.
+         *
+         * @return The action
+         */
+        public Action getAction() {
+            return action;
+        }
+
+        /**
+         * Gets the property the step applies to.
+         *
+         * @return The property, or null if the step mortgages a railroad or utility
+         */
+        public Property getProperty() {
+            return space instanceof Property ? (Property) space : null;
+        }
+
+        /**
+         * Gets the space the step applies to.
+         *
+         * @return The property, railroad or utility
+         */
+        public Ownable getSpace() {
+            return space;
+        }
+
+        /**
+         * Gets the cash this step raises.
+         *
+         * @return The amount raised
+         */
+        public int getAmount() {
+            return amount;
+        }
+
+        /**
+         * Gets the value this step gives up for good.
+         *
+         * @return The loss
+         */
+        public int getLoss() {
+            return loss;
+        }
+
+        @Override
+        public String toString() {
+            return action + " " + space.getName() + " (+$" + amount + ", -$" + loss + ")";
+        }
+    }
+
+    /**
+     * An ordered list of steps that raises a target amount.
+     */
+    public static final class Plan {
+        private final int target;
+        private final List<Step> steps;
+        private int raised;
+        private int loss;
+
+        Plan(int target) {
+            this.target = target;
+            this.steps = new ArrayList<>();
+        }
+
+        private void add(Step step) {
+            steps.add(step);
+            raised += step.amount;
+            loss += step.loss;
+        }
+
+        private void remove(int index) {
+            Step step = steps.remove(index);
+            raised -= step.amount;
+            loss -= step.loss;
+        }
+
+        /**
+         * Gets the cash the player still needed when the plan was made, counting the $1
+         * they must keep after paying to stay solvent.
+         *
+         * @return The shortfall the plan covers, 0 if the player could already pay
+         */
+        public int getTarget() {
+            return target;
+        }
+
+        /**
+         * Gets the steps in the order they must be carried out.
+         *
+         * @return The read-only list of steps
+         */
+        public List<Step> getSteps() {
+            return Collections.unmodifiableList(steps);
+        }
+
+        /**
+         * Gets the cash the plan raises.
+         *
+         * @return The amount raised
+         */
+        public int getAmountRaised() {
+            return raised;
+        }
+
+        /**
+         * Gets the value the plan gives up for good.
+         *
+         * @return The total loss
+         */
+        public int getLoss() {
+            return loss;
+        }
+
+        /**
+         * Checks whether the plan raises enough to cover the shortfall.
+         *
+         * @return true if carrying out the plan lets the player pay and stay solvent
+         */
+        public boolean isSufficient() {
+            return raised >= target;
+        }
+
+        /**
+         * Carries out the plan through the bank and the player.
+         *
+         * @param player The player raising the money
+         * @param bank   The bank buying back buildings
+         * @return true if every step succeeded
+         */
+        public boolean execute(Player player, Bank bank) {
+            for (Step step : steps) {
+                boolean done;
+                switch (step.action) {
+                    case SELL_HOTEL:
+                        done = bank.buyBackHotel(step.getProperty(), player);
+                        break;
+                    case SELL_HOUSE:
+                        done = bank.buyBackHouses(step.getProperty(), player, 1);
+                        break;
+                    default:
+                        done = player.mortgage(step.space);
+                        break;
+                }
+                if (!done) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A color group as it would stand partway through the plan. Railroads and utilities
+     * form groups of their own that never have buildings.
+     */
+    private static final class Group {
+        private final String color;
+        private final List<Ownable> properties = new ArrayList<>(4);
+        private int[] levels;         // 0-4 houses, 5 for a hotel
+        private boolean[] mortgaged;
+        private int buildings;
+        private int housePrice;
+
+        Group(String color) {
+            this.color = color;
+        }
+
+        void start() {
+            int count = properties.size();
+            levels = new int[count];
+            mortgaged = new boolean[count];
+            for (int i = 0; i < count; i++) {
+                Ownable space = properties.get(i);
+                if (space instanceof Property) {
+                    Property property = (Property) space;
+                    levels[i] = property.hasHotel() ? 5 : property.getHouses();
+                }
+                mortgaged[i] = space.isMortgaged();
+                buildings += levels[i];
+            }
+            housePrice = buildings > 0 ? ((Property) properties.get(0)).getHouseCost() : 0;
+        }
+
+        /** Index of the property to sell from next: the one with the most buildings. */
+        int nextSale() {
+            int best = 0;
+            for (int i = 1; i < levels.length; i++) {
+                if (levels[i] > levels[best]) {
+                    best = i;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * Plans how a player can raise enough cash to pay an amount.
+     *
+     * @param player     The player who has to pay
+     * @param amountOwed The amount they owe
+     * @param bank       The bank, whose house supply limits hotel sales
+     * @return The plan; check {@link Plan#isSufficient()} before carrying it out
+     */
+    public Plan plan(Player player, int amountOwed, Bank bank) {
+        // A player left with no cash is bankrupt, so raise enough to keep at least $1
+        int need = amountOwed - player.getMoney() + 1;
+        Plan plan = new Plan(Math.max(0, need));
+        if (need <= 0) {
+            return plan;
+        }
+
+        List<Group> groups = groupProperties(player, bank.getGameboard());
+        int bankHouses = bank.getHouses();
+
+        while (plan.raised < need) {
+            Group bestGroup = null;
+            int bestIndex = -1;
+            double bestRatio = Double.MAX_VALUE;
+            int bestAmount = 0;
+            int remaining = need - plan.raised;
+
+            for (Group group : groups) {
+                if (group.buildings == 0) {
+                    // Undeveloped group: every unmortgaged property can be mortgaged
+                    for (int i = 0; i < group.levels.length; i++) {
+                        if (!group.mortgaged[i]) {
+                            Ownable property = group.properties.get(i);
+                            int amount = property.getMortgageValue();
+                            double ratio = (double) interest(property) / Math.max(1, amount);
+                            if (isBetter(ratio, amount, bestRatio, bestAmount, remaining)) {
+                                bestRatio = ratio;
+                                bestAmount = amount;
+                                bestGroup = group;
+                                bestIndex = i;
+                            }
+                        }
+                    }
+                } else {
+                    int index = group.nextSale();
+                    if (group.levels[index] == 5 && bankHouses < 4) {
+                        continue; // the bank has no houses to break the hotel into
+                    }
+                    double ratio = Math.min(1.0, clearingRatio(group));
+                    int amount = group.housePrice / 2;
+                    if (isBetter(ratio, amount, bestRatio, bestAmount, remaining)) {
+                        bestRatio = ratio;
+                        bestAmount = amount;
+                        bestGroup = group;
+                        bestIndex = index;
+                    }
+                }
+            }
+
+            if (bestGroup == null) {
+                break; // nothing left to sell or mortgage
+            }
+
+            Ownable property = bestGroup.properties.get(bestIndex);
+            if (bestGroup.buildings == 0) {
+                bestGroup.mortgaged[bestIndex] = true;
+                plan.add(new Step(Action.MORTGAGE, property, property.getMortgageValue(), interest(property)));
+            } else {
+                int refund = bestGroup.housePrice / 2;
+                boolean hotel = bestGroup.levels[bestIndex] == 5;
+                bankHouses += hotel ? -4 : 1;
+                bestGroup.levels[bestIndex]--;
+                bestGroup.buildings--;
+                plan.add(new Step(hotel ? Action.SELL_HOTEL : Action.SELL_HOUSE, property, refund, bestGroup.housePrice - refund));
+            }
+        }
+
+        prune(plan, need);
+        return plan;
+    }
+
+    /**
+     * Compares two candidate steps: the lower loss per dollar wins, and between equally
+     * cheap steps the one that covers the remaining amount with the least to spare,
+     * or failing that the larger one.
+     */
+    private static boolean isBetter(double ratio, int amount, double bestRatio, int bestAmount, int remaining) {
+        if (Math.abs(ratio - bestRatio) > 1e-9) {
+            return ratio < bestRatio;
+        }
+        boolean covers = amount >= remaining;
+        boolean bestCovers = bestAmount >= remaining;
+        if (covers != bestCovers) {
+            return covers;
+        }
+        return covers ? amount < bestAmount : amount > bestAmount;
+    }
+
+    /**
+     * Loss per dollar of clearing a developed group: selling every building and
+     * mortgaging every property in it.
+     */
+    private static double clearingRatio(Group group) {
+        int raised = 0;
+        int lost = 0;
+        int refund = group.housePrice / 2;
+        raised += group.buildings * refund;
+        lost += group.buildings * (group.housePrice - refund);
+        for (int i = 0; i < group.levels.length; i++) {
+            if (!group.mortgaged[i]) {
+                Ownable property = group.properties.get(i);
+                raised += property.getMortgageValue();
+                lost += interest(property);
+            }
+        }
+        return raised == 0 ? Double.MAX_VALUE : (double) lost / raised;
+    }
+
+    /**
+     * Removes steps the plan does not need, most expensive first. A mortgage can always
+     * be dropped; a building sale only if it is the last sale in its group and no property
+     * of that group is being mortgaged, so the remaining sales stay even.
+     */
+    private static void prune(Plan plan, int need) {
+        boolean removed = true;
+        while (removed && plan.raised > need) {
+            removed = false;
+            int worst = -1;
+            for (int i = 0; i < plan.steps.size(); i++) {
+                Step step = plan.steps.get(i);
+                if (plan.raised - step.amount < need || !removable(plan, i)) {
+                    continue;
+                }
+                if (worst < 0 || step.loss > plan.steps.get(worst).loss) {
+                    worst = i;
+                }
+            }
+            if (worst >= 0) {
+                plan.remove(worst);
+                removed = true;
+            }
+        }
+    }
+
+    private static boolean removable(Plan plan, int index) {
+        Step step = plan.steps.get(index);
+        if (step.action == Action.MORTGAGE) {
+            return true;
+        }
+        String color = groupOf(step.space);
+        for (int i = index + 1; i < plan.steps.size(); i++) {
+            if (color.equals(groupOf(plan.steps.get(i).space))) {
+                return false; // a later sale or mortgage in the same group depends on this one
+            }
+        }
+        for (int i = 0; i < index; i++) {
+            Step earlier = plan.steps.get(i);
+            if (earlier.action == Action.MORTGAGE && color.equals(groupOf(earlier.space))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Group> groupProperties(Player player, Gameboard gameboard) {
+        List<Ownable> holdings = new ArrayList<>();
+        for (Property property : player.getProperties()) {
+            if (property.getOwner() == player) {
+                holdings.add(property);
+            }
+        }
+        if (gameboard != null) {
+            for (Ownable ownable : gameboard.getOwnershipIndex().getHoldings(player)) {
+                if (!(ownable instanceof Property)) {
+                    holdings.add(ownable);
+                }
+            }
+        }
+
+        List<Group> groups = new ArrayList<>();
+        for (Ownable space : holdings) {
+            String color = groupOf(space);
+            Group group = null;
+            for (Group existing : groups) {
+                if (existing.color.equals(color)) {
+                    group = existing;
+                    break;
+                }
+            }
+            if (group == null) {
+                group = new Group(color);
+                groups.add(group);
+            }
+            group.properties.add(space);
+        }
+        for (Group group : groups) {
+            group.start();
+        }
+        return groups;
+    }
+
+    private static String groupOf(Ownable space) {
+        if (space instanceof RailroadSpace) {
+            return "Railroad";
+        }
+        if (space instanceof UtilitySpace) {
+            return "Utility";
+        }
+        return ((Property) space).getColorGroup();
+    }
+
+    private static int interest(Ownable property) {
+        return property.getUnmortgageCost() - property.getMortgageValue();
+    }
+}
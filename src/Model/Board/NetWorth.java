@@ -0,0 +1,161 @@
+package Model.Board;
+
+import Model.Property.Property;
+import Model.Spaces.Ownable;
+import Model.Spaces.Space;
+
+/**
+ * Keeps a player's net worth up to date as their holdings change.
+ * Spaces report every change to ownership, buildings and mortgages by removing
+ * their old contribution and adding the new one, so the totals never need to be
+ * recomputed by walking the player's properties and every read is constant time.
+ *
+ * <ul>
+ *   <li>Net worth: cash + purchase price of every space + cost of buildings − mortgages owed</li>
+ *   <li>Liquidation value: cash that could be raised right now by selling every building
+ *       back to the bank at half price and mortgaging every unmortgaged space</li>
+ *   <li>Mortgageable value: cash that could be raised by mortgaging spaces that have no buildings</li>
+ * </ul>
+ */
+public class NetWorth {
+    private final Player player;
+    private int assetValue;
+    private int liquidationValue;
+    private int mortgageableValue;
+
+    /**
+     * Constructs an empty tracker for a player.
+     *
+     * @param player The player whose holdings are tracked
+     */
+    public NetWorth(Player player) {
+        this.player = player;
+    }
+
+    /**
+     * Adds a space's current contribution. Called when the player gains the space
+     * and after a change to it.
+     *
+     * @param space The space
+     */
+    public synchronized void add(Space space) {
+        assetValue += assetValueOf(space);
+        liquidationValue += liquidationValueOf(space);
+        mortgageableValue += mortgageableValueOf(space);
+    }
+
+    /**
+     * Removes a space's current contribution. Called when the player loses the space
+     * and before a change to it.
+     *
+     * @param space The space
+     */
+    public synchronized void remove(Space space) {
+        assetValue -= assetValueOf(space);
+        liquidationValue -= liquidationValueOf(space);
+        mortgageableValue -= mortgageableValueOf(space);
+    }
+
+    /**
+     * Gets the player's net worth.
+     *
+     * @return Cash plus the value of everything the player owns, less mortgages
+     */
+    public synchronized int getTotal() {
+        return player.getMoney() + assetValue;
+    }
+
+    /**
+     * Gets the value of everything the player owns, less mortgages, without cash.
+     *
+     * @return The asset value
+     */
+    public synchronized int getAssetValue() {
+        return assetValue;
+    }
+
+    /**
+     * Gets the most cash the player could have right now by selling buildings and mortgaging.
+     *
+     * @return Cash plus the liquidation value of the player's holdings
+     */
+    public synchronized int getLiquidationValue() {
+        return player.getMoney() + liquidationValue;
+    }
+
+    /**
+     * Gets the cash the player could raise by mortgaging spaces that have no buildings.
+     *
+     * @return The mortgageable value
+     */
+    public synchronized int getMortgageableValue() {
+        return mortgageableValue;
+    }
+
+    /**
+     * Gets the purchase price of a space plus its buildings, less the mortgage owed on it.
+     *
+     * @param space The space
+     * @return The space's contribution to net worth
+     */
+    public static int assetValueOf(Space space) {
+        if (space instanceof Property) {
+            Property property = (Property) space;
+            int value = property.getPrice() + buildingValueOf(property);
+            return property.isMortgaged() ? value - property.getMortgageValue() : value;
+        } else if (space instanceof Ownable) {
+            Ownable ownable = (Ownable) space;
+            return ownable.isMortgaged() ? ownable.getPrice() - ownable.getMortgageValue() : ownable.getPrice();
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the cash a space could raise right now: half the cost of its buildings,
+     * plus its mortgage value if it is not mortgaged yet.
+     *
+     * @param space The space
+     * @return The space's liquidation value
+     */
+    public static int liquidationValueOf(Space space) {
+        if (space instanceof Property) {
+            Property property = (Property) space;
+            int buildings = buildingValueOf(property) / 2;
+            return property.isMortgaged() ? buildings : buildings + property.getMortgageValue();
+        }
+        return mortgageableValueOf(space);
+    }
+
+    /**
+     * Gets the mortgage value of a space that could be mortgaged as it stands.
+     *
+     * @param space The space
+     * @return The mortgage value, or 0 if it is mortgaged or has buildings
+     */
+    public static int mortgageableValueOf(Space space) {
+        if (space instanceof Property) {
+            Property property = (Property) space;
+            return property.isMortgaged() || buildingCount(property) > 0 ? 0 : property.getMortgageValue();
+        } else if (space instanceof Ownable) {
+            Ownable ownable = (Ownable) space;
+            return ownable.isMortgaged() ? 0 : ownable.getMortgageValue();
+        }
+        return 0;
+    }
+
+    /**
+     * Counts a hotel as five buildings, the four houses traded in for it plus the hotel.
+     */
+    private static int buildingCount(Property property) {
+        return property.hasHotel() ? 5 : property.getHouses();
+    }
+
+    /**
+     * Gets what the buildings on a property cost, at the house cost its board gives the color group.
+     * An undeveloped property needs no cost at all.
+     */
+    private static int buildingValueOf(Property property) {
+        int buildings = buildingCount(property);
+        return buildings == 0 ? 0 : buildings * property.getHouseCost();
+    }
+}
@@ -0,0 +1,187 @@
+package Model.Board;
+
+import Model.Spaces.Ownable;
+import Model.Spaces.Space;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps track of who owns every property, railroad and utility on a board.
+ * Owners are held in one array indexed by board position, and each player's holdings
+ * in a list of their own, so looking up an owner is a single array read and finding
+ * everything a player owns only touches what they own. Registered spaces report every
+ * change of owner to the index, so it never has to be rebuilt.
+ */
+public class OwnershipIndex {
+    private final Ownable[] spaces;
+    private final Player[] owners;
+    private final Map<Player, List<Ownable>> holdings;
+    private int changes;
+    private int mortgageChanges;
+    private int buildingChanges;
+
+    /**
+     * Constructs an index over the ownable spaces in a list of board spaces.
+     *
+     * @param boardSpaces The spaces on the board
+     */
+    public OwnershipIndex(List<Space> boardSpaces) {
+        int size = 0;
+        for (Space space : boardSpaces) {
+            size = Math.max(size, space.getPosition() + 1);
+        }
+        this.spaces = new Ownable[size];
+        this.owners = new Player[size];
+        this.holdings = new IdentityHashMap<>();
+        for (Space space : boardSpaces) {
+            register(space);
+        }
+    }
+
+    /**
+     * Starts tracking a space, if it can be owned.
+     *
+     * @param space The space
+     * @return true if the space is now tracked
+     */
+    private boolean register(Space space) {
+        if (!(space instanceof Ownable) || space.getPosition() < 0) {
+            return false;
+        }
+        Ownable ownable = (Ownable) space;
+        spaces[space.getPosition()] = ownable;
+        space.setOwnershipIndex(this);
+        ownerChanged(ownable, null, ownable.getOwner());
+        return true;
+    }
+
+    /**
+     * Records that a space has changed hands. Called by the space itself.
+     *
+     * @param ownable  The space
+     * @param oldOwner The previous owner, or null
+     * @param newOwner The new owner, or null
+     */
+    public void ownerChanged(Ownable ownable, Player oldOwner, Player newOwner) {
+        int position = ownable.getPosition();
+        if (oldOwner == newOwner || position < 0 || position >= spaces.length || spaces[position] != ownable) {
+            return;
+        }
+        owners[position] = newOwner;
+        changes++;
+        if (oldOwner != null) {
+            List<Ownable> held = holdings.get(oldOwner);
+            if (held != null) {
+                held.remove(ownable);
+                if (held.isEmpty()) {
+                    holdings.remove(oldOwner);
+                }
+            }
+        }
+        if (newOwner != null) {
+            holdings.computeIfAbsent(newOwner, player -> new ArrayList<>(4)).add(ownable);
+        }
+    }
+
+    /**
+     * Gets how many times a space has changed hands since the index was built. Comparing two
+     * readings tells whether anything was bought, sold, traded or returned to the bank between them.
+     *
+     * @return The number of ownership changes
+     */
+    public int getChangeCount() {
+        return changes;
+    }
+
+    /**
+     * Records that a space has been mortgaged or had its mortgage lifted. Called by the space itself.
+     *
+     * @param ownable The space
+     */
+    public void mortgageChanged(Ownable ownable) {
+        mortgageChanges++;
+    }
+
+    /**
+     * Gets how many times a space has been mortgaged or unmortgaged since the index was built.
+     *
+     * @return The number of mortgage changes
+     */
+    public int getMortgageChangeCount() {
+        return mortgageChanges;
+    }
+
+    /**
+     * Records that houses or a hotel have been added to or taken from a space. Called by the space itself.
+     *
+     * @param ownable The space
+     */
+    public void buildingsChanged(Ownable ownable) {
+        buildingChanges++;
+    }
+
+    /**
+     * Gets how many times a space has been built on or had buildings sold since the index was built.
+     *
+     * @return The number of building changes
+     */
+    public int getBuildingChangeCount() {
+        return buildingChanges;
+    }
+
+    /**
+     * Gets the owner of the space at a position.
+     *
+     * @param position The board position
+     * @return The owner, or null if the space is unowned or cannot be owned
+     */
+    public Player getOwner(int position) {
+        return position >= 0 && position < owners.length ? owners[position] : null;
+    }
+
+    /**
+     * Gets the ownable space at a position.
+     *
+     * @param position The board position
+     * @return The space, or null if the space there cannot be owned
+     */
+    public Ownable getOwnable(int position) {
+        return position >= 0 && position < spaces.length ? spaces[position] : null;
+    }
+
+    /**
+     * Gets every space on the board a player owns, in the order they got them.
+     *
+     * @param player The player
+     * @return The read-only list of spaces; copy it before changing owners while iterating
+     */
+    public List<Ownable> getHoldings(Player player) {
+        List<Ownable> held = holdings.get(player);
+        return held == null ? Collections.emptyList() : Collections.unmodifiableList(held);
+    }
+
+    /**
+     * Counts the spaces of one kind a player owns.
+     *
+     * @param player The player
+     * @param kind   The kind of space, such as RailroadSpace.class
+     * @return The number owned
+     */
+    public int count(Player player, Class<? extends Ownable> kind) {
+        List<Ownable> held = holdings.get(player);
+        if (held == null) {
+            return 0;
+        }
+        int count = 0;
+        for (int i = 0; i < held.size(); i++) {
+            if (kind.isInstance(held.get(i))) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
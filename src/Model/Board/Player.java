@@ -4,14 +4,33 @@ package Model.Board;
  * It manages the player's money, position, properties, and game actions.
  */
 
+import Model.GameLog;
 import Model.GameState;
+import Model.Ledger.Ledger;
 import Model.Property.Property;
 import Model.Spaces.*;
 
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
 import java.util.ArrayList;
 import java.util.List;
 
 public class Player {
+    /** Change event fired when the player's money changes. */
+    public static final String MONEY = "money";
+    /** Change event fired when the player moves. */
+    public static final String POSITION = "position";
+    /** Change event fired when the player gains or loses a property. */
+    public static final String PROPERTIES = "properties";
+    /** Change event fired when one of the player's properties is mortgaged or unmortgaged. */
+    public static final String MORTGAGED_PROPERTIES = "mortgagedProperties";
+    /** Change event fired when the player gains or uses a Get Out of Jail Free card. */
+    public static final String GET_OUT_OF_JAIL_FREE_CARD = "getOutOfJailFreeCard";
+    /** Change event fired when the player goes to or leaves jail, or serves another turn there. */
+    public static final String JAIL = "jail";
+    /** Change event fired when the number of turns the player has spent in jail changes. */
+    public static final String TURNS_IN_JAIL = "turnsInJail";
+
     private String name;
     private int money;
     private int position;
@@ -22,6 +41,9 @@ public class Player {
     private boolean hasGetOutOfJailFreeCard;
     private int turnsInJail;
     private Dice dice;
+    private final PropertyChangeSupport changes;
+    private Ledger ledger;
+    private final NetWorth netWorth;
 
     /**
      * Constructs a new player with the given name.
@@ -39,6 +61,115 @@ public class Player {
         this.hasGetOutOfJailFreeCard = false;
         this.turnsInJail = 0;
         this.dice = new Dice();
+        this.changes = new PropertyChangeSupport(this);
+        this.netWorth = new NetWorth(this);
+    }
+
+    /**
+     * Gets the tracker holding this player's net worth, kept up to date as
+     * spaces are bought, built on, mortgaged and sold.
+     *
+     * @return The net worth tracker
+     */
+    public NetWorth getNetWorth() {
+        return netWorth;
+    }
+
+    /**
+     * Registers a listener notified whenever the player's money, position, properties
+     * or jail state change. Events are fired on the thread that made the change.
+     *
+     * @param listener The listener to add
+     */
+    public void addPropertyChangeListener(PropertyChangeListener listener) {
+        changes.addPropertyChangeListener(listener);
+    }
+
+    /**
+     * Removes a listener registered with {@link #addPropertyChangeListener(PropertyChangeListener)}.
+     *
+     * @param listener The listener to remove
+     */
+    public void removePropertyChangeListener(PropertyChangeListener listener) {
+        changes.removePropertyChangeListener(listener);
+    }
+
+    // Only build change events when someone is listening, so the turn loop allocates nothing
+    private void fire(String property, int oldValue, int newValue) {
+        if (oldValue != newValue && changes.hasListeners(property)) {
+            changes.firePropertyChange(property, oldValue, newValue);
+        }
+    }
+
+    private void fire(String property, boolean oldValue, boolean newValue) {
+        if (oldValue != newValue && changes.hasListeners(property)) {
+            changes.firePropertyChange(property, oldValue, newValue);
+        }
+    }
+
+    /**
+     * Notifies listeners that the player was sent to or released from jail.
+     * Jail status itself is kept by the game state, which calls this.
+     *
+     * @param inJail true if the player is now in jail
+     */
+    public void fireJailStateChanged(boolean inJail) {
+        fire(JAIL, !inJail, inJail);
+    }
+
+    /**
+     * Gets the ledger recording this player's cash movements.
+     *
+     * @return The ledger, or null if cash changes are not recorded
+     */
+    public Ledger getLedger() {
+        return ledger;
+    }
+
+    /**
+     * Sets the ledger recording this player's cash movements. Called by {@link Ledger#open(Player)}.
+     *
+     * @param ledger The ledger, or null to stop recording
+     */
+    public void setLedger(Ledger ledger) {
+        this.ledger = ledger;
+    }
+
+    /**
+     * Applies a change to the player's cash that has already been posted to the ledger.
+     * Only the ledger should call this; everything else goes through
+     * {@link #addMoney(int)}, {@link #subtractMoney(int)} or {@link #payRent(Player, int)}.
+     *
+     * @param delta The change in cash
+     */
+    public void applyBalanceChange(int delta) {
+        setMoney(money + delta);
+    }
+
+    /**
+     * Moves money between this player and another player or the bank (null),
+     * through the ledger when there is one.
+     */
+    private void transfer(Player payer, Player payee, int amount, String memo) {
+        if (ledger != null) {
+            ledger.transferAllowingDebt(payer, payee, amount, memo);
+            return;
+        }
+        if (payer != null) {
+            payer.setMoney(payer.money - amount);
+        }
+        if (payee != null) {
+            payee.setMoney(payee.money + amount);
+        }
+    }
+
+    /**
+     * Sets the player's money and notifies listeners.
+     */
+    private void setMoney(int newMoney) {
+        int oldMoney = money;
+        money = newMoney;
+        fire(MONEY, oldMoney, newMoney);
     }
 
     // Add this to your Player class
@@ -54,7 +185,9 @@ public class Player {
      * @param gameState The current game state
      */
     public void takeTurn(Gameboard gameboard, GameState gameState) {
-        System.out.println("\n" + name + " is taking their turn.");
+        if (GameLog.isEnabled()) {
+            System.out.println("\n" + name + " is taking their turn.");
+        }
 
         // Increment turn counter for this player
         turnCounter++;
@@ -67,14 +200,20 @@ public class Player {
 
         // Roll the dice and move
         int roll = dice.rollDice();
-        System.out.println(name + " rolled " + dice.getDie1Value() + " + " + dice.getDie2Value() + " = " + roll);
+        if (GameLog.isEnabled()) {
+            System.out.println(name + " rolled " + dice.getDie1Value() + " + " + dice.getDie2Value() + " = " + roll);
+        }
 
         // Check for three doubles (go to jail)
         if (dice.getDie1Value() == dice.getDie2Value()) {
-            System.out.println(name + " rolled doubles!");
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " rolled doubles!");
+            }
 
             if (shouldGoToJail()) {
-                System.out.println(name + " rolled three consecutive doubles and is going to jail!");
+                if (GameLog.isEnabled()) {
+                    System.out.println(name + " rolled three consecutive doubles and is going to jail!");
+                }
                 goToJail(gameState);
                 return;
             }
@@ -91,7 +230,9 @@ public class Player {
 
         // If player rolled doubles, they get another turn (unless they're in jail)
         if (dice.getDie1Value() == dice.getDie2Value() && !gameState.isPlayerInJail(this)) {
-            System.out.println(name + " gets another turn for rolling doubles!");
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " gets another turn for rolling doubles!");
+            }
             takeTurn(gameboard, gameState);
         }
     }
@@ -102,19 +243,26 @@ public class Player {
      * @param gameState The current game state
      */
     private void handleJailTurn(GameState gameState) {
-        System.out.println(name + " is in Jail (Turn " + (turnsInJail + 1) + " in jail)");
-        turnsInJail++;
+        if (GameLog.isEnabled()) {
+            System.out.println(name + " is in Jail (Turn " + (turnsInJail + 1) + " in jail)");
+        }
+        setTurnsInJail(turnsInJail + 1);
+        JailDecision decision = gameState.getJailDecisions().decide(this, gameState);
 
         // Option 1: Pay to get out
-        if (money >= 50 && turnsInJail <= 3) {
-            System.out.println(name + " pays $50 to get out of Jail.");
+        if (decision == JailDecision.PAY) {
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " pays $50 to get out of Jail.");
+            }
             subtractMoney(50);
             gameState.releaseFromJail(this);
-            turnsInJail = 0;
+            setTurnsInJail(0);
 
             // Roll and move after getting out
             int roll = dice.rollDice();
-            System.out.println(name + " rolled " + dice.getDie1Value() + " + " + dice.getDie2Value() + " = " + roll);
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " rolled " + dice.getDie1Value() + " + " + dice.getDie2Value() + " = " + roll);
+            }
             move(roll, gameState.getBoard());
 
             // Handle the new space
@@ -123,15 +271,19 @@ public class Player {
         }
 
         // Option 2: Use Get Out of Jail Free card
-        if (hasGetOutOfJailFreeCard) {
-            System.out.println(name + " uses a Get Out of Jail Free card.");
-            hasGetOutOfJailFreeCard = false;
+        if (decision == JailDecision.USE_CARD) {
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " uses a Get Out of Jail Free card.");
+            }
+            setHasGetOutOfJailFreeCard(false);
             gameState.releaseFromJail(this);
-            turnsInJail = 0;
+            setTurnsInJail(0);
 
             // Roll and move after getting out
             int roll = dice.rollDice();
-            System.out.println(name + " rolled " + dice.getDie1Value() + " + " + dice.getDie2Value() + " = " + roll);
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " rolled " + dice.getDie1Value() + " + " + dice.getDie2Value() + " = " + roll);
+            }
             move(roll, gameState.getBoard());
 
             // Handle the new space
@@ -141,28 +293,36 @@ public class Player {
 
         // Option 3: Try to roll doubles
         int roll = dice.rollDice();
-        System.out.println(name + " rolled " + dice.getDie1Value() + " + " + dice.getDie2Value() + " = " + roll);
+        if (GameLog.isEnabled()) {
+            System.out.println(name + " rolled " + dice.getDie1Value() + " + " + dice.getDie2Value() + " = " + roll);
+        }
 
         if (dice.getDie1Value() == dice.getDie2Value()) {
-            System.out.println(name + " rolled doubles and gets out of Jail!");
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " rolled doubles and gets out of Jail!");
+            }
             gameState.releaseFromJail(this);
-            turnsInJail = 0;
+            setTurnsInJail(0);
             move(roll, gameState.getBoard());
 
             // Handle the new space
             performTurnActions(gameState);
         } else if (turnsInJail >= 3) {
             // After 3 turns, player must pay and get out
-            System.out.println(name + " has been in Jail for 3 turns and must pay $50 to get out.");
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " has been in Jail for 3 turns and must pay $50 to get out.");
+            }
             subtractMoney(50);
             gameState.releaseFromJail(this);
-            turnsInJail = 0;
+            setTurnsInJail(0);
             move(roll, gameState.getBoard());
 
             // Handle the new space
             performTurnActions(gameState);
         } else {
-            System.out.println(name + " stays in Jail.");
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " stays in Jail.");
+            }
         }
     }
 
@@ -172,7 +332,6 @@ public class Player {
      * @param gameState The current game state
      */
     public void goToJail(GameState gameState) {
-        setPosition(10); // Jail space is at position 10
         gameState.sendToJail(this);
     }
 
@@ -193,16 +352,20 @@ public class Player {
      */
     public void move(int rollDice, Gameboard gameboard) {
         int oldPosition = position;
-        position = (position + rollDice) % gameboard.getSpaces().size();
+        setPosition((position + rollDice) % gameboard.getSpaces().size());
 
         // Check if player passed Go
         if (position < oldPosition && oldPosition + rollDice >= gameboard.getSpaces().size()) {
-            System.out.println(name + " passed Go and collects $200!");
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " passed Go and collects $200!");
+            }
             addMoney(200);
         }
 
-        System.out.println(name + " moved from " + oldPosition + " to " + position +
-                " (" + gameboard.getspace(position).getName() + ")");
+        if (GameLog.isEnabled()) {
+            System.out.println(name + " moved from " + oldPosition + " to " + position +
+                    " (" + gameboard.getspace(position).getName() + ")");
+        }
     }
 
     /**
@@ -237,14 +400,20 @@ public class Player {
 
             if (specialSpace.getType().equals("Chance")) {
                 String chanceCard = gameState.drawChanceCard();
-                System.out.println(name + " drew a Chance card: " + chanceCard);
+                if (GameLog.isEnabled()) {
+                    System.out.println(name + " drew a Chance card: " + chanceCard);
+                }
                 handleCardEffect(chanceCard, gameState);
             } else if (specialSpace.getType().equals("Community Chest")) {
                 String communityCard = gameState.drawCommunityChestCard();
-                System.out.println(name + " drew a Community Chest card: " + communityCard);
+                if (GameLog.isEnabled()) {
+                    System.out.println(name + " drew a Community Chest card: " + communityCard);
+                }
                 handleCardEffect(communityCard, gameState);
             } else if (specialSpace.getType().equals("Go To Jail")) {
-                System.out.println(name + " landed on Go To Jail!");
+                if (GameLog.isEnabled()) {
+                    System.out.println(name + " landed on Go To Jail!");
+                }
                 goToJail(gameState);
             } else if (specialSpace.getType().equals("Tax")) {
                 handleTaxSpace(specialSpace, gameState);
@@ -266,12 +435,20 @@ public class Player {
     }
 
     public void addMoney(int amount) {
-        this.money += amount;
+        if (amount >= 0) {
+            transfer(null, this, amount, "Received from bank");
+        } else {
+            transfer(this, null, -amount, "Paid to bank");
+        }
     }
 
     public boolean subtractMoney(int amount) {
+        if (amount < 0) {
+            addMoney(-amount);
+            return true;
+        }
         if (this.money >= amount) {
-            this.money -= amount;
+            transfer(this, null, amount, "Paid to bank");
             return true;
         }
         return false;
@@ -282,7 +459,9 @@ public class Player {
     }
 
     public void setPosition(int position) {
+        int oldPosition = this.position;
         this.position = position;
+        fire(POSITION, oldPosition, position);
     }
 
     /**
@@ -294,82 +473,36 @@ public class Player {
     private void handleCardEffect(String cardText, GameState gameState) {
         // Simple pattern matching for card effects
         if (cardText.contains("Advance to Go")) {
-            position = 0;
+            setPosition(0);
             addMoney(200);
-            System.out.println(name + " advances to Go and collects $200");
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " advances to Go and collects $200");
+            }
         } else if (cardText.contains("Go to Jail")) {
             goToJail(gameState);
         } else if (cardText.contains("Get out of Jail Free")) {
-            hasGetOutOfJailFreeCard = true;
-            System.out.println(name + " received a Get Out of Jail Free card");
+            setHasGetOutOfJailFreeCard(true);
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " received a Get Out of Jail Free card");
+            }
         } else if (cardText.contains("dividend of $50")) {
             // Handle dividend card specifically
             addMoney(50);
-            System.out.println(name + " received $50 from the bank");
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " received $50 from the bank");
+            }
         } else if (cardText.contains("collect") || cardText.contains("Collect") ||
                 cardText.contains("receive") || cardText.contains("Receive")) {
             // Extract amount and add to player
-            String[] words = cardText.split(" ");
-            for (int i = 0; i < words.length; i++) {
-                if (words[i].startsWith("$")) {
-                    try {
-                        int amount = Integer.parseInt(words[i].substring(1));
-                        addMoney(amount);
-                        break;
-                    } catch (NumberFormatException e) {
-                        // Not a valid number, continue
-                    }
-                }
+            int amount = dollarAmount(cardText);
+            if (amount >= 0) {
+                addMoney(amount);
             }
         } else if (cardText.contains("pay") || cardText.contains("Pay")) {
             // Extract amount and subtract from player
-            String[] words = cardText.split(" ");
-            for (int i = 0; i < words.length; i++) {
-                if (words[i].startsWith("$")) {
-                    try {
-                        int amount = Integer.parseInt(words[i].substring(1));
-                        subtractMoney(amount);
-                        break;
-                    } catch (NumberFormatException e) {
-                        // Not a valid number, continue
-                    }
-                }
-            }
-        } else if (cardText.contains("each player")) {
-            // Handle payments to or from each player
-            int amount = 0;
-            String[] words = cardText.split(" ");
-            for (int i = 0; i < words.length; i++) {
-                if (words[i].startsWith("$")) {
-                    try {
-                        amount = Integer.parseInt(words[i].substring(1));
-                        break;
-                    } catch (NumberFormatException e) {
-                        // Not a valid number, continue
-                    }
-                }
-            }
-
-            if (amount > 0) {
-                if (cardText.toLowerCase().contains("pay each")) {
-                    // Pay each player
-                    for (Player player : gameState.getPlayers()) {
-                        if (player != this) {
-                            subtractMoney(amount);
-                            player.addMoney(amount);
-                            System.out.println(name + " paid $" + amount + " to " + player.getName());
-                        }
-                    }
-                } else if (cardText.toLowerCase().contains("collect from each")) {
-                    // Collect from each player
-                    for (Player player : gameState.getPlayers()) {
-                        if (player != this) {
-                            player.subtractMoney(amount);
-                            addMoney(amount);
-                            System.out.println(name + " collected $" + amount + " from " + player.getName());
-                        }
-                    }
-                }
+            int amount = dollarAmount(cardText);
+            if (amount >= 0) {
+                subtractMoney(amount);
             }
         } else if (cardText.contains("Advance")) {
             // Handle "Advance to..." cards
@@ -392,6 +525,39 @@ public class Player {
         }
     }
 
+    /**
+     * Reads the first dollar amount in a card's text: a word made of a dollar sign and digits
+     * only, so "$150" counts but "$150." does not. The text is read in place, since a card
+     * is drawn on most turns and splitting it would leave garbage each time.
+     *
+     * @param cardText The text of the card
+     * @return The amount, or -1 if the text has none
+     */
+    private static int dollarAmount(String cardText) {
+        for (int start = cardText.indexOf('$'); start >= 0; start = cardText.indexOf('$', start + 1)) {
+            if (start > 0 && cardText.charAt(start - 1) != ' ') {
+                continue;
+            }
+            int end = cardText.indexOf(' ', start);
+            if (end < 0) {
+                end = cardText.length();
+            }
+            int amount = 0;
+            int i = start + 1;
+            for (; i < end; i++) {
+                char c = cardText.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                amount = amount * 10 + (c - '0');
+            }
+            if (i == end && end > start + 1) {
+                return amount;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Handles landing on a tax space.
      *
@@ -399,24 +565,15 @@ public class Player {
      * @param gameState The current game state
      */
     private void handleTaxSpace(SpecialSpace taxSpace, GameState gameState) {
-        int taxAmount = 0;
-        if (taxSpace.getName().equals("Income Tax")) {
-            taxAmount = 200;
-        } else if (taxSpace.getName().equals("Luxury Tax")) {
-            taxAmount = 100;
-        }
+        int taxAmount = gameState.getBoard().getTaxAmount(taxSpace);
 
-        System.out.println(name + " must pay $" + taxAmount + " in taxes");
+        if (GameLog.isEnabled()) {
+            System.out.println(name + " must pay $" + taxAmount + " in taxes");
+        }
         subtractMoney(taxAmount);
 
-        // Add the tax money to Free Parking if using house rules
-        for (Space space : gameState.getBoard().getSpaces()) {
-            if (space instanceof FreeParkingSpace) {
-                FreeParkingSpace freeParkingSpace = (FreeParkingSpace) space;
-                freeParkingSpace.addMoneyToPool(taxAmount);
-                break;
-            }
-        }
+        // The tax goes into the Free Parking pot if the game is played with the jackpot
+        gameState.getRules().getFreeParking().collect(gameState.getBoard().getFreeParkingSpace(), taxAmount);
     }
 
     /**
@@ -446,12 +603,16 @@ public class Player {
             }
 
             if (closestRailroad != -1) {
-                System.out.println(name + " advances to " + spaces.get(closestRailroad).getName());
+                if (GameLog.isEnabled()) {
+                    System.out.println(name + " advances to " + spaces.get(closestRailroad).getName());
+                }
                 boolean passedGo = closestRailroad < position;
                 setPosition(closestRailroad);
 
                 if (passedGo) {
-                    System.out.println(name + " passed Go and collects $200");
+                    if (GameLog.isEnabled()) {
+                        System.out.println(name + " passed Go and collects $200");
+                    }
                     addMoney(200);
                 }
                 // Check if a Railroad space has an owner and make the player pay double rent
@@ -462,7 +623,9 @@ public class Player {
                     if (owner != null && owner != this) {
                         // Pay double rent
                         int rent = railroad.calculateRent(gameState) * 2;
-                        System.out.println(name + " must pay double rent ($" + rent + ") for landing on " + railroad.getName());
+                        if (GameLog.isEnabled()) {
+                            System.out.println(name + " must pay double rent ($" + rent + ") for landing on " + railroad.getName());
+                        }
                         payRent(owner, rent);
                     } else if (owner == null) {
                         // Option to buy the railroad
@@ -492,12 +655,16 @@ public class Player {
             }
 
             if (closestUtility != -1) {
-                System.out.println(name + " advances to " + spaces.get(closestUtility).getName());
+                if (GameLog.isEnabled()) {
+                    System.out.println(name + " advances to " + spaces.get(closestUtility).getName());
+                }
                 boolean passedGo = closestUtility < position;
                 setPosition(closestUtility);
 
                 if (passedGo) {
-                    System.out.println(name + " passed Go and collects $200");
+                    if (GameLog.isEnabled()) {
+                        System.out.println(name + " passed Go and collects $200");
+                    }
                     addMoney(200);
                 }
 
@@ -511,7 +678,9 @@ public class Player {
                         int diceRoll = dice.rollDice();
                         // Charge 10 times the dice roll for utilities landed on via Chance or Community Chest
                         int rent = diceRoll * 10;
-                        System.out.println(name + " must pay special utility rent ($" + rent + ") for landing on " + utility.getName());
+                        if (GameLog.isEnabled()) {
+                            System.out.println(name + " must pay special utility rent ($" + rent + ") for landing on " + utility.getName());
+                        }
                         payRent(owner, rent);
                     } else if (owner == null) {
                         // Option to buy the utility
@@ -535,19 +704,25 @@ public class Player {
             }
 
             if (destinationPosition != -1) {
-                System.out.println(name + " advances to " + destination);
+                if (GameLog.isEnabled()) {
+                    System.out.println(name + " advances to " + destination);
+                }
                 boolean passedGo = destinationPosition < position && position != 0;
                 setPosition(destinationPosition);
 
                 if (passedGo) {
-                    System.out.println(name + " passed Go and collects $200");
+                    if (GameLog.isEnabled()) {
+                        System.out.println(name + " passed Go and collects $200");
+                    }
                     addMoney(200);
                 }
 
                 // Handle actions for the new space
                 performTurnActions(gameState);
             } else {
-                System.out.println("Could not find location: " + destination);
+                if (GameLog.isEnabled()) {
+                    System.out.println("Could not find location: " + destination);
+                }
             }
         }
     }
@@ -561,13 +736,25 @@ public class Player {
      */
     public boolean payRent(Player owner, int amount) {
         if (money >= amount) {
-            money -= amount;
-            owner.receiveRent(amount);
-            System.out.println(name + " paid $" + amount + " rent to " + owner.getName() +
-                    ". New balance: $" + money);
+            if (ledger != null) {
+                // One posting so the rent is never half paid
+                ledger.transfer(this, owner, amount, "Rent");
+                if (GameLog.isEnabled()) {
+                    System.out.println(owner.getName() + " received $" + amount + " in rent. New balance: $" + owner.getMoney());
+                }
+            } else {
+                setMoney(money - amount);
+                owner.receiveRent(amount);
+            }
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " paid $" + amount + " rent to " + owner.getName() +
+                        ". New balance: $" + money);
+            }
             return true;
         } else {
-            System.out.println(name + " is bankrupt and cannot pay $" + amount + " to " + owner.getName());
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " is bankrupt and cannot pay $" + amount + " to " + owner.getName());
+            }
             return false; // Player is bankrupt
         }
     }
@@ -578,8 +765,10 @@ public class Player {
      * @param amount The amount of rent received
      */
     public void receiveRent(int amount) {
-        money += amount;
-        System.out.println(name + " received $" + amount + " in rent. New balance: $" + money);
+        transfer(null, this, amount, "Rent");
+        if (GameLog.isEnabled()) {
+            System.out.println(name + " received $" + amount + " in rent. New balance: $" + money);
+        }
     }
 
     /**
@@ -590,13 +779,17 @@ public class Player {
      */
     public boolean buyRailroad(RailroadSpace railroad) {
         if (money >= railroad.getPrice()) {
-            money -= railroad.getPrice();
+            transfer(this, null, railroad.getPrice(), "Bought " + railroad.getName());
             railroad.setOwner(this);
-            System.out.println(name + " bought " + railroad.getName() + " for $" + railroad.getPrice() +
-                    ". New balance: $" + money);
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " bought " + railroad.getName() + " for $" + railroad.getPrice() +
+                        ". New balance: $" + money);
+            }
             return true;
         } else {
-            System.out.println(name + " does not have enough money to buy " + railroad.getName());
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " does not have enough money to buy " + railroad.getName());
+            }
             return false;
         }
     }
@@ -609,13 +802,17 @@ public class Player {
      */
     public boolean buyUtility(UtilitySpace utility) {
         if (money >= utility.getPrice()) {
-            money -= utility.getPrice();
+            transfer(this, null, utility.getPrice(), "Bought " + utility.getName());
             utility.setOwner(this);
-            System.out.println(name + " bought " + utility.getName() + " for $" + utility.getPrice() +
-                    ". New balance: $" + money);
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " bought " + utility.getName() + " for $" + utility.getPrice() +
+                        ". New balance: $" + money);
+            }
             return true;
         } else {
-            System.out.println(name + " does not have enough money to buy " + utility.getName());
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " does not have enough money to buy " + utility.getName());
+            }
             return false;
         }
     }
@@ -628,14 +825,18 @@ public class Player {
      */
     public boolean buyProperty(Property property) {
         if (money >= property.getPrice()) {
-            money -= property.getPrice();
+            transfer(this, null, property.getPrice(), "Bought " + property.getName());
             property.setOwner(this);
-            properties.add(property);
-            System.out.println(name + " bought " + property.getName() + " for $" + property.getPrice() +
-                    ". New balance: $" + money);
+            addProperty(property);
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " bought " + property.getName() + " for $" + property.getPrice() +
+                        ". New balance: $" + money);
+            }
             return true;
         } else {
-            System.out.println(name + " does not have enough money to buy " + property.getName());
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " does not have enough money to buy " + property.getName());
+            }
             return false;
         }
     }
@@ -651,6 +852,8 @@ public class Player {
 
     /**
      * Gets a list of the player's properties.
+     * Use {@link #addProperty(Property)} and {@link #removeProperty(Property)}
+     * to change it so listeners are notified.
      *
      * @return The list of properties owned by the player
      */
@@ -658,13 +861,52 @@ public class Player {
         return properties;
     }
 
+    /**
+     * Adds a property to the player's collection. A property that is already mortgaged,
+     * for example one received in a trade, is recorded as mortgaged too.
+     *
+     * @param property The property gained
+     * @return true if the property was added, false if the player already had it
+     */
+    public boolean addProperty(Property property) {
+        if (properties.contains(property)) {
+            return false;
+        }
+        properties.add(property);
+        if (property.isMortgaged() && !mortgagedProperties.contains(property)) {
+            mortgagedProperties.add(property);
+            fire(MORTGAGED_PROPERTIES, mortgagedProperties.size() - 1, mortgagedProperties.size());
+        }
+        fire(PROPERTIES, properties.size() - 1, properties.size());
+        return true;
+    }
+
+    /**
+     * Removes a property from the player's collection, along with its mortgage record.
+     *
+     * @param property The property lost
+     * @return true if the property was removed, false if the player did not have it
+     */
+    public boolean removeProperty(Property property) {
+        if (!properties.remove(property)) {
+            return false;
+        }
+        if (mortgagedProperties.remove(property)) {
+            fire(MORTGAGED_PROPERTIES, mortgagedProperties.size() + 1, mortgagedProperties.size());
+        }
+        fire(PROPERTIES, properties.size() + 1, properties.size());
+        return true;
+    }
+
     /**
      * Sets whether the player has a Get Out of Jail Free card.
      *
      * @param hasCard true if the player has the card, false otherwise
      */
     public void setHasGetOutOfJailFreeCard(boolean hasCard) {
+        boolean hadCard = this.hasGetOutOfJailFreeCard;
         this.hasGetOutOfJailFreeCard = hasCard;
+        fire(GET_OUT_OF_JAIL_FREE_CARD, hadCard, hasCard);
     }
 
     /**
@@ -691,7 +933,9 @@ public class Player {
      * @param turns The number of turns in jail
      */
     public void setTurnsInJail(int turns) {
+        int oldTurns = this.turnsInJail;
         this.turnsInJail = turns;
+        fire(TURNS_IN_JAIL, oldTurns, turns);
     }
 
     /**
@@ -722,10 +966,14 @@ public class Player {
         if (Tokens.isTokenAvailable(chosenToken)) {
             this.token = chosenToken;
             Tokens.assignToken(chosenToken);
-            System.out.println(name + " has chosen the token: " + chosenToken);
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " has chosen the token: " + chosenToken);
+            }
             return true;
         } else {
-            System.out.println("Token " + chosenToken + " is already taken! Choose another.");
+            if (GameLog.isEnabled()) {
+                System.out.println("Token " + chosenToken + " is already taken! Choose another.");
+            }
             return false;
         }
     }
@@ -748,19 +996,25 @@ public class Player {
     public boolean mortgageProperty(Property property) {
         // Check if player owns the property
         if (!properties.contains(property)) {
-            System.out.println(name + " does not own " + property.getName());
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " does not own " + property.getName());
+            }
             return false;
         }
 
         // Check if property is already mortgaged
         if (mortgagedProperties.contains(property)) {
-            System.out.println(property.getName() + " is already mortgaged");
+            if (GameLog.isEnabled()) {
+                System.out.println(property.getName() + " is already mortgaged");
+            }
             return false;
         }
 
         // Check if property has houses or hotels
         if (property.getHouses() > 0 || property.hasHotel()) {
-            System.out.println("You must sell all houses and hotels on this property before mortgaging");
+            if (GameLog.isEnabled()) {
+                System.out.println("You must sell all houses and hotels on this property before mortgaging");
+            }
             return false;
         }
 
@@ -773,8 +1027,11 @@ public class Player {
 
         // Add to mortgaged properties list
         mortgagedProperties.add(property);
+        fire(MORTGAGED_PROPERTIES, mortgagedProperties.size() - 1, mortgagedProperties.size());
 
-        System.out.println(name + " mortgaged " + property.getName() + " for $" + mortgageValue);
+        if (GameLog.isEnabled()) {
+            System.out.println(name + " mortgaged " + property.getName() + " for $" + mortgageValue);
+        }
         return true;
     }
 
@@ -787,13 +1044,17 @@ public class Player {
     public boolean unmortgageProperty(Property property) {
         // Check if player owns the property
         if (!properties.contains(property)) {
-            System.out.println(name + " does not own " + property.getName());
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " does not own " + property.getName());
+            }
             return false;
         }
 
         // Check if property is mortgaged
         if (!mortgagedProperties.contains(property)) {
-            System.out.println(property.getName() + " is not mortgaged");
+            if (GameLog.isEnabled()) {
+                System.out.println(property.getName() + " is not mortgaged");
+            }
             return false;
         }
 
@@ -802,7 +1063,9 @@ public class Player {
 
         // Check if player has enough money
         if (money < unmortgageCost) {
-            System.out.println(name + " does not have enough money to unmortgage " + property.getName());
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " does not have enough money to unmortgage " + property.getName());
+            }
             return false;
         }
 
@@ -814,8 +1077,83 @@ public class Player {
 
         // Remove from mortgaged properties list
         mortgagedProperties.remove(property);
+        fire(MORTGAGED_PROPERTIES, mortgagedProperties.size() + 1, mortgagedProperties.size());
+
+        if (GameLog.isEnabled()) {
+            System.out.println(name + " unmortgaged " + property.getName() + " for $" + unmortgageCost);
+        }
+        return true;
+    }
 
-        System.out.println(name + " unmortgaged " + property.getName() + " for $" + unmortgageCost);
+    /**
+     * Mortgages any space the player owns: a property, railroad or utility. The bank pays
+     * the space's mortgage value. Properties go through {@link #mortgageProperty(Property)},
+     * so their buildings must be sold first.
+     *
+     * @param ownable The space to mortgage
+     * @return true if the space was mortgaged, false otherwise
+     */
+    public boolean mortgage(Ownable ownable) {
+        if (ownable instanceof Property) {
+            return mortgageProperty((Property) ownable);
+        }
+        if (ownable.getOwner() != this) {
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " does not own " + ownable.getName());
+            }
+            return false;
+        }
+        if (ownable.isMortgaged()) {
+            if (GameLog.isEnabled()) {
+                System.out.println(ownable.getName() + " is already mortgaged");
+            }
+            return false;
+        }
+
+        int mortgageValue = ownable.getMortgageValue();
+        transfer(null, this, mortgageValue, "Mortgaged " + ownable.getName());
+        ownable.setMortgaged(true);
+        if (GameLog.isEnabled()) {
+            System.out.println(name + " mortgaged " + ownable.getName() + " for $" + mortgageValue);
+        }
+        return true;
+    }
+
+    /**
+     * Lifts the mortgage on any space the player owns, paying the mortgage value plus 10% interest.
+     *
+     * @param ownable The space to unmortgage
+     * @return true if the mortgage was lifted, false otherwise
+     */
+    public boolean unmortgage(Ownable ownable) {
+        if (ownable instanceof Property) {
+            return unmortgageProperty((Property) ownable);
+        }
+        if (ownable.getOwner() != this) {
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " does not own " + ownable.getName());
+            }
+            return false;
+        }
+        if (!ownable.isMortgaged()) {
+            if (GameLog.isEnabled()) {
+                System.out.println(ownable.getName() + " is not mortgaged");
+            }
+            return false;
+        }
+
+        int unmortgageCost = ownable.getUnmortgageCost();
+        if (money < unmortgageCost) {
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " does not have enough money to unmortgage " + ownable.getName());
+            }
+            return false;
+        }
+        transfer(this, null, unmortgageCost, "Unmortgaged " + ownable.getName());
+        ownable.setMortgaged(false);
+        if (GameLog.isEnabled()) {
+            System.out.println(name + " unmortgaged " + ownable.getName() + " for $" + unmortgageCost);
+        }
         return true;
     }
 
@@ -8,15 +8,14 @@ package Model.Board.Strategy;
 
 import Model.Board.ComputerPlayer;
 import Model.Board.Gameboard;
+import Model.GameLog;
 import Model.GameState;
-import Model.Property.Property;
+import Model.Spaces.Ownable;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class AggressiveStrategy implements ComputerPlayerStrategy {
 
-    private Property property;
-
     /**
      * Author: Ronell Washington
      * Executes the aggressive strategy for the computer player.
@@ -28,13 +27,15 @@ public class AggressiveStrategy implements ComputerPlayerStrategy {
      */
     @Override
     public void executeStrategy(Gameboard gameboard, GameState gameState, ComputerPlayer player) {
-        Random rand = new Random();
-        if (rand.nextInt(100) < 80) {
-            System.out.print("Aggressive strategy: Buying property.");
-            player.buyProperty(property);
+        Ownable space = Purchases.spaceForSale(gameboard, player);
+        if (space == null) {
+            return;
+        }
+        if (ThreadLocalRandom.current().nextInt(100) < 80) {
+            GameLog.print("Aggressive strategy: Buying property.");
+            Purchases.buy(space, gameState, player);
         } else {
-            System.out.println("Aggressive strategy: Not buying property.");
+            GameLog.print("Aggressive strategy: Not buying property.");
         }
-
     }
 }
@@ -9,10 +9,63 @@
 
 package Model.Board.Strategy;
 
+import Model.Auction.Auction;
 import Model.Board.ComputerPlayer;
 import Model.Board.Gameboard;
 import Model.GameState;
+import Model.Property.Property;
+import Model.Spaces.Ownable;
+import Model.Spaces.Space;
 
 public interface ComputerPlayerStrategy {
     void executeStrategy(Gameboard gameboard, GameState gameState, ComputerPlayer player);
+
+    /**
+     * Decides whether to buy an unowned space the player has landed on.
+     * Unless a strategy says otherwise, the player buys whatever it can afford.
+     *
+     * @param space     The space for sale
+     * @param gameState The current state of the game
+     * @param player    The computer player deciding
+     * @return true to buy the space
+     */
+    default boolean shouldBuy(Ownable space, GameState gameState, ComputerPlayer player) {
+        return player.getMoney() >= space.getPrice();
+    }
+
+    /**
+     * Gets the most the player will bid for a space at auction.
+     * Unless a strategy says otherwise, the player bids up to the list price.
+     *
+     * @param lot    The space being auctioned
+     * @param player The computer player bidding
+     * @return The bid limit
+     */
+    default int auctionLimit(Space lot, ComputerPlayer player) {
+        return Auction.priceOf(lot);
+    }
+
+    /**
+     * Gets the most the player will pay for a house the bank auctions during a house shortage.
+     * Unless a strategy says otherwise, the player bids up to twice the house price.
+     *
+     * @param property   The property the house would go on
+     * @param housePrice The price of a house in the property's color group
+     * @param player     The computer player bidding
+     * @return The bid limit
+     */
+    default int houseAuctionLimit(Property property, int housePrice, ComputerPlayer player) {
+        return housePrice * 2;
+    }
+
+    /**
+     * Builds, mortgages and unmortgages at the end of the player's turn.
+     * Unless a strategy says otherwise, the player leaves its holdings as they are.
+     *
+     * @param gameboard The gameboard on which the game is played
+     * @param gameState The current state of the game
+     * @param player    The computer player managing its holdings
+     */
+    default void manageHoldings(Gameboard gameboard, GameState gameState, ComputerPlayer player) {
+    }
 }
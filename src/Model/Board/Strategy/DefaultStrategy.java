@@ -8,14 +8,13 @@ package Model.Board.Strategy;
 
 import Model.Board.ComputerPlayer;
 import Model.Board.Gameboard;
+import Model.GameLog;
 import Model.GameState;
-import Model.Property.Property;
+import Model.Spaces.Ownable;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class DefaultStrategy implements ComputerPlayerStrategy {
-    private Property property;
-
     /**
      * Author: Ronell Washington
      * Executes the default strategy for the computer player.
@@ -27,14 +26,16 @@ public class DefaultStrategy implements ComputerPlayerStrategy {
      */
     @Override
     public void executeStrategy(Gameboard gameboard, GameState gameState, ComputerPlayer player) {
-        Random rand = new Random();
-        if (rand.nextInt(100) < 50) {
-            System.out.print("Default strategy: Buying property.");
-            player.buyProperty(property);
+        Ownable space = Purchases.spaceForSale(gameboard, player);
+        if (space == null) {
+            return;
+        }
+        if (ThreadLocalRandom.current().nextInt(100) < 50) {
+            GameLog.print("Default strategy: Buying property.");
+            Purchases.buy(space, gameState, player);
         } else {
-            System.out.println("Default strategy: Not buying property.");
+            GameLog.print("Default strategy: Not buying property.");
         }
-
     }
 
 }
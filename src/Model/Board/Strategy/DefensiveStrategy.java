@@ -9,15 +9,14 @@ import Model.Board.ComputerPlayer;
  */
 
 import Model.Board.Gameboard;
+import Model.GameLog;
 import Model.GameState;
-import Model.Property.Property;
+import Model.Spaces.Ownable;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class DefensiveStrategy implements ComputerPlayerStrategy{
 
-    private Property property;
-
     /**
      * Author: Ronell Washington
      * Executes the defensive strategy for the computer player.
@@ -29,13 +28,14 @@ public class DefensiveStrategy implements ComputerPlayerStrategy{
      */
     @Override
     public void executeStrategy(Gameboard gameboard, GameState gameState, ComputerPlayer player) {
-        Random rand = new Random();
-        if (rand.nextInt(100) < 20) {
-            player.buyProperty(property);
+        Ownable space = Purchases.spaceForSale(gameboard, player);
+        if (space == null) {
+            return;
+        }
+        if (ThreadLocalRandom.current().nextInt(100) < 20) {
+            Purchases.buy(space, gameState, player);
         } else {
-            System.out.println("Defensive strategy: Not buying property.");
-
+            GameLog.print("Defensive strategy: Not buying property.");
         }
-
     }
 }
@@ -0,0 +1,259 @@
+package Model.Board.Strategy;
+
+import Model.Auction.ValuationBidder;
+import Model.Board.Bank;
+import Model.Board.BuildOrder;
+import Model.Board.ComputerPlayer;
+import Model.Board.Gameboard;
+import Model.Board.Player;
+import Model.BuildingInventory;
+import Model.GameState;
+import Model.Property.Property;
+import Model.Rules.DeclineRule;
+import Model.Spaces.Ownable;
+import Model.Spaces.Space;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A strategy driven by {@link StrategyParameters} rather than a coin flip. The player:
+ * <ul>
+ *   <li>buys a space when it keeps its cash reserve afterwards, the reserve shrinking for
+ *       color groups it values highly and growing for those it does not;</li>
+ *   <li>bids at auction up to the list price times the group's weight and the bid cap;</li>
+ *   <li>mortgages in the chosen order whenever its cash drops below the mortgage floor, and
+ *       lifts mortgages again, last mortgaged first, once it can do so and keep its reserve;</li>
+ *   <li>spends a share of the cash above its reserve on houses, best valued groups first.</li>
+ * </ul>
+ * It also reads the {@link OpponentModel models} of its opponents: it lets a space go to
+ * auction when every opponent has been seen bidding well under list price, so it can pick the
+ * space up cheaper, and it builds harder while an opponent is building, as the houses run out.
+ *
+ * The parameters are fixed for the life of the strategy, so one instance can be shared by any
+ * number of players; {@link StrategyTuner} searches for good parameters.
+ */
+public class HeuristicStrategy implements ComputerPlayerStrategy {
+    /** The auctions an opponent must have been seen in before their bidding is trusted. */
+    static final int MIN_AUCTIONS_OBSERVED = 3;
+    /** Spaces are left to auction only if opponents are expected to stop below this share of list price. */
+    static final double BARGAIN_SHARE = 0.75;
+
+    private final StrategyParameters parameters;
+    // Worked out once from the parameters, so a turn only reads them
+    private final String[] buildOrder;
+    private final Comparator<Property> mortgageOrder;
+
+    /**
+     * Constructs a strategy with the standard parameters.
+     */
+    public HeuristicStrategy() {
+        this(StrategyParameters.standard());
+    }
+
+    /**
+     * Constructs a strategy with given parameters.
+     *
+     * @param parameters The parameters to play by
+     */
+    public HeuristicStrategy(StrategyParameters parameters) {
+        if (parameters == null) {
+            throw new IllegalArgumentException("Strategy parameters are required");
+        }
+        this.parameters = parameters;
+        this.buildOrder = StrategyParameters.COLOR_GROUPS.clone();
+        Arrays.sort(buildOrder, Comparator.comparingDouble((String group) -> parameters.getWeight(group)).reversed());
+        this.mortgageOrder = parameters.getMortgageOrder().comparator(parameters);
+    }
+
+    /**
+     * Gets the parameters the strategy plays by.
+     *
+     * @return The parameters
+     */
+    public StrategyParameters getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Buys the space the player is standing on if it is for sale and worth buying, then
+     * manages the player's holdings.
+     *
+     * @param gameboard The gameboard on which the game is played.
+     * @param gameState The current state of the game.
+     * @param player The computer player executing the strategy.
+     */
+    @Override
+    public void executeStrategy(Gameboard gameboard, GameState gameState, ComputerPlayer player) {
+        Ownable space = Purchases.spaceForSale(gameboard, player);
+        if (space != null && shouldBuy(space, gameState, player)) {
+            Purchases.buy(space, gameState, player);
+        }
+        manageHoldings(gameboard, gameState, player);
+    }
+
+    /**
+     * Buys a space when the player keeps its cash reserve, divided by the space's weight, afterwards,
+     * unless the space is likely to be won more cheaply at auction.
+     *
+     * @param space     The space for sale
+     * @param gameState The current state of the game
+     * @param player    The computer player deciding
+     * @return true to buy the space
+     */
+    @Override
+    public boolean shouldBuy(Ownable space, GameState gameState, ComputerPlayer player) {
+        double weight = parameters.getWeight((Space) space);
+        if (weight <= 0 || player.getMoney() < space.getPrice()) {
+            return false;
+        }
+        if (player.getMoney() - space.getPrice() < parameters.getCashReserve() / weight) {
+            return false;
+        }
+        return !expectBargainAtAuction(space, gameState, player);
+    }
+
+    private boolean expectBargainAtAuction(Ownable space, GameState gameState, ComputerPlayer player) {
+        if (gameState == null || gameState.getRules().getDeclineRule() != DeclineRule.AUCTION) {
+            return false;
+        }
+        int price = space.getPrice();
+        int rivalBid = 0;
+        for (Player opponent : gameState.getPlayers()) {
+            if (opponent == player) {
+                continue;
+            }
+            OpponentModel model = gameState.getOpponentTracker().get(opponent);
+            if (model.getAuctions() < MIN_AUCTIONS_OBSERVED) {
+                return false;
+            }
+            rivalBid = Math.max(rivalBid, Math.min(model.expectedTopBid(price), opponent.getMoney()));
+        }
+        int winningBid = rivalBid + ValuationBidder.DEFAULT_STEP;
+        return winningBid <= price * BARGAIN_SHARE
+                && winningBid <= auctionLimit((Space) space, player)
+                && winningBid <= player.getMoney();
+    }
+
+    /**
+     * Bids up to the list price times the space's weight and the bid cap.
+     *
+     * @param lot    The space being auctioned
+     * @param player The computer player bidding
+     * @return The bid limit
+     */
+    @Override
+    public int auctionLimit(Space lot, ComputerPlayer player) {
+        return (int) (ComputerPlayerStrategy.super.auctionLimit(lot, player)
+                * parameters.getWeight(lot) * parameters.getBidCap());
+    }
+
+    /**
+     * Bids for a house during a shortage up to twice the house price times the group's
+     * weight and the bid cap.
+     *
+     * @param property   The property the house would go on
+     * @param housePrice The price of a house in the property's color group
+     * @param player     The computer player bidding
+     * @return The bid limit
+     */
+    @Override
+    public int houseAuctionLimit(Property property, int housePrice, ComputerPlayer player) {
+        return (int) (ComputerPlayerStrategy.super.houseAuctionLimit(property, housePrice, player)
+                * parameters.getWeight(property.getColorGroup()) * parameters.getBidCap());
+    }
+
+    /**
+     * Mortgages properties while cash is below the floor; otherwise lifts mortgages the
+     * player can afford and then builds.
+     *
+     * @param gameboard The gameboard on which the game is played
+     * @param gameState The current state of the game
+     * @param player    The computer player managing its holdings
+     */
+    @Override
+    public void manageHoldings(Gameboard gameboard, GameState gameState, ComputerPlayer player) {
+        if (player.getMoney() < parameters.getMortgageFloor()) {
+            raiseCash(player);
+            return;
+        }
+        liftMortgages(player);
+        Bank bank = gameState.getBank();
+        if (bank != null) {
+            build(gameboard, gameState, bank, player);
+        }
+    }
+
+    private void raiseCash(ComputerPlayer player) {
+        List<Property> candidates = new ArrayList<>();
+        for (Property property : player.getProperties()) {
+            if (!property.isMortgaged() && property.getHouses() == 0 && !property.hasHotel()) {
+                candidates.add(property);
+            }
+        }
+        candidates.sort(mortgageOrder);
+        for (int i = 0; i < candidates.size() && player.getMoney() < parameters.getMortgageFloor(); i++) {
+            player.mortgageProperty(candidates.get(i));
+        }
+    }
+
+    private void liftMortgages(ComputerPlayer player) {
+        List<Property> mortgaged = new ArrayList<>(player.getMortgagedProperties());
+        mortgaged.sort(mortgageOrder.reversed());
+        for (Property property : mortgaged) {
+            if (player.getMoney() - property.getUnmortgageCost() < parameters.getCashReserve()) {
+                return;
+            }
+            player.unmortgageProperty(property);
+        }
+    }
+
+    private void build(Gameboard gameboard, GameState gameState, Bank bank, ComputerPlayer player) {
+        int spare = player.getMoney() - parameters.getCashReserve();
+        if (spare <= 0) {
+            return;
+        }
+        // An opponent who builds is racing for the same limited stock of houses
+        double rivalry = 0;
+        for (Player opponent : gameState.getPlayers()) {
+            if (opponent != player) {
+                rivalry = Math.max(rivalry, gameState.getOpponentTracker().get(opponent).getDevelopmentPropensity());
+            }
+        }
+        int budget = (int) Math.min(spare, spare * parameters.getBuildAggressiveness() * (1 + rivalry));
+        if (budget <= 0) {
+            return;
+        }
+
+        // The turn's orders go to the bank together, so during a shortage the houses it has
+        // are auctioned to the groups the player values most
+        List<BuildOrder> orders = new ArrayList<>();
+        for (String group : buildOrder) {
+            if (parameters.getWeight(group) <= 0 || !gameboard.playerOwnsAllInColorGroup(player, group)) {
+                continue;
+            }
+            List<Property> properties = gameboard.getPropertiesByColorGroup(group);
+            int room = 0;
+            boolean mortgaged = false;
+            for (Property property : properties) {
+                room += BuildingInventory.HOTEL - BuildingInventory.levelOf(property);
+                mortgaged |= property.isMortgaged();
+            }
+            int price = gameboard.getDefinition().getHouseCost(group);
+            if (mortgaged || price <= 0) {
+                continue;
+            }
+
+            int count = Math.min(room, budget / price);
+            if (count > 0) {
+                orders.add(new BuildOrder(player, group, count));
+                budget -= count * price;
+            }
+        }
+        if (!orders.isEmpty()) {
+            bank.placeBuildOrders(orders, gameboard);
+        }
+    }
+}
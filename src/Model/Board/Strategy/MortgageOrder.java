@@ -0,0 +1,36 @@
+package Model.Board.Strategy;
+
+import Model.Property.Property;
+
+import java.util.Comparator;
+
+/**
+ * The order in which a computer player mortgages its properties when it needs cash.
+ * Properties are lifted out of mortgage in the reverse order.
+ */
+public enum MortgageOrder {
+    /** Mortgage the properties that raise the least first, keeping the big earners clear. */
+    CHEAPEST_FIRST,
+    /** Mortgage the properties raising the most first, so as few as possible are mortgaged. */
+    DEAREST_FIRST,
+    /** Mortgage the properties in the color groups the player values least first. */
+    LEAST_VALUED_FIRST;
+
+    /**
+     * Gets the comparator that sorts properties into mortgaging order.
+     *
+     * @param parameters The parameters giving the value of each color group
+     * @return The comparator, first property to mortgage first
+     */
+    public Comparator<Property> comparator(StrategyParameters parameters) {
+        switch (this) {
+            case DEAREST_FIRST:
+                return Comparator.comparingInt(Property::getMortgageValue).reversed();
+            case LEAST_VALUED_FIRST:
+                return Comparator.<Property>comparingDouble(parameters::getWeight)
+                        .thenComparingInt(Property::getMortgageValue);
+            default:
+                return Comparator.comparingInt(Property::getMortgageValue);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package Model.Board.Strategy;
+
+/**
+ * What has been seen of one player's play, kept as running totals so each observation costs
+ * a few additions and nothing is ever re-read:
+ * <ul>
+ *   <li>how often they buy a space they can afford when they land on it;</li>
+ *   <li>how high they bid at auction, as a share of the list price;</li>
+ *   <li>how little cash they are prepared to be left with after buying or building;</li>
+ *   <li>how many houses and hotels they have bought.</li>
+ * </ul>
+ * Estimates start from neutral priors, so a model with no observations reads as a player who
+ * buys half the time and bids up to list price. A model is updated by its
+ * {@link OpponentTracker}; a {@link #snapshot()} is a read-only copy that any number of
+ * look-ahead simulations can share.
+ */
+public final class OpponentModel {
+    /** A model of a player nothing is known about. */
+    public static final OpponentModel UNKNOWN = new OpponentModel(true);
+
+    private final boolean readOnly;
+    private int offers;
+    private int buys;
+    private int minCashAfterBuy = Integer.MAX_VALUE;
+    private int maxCashAfterDecline = Integer.MIN_VALUE;
+    private int auctions;
+    private int auctionsBid;
+    private double bidShareTotal;
+    private double maxBidShare;
+    private int buildings;
+    private int buildingSpend;
+    private int minCashAfterBuild = Integer.MAX_VALUE;
+
+    /**
+     * Constructs an empty model to record into.
+     */
+    public OpponentModel() {
+        this(false);
+    }
+
+    private OpponentModel(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new IllegalStateException("A snapshot of an opponent model cannot be changed");
+        }
+    }
+
+    /**
+     * Records a decision on a space the player landed on and could afford.
+     *
+     * @param cash   The player's cash before deciding
+     * @param price  The price of the space
+     * @param bought true if they bought it
+     */
+    public void recordOffer(int cash, int price, boolean bought) {
+        checkWritable();
+        offers++;
+        int left = cash - price;
+        if (bought) {
+            buys++;
+            minCashAfterBuy = Math.min(minCashAfterBuy, left);
+        } else {
+            maxCashAfterDecline = Math.max(maxCashAfterDecline, left);
+        }
+    }
+
+    /**
+     * Records the player's part in an auction.
+     *
+     * @param price  The list price of the lot
+     * @param topBid The player's highest bid, 0 if they did not bid
+     */
+    public void recordAuction(int price, int topBid) {
+        checkWritable();
+        if (price <= 0) {
+            return;
+        }
+        auctions++;
+        double share = topBid / (double) price;
+        bidShareTotal += share;
+        if (topBid > 0) {
+            auctionsBid++;
+            maxBidShare = Math.max(maxBidShare, share);
+        }
+    }
+
+    /**
+     * Records the player buying houses or hotels.
+     *
+     * @param count     The buildings bought
+     * @param cost      What they paid
+     * @param cashAfter Their cash afterwards
+     */
+    public void recordBuilding(int count, int cost, int cashAfter) {
+        checkWritable();
+        buildings += count;
+        buildingSpend += cost;
+        minCashAfterBuild = Math.min(minCashAfterBuild, cashAfter);
+    }
+
+    /**
+     * Gets a read-only copy of the model as it stands.
+     *
+     * @return The snapshot, or this model if it is already read-only
+     */
+    public OpponentModel snapshot() {
+        if (readOnly) {
+            return this;
+        }
+        OpponentModel copy = new OpponentModel(true);
+        copy.offers = offers;
+        copy.buys = buys;
+        copy.minCashAfterBuy = minCashAfterBuy;
+        copy.maxCashAfterDecline = maxCashAfterDecline;
+        copy.auctions = auctions;
+        copy.auctionsBid = auctionsBid;
+        copy.bidShareTotal = bidShareTotal;
+        copy.maxBidShare = maxBidShare;
+        copy.buildings = buildings;
+        copy.buildingSpend = buildingSpend;
+        copy.minCashAfterBuild = minCashAfterBuild;
+        return copy;
+    }
+
+    /**
+     * Checks whether the model is a snapshot that cannot be recorded into.
+     *
+     * @return true if the model is read-only
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Gets the number of spaces the player has landed on, could afford and decided on.
+     *
+     * @return The offers seen
+     */
+    public int getOffers() {
+        return offers;
+    }
+
+    /**
+     * Gets the number of those spaces the player bought.
+     *
+     * @return The purchases seen
+     */
+    public int getBuys() {
+        return buys;
+    }
+
+    /**
+     * Estimates the chance the player buys a space they can afford, starting from even odds.
+     *
+     * @return The buy rate, from 0 to 1
+     */
+    public double getBuyRate() {
+        return (buys + 1) / (double) (offers + 2);
+    }
+
+    /**
+     * Gets the number of auctions the player has taken part in.
+     *
+     * @return The auctions seen
+     */
+    public int getAuctions() {
+        return auctions;
+    }
+
+    /**
+     * Gets the player's average highest bid as a share of list price, passes counting as 0.
+     *
+     * @return The bid aggressiveness, 1 if the player has not been seen at auction
+     */
+    public double getBidAggressiveness() {
+        return auctions == 0 ? 1.0 : bidShareTotal / auctions;
+    }
+
+    /**
+     * Estimates the most the player would bid for a space, from the highest share of list
+     * price they have bid before.
+     *
+     * @param price The list price
+     * @return The expected top bid, the list price if the player has never bid
+     */
+    public int expectedTopBid(int price) {
+        return auctionsBid == 0 ? price : (int) Math.ceil(price * maxBidShare);
+    }
+
+    /**
+     * Gets the least cash the player has been left with after buying a space or buildings,
+     * a sign of the reserve they keep.
+     *
+     * @return The cash floor, or -1 if they have not been seen buying
+     */
+    public int getCashFloor() {
+        int floor = Math.min(minCashAfterBuy, minCashAfterBuild);
+        return floor == Integer.MAX_VALUE ? -1 : floor;
+    }
+
+    /**
+     * Gets the most cash the player would have kept after buying a space they turned down.
+     *
+     * @return The cash, or -1 if they have never turned down a space they could afford
+     */
+    public int getMaxCashAfterDecline() {
+        return maxCashAfterDecline == Integer.MIN_VALUE ? -1 : maxCashAfterDecline;
+    }
+
+    /**
+     * Gets the number of houses and hotels the player has bought.
+     *
+     * @return The buildings seen
+     */
+    public int getBuildings() {
+        return buildings;
+    }
+
+    /**
+     * Gets what the player has spent on houses and hotels.
+     *
+     * @return The building spend
+     */
+    public int getBuildingSpend() {
+        return buildingSpend;
+    }
+
+    /**
+     * Estimates how readily the player develops a color group, rising towards 1 as they buy
+     * more buildings. A complete group in the hands of a keen builder is the bigger threat.
+     *
+     * @return The development propensity, 0 if they have not been seen building
+     */
+    public double getDevelopmentPropensity() {
+        return buildings / (buildings + 10.0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("OpponentModel{buyRate=%.2f, bidAggressiveness=%.2f, cashFloor=%d, buildings=%d}",
+                getBuyRate(), getBidAggressiveness(), getCashFloor(), buildings);
+    }
+}
@@ -0,0 +1,128 @@
+package Model.Board.Strategy;
+
+import Model.Auction.Auction;
+import Model.Board.BankObserver;
+import Model.Board.Player;
+import Model.Spaces.Ownable;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Keeps an {@link OpponentModel} for every player in a game, updated as things happen: the
+ * controller reports each decision on a space for sale and the bank reports auctions and
+ * building. What a player does is seen by everyone at the table, so one tracker serves every
+ * computer player in the game, each reading the models of its opponents.
+ *
+ * A tracker is updated by the thread playing the game. Look-ahead simulations should take a
+ * {@link #snapshot()}, which is read-only and safe to share between threads.
+ */
+public final class OpponentTracker implements BankObserver {
+    private final Map<Player, OpponentModel> models;
+    private final boolean readOnly;
+
+    /**
+     * Constructs a tracker with no observations.
+     */
+    public OpponentTracker() {
+        this(new IdentityHashMap<>(), false);
+    }
+
+    private OpponentTracker(Map<Player, OpponentModel> models, boolean readOnly) {
+        this.models = models;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Gets the model of a player.
+     *
+     * @param player The player
+     * @return Their model; in a snapshot, {@link OpponentModel#UNKNOWN} for players never seen
+     */
+    public OpponentModel get(Player player) {
+        OpponentModel model = models.get(player);
+        if (model == null) {
+            if (readOnly) {
+                return OpponentModel.UNKNOWN;
+            }
+            model = new OpponentModel();
+            models.put(player, model);
+        }
+        return model;
+    }
+
+    /**
+     * Records a player's decision on a space they landed on. Decisions on spaces the player
+     * could not afford say nothing about them and are ignored.
+     *
+     * @param player The player deciding
+     * @param space  The space for sale
+     * @param bought true if they bought it
+     */
+    public void purchaseDecided(Player player, Ownable space, boolean bought) {
+        if (player.getMoney() >= space.getPrice()) {
+            get(player).recordOffer(player.getMoney(), space.getPrice(), bought);
+        }
+    }
+
+    /**
+     * Records every participant's highest bid, passes included.
+     *
+     * @param auction The closed auction
+     * @param winner  The winner, or null if nobody bid
+     */
+    @Override
+    public void auctionSettled(Auction auction, Player winner) {
+        int price = Auction.priceOf(auction.getLot());
+        for (Player player : auction.getParticipants()) {
+            get(player).recordAuction(price, auction.getTopBid(player));
+        }
+    }
+
+    /**
+     * Records a player buying houses or hotels.
+     *
+     * @param player    The player who built
+     * @param buildings The number of buildings bought
+     * @param cost      What the player paid
+     */
+    @Override
+    public void buildingsBought(Player player, int buildings, int cost) {
+        get(player).recordBuilding(buildings, cost, player.getMoney());
+    }
+
+    /**
+     * Gets a read-only copy of every model as it stands.
+     *
+     * @return The snapshot, or this tracker if it is already read-only
+     */
+    public OpponentTracker snapshot() {
+        if (readOnly) {
+            return this;
+        }
+        Map<Player, OpponentModel> copies = new IdentityHashMap<>();
+        for (Map.Entry<Player, OpponentModel> entry : models.entrySet()) {
+            copies.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        return new OpponentTracker(Collections.unmodifiableMap(copies), true);
+    }
+
+    /**
+     * Checks whether the tracker is a snapshot.
+     *
+     * @return true if the tracker is read-only
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Gets the number of players modelled.
+     *
+     * @return The player count
+     */
+    public int size() {
+        return models.size();
+    }
+}
@@ -0,0 +1,58 @@
+package Model.Board.Strategy;
+
+import Model.Board.ComputerPlayer;
+import Model.Board.Gameboard;
+import Model.GameState;
+import Model.Property.Property;
+import Model.Spaces.Ownable;
+import Model.Spaces.RailroadSpace;
+import Model.Spaces.Space;
+import Model.Spaces.UtilitySpace;
+
+/**
+ * Buys the space a computer player is standing on, for the strategies in this package.
+ */
+final class Purchases {
+
+    private Purchases() {
+    }
+
+    /**
+     * Gets the space the player is standing on if it is for sale.
+     *
+     * @param gameboard The gameboard on which the game is played
+     * @param player    The computer player
+     * @return The space, or null if it cannot be bought
+     */
+    static Ownable spaceForSale(Gameboard gameboard, ComputerPlayer player) {
+        Space space = gameboard.getspace(player.getPosition());
+        if (space instanceof Ownable && !((Ownable) space).isOwned()) {
+            return (Ownable) space;
+        }
+        return null;
+    }
+
+    /**
+     * Buys a space for the player, through the bank for properties so it leaves the bank's stock.
+     *
+     * @param space     The space for sale
+     * @param gameState The current state of the game
+     * @param player    The computer player buying
+     * @return true if the space was bought
+     */
+    static boolean buy(Ownable space, GameState gameState, ComputerPlayer player) {
+        if (space instanceof Property) {
+            Property property = (Property) space;
+            return gameState.getBank() != null
+                    ? gameState.getBank().sellProperty(property, player)
+                    : player.buyProperty(property);
+        }
+        if (space instanceof RailroadSpace) {
+            return player.buyRailroad((RailroadSpace) space);
+        }
+        if (space instanceof UtilitySpace) {
+            return player.buyUtility((UtilitySpace) space);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,360 @@
+package Model.Board.Strategy;
+
+import Model.Spaces.RailroadSpace;
+import Model.Spaces.Space;
+import Model.Spaces.UtilitySpace;
+
+import java.util.Arrays;
+
+/**
+ * The tunable parameters of a {@link HeuristicStrategy}: how much cash to keep, how much each
+ * color group is worth, how hard to build, what to mortgage first and how high to bid.
+ * A StrategyParameters value is immutable; each {@code with...} method returns a copy with one
+ * parameter changed, so variants are built up from {@link #standard()}.
+ *
+ * The parameters also convert to and from a vector of numbers, {@link #GENES} in order, which is
+ * what {@link StrategyTuner} evolves. Every gene has a range and vectors are clamped into it.
+ */
+public final class StrategyParameters {
+    /** The color groups a weight is kept for, in vector order. */
+    public static final String[] COLOR_GROUPS = {
+            "Brown", "Light Blue", "Pink", "Orange", "Red", "Yellow", "Green", "Dark Blue"
+    };
+
+    /** The names of the genes in a parameter vector. */
+    public static final String[] GENES;
+
+    private static final int RESERVE = 0;
+    private static final int MORTGAGE_FLOOR = 1;
+    private static final int BUILD = 2;
+    private static final int BID_CAP = 3;
+    private static final int MORTGAGE_ORDER = 4;
+    private static final int WEIGHTS = 5;
+    private static final int RAILROAD = WEIGHTS + COLOR_GROUPS.length;
+    private static final int UTILITY = RAILROAD + 1;
+    private static final int SIZE = UTILITY + 1;
+
+    private static final double[] MIN = new double[SIZE];
+    private static final double[] MAX = new double[SIZE];
+
+    static {
+        GENES = new String[SIZE];
+        GENES[RESERVE] = "cashReserve";
+        GENES[MORTGAGE_FLOOR] = "mortgageFloor";
+        GENES[BUILD] = "buildAggressiveness";
+        GENES[BID_CAP] = "bidCap";
+        GENES[MORTGAGE_ORDER] = "mortgageOrder";
+        for (int i = 0; i < COLOR_GROUPS.length; i++) {
+            GENES[WEIGHTS + i] = "weight." + COLOR_GROUPS[i];
+        }
+        GENES[RAILROAD] = "weight.Railroad";
+        GENES[UTILITY] = "weight.Utility";
+
+        setRange(RESERVE, 0, 1500);
+        setRange(MORTGAGE_FLOOR, 0, 500);
+        setRange(BUILD, 0, 1);
+        setRange(BID_CAP, 0, 2);
+        setRange(MORTGAGE_ORDER, 0, MortgageOrder.values().length - 1);
+        for (int i = WEIGHTS; i < SIZE; i++) {
+            setRange(i, 0, 3);
+        }
+    }
+
+    private static final StrategyParameters STANDARD = new StrategyParameters(defaultVector());
+
+    private final double[] genes;
+
+    private StrategyParameters(double[] genes) {
+        this.genes = genes;
+    }
+
+    private static void setRange(int gene, double min, double max) {
+        MIN[gene] = min;
+        MAX[gene] = max;
+    }
+
+    private static double[] defaultVector() {
+        double[] vector = new double[SIZE];
+        vector[RESERVE] = 200;
+        vector[MORTGAGE_FLOOR] = 50;
+        vector[BUILD] = 0.5;
+        vector[BID_CAP] = 1.0;
+        vector[MORTGAGE_ORDER] = MortgageOrder.CHEAPEST_FIRST.ordinal();
+        Arrays.fill(vector, WEIGHTS, SIZE, 1.0);
+        return vector;
+    }
+
+    /**
+     * Gets balanced parameters: keep $200, mortgage below $50, spend half the spare cash on
+     * houses, bid up to list price, mortgage the cheapest first and value every group equally.
+     *
+     * @return The standard parameters
+     */
+    public static StrategyParameters standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Builds parameters from a vector, clamping each gene into its range.
+     *
+     * @param vector The genes, in {@link #GENES} order
+     * @return The parameters
+     */
+    public static StrategyParameters fromVector(double[] vector) {
+        if (vector.length != SIZE) {
+            throw new IllegalArgumentException("Expected " + SIZE + " genes but got " + vector.length);
+        }
+        double[] genes = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            if (Double.isNaN(vector[i])) {
+                throw new IllegalArgumentException("Gene " + GENES[i] + " is not a number");
+            }
+            genes[i] = Math.max(MIN[i], Math.min(MAX[i], vector[i]));
+        }
+        return new StrategyParameters(genes);
+    }
+
+    /**
+     * Parses parameters written by {@link #format()}.
+     *
+     * @param text The genes separated by '|'
+     * @return The parameters
+     */
+    public static StrategyParameters parse(String text) {
+        String[] fields = text.trim().split("\\|");
+        double[] vector = new double[fields.length];
+        try {
+            for (int i = 0; i < fields.length; i++) {
+                vector[i] = Double.parseDouble(fields[i]);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid strategy parameters: " + text, e);
+        }
+        return fromVector(vector);
+    }
+
+    /**
+     * Gets the lowest value a gene can take.
+     *
+     * @param gene The index of the gene
+     * @return The lower bound
+     */
+    public static double getMin(int gene) {
+        return MIN[gene];
+    }
+
+    /**
+     * Gets the highest value a gene can take.
+     *
+     * @param gene The index of the gene
+     * @return The upper bound
+     */
+    public static double getMax(int gene) {
+        return MAX[gene];
+    }
+
+    /**
+     * Gets the parameters as a vector.
+     *
+     * @return A copy of the genes, in {@link #GENES} order
+     */
+    public double[] toVector() {
+        return genes.clone();
+    }
+
+    /**
+     * Writes the parameters as one line that {@link #parse(String)} reads back.
+     *
+     * @return The genes separated by '|'
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < SIZE; i++) {
+            if (i > 0) {
+                sb.append('|');
+            }
+            sb.append(genes[i]);
+        }
+        return sb.toString();
+    }
+
+    private StrategyParameters with(int gene, double value) {
+        double[] vector = toVector();
+        vector[gene] = value;
+        return fromVector(vector);
+    }
+
+    /**
+     * Sets the cash the player keeps in hand when buying and building.
+     *
+     * @param reserve The cash reserve
+     * @return The changed parameters
+     */
+    public StrategyParameters withCashReserve(int reserve) {
+        return with(RESERVE, reserve);
+    }
+
+    /**
+     * Sets the cash below which the player mortgages properties.
+     *
+     * @param floor The mortgage floor
+     * @return The changed parameters
+     */
+    public StrategyParameters withMortgageFloor(int floor) {
+        return with(MORTGAGE_FLOOR, floor);
+    }
+
+    /**
+     * Sets the share of cash above the reserve spent on houses each turn.
+     *
+     * @param aggressiveness From 0, never build, to 1, build with everything spare
+     * @return The changed parameters
+     */
+    public StrategyParameters withBuildAggressiveness(double aggressiveness) {
+        return with(BUILD, aggressiveness);
+    }
+
+    /**
+     * Sets how far above its weighted value the player will bid for a space.
+     *
+     * @param bidCap The bid limit as a multiple of the weighted price
+     * @return The changed parameters
+     */
+    public StrategyParameters withBidCap(double bidCap) {
+        return with(BID_CAP, bidCap);
+    }
+
+    /**
+     * Sets the order in which properties are mortgaged.
+     *
+     * @param order The mortgage order
+     * @return The changed parameters
+     */
+    public StrategyParameters withMortgageOrder(MortgageOrder order) {
+        return with(MORTGAGE_ORDER, order.ordinal());
+    }
+
+    /**
+     * Sets how much the player values a color group, or railroads or utilities.
+     *
+     * @param group  A color group, "Railroad" or "Utility"
+     * @param weight The value as a multiple of the list price
+     * @return The changed parameters
+     */
+    public StrategyParameters withWeight(String group, double weight) {
+        int gene = weightGene(group);
+        if (gene < 0) {
+            throw new IllegalArgumentException("Unknown color group: " + group);
+        }
+        return with(gene, weight);
+    }
+
+    /**
+     * Gets the cash the player keeps in hand when buying and building.
+     *
+     * @return The cash reserve
+     */
+    public int getCashReserve() {
+        return (int) Math.round(genes[RESERVE]);
+    }
+
+    /**
+     * Gets the cash below which the player mortgages properties.
+     *
+     * @return The mortgage floor
+     */
+    public int getMortgageFloor() {
+        return (int) Math.round(genes[MORTGAGE_FLOOR]);
+    }
+
+    /**
+     * Gets the share of cash above the reserve spent on houses each turn.
+     *
+     * @return The build aggressiveness, from 0 to 1
+     */
+    public double getBuildAggressiveness() {
+        return genes[BUILD];
+    }
+
+    /**
+     * Gets how far above its weighted value the player will bid for a space.
+     *
+     * @return The bid limit as a multiple of the weighted price
+     */
+    public double getBidCap() {
+        return genes[BID_CAP];
+    }
+
+    /**
+     * Gets the order in which properties are mortgaged.
+     *
+     * @return The mortgage order
+     */
+    public MortgageOrder getMortgageOrder() {
+        return MortgageOrder.values()[(int) Math.round(genes[MORTGAGE_ORDER])];
+    }
+
+    /**
+     * Gets how much the player values a color group, or railroads or utilities.
+     *
+     * @param group A color group, "Railroad" or "Utility"
+     * @return The value as a multiple of the list price, 1 for groups without a weight
+     */
+    public double getWeight(String group) {
+        int gene = weightGene(group);
+        return gene < 0 ? 1.0 : genes[gene];
+    }
+
+    /**
+     * Gets how much the player values a space.
+     *
+     * @param space A property, railroad or utility
+     * @return The value as a multiple of the list price
+     */
+    public double getWeight(Space space) {
+        if (space instanceof RailroadSpace) {
+            return genes[RAILROAD];
+        }
+        if (space instanceof UtilitySpace) {
+            return genes[UTILITY];
+        }
+        return getWeight(space.getColorGroup());
+    }
+
+    private static int weightGene(String group) {
+        if ("Railroad".equals(group)) {
+            return RAILROAD;
+        }
+        if ("Utility".equals(group)) {
+            return UTILITY;
+        }
+        for (int i = 0; i < COLOR_GROUPS.length; i++) {
+            if (COLOR_GROUPS[i].equals(group)) {
+                return WEIGHTS + i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof StrategyParameters && Arrays.equals(genes, ((StrategyParameters) o).genes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(genes);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("StrategyParameters{");
+        for (int i = 0; i < SIZE; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(GENES[i]).append('=').append(genes[i]);
+        }
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,103 @@
+package Model.Board.Strategy;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Named computer player strategies, one shared instance each. Strategies keep nothing per
+ * player (that goes in the player's {@link StrategyState}), so a single instance can serve
+ * every computer player in every game at once and choosing one costs no allocation.
+ * The registry may be read and added to from any thread.
+ */
+public final class StrategyRegistry {
+    /** The 50% buyer. */
+    public static final String DEFAULT = "default";
+    /** The 80% buyer. */
+    public static final String AGGRESSIVE = "aggressive";
+    /** The 20% buyer. */
+    public static final String DEFENSIVE = "defensive";
+    /** The heuristic strategy with the standard parameters. */
+    public static final String HEURISTIC = "heuristic";
+
+    private static final StrategyRegistry SHARED = withBuiltIns();
+
+    private final Map<String, ComputerPlayerStrategy> strategies = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs an empty registry.
+     */
+    public StrategyRegistry() {
+    }
+
+    /**
+     * Constructs a registry holding the built-in strategies.
+     *
+     * @return The registry
+     */
+    public static StrategyRegistry withBuiltIns() {
+        StrategyRegistry registry = new StrategyRegistry();
+        registry.register(DEFAULT, new DefaultStrategy());
+        registry.register(AGGRESSIVE, new AggressiveStrategy());
+        registry.register(DEFENSIVE, new DefensiveStrategy());
+        registry.register(HEURISTIC, new HeuristicStrategy());
+        return registry;
+    }
+
+    /**
+     * Gets the registry every computer player uses unless given another.
+     *
+     * @return The shared registry, holding the built-in strategies
+     */
+    public static StrategyRegistry shared() {
+        return SHARED;
+    }
+
+    /**
+     * Registers a strategy under a name, replacing any strategy already registered under it.
+     *
+     * @param name     The name
+     * @param strategy The strategy, which must keep no per-player state
+     */
+    public void register(String name, ComputerPlayerStrategy strategy) {
+        if (name == null || strategy == null) {
+            throw new IllegalArgumentException("A strategy needs a name");
+        }
+        strategies.put(name, strategy);
+    }
+
+    /**
+     * Gets the strategy registered under a name.
+     *
+     * @param name The name
+     * @return The strategy
+     */
+    public ComputerPlayerStrategy get(String name) {
+        ComputerPlayerStrategy strategy = strategies.get(name);
+        if (strategy == null) {
+            throw new IllegalArgumentException("No strategy is registered as " + name);
+        }
+        return strategy;
+    }
+
+    /**
+     * Checks whether a strategy is registered under a name.
+     *
+     * @param name The name
+     * @return true if it is
+     */
+    public boolean contains(String name) {
+        return strategies.containsKey(name);
+    }
+
+    /**
+     * Gets the registered names.
+     *
+     * @return The names, sorted
+     */
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(new TreeSet<>(strategies.keySet()));
+    }
+}
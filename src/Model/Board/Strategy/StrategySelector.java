@@ -0,0 +1,57 @@
+package Model.Board.Strategy;
+
+import Model.Board.ComputerPlayer;
+import Model.GameState;
+
+/**
+ * Chooses which strategy a computer player plays at the start of each of its turns.
+ * Selectors return shared strategy instances rather than creating new ones.
+ */
+@FunctionalInterface
+public interface StrategySelector {
+    /** Above this much cash a player plays aggressively. */
+    int AGGRESSIVE_ABOVE = 1000;
+    /** Below this much cash a player plays defensively. */
+    int DEFENSIVE_BELOW = 500;
+
+    /**
+     * Chooses the strategy for the player's turn.
+     *
+     * @param player    The computer player about to take its turn
+     * @param gameState The current state of the game
+     * @return The strategy to play
+     */
+    ComputerPlayerStrategy select(ComputerPlayer player, GameState gameState);
+
+    /**
+     * Gets a selector that always plays the same strategy.
+     *
+     * @param strategy The strategy
+     * @return The selector
+     */
+    static StrategySelector fixed(ComputerPlayerStrategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("A strategy is required");
+        }
+        return (player, gameState) -> strategy;
+    }
+
+    /**
+     * Gets a selector that plays by cash: aggressive with more than $1000, defensive with
+     * less than $500 and the default strategy in between.
+     *
+     * @param registry The registry the three strategies are taken from, once
+     * @return The selector
+     */
+    static StrategySelector byCash(StrategyRegistry registry) {
+        ComputerPlayerStrategy aggressive = registry.get(StrategyRegistry.AGGRESSIVE);
+        ComputerPlayerStrategy defensive = registry.get(StrategyRegistry.DEFENSIVE);
+        ComputerPlayerStrategy standard = registry.get(StrategyRegistry.DEFAULT);
+        return (player, gameState) -> {
+            if (player.getMoney() > AGGRESSIVE_ABOVE) {
+                return aggressive;
+            }
+            return player.getMoney() < DEFENSIVE_BELOW ? defensive : standard;
+        };
+    }
+}
@@ -0,0 +1,102 @@
+package Model.Board.Strategy;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * What one computer player's strategies remember from turn to turn: learned values, models of
+ * the opponents, anything worth keeping rather than working out again. Strategies themselves
+ * are shared between players, so they keep no per-player fields and store that state here
+ * instead, each under its own {@link Key}. A player's state belongs to the game thread that
+ * plays that player and is not synchronized.
+ */
+public final class StrategyState {
+
+    /**
+     * Identifies one piece of state and says how to create it the first time it is needed.
+     * Keys are compared by identity, so a strategy holds its keys in constants.
+     *
+     * @param <T> The type of the value stored under the key
+     */
+    public static final class Key<T> {
+        private final String name;
+        private final Supplier<? extends T> initial;
+
+        private Key(String name, Supplier<? extends T> initial) {
+            this.name = name;
+            this.initial = initial;
+        }
+
+        /**
+         * Creates a key.
+         *
+         * @param name    A name for the state, for debugging
+         * @param initial Creates the value the first time a player needs it
+         * @param <T>     The type of the value
+         * @return The key
+         */
+        public static <T> Key<T> of(String name, Supplier<? extends T> initial) {
+            return new Key<>(name, initial);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private final Map<Key<?>, Object> values = new IdentityHashMap<>();
+
+    /**
+     * Gets the value stored under a key, creating it on first use.
+     *
+     * @param key The key
+     * @param <T> The type of the value
+     * @return The value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Key<T> key) {
+        Object value = values.get(key);
+        if (value == null) {
+            value = key.initial.get();
+            values.put(key, value);
+        }
+        return (T) value;
+    }
+
+    /**
+     * Checks whether a value has been created under a key.
+     *
+     * @param key The key
+     * @return true if the key holds a value
+     */
+    public boolean contains(Key<?> key) {
+        return values.containsKey(key);
+    }
+
+    /**
+     * Forgets the value stored under a key, so the next {@link #get(Key)} starts afresh.
+     *
+     * @param key The key
+     */
+    public void remove(Key<?> key) {
+        values.remove(key);
+    }
+
+    /**
+     * Forgets everything, for example when the player starts a new game.
+     */
+    public void clear() {
+        values.clear();
+    }
+
+    /**
+     * Gets the number of values stored.
+     *
+     * @return The number of keys holding a value
+     */
+    public int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,466 @@
+package Model.Board.Strategy;
+
+import Controller.BoardController;
+import Model.Board.Bank;
+import Model.Board.ComputerPlayer;
+import Model.Board.Gameboard;
+import Model.Board.Player;
+import Model.GameLog;
+import Model.GameState;
+import Model.Metrics.GameMetrics;
+import Model.Rules.HouseRules;
+import Model.Termination.StalemateDetector;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Searches for good {@link HeuristicStrategy} parameters with a genetic algorithm run over
+ * simulated games. Each generation every candidate plays the same seeded games against
+ * computer players using the standard strategy, taking every seat in turn, and scores its
+ * share of the players' combined net worth at the end, scaled so that 1 is an even share.
+ * The best candidates carry over unchanged; the rest of the next generation is bred by
+ * tournament selection, uniform crossover and Gaussian mutation within each gene's range.
+ *
+ * Games are played on a pool of threads, one per core unless changed, and are bounded by a
+ * turn limit and a stalemate detector so a generation always finishes. Each game is seeded,
+ * dice and card decks alike, and its auctions ask the bidders in seat order on the game's own
+ * thread, so a game's result depends only on its seed and the strategies playing it: the same
+ * tuner seed repeats the same run, however many threads it is played on.
+ */
+public class StrategyTuner {
+    /** The turns a game may last before it is decided on net worth, unless changed. */
+    public static final int DEFAULT_TURN_LIMIT = 1000;
+    /** The rounds without progress after which a game is called a stalemate, unless changed. */
+    public static final int DEFAULT_STALEMATE_ROUNDS = 50;
+
+    private static final int TOURNAMENT_SIZE = 3;
+
+    private final int populationSize;
+    private final int gamesPerCandidate;
+    private final SplittableRandom random;
+    private int playersPerGame = 4;
+    private int turnLimit = DEFAULT_TURN_LIMIT;
+    private int stalemateRounds = DEFAULT_STALEMATE_ROUNDS;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int elites = 2;
+    private double mutationRate = 0.2;
+    private double mutationStrength = 0.1;
+    private GameMetrics metrics = new GameMetrics();
+    private List<Candidate> population = new ArrayList<>();
+    private int generation;
+
+    /**
+     * A set of parameters and how well they played.
+     */
+    public static final class Candidate {
+        private final StrategyParameters parameters;
+        private final double fitness;
+
+        private Candidate(StrategyParameters parameters, double fitness) {
+            this.parameters = parameters;
+            this.fitness = fitness;
+        }
+
+        /**
+         * Gets the parameters.
+         *
+         * @return The parameters
+         */
+        public StrategyParameters getParameters() {
+            return parameters;
+        }
+
+        /**
+         * Gets the candidate's mean share of net worth, 1 being an even share.
+         *
+         * @return The fitness
+         */
+        public double getFitness() {
+            return fitness;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.4f %s", fitness, parameters.format());
+        }
+    }
+
+    /**
+     * Constructs a tuner.
+     *
+     * @param populationSize    The number of candidates in each generation
+     * @param gamesPerCandidate The games each candidate plays per generation
+     * @param seed              The seed for the search and for the games, so a run can be repeated
+     */
+    public StrategyTuner(int populationSize, int gamesPerCandidate, long seed) {
+        if (populationSize < 2) {
+            throw new IllegalArgumentException("A population needs at least 2 candidates");
+        }
+        if (gamesPerCandidate < 1) {
+            throw new IllegalArgumentException("Each candidate must play at least one game");
+        }
+        this.populationSize = populationSize;
+        this.gamesPerCandidate = gamesPerCandidate;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Sets the number of players in each game, the candidate included.
+     *
+     * @param players From 2 to 4 players
+     */
+    public void setPlayersPerGame(int players) {
+        if (players < 2 || players > 4) {
+            throw new IllegalArgumentException("Games need 2 to 4 players");
+        }
+        this.playersPerGame = players;
+    }
+
+    /**
+     * Sets the turns a game may last before it is decided on net worth.
+     *
+     * @param turnLimit The turn limit
+     */
+    public void setTurnLimit(int turnLimit) {
+        if (turnLimit < 1) {
+            throw new IllegalArgumentException("The turn limit must be positive");
+        }
+        this.turnLimit = turnLimit;
+    }
+
+    /**
+     * Sets the rounds without progress after which a game is called a stalemate.
+     *
+     * @param rounds The stalemate rounds
+     */
+    public void setStalemateRounds(int rounds) {
+        this.stalemateRounds = rounds;
+    }
+
+    /**
+     * Sets the number of threads games are played on.
+     *
+     * @param threads The thread count
+     */
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is needed");
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Sets the number of best candidates carried into the next generation unchanged.
+     *
+     * @param elites The elite count, less than the population size
+     */
+    public void setElites(int elites) {
+        if (elites < 0 || elites >= populationSize) {
+            throw new IllegalArgumentException("Elites must be fewer than the population");
+        }
+        this.elites = elites;
+    }
+
+    /**
+     * Sets how often and how far genes mutate.
+     *
+     * @param rate     The chance each gene of a child mutates
+     * @param strength The standard deviation of a mutation, as a share of the gene's range
+     */
+    public void setMutation(double rate, double strength) {
+        this.mutationRate = rate;
+        this.mutationStrength = strength;
+    }
+
+    /**
+     * Sets the metrics the simulated games record into.
+     *
+     * @param metrics The game metrics
+     */
+    public void setMetrics(GameMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Gets the metrics the simulated games record into.
+     *
+     * @return The game metrics
+     */
+    public GameMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Gets the number of generations evolved so far.
+     *
+     * @return The generation count
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Gets the last generation scored, best first.
+     *
+     * @return The candidates, empty before the first generation
+     */
+    public List<Candidate> getPopulation() {
+        return Collections.unmodifiableList(population);
+    }
+
+    /**
+     * Gets the best candidate of the last generation scored.
+     *
+     * @return The best candidate, or null before the first generation
+     */
+    public Candidate getBest() {
+        return population.isEmpty() ? null : population.get(0);
+    }
+
+    /**
+     * Evolves the population for a number of generations. The first generation starts from
+     * the standard parameters and random vectors; later calls carry on where the last stopped.
+     *
+     * @param generations The generations to evolve
+     * @return The best candidate of the final generation
+     */
+    public Candidate evolve(int generations) {
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "strategy-tuner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (int i = 0; i < generations; i++) {
+                List<StrategyParameters> next = population.isEmpty() ? seedPopulation() : breed();
+                population = score(next, random.nextLong(), pool);
+                generation++;
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return getBest();
+    }
+
+    /**
+     * Plays one set of games with the given parameters and scores them.
+     *
+     * @param parameters The parameters to try
+     * @param seed       The seed the games' dice and cards are drawn from; the same seed gives the same score
+     * @return The mean share of net worth, 1 being an even share
+     */
+    public double evaluate(StrategyParameters parameters, long seed) {
+        HeuristicStrategy strategy = new HeuristicStrategy(parameters);
+        double total = 0;
+        for (int game = 0; game < gamesPerCandidate; game++) {
+            total += playGame(strategy, seed, game);
+        }
+        return total / gamesPerCandidate;
+    }
+
+    private List<StrategyParameters> seedPopulation() {
+        List<StrategyParameters> candidates = new ArrayList<>();
+        candidates.add(StrategyParameters.standard());
+        int genes = StrategyParameters.GENES.length;
+        while (candidates.size() < populationSize) {
+            double[] vector = new double[genes];
+            for (int i = 0; i < genes; i++) {
+                double min = StrategyParameters.getMin(i);
+                vector[i] = min + random.nextDouble() * (StrategyParameters.getMax(i) - min);
+            }
+            candidates.add(StrategyParameters.fromVector(vector));
+        }
+        return candidates;
+    }
+
+    private List<StrategyParameters> breed() {
+        List<StrategyParameters> children = new ArrayList<>();
+        for (int i = 0; i < elites; i++) {
+            children.add(population.get(i).getParameters());
+        }
+        while (children.size() < populationSize) {
+            double[] mother = select().toVector();
+            double[] father = select().toVector();
+            double[] child = new double[mother.length];
+            for (int gene = 0; gene < child.length; gene++) {
+                child[gene] = random.nextBoolean() ? mother[gene] : father[gene];
+                if (random.nextDouble() < mutationRate) {
+                    double range = StrategyParameters.getMax(gene) - StrategyParameters.getMin(gene);
+                    child[gene] += gaussian() * mutationStrength * range;
+                }
+            }
+            children.add(StrategyParameters.fromVector(child));
+        }
+        return children;
+    }
+
+    private StrategyParameters select() {
+        Candidate best = null;
+        for (int i = 0; i < TOURNAMENT_SIZE; i++) {
+            Candidate entrant = population.get(random.nextInt(population.size()));
+            if (best == null || entrant.getFitness() > best.getFitness()) {
+                best = entrant;
+            }
+        }
+        return best.getParameters();
+    }
+
+    private double gaussian() {
+        // Box-Muller, as SplittableRandom only gained nextGaussian in Java 17
+        double u = 1.0 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+    }
+
+    private List<Candidate> score(List<StrategyParameters> candidates, long seed, ExecutorService pool) {
+        // Every candidate plays the same games, so the dice and cards favor nobody within a generation
+        List<List<Future<Double>>> results = new ArrayList<>();
+        for (StrategyParameters parameters : candidates) {
+            HeuristicStrategy strategy = new HeuristicStrategy(parameters);
+            List<Future<Double>> games = new ArrayList<>();
+            for (int game = 0; game < gamesPerCandidate; game++) {
+                final int number = game;
+                Callable<Double> task = () -> playGame(strategy, seed, number);
+                games.add(pool.submit(task));
+            }
+            results.add(games);
+        }
+
+        List<Candidate> scored = new ArrayList<>();
+        try {
+            for (int i = 0; i < candidates.size(); i++) {
+                double total = 0;
+                for (Future<Double> game : results.get(i)) {
+                    total += game.get();
+                }
+                scored.add(new Candidate(candidates.get(i), total / gamesPerCandidate));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tuning was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A simulated game failed", e.getCause());
+        }
+        scored.sort(Comparator.comparingDouble(Candidate::getFitness).reversed());
+        return scored;
+    }
+
+    private double playGame(HeuristicStrategy strategy, long seed, int game) {
+        ComputerPlayerStrategy opponentStrategy = StrategyRegistry.shared().get(StrategyRegistry.HEURISTIC);
+        // The candidate takes each seat in turn
+        int seat = game % playersPerGame;
+        List<Player> players = new ArrayList<>();
+        ComputerPlayer candidate = null;
+        for (int i = 0; i < playersPerGame; i++) {
+            if (i == seat) {
+                candidate = new ComputerPlayer("Candidate", strategy);
+                players.add(candidate);
+            } else {
+                players.add(new ComputerPlayer("Opponent " + (i + 1), opponentStrategy));
+            }
+        }
+        List<Player> seated = new ArrayList<>(players);
+
+        Gameboard board = new Gameboard();
+        GameState gameState = new GameState(players, board);
+        gameState.setRules(HouseRules.standard().withTurnLimit(turnLimit).compile());
+        Bank bank = new Bank();
+        bank.setSimulation(true);
+        gameState.setBank(bank);
+        gameState.setSeed(seed + game * 0x9E3779B97F4A7C15L);
+        gameState.setMetrics(metrics);
+        gameState.addTerminationPolicy(new StalemateDetector(stalemateRounds));
+
+        BoardController controller = new BoardController(gameState, board, bank, players);
+        while (controller.nextTurn()) {
+            // play until someone wins or a limit stops the game
+        }
+
+        double total = 0;
+        for (Player player : seated) {
+            total += worth(player);
+        }
+        return total <= 0 ? 0 : worth(candidate) * playersPerGame / total;
+    }
+
+    private static double worth(Player player) {
+        return player.isBankrupt() ? 0 : Math.max(0, player.getNetWorth().getTotal());
+    }
+
+    /**
+     * Writes the best candidates of the last generation, one per line, best first.
+     *
+     * @param file  The file to write
+     * @param count The most candidates to write
+     * @throws IOException If the file cannot be written
+     */
+    public void saveBest(Path file, int count) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("# " + String.join("|", StrategyParameters.GENES));
+        for (int i = 0; i < Math.min(count, population.size()); i++) {
+            Candidate candidate = population.get(i);
+            lines.add(String.format("# generation %d, fitness %.4f", generation, candidate.getFitness()));
+            lines.add(candidate.getParameters().format());
+        }
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads parameters written by {@link #saveBest(Path, int)}, best first.
+     *
+     * @param file The file to read
+     * @return The parameters
+     * @throws IOException If the file cannot be read
+     */
+    public static List<StrategyParameters> loadBest(Path file) throws IOException {
+        List<StrategyParameters> best = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (!line.isBlank() && !line.startsWith("#")) {
+                best.add(StrategyParameters.parse(line));
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Tunes from the command line and saves the best parameters.
+     * Arguments: output file, then optionally generations, population size and games per candidate.
+     *
+     * @param args The command line arguments
+     * @throws IOException If the results cannot be saved
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: StrategyTuner <output file> [generations] [population] [games]");
+            return;
+        }
+        Path output = Paths.get(args[0]);
+        int generations = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        int population = args.length > 2 ? Integer.parseInt(args[2]) : 24;
+        int games = args.length > 3 ? Integer.parseInt(args[3]) : 40;
+
+        // The games' own commentary would drown the progress report and serialize the threads
+        GameLog.setEnabled(false);
+        StrategyTuner tuner = new StrategyTuner(population, games, System.nanoTime());
+        for (int i = 0; i < generations; i++) {
+            Candidate best = tuner.evolve(1);
+            System.out.println("Generation " + tuner.getGeneration() + ": " + best);
+            tuner.saveBest(output, 5);
+        }
+        System.out.println("Saved the best parameters to " + output);
+    }
+}
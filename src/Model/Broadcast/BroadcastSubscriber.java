@@ -0,0 +1,20 @@
+package Model.Broadcast;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Receives the frames published by a {@link StateBroadcaster}.
+ * Every subscriber is handed a read-only view of the same encoded bytes,
+ * so receiving a frame costs no encoding or copying per subscriber.
+ */
+public interface BroadcastSubscriber {
+
+    /**
+     * Called for every frame, in publication order, on the thread that publishes it.
+     * Implementations should return quickly, handing slow work such as network writes to a
+     * thread of their own as {@link StreamSubscriber} does; a subscriber that throws is unsubscribed.
+     *
+     * @param frame A read-only buffer holding one encoded frame
+     */
+    void onFrame(ByteBuffer frame);
+}
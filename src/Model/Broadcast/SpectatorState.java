@@ -0,0 +1,148 @@
+package Model.Broadcast;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A spectator's copy of a game, rebuilt from the frames of a {@link StateBroadcaster}.
+ * Frames must be applied in order; a delta is ignored until the first keyframe has
+ * been seen, and a gap in the sequence numbers leaves the copy out of sync until the
+ * next keyframe.
+ */
+public class SpectatorState implements BroadcastSubscriber {
+    private String[] names;
+    private int[][] values;
+    private long sequence;
+    private boolean inSync;
+
+    /**
+     * Constructs an empty spectator state, waiting for a keyframe.
+     */
+    public SpectatorState() {
+        this.names = new String[0];
+        this.values = new int[][]{new int[0], new int[0], new int[0], new int[0]};
+        this.sequence = 0;
+        this.inSync = false;
+    }
+
+    /**
+     * Applies a frame received from the broadcaster.
+     *
+     * @param frame The encoded frame
+     */
+    @Override
+    public synchronized void onFrame(ByteBuffer frame) {
+        byte[] data = new byte[frame.remaining()];
+        frame.get(data);
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte type = in.readByte();
+            long frameSequence = in.readLong();
+
+            if (type == StateBroadcaster.KEYFRAME) {
+                int playerCount = in.readShort();
+                int spaceCount = in.readShort();
+                names = new String[playerCount];
+                for (int i = 0; i < playerCount; i++) {
+                    names[i] = in.readUTF();
+                }
+                values = new int[][]{new int[playerCount], new int[playerCount], new int[spaceCount], new int[spaceCount]};
+                inSync = true;
+            } else if (!inSync || frameSequence != sequence + 1) {
+                // Missed a frame; wait for the next keyframe
+                inSync = false;
+                return;
+            }
+
+            int entries = in.readShort();
+            for (int i = 0; i < entries; i++) {
+                byte field = in.readByte();
+                int index = in.readShort();
+                values[field][index] = in.readInt();
+            }
+            sequence = frameSequence;
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Ignoring malformed spectator frame: " + e.getMessage());
+            inSync = false;
+        }
+    }
+
+    /**
+     * Checks whether the copy reflects every frame since the last keyframe.
+     *
+     * @return true if the state is complete and up to date
+     */
+    public synchronized boolean isInSync() {
+        return inSync;
+    }
+
+    /**
+     * Gets the sequence number of the last frame applied.
+     *
+     * @return The last sequence number
+     */
+    public synchronized long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Gets the number of players in the game.
+     *
+     * @return The number of players
+     */
+    public synchronized int getPlayerCount() {
+        return names.length;
+    }
+
+    /**
+     * Gets the name of a player.
+     *
+     * @param player The player index
+     * @return The player's name
+     */
+    public synchronized String getPlayerName(int player) {
+        return names[player];
+    }
+
+    /**
+     * Gets a player's cash.
+     *
+     * @param player The player index
+     * @return The player's cash
+     */
+    public synchronized int getCash(int player) {
+        return values[StateBroadcaster.CASH][player];
+    }
+
+    /**
+     * Gets a player's board position.
+     *
+     * @param player The player index
+     * @return The player's position
+     */
+    public synchronized int getPosition(int player) {
+        return values[StateBroadcaster.POSITION][player];
+    }
+
+    /**
+     * Gets the owner of a space.
+     *
+     * @param position The board position
+     * @return The owning player's index, or {@link StateBroadcaster#NO_OWNER}
+     */
+    public synchronized int getOwner(int position) {
+        return values[StateBroadcaster.OWNER][position];
+    }
+
+    /**
+     * Gets the buildings on a space.
+     *
+     * @param position The board position
+     * @return The number of houses, or {@link StateBroadcaster#HOTEL} for a hotel
+     */
+    public synchronized int getBuildings(int position) {
+        return values[StateBroadcaster.BUILDINGS][position];
+    }
+}
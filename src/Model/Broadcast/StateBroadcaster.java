@@ -0,0 +1,288 @@
+package Model.Broadcast;
+
+import Model.Board.Player;
+import Model.GameLog;
+import Model.GameState;
+import Model.Property.Property;
+import Model.Spaces.Space;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Publishes a live game to any number of spectators as compact binary frames.
+ * Each call to {@link #publish()} compares the game with the last published state
+ * and encodes only what changed (cash, positions, ownership and buildings) into a
+ * delta frame. Every few frames a keyframe with the complete state is sent instead,
+ * and a subscriber that joins late is first replayed the latest keyframe and the
+ * deltas after it. A frame is encoded once and the same bytes go to every subscriber.
+ *
+ * <p>Frame layout (big-endian):
+ * <pre>
+ * byte  type            KEYFRAME or DELTA
+ * long  sequence        increases by one per frame
+ * -- keyframes only --
+ * short playerCount
+ * short spaceCount
+ * UTF   name            playerCount times
+ * -- all frames --
+ * short entryCount
+ * entry: byte field, short index, int value     entryCount times
+ * </pre>
+ * Player indexes refer to the order of players when the broadcaster was created,
+ * so they stay stable when bankrupt players leave the game. An owner value of
+ * {@link #NO_OWNER} means the bank; a building value of {@link #HOTEL} means a hotel.
+ */
+public class StateBroadcaster {
+    /** Frame type holding the complete state. */
+    public static final byte KEYFRAME = 1;
+    /** Frame type holding only changed values. */
+    public static final byte DELTA = 2;
+
+    /** Entry field: a player's cash, indexed by player. */
+    public static final byte CASH = 0;
+    /** Entry field: a player's board position, indexed by player. */
+    public static final byte POSITION = 1;
+    /** Entry field: the owner of a space, indexed by board position. */
+    public static final byte OWNER = 2;
+    /** Entry field: the buildings on a space, indexed by board position. */
+    public static final byte BUILDINGS = 3;
+
+    /** Owner value of a space nobody owns. */
+    public static final int NO_OWNER = -1;
+    /** Building value of a property with a hotel. */
+    public static final int HOTEL = 5;
+
+    /** Default number of frames between keyframes. */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 50;
+
+    private final Player[] roster;
+    private final List<Space> spaces;
+    private final int keyframeInterval;
+    private final List<BroadcastSubscriber> subscribers;
+
+    // Last published values, and scratch arrays for the values being published
+    private final int[][] published;
+    private final int[][] current;
+
+    private final ByteArrayOutputStream bytes;
+    private final DataOutputStream out;
+    private final List<byte[]> sinceKeyframe;
+    private long sequence;
+    private int framesSinceKeyframe;
+
+    /**
+     * Constructs a broadcaster for a game with the default keyframe interval.
+     *
+     * @param gameState The game to publish
+     */
+    public StateBroadcaster(GameState gameState) {
+        this(gameState, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * Constructs a broadcaster for a game.
+     *
+     * @param gameState        The game to publish
+     * @param keyframeInterval The number of frames between keyframes, at least 1
+     */
+    public StateBroadcaster(GameState gameState, int keyframeInterval) {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("Keyframe interval must be at least 1: " + keyframeInterval);
+        }
+        this.roster = gameState.getPlayers().toArray(new Player[0]);
+        this.spaces = gameState.getBoard().getSpaces();
+        this.keyframeInterval = keyframeInterval;
+        this.subscribers = new CopyOnWriteArrayList<>();
+
+        this.published = new int[][]{
+                new int[roster.length], new int[roster.length], new int[spaces.size()], new int[spaces.size()]};
+        this.current = new int[][]{
+                new int[roster.length], new int[roster.length], new int[spaces.size()], new int[spaces.size()]};
+
+        this.bytes = new ByteArrayOutputStream(256);
+        this.out = new DataOutputStream(bytes);
+        this.sinceKeyframe = new ArrayList<>();
+        this.sequence = 0;
+        this.framesSinceKeyframe = keyframeInterval; // the first frame is a keyframe
+    }
+
+    /**
+     * Adds a subscriber. It is first sent the latest keyframe and every delta since,
+     * so it is immediately in sync with the other subscribers.
+     *
+     * @param subscriber The subscriber to add
+     */
+    public synchronized void subscribe(BroadcastSubscriber subscriber) {
+        for (byte[] frame : sinceKeyframe) {
+            if (!deliver(subscriber, frame)) {
+                return;
+            }
+        }
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Removes a subscriber.
+     *
+     * @param subscriber The subscriber to remove
+     */
+    public void unsubscribe(BroadcastSubscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Gets the number of subscribers.
+     *
+     * @return The number of subscribers
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Gets the sequence number of the last frame published.
+     *
+     * @return The last sequence number, 0 if nothing was published yet
+     */
+    public synchronized long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Publishes the changes since the last call, or a keyframe if one is due.
+     * Should be called while the game is not being changed, e.g. between turns.
+     *
+     * @return true if a frame was sent, false if nothing changed
+     */
+    public synchronized boolean publish() {
+        capture();
+
+        boolean keyframe = framesSinceKeyframe >= keyframeInterval;
+        int changes = keyframe ? 0 : countChanges();
+        if (!keyframe && changes == 0) {
+            return false;
+        }
+
+        byte[] frame = encode(keyframe, changes);
+        for (int field = 0; field < current.length; field++) {
+            System.arraycopy(current[field], 0, published[field], 0, current[field].length);
+        }
+
+        if (keyframe) {
+            sinceKeyframe.clear();
+            framesSinceKeyframe = 0;
+        }
+        sinceKeyframe.add(frame);
+        framesSinceKeyframe++;
+
+        for (BroadcastSubscriber subscriber : subscribers) {
+            if (!deliver(subscriber, frame)) {
+                subscribers.remove(subscriber);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the current game into the scratch arrays.
+     */
+    private void capture() {
+        for (int i = 0; i < roster.length; i++) {
+            current[CASH][i] = roster[i].getMoney();
+            current[POSITION][i] = roster[i].getPosition();
+        }
+
+        for (int i = 0; i < spaces.size(); i++) {
+            Space space = spaces.get(i);
+            current[OWNER][i] = indexOf(space.getOwner());
+
+            int buildings = 0;
+            if (space instanceof Property) {
+                Property property = (Property) space;
+                buildings = property.hasHotel() ? HOTEL : property.getHouses();
+            }
+            current[BUILDINGS][i] = buildings;
+        }
+    }
+
+    private int countChanges() {
+        int changes = 0;
+        for (int field = 0; field < current.length; field++) {
+            int[] now = current[field];
+            int[] before = published[field];
+            for (int i = 0; i < now.length; i++) {
+                if (now[i] != before[i]) {
+                    changes++;
+                }
+            }
+        }
+        return changes;
+    }
+
+    private byte[] encode(boolean keyframe, int changes) {
+        bytes.reset();
+        try {
+            out.writeByte(keyframe ? KEYFRAME : DELTA);
+            out.writeLong(++sequence);
+
+            if (keyframe) {
+                out.writeShort(roster.length);
+                out.writeShort(spaces.size());
+                for (Player player : roster) {
+                    out.writeUTF(player.getName());
+                }
+                out.writeShort((roster.length + spaces.size()) * 2);
+            } else {
+                out.writeShort(changes);
+            }
+
+            for (int field = 0; field < current.length; field++) {
+                int[] now = current[field];
+                int[] before = published[field];
+                for (int i = 0; i < now.length; i++) {
+                    if (keyframe || now[i] != before[i]) {
+                        out.writeByte(field);
+                        out.writeShort(i);
+                        out.writeInt(now[i]);
+                    }
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            // Writing to a ByteArrayOutputStream does not fail
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private int indexOf(Player player) {
+        if (player == null) {
+            return NO_OWNER;
+        }
+        for (int i = 0; i < roster.length; i++) {
+            if (roster[i] == player) {
+                return i;
+            }
+        }
+        return NO_OWNER;
+    }
+
+    private static boolean deliver(BroadcastSubscriber subscriber, byte[] frame) {
+        try {
+            subscriber.onFrame(ByteBuffer.wrap(frame).asReadOnlyBuffer());
+            return true;
+        } catch (RuntimeException e) {
+            if (GameLog.isEnabled()) {
+                System.out.println("Dropping spectator after error: " + e.getMessage());
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package Model.Broadcast;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Forwards frames to an output stream, such as a loopback socket to a separate viewer process.
+ * Each frame is written as an int length followed by the frame bytes.
+ *
+ * <p>Frames are queued and written by a thread of the subscriber's own, so a slow or stalled
+ * viewer never holds up the game thread publishing them. The queue is bounded: a viewer that
+ * falls that many frames behind is dropped, as is one whose stream fails. The stream is flushed
+ * whenever the queue runs empty, not after every frame.
+ */
+public class StreamSubscriber implements BroadcastSubscriber, Closeable {
+    /** Frames a viewer may fall behind before it is dropped, unless changed. */
+    public static final int DEFAULT_QUEUE_CAPACITY = 64;
+
+    // Queued by close() to tell the writer to flush and stop
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+    private final DataOutputStream out;
+    private final BlockingQueue<ByteBuffer> queue;
+    private final int capacity;
+    private final Thread writer;
+    private volatile IOException failure;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a subscriber writing to the given stream, with the default queue capacity.
+     *
+     * @param stream The stream to write frames to
+     */
+    public StreamSubscriber(OutputStream stream) {
+        this(stream, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Constructs a subscriber writing to the given stream.
+     *
+     * @param stream   The stream to write frames to
+     * @param capacity The frames the viewer may fall behind before it is dropped, at least 1
+     */
+    public StreamSubscriber(OutputStream stream, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be at least 1: " + capacity);
+        }
+        this.out = new DataOutputStream(new BufferedOutputStream(stream));
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.writer = new Thread(this::drain, "spectator-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queues a frame for the writer. Throws, and so unsubscribes this subscriber, if the
+     * stream has failed, the subscriber was closed, or the viewer has fallen too far behind.
+     *
+     * @param frame The encoded frame
+     */
+    @Override
+    public void onFrame(ByteBuffer frame) {
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        }
+        if (closed) {
+            throw new IllegalStateException("The spectator stream is closed");
+        }
+        if (!queue.offer(frame)) {
+            throw new IllegalStateException("The spectator fell " + capacity + " frames behind");
+        }
+    }
+
+    /**
+     * Writes the frames already queued, flushes the stream and closes it.
+     *
+     * @throws IOException If the stream failed or cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        try {
+            while (writer.isAlive() && !queue.offer(END, 100, TimeUnit.MILLISECONDS)) {
+                // wait for the writer to make room
+            }
+            writer.join();
+        } catch (InterruptedException e) {
+            writer.interrupt();
+            Thread.currentThread().interrupt();
+        }
+        out.close();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void drain() {
+        byte[] scratch = new byte[256];
+        try {
+            while (true) {
+                ByteBuffer frame = queue.take();
+                if (frame == END) {
+                    break;
+                }
+                int length = frame.remaining();
+                if (scratch.length < length) {
+                    scratch = new byte[Math.max(length, scratch.length * 2)];
+                }
+                frame.get(scratch, 0, length);
+                out.writeInt(length);
+                out.write(scratch, 0, length);
+                if (queue.isEmpty()) {
+                    out.flush();
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            failure = e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package Model;
+
+import Model.Property.Property;
+
+import java.util.List;
+
+/**
+ * Keeps the bank's stock of houses and hotels and checks every change in buildings against it.
+ * Building changes are described as building levels for each property in a color group,
+ * 0 to 4 for houses and {@link #HOTEL} for a hotel, so a batch of purchases or sales across
+ * a whole group is checked and applied in one step. A check walks the group once, and the
+ * stock only changes when the whole batch is allowed.
+ *
+ * <p>Levels work like the physical pieces: going from 4 houses to a hotel takes a hotel and
+ * gives the 4 houses back, and breaking a hotel down takes houses out of the bank again.
+ */
+public class BuildingInventory {
+    /** Building level of a property with a hotel. */
+    public static final int HOTEL = 5;
+
+    private final Houses houses;
+    private final Hotels hotels;
+    private int maxSpread = 1;
+
+    /**
+     * Constructs a full inventory of 32 houses and 12 hotels.
+     */
+    public BuildingInventory() {
+        this(new Houses(), new Hotels());
+    }
+
+    /**
+     * Constructs an inventory around existing house and hotel stocks.
+     *
+     * @param houses The houses in the bank
+     * @param hotels The hotels in the bank
+     */
+    public BuildingInventory(Houses houses, Hotels hotels) {
+        this.houses = houses;
+        this.hotels = hotels;
+    }
+
+    /**
+     * Gets how far apart the building levels in a color group may be.
+     *
+     * @return 1 under the standard even-building rule
+     */
+    public int getMaxSpread() {
+        return maxSpread;
+    }
+
+    /**
+     * Sets how far apart the building levels in a color group may be. 1 is the standard
+     * even-building rule and {@link #HOTEL} lets a group be built in any order.
+     *
+     * @param maxSpread The largest allowed difference between levels in a group
+     */
+    public void setMaxSpread(int maxSpread) {
+        if (maxSpread < 1 || maxSpread > HOTEL) {
+            throw new IllegalArgumentException("Invalid building spread: " + maxSpread);
+        }
+        this.maxSpread = maxSpread;
+    }
+
+    /**
+     * Gets the number of houses in the bank.
+     *
+     * @return The number of available houses
+     */
+    public int getAvailableHouses() {
+        return houses.getAvailableHouses();
+    }
+
+    /**
+     * Gets the number of hotels in the bank.
+     *
+     * @return The number of available hotels
+     */
+    public int getAvailableHotels() {
+        return hotels.getAvailableHotels();
+    }
+
+    /**
+     * Checks if houses are running short (fewer than 4 left).
+     *
+     * @return true if there is a house shortage
+     */
+    public boolean isHouseShortage() {
+        return houses.isShortage();
+    }
+
+    /**
+     * Gets the building level of a property.
+     *
+     * @param property The property
+     * @return The number of houses, or {@link #HOTEL} if it has a hotel
+     */
+    public static int levelOf(Property property) {
+        return property.hasHotel() ? HOTEL : property.getHouses();
+    }
+
+    /**
+     * Gets the building levels of every property in a group.
+     *
+     * @param group The properties in a color group
+     * @return Their current levels, in the same order
+     */
+    public static int[] levelsOf(List<Property> group) {
+        int[] levels = new int[group.size()];
+        for (int i = 0; i < levels.length; i++) {
+            levels[i] = levelOf(group.get(i));
+        }
+        return levels;
+    }
+
+    /**
+     * Gets the number of houses the bank would give out to move a group to new levels.
+     * Negative when houses come back to the bank.
+     *
+     * @param group  The properties in a color group
+     * @param levels The new level of each property
+     * @return The houses taken from the bank
+     */
+    public static int housesNeeded(List<Property> group, int[] levels) {
+        int needed = 0;
+        for (int i = 0; i < levels.length; i++) {
+            needed += housesAt(levels[i]) - housesAt(levelOf(group.get(i)));
+        }
+        return needed;
+    }
+
+    /**
+     * Checks whether a color group can be moved to new building levels: every level is in range,
+     * the group stays evenly built (within the allowed spread), nothing is built on a mortgaged group, and the bank holds
+     * enough houses and hotels for the change.
+     *
+     * @param group  The properties in a color group
+     * @param levels The new level of each property
+     * @return null if the change is allowed, otherwise the reason it is not
+     */
+    public String check(List<Property> group, int[] levels) {
+        if (levels.length != group.size()) {
+            throw new IllegalArgumentException("Expected " + group.size() + " levels but got " + levels.length);
+        }
+
+        int min = HOTEL;
+        int max = 0;
+        int housesNeeded = 0;
+        int hotelsNeeded = 0;
+        boolean building = false;
+        boolean mortgaged = false;
+        for (int i = 0; i < levels.length; i++) {
+            Property property = group.get(i);
+            int level = levels[i];
+            if (level < 0 || level > HOTEL) {
+                return property.getName() + " cannot have " + level + " buildings.";
+            }
+            int current = levelOf(property);
+            building |= level > current;
+            mortgaged |= property.isMortgaged();
+            min = Math.min(min, level);
+            max = Math.max(max, level);
+            housesNeeded += housesAt(level) - housesAt(current);
+            hotelsNeeded += hotelsAt(level) - hotelsAt(current);
+        }
+
+        if (max - min > maxSpread) {
+            return "Houses must be evenly distributed across all properties in a color group.";
+        }
+        if (building && mortgaged) {
+            return "You cannot build in a color group with a mortgaged property.";
+        }
+        if (housesNeeded > houses.getAvailableHouses()) {
+            return "The bank does not have enough houses. Only " + houses.getAvailableHouses() + " available.";
+        }
+        if (hotelsNeeded > hotels.getAvailableHotels()) {
+            return "The bank does not have any hotels available.";
+        }
+        return null;
+    }
+
+    /**
+     * Moves a color group to new building levels, taking houses and hotels from the bank or
+     * returning them. Call {@link #check(List, int[])} first; the change is assumed to be allowed.
+     *
+     * @param group  The properties in a color group
+     * @param levels The new level of each property
+     */
+    public void apply(List<Property> group, int[] levels) {
+        int housesNeeded = 0;
+        int hotelsNeeded = 0;
+        for (int i = 0; i < levels.length; i++) {
+            Property property = group.get(i);
+            int current = levelOf(property);
+            if (levels[i] == current) {
+                continue;
+            }
+            housesNeeded += housesAt(levels[i]) - housesAt(current);
+            hotelsNeeded += hotelsAt(levels[i]) - hotelsAt(current);
+            property.setHasHotel(levels[i] == HOTEL);
+            property.setHouses(housesAt(levels[i]));
+        }
+
+        if (housesNeeded > 0) {
+            houses.useHouses(housesNeeded);
+        } else if (housesNeeded < 0) {
+            houses.returnHouses(-housesNeeded);
+        }
+        for (; hotelsNeeded > 0; hotelsNeeded--) {
+            hotels.useHotel();
+        }
+        for (; hotelsNeeded < 0; hotelsNeeded++) {
+            hotels.returnHotel();
+        }
+    }
+
+    /**
+     * Resets the stock to 32 houses and 12 hotels (for starting a new game).
+     */
+    public void reset() {
+        houses.reset();
+        hotels.reset();
+    }
+
+    private static int housesAt(int level) {
+        return level == HOTEL ? 0 : level;
+    }
+
+    private static int hotelsAt(int level) {
+        return level == HOTEL ? 1 : 0;
+    }
+
+    /**
+     * Returns a string representation of the inventory.
+     *
+     * @return A string with the houses and hotels available
+     */
+    @Override
+    public String toString() {
+        return houses + ", " + hotels;
+    }
+}
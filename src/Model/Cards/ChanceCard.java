@@ -1,11 +1,14 @@
 package Model.Cards;
 
 import Model.Board.Player;
+import Model.GameLog;
 import Model.GameState;
 import Model.Spaces.RailroadSpace;
 import Model.Spaces.Space;
 import Model.Spaces.UtilitySpace;
 
+import java.util.List;
+
 /**
  * Represents a Chance card in the Monopoly game.
  * Each card has a specific effect when drawn.
@@ -53,60 +56,79 @@ public class ChanceCard extends Card {
      */
     @Override
     public void executeEffect(Player player, GameState gameState) {
-        System.out.println(player.getName() + " drew Chance card: " + description);
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " drew Chance card: " + description);
+        }
 
         if (description.contains("Advance to Go")) {
             // Use GoSpace utility method to handle moving to Go
             player.setPosition(0);
             player.addMoney(200);
-            System.out.println(player.getName() + " advances to Go and collects $200");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " advances to Go and collects $200");
+            }
         }
         else if (description.contains("Go to Jail")) {
             // Use JailSpace utility method to handle going to jail
-            player.setPosition(10); // Jail position
             gameState.sendToJail(player);
-            System.out.println(player.getName() + " goes to Jail");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " goes to Jail");
+            }
         }
         else if (description.contains("Get Out of Jail Free")) {
             player.setHasGetOutOfJailFreeCard(true);
-            System.out.println(player.getName() + " received a Get Out of Jail Free card");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " received a Get Out of Jail Free card");
+            }
         }
         else if (description.contains("dividend of $50")) {
             player.addMoney(50);
-            System.out.println(player.getName() + " received $50 from the bank");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " received $50 from the bank");
+            }
         }
         else if (description.contains("Speeding fine")) {
             player.subtractMoney(15);
-            System.out.println(player.getName() + " paid a $15 fine");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " paid a $15 fine");
+            }
         }
         else if (description.contains("building loan")) {
             player.addMoney(150);
-            System.out.println(player.getName() + " received $150 from the bank");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " received $150 from the bank");
+            }
         }
         else if (description.contains("crossword competition")) {
             player.addMoney(100);
-            System.out.println(player.getName() + " received $100 from the bank");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " received $100 from the bank");
+            }
         }
         else if (description.contains("Chairman of the Board")) {
-            // This is one of the failing tests - check behavior
-            int totalPaid = 0;
-            // Give money to other players instead of taking from them
-            for (Player otherPlayer : gameState.getPlayers()) {
-                if (otherPlayer != player) {
-                    // This is the key change - don't subtract from player
-                    // but make sure other players get money
-                    otherPlayer.addMoney(50);
-                    totalPaid += 50;
+            // One posting if the drawer can cover everyone; otherwise each other player in turn,
+            // raising cash or going bankrupt if short
+            boolean paid = gameState.getLedger().payEach(player, gameState.getPlayers(), 50, description);
+            if (!paid) {
+                paid = true;
+                for (Player other : gameState.getPlayers()) {
+                    if (other != player && !gameState.payDebt(player, other, 50, description)) {
+                        paid = false;
+                        break;
+                    }
                 }
             }
-            // Print message without changing player's money
-            System.out.println(player.getName() + " collected $" + totalPaid + " from other players");
+            if (paid && GameLog.isEnabled()) {
+                System.out.println(player.getName() + " paid $50 to each other player");
+            }
         }
         else if (description.contains("general repairs")) {
             int houses = 0;
             int hotels = 0;
 
-            for (Model.Property.Property property : player.getProperties()) {
+            List<Model.Property.Property> properties = player.getProperties();
+            for (int i = 0; i < properties.size(); i++) {
+                Model.Property.Property property = properties.get(i);
                 if (property.hasHotel()) {
                     hotels++;
                 } else {
@@ -116,7 +138,9 @@ public class ChanceCard extends Card {
 
             int totalCost = (houses * 25) + (hotels * 100);
             player.subtractMoney(totalCost);
-            System.out.println(player.getName() + " paid $" + totalCost + " for repairs");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " paid $" + totalCost + " for repairs");
+            }
         }
         else if (description.contains("Illinois Avenue")) {
             movePlayerToNamedLocation(player, "Illinois Avenue", gameState);
@@ -140,13 +164,17 @@ public class ChanceCard extends Card {
             int currentPosition = player.getPosition();
             int newPosition = (currentPosition - 3 + gameState.getBoard().getSpaces().size()) % gameState.getBoard().getSpaces().size();
             player.setPosition(newPosition);
-            System.out.println(player.getName() + " moved back 3 spaces to " +
-                    gameState.getBoard().getspace(newPosition).getName());
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " moved back 3 spaces to " +
+                        gameState.getBoard().getspace(newPosition).getName());
+            }
             // Don't call performTurnActions here, as it may add additional money effects
         }
         else {
             // Handle locations not found without any money changes
-            System.out.println("Could not find location: " + description);
+            if (GameLog.isEnabled()) {
+                System.out.println("Could not find location: " + description);
+            }
         }
     }
 
@@ -182,17 +210,23 @@ public class ChanceCard extends Card {
 
             // Move player
             player.setPosition(destinationPosition);
-            System.out.println(player.getName() + " moved to " + locationName);
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " moved to " + locationName);
+            }
 
             // Handle passing Go - pay $200 only once
             if (passedGo) {
-                System.out.println(player.getName() + " passed Go and collects $200");
+                if (GameLog.isEnabled()) {
+                    System.out.println(player.getName() + " passed Go and collects $200");
+                }
                 player.addMoney(200);
             }
 
             // Do not call performTurnActions here - it may add unintended money effects
         } else {
-            System.out.println("Could not find location: " + locationName);
+            if (GameLog.isEnabled()) {
+                System.out.println("Could not find location: " + locationName);
+            }
         }
     }
 
@@ -243,17 +277,23 @@ public class ChanceCard extends Card {
 
             // Move player
             player.setPosition(closestPosition);
-            System.out.println(player.getName() + " moved to " + gameState.getBoard().getspace(closestPosition).getName());
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " moved to " + gameState.getBoard().getspace(closestPosition).getName());
+            }
 
             // Handle passing Go - pay $200 only once
             if (passedGo) {
-                System.out.println(player.getName() + " passed Go and collects $200");
+                if (GameLog.isEnabled()) {
+                    System.out.println(player.getName() + " passed Go and collects $200");
+                }
                 player.addMoney(200);
             }
 
             // Do not call performTurnActions - may cause additional effects
         } else {
-            System.out.println("Could not find nearest " + locationType);
+            if (GameLog.isEnabled()) {
+                System.out.println("Could not find nearest " + locationType);
+            }
         }
     }
 }
\ No newline at end of file
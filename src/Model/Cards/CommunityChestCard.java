@@ -1,10 +1,13 @@
 package Model.Cards;
 
 import Model.Board.Player;
+import Model.GameLog;
 import Model.GameState;
 import Model.Spaces.GoSpace;
 import Model.Spaces.JailSpace;
 
+import java.util.List;
+
 /**
  * Represents a Community Chest card in the Monopoly game.
  * Each card has a specific effect when drawn.
@@ -52,7 +55,9 @@ public class CommunityChestCard extends Card {
      */
     @Override
     public void executeEffect(Player player, GameState gameState) {
-        System.out.println(player.getName() + " drew Community Chest card: " + description);
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " drew Community Chest card: " + description);
+        }
 
         if (description.contains("Advance to Go")) {
             GoSpace.moveToGo(player, gameState);
@@ -62,60 +67,86 @@ public class CommunityChestCard extends Card {
         }
         else if (description.contains("Get Out of Jail Free")) {
             player.setHasGetOutOfJailFreeCard(true);
-            System.out.println(player.getName() + " received a Get Out of Jail Free card");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " received a Get Out of Jail Free card");
+            }
         }
         else if (description.contains("Bank error in your favor")) {
             player.addMoney(200);
-            System.out.println(player.getName() + " received $200 from the bank");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " received $200 from the bank");
+            }
         }
         else if (description.contains("Doctor's fee")) {
             player.subtractMoney(50);
-            System.out.println(player.getName() + " paid $50 doctor's fee");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " paid $50 doctor's fee");
+            }
         }
         else if (description.contains("From sale of stock")) {
             player.addMoney(50);
-            System.out.println(player.getName() + " received $50 from stock sale");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " received $50 from stock sale");
+            }
         }
         else if (description.contains("Holiday fund")) {
             player.addMoney(100);
-            System.out.println(player.getName() + " received $100 from holiday fund");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " received $100 from holiday fund");
+            }
         }
         else if (description.contains("Income tax refund")) {
             player.addMoney(20);
-            System.out.println(player.getName() + " received $20 tax refund");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " received $20 tax refund");
+            }
         }
         else if (description.contains("your birthday")) {
-            int totalCollected = 0;
-            for (Player otherPlayer : gameState.getPlayers()) {
-                if (otherPlayer != player) {
-                    otherPlayer.subtractMoney(10);
-                    totalCollected += 10;
+            // One posting if everyone can pay; otherwise each other player pays on their own,
+            // so one who is short does not stop the rest
+            int collected = player.getMoney();
+            if (!gameState.getLedger().collectFromEach(player, gameState.getPlayers(), 10, description)) {
+                for (Player other : gameState.getPlayers()) {
+                    if (other != player) {
+                        gameState.payDebt(other, player, 10, description);
+                    }
                 }
             }
-            player.addMoney(totalCollected);
-            System.out.println(player.getName() + " collected $" + totalCollected + " for their birthday");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " collected $" + (player.getMoney() - collected) + " for their birthday");
+            }
         }
         else if (description.contains("Life insurance")) {
             player.addMoney(100);
-            System.out.println(player.getName() + " received $100 from life insurance");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " received $100 from life insurance");
+            }
         }
         else if (description.contains("Pay hospital")) {
             player.subtractMoney(100);
-            System.out.println(player.getName() + " paid $100 hospital fees");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " paid $100 hospital fees");
+            }
         }
         else if (description.contains("Pay school")) {
             player.subtractMoney(50);
-            System.out.println(player.getName() + " paid $50 school fees");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " paid $50 school fees");
+            }
         }
         else if (description.contains("consultancy fee")) {
             player.addMoney(25);
-            System.out.println(player.getName() + " received $25 consultancy fee");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " received $25 consultancy fee");
+            }
         }
         else if (description.contains("street repairs")) {
             int houses = 0;
             int hotels = 0;
 
-            for (Model.Property.Property property : player.getProperties()) {
+            List<Model.Property.Property> properties = player.getProperties();
+            for (int i = 0; i < properties.size(); i++) {
+                Model.Property.Property property = properties.get(i);
                 if (property.hasHotel()) {
                     hotels++;
                 } else {
@@ -125,15 +156,21 @@ public class CommunityChestCard extends Card {
 
             int totalCost = (houses * 40) + (hotels * 115);
             player.subtractMoney(totalCost);
-            System.out.println(player.getName() + " paid $" + totalCost + " for street repairs");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " paid $" + totalCost + " for street repairs");
+            }
         }
         else if (description.contains("beauty contest")) {
             player.addMoney(10);
-            System.out.println(player.getName() + " received $10 from beauty contest");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " received $10 from beauty contest");
+            }
         }
         else if (description.contains("inherit")) {
             player.addMoney(100);
-            System.out.println(player.getName() + " inherited $100");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " inherited $100");
+            }
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package Model.Events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for money moving between a player and the bank.
+ */
+@Name(GameEvents.PREFIX + "BankTransaction")
+@Label("Bank Transaction")
+@Category(GameEvents.CATEGORY)
+@Description("Money paid by the bank to a player, or by a player to the bank")
+public class BankTransactionEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(BankTransactionEvent.class);
+
+    @Label("Game Id")
+    long gameId;
+
+    @Label("Player")
+    String player;
+
+    @Label("Amount")
+    @Description("Positive when the bank pays the player, negative when the player pays the bank")
+    int amount;
+
+    @Label("Memo")
+    String memo;
+
+    /**
+     * Records a bank transaction if bank events are being recorded.
+     *
+     * @param gameId The game the ledger belongs to
+     * @param player The name of the player
+     * @param amount The amount, positive when the bank pays the player
+     * @param memo   The ledger memo
+     */
+    public static void emit(long gameId, String player, int amount, String memo) {
+        if (TYPE.isEnabled()) {
+            BankTransactionEvent event = new BankTransactionEvent();
+            event.gameId = gameId;
+            event.player = player;
+            event.amount = amount;
+            event.memo = memo;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package Model.Events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for a Chance or Community Chest card being drawn.
+ */
+@Name(GameEvents.PREFIX + "CardDraw")
+@Label("Card Draw")
+@Category(GameEvents.CATEGORY)
+@Description("A Chance or Community Chest card drawn and carried out")
+public class CardDrawEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(CardDrawEvent.class);
+
+    @Label("Game Id")
+    long gameId;
+
+    @Label("Player")
+    String player;
+
+    @Label("Deck")
+    String deck;
+
+    @Label("Card")
+    String card;
+
+    /**
+     * Records a card draw if card events are being recorded.
+     *
+     * @param gameId The game the card belongs to
+     * @param player The name of the player who drew it
+     * @param deck   "Chance" or "Community Chest"
+     * @param card   The text of the card
+     */
+    public static void emit(long gameId, String player, String deck, String card) {
+        if (TYPE.isEnabled()) {
+            CardDrawEvent event = new CardDrawEvent();
+            event.gameId = gameId;
+            event.player = player;
+            event.deck = deck;
+            event.card = card;
+            event.commit();
+        }
+    }
+}
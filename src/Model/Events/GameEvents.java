@@ -0,0 +1,42 @@
+package Model.Events;
+
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+
+import java.util.List;
+
+/**
+ * The Flight Recorder events the game emits. Each event checks whether its type is being
+ * recorded before creating anything, so the game allocates nothing for them when no
+ * recording is running. They are listed under the {@value #CATEGORY} category
+ * and carry the game id, so several games simulated in one JVM can be told apart.
+ */
+public final class GameEvents {
+    /** The category all game events are listed under. */
+    public static final String CATEGORY = "Monopoly";
+
+    /** The prefix of every game event name. */
+    public static final String PREFIX = "monopoly.";
+
+    /** Every game event type. */
+    public static final List<Class<? extends Event>> TYPES = List.of(
+            TurnEvent.class,
+            RentEvent.class,
+            CardDrawEvent.class,
+            BankTransactionEvent.class,
+            StrategyEvent.class);
+
+    private GameEvents() {
+    }
+
+    /**
+     * Turns on every game event in a recording, with no duration threshold.
+     *
+     * @param recording The recording
+     */
+    public static void enable(Recording recording) {
+        for (Class<? extends Event> type : TYPES) {
+            recording.enable(type).withoutThreshold();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package Model.Events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for a rent calculation.
+ */
+@Name(GameEvents.PREFIX + "Rent")
+@Label("Rent")
+@Category(GameEvents.CATEGORY)
+@Description("Rent worked out for a property")
+public class RentEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(RentEvent.class);
+
+    @Label("Game Id")
+    long gameId;
+
+    @Label("Space")
+    String space;
+
+    @Label("Owner")
+    String owner;
+
+    @Label("Building Level")
+    int level;
+
+    @Label("Rent")
+    int rent;
+
+    /**
+     * Records a rent calculation if rent events are being recorded.
+     *
+     * @param gameId The game the property belongs to
+     * @param space  The property
+     * @param owner  The owner's name, or null if nobody owns it
+     * @param level  The number of houses, or 5 for a hotel
+     * @param rent   The rent worked out
+     */
+    public static void emit(long gameId, String space, String owner, int level, int rent) {
+        if (TYPE.isEnabled()) {
+            RentEvent event = new RentEvent();
+            event.gameId = gameId;
+            event.space = space;
+            event.owner = owner;
+            event.level = level;
+            event.rent = rent;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package Model.Events;
+
+import Model.Board.Player;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event spanning one run of a computer player's strategy.
+ */
+@Name(GameEvents.PREFIX + "StrategyDecision")
+@Label("Strategy Decision")
+@Category(GameEvents.CATEGORY)
+@Description("A computer player's strategy deciding what to buy, build or mortgage")
+public class StrategyEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(StrategyEvent.class);
+
+    @Label("Game Id")
+    long gameId;
+
+    @Label("Player")
+    String player;
+
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Cash Change")
+    int cashChange;
+
+    @Label("Properties Before")
+    int propertiesBefore;
+
+    @Label("Properties After")
+    int propertiesAfter;
+
+    /**
+     * Starts timing a decision if strategy events are being recorded.
+     *
+     * @return The started event, or null if decisions are not being recorded
+     */
+    public static StrategyEvent start() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        StrategyEvent event = new StrategyEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the decision and commits the event if it is being recorded.
+     *
+     * @param gameId           The game the decision belongs to
+     * @param player           The computer player
+     * @param strategy         The strategy that ran
+     * @param cashBefore       The player's cash before the strategy ran
+     * @param propertiesBefore The number of properties the player held before it ran
+     */
+    public void finish(long gameId, Player player, Object strategy, int cashBefore, int propertiesBefore) {
+        end();
+        if (shouldCommit()) {
+            this.gameId = gameId;
+            this.player = player.getName();
+            this.strategy = strategy.getClass().getSimpleName();
+            this.cashChange = player.getMoney() - cashBefore;
+            this.propertiesBefore = propertiesBefore;
+            this.propertiesAfter = player.getProperties().size();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package Model.Events;
+
+import Model.Board.Player;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event spanning one player's turn, from the roll to the end of the landing.
+ */
+@Name(GameEvents.PREFIX + "Turn")
+@Label("Turn")
+@Category(GameEvents.CATEGORY)
+@Description("A player's turn, from rolling the dice to resolving the space they land on")
+public class TurnEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(TurnEvent.class);
+
+    @Label("Game Id")
+    long gameId;
+
+    @Label("Turn")
+    int turn;
+
+    @Label("Player")
+    String player;
+
+    @Label("From Position")
+    int fromPosition;
+
+    @Label("To Position")
+    int toPosition;
+
+    @Label("Started In Jail")
+    boolean jailed;
+
+    @Label("Cash Change")
+    int cashChange;
+
+    /**
+     * Starts timing a turn if turn events are being recorded.
+     *
+     * @return The started event, or null if turns are not being recorded
+     */
+    public static TurnEvent start() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        TurnEvent event = new TurnEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the turn and commits the event if it is being recorded.
+     *
+     * @param gameId       The game the turn belongs to
+     * @param turn         The number of turns played before this one
+     * @param player       The player
+     * @param fromPosition Where the player started
+     * @param jailed       Whether the player started the turn in jail
+     * @param cashBefore   The player's cash when the turn started
+     */
+    public void finish(long gameId, int turn, Player player, int fromPosition, boolean jailed, int cashBefore) {
+        end();
+        if (shouldCommit()) {
+            this.gameId = gameId;
+            this.turn = turn;
+            this.player = player.getName();
+            this.fromPosition = fromPosition;
+            this.toPosition = player.getPosition();
+            this.jailed = jailed;
+            this.cashChange = player.getMoney() - cashBefore;
+            commit();
+        }
+    }
+}
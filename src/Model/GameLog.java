@@ -0,0 +1,42 @@
+package Model;
+
+/**
+ * Switch for the game's console commentary. The turn loop checks {@link #isEnabled()}
+ * before building a message, so a simulation that turns the commentary off pays
+ * nothing for the strings it would have printed.
+ */
+public final class GameLog {
+    private static volatile boolean enabled = true;
+
+    private GameLog() {
+    }
+
+    /**
+     * Checks whether the game prints what happens each turn.
+     *
+     * @return true if commentary is on, which it is by default
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns the game's commentary on or off.
+     *
+     * @param enabled true to print what happens each turn
+     */
+    public static void setEnabled(boolean enabled) {
+        GameLog.enabled = enabled;
+    }
+
+    /**
+     * Prints a line of commentary if commentary is on.
+     *
+     * @param message The message
+     */
+    public static void print(String message) {
+        if (enabled) {
+            System.out.println(message);
+        }
+    }
+}
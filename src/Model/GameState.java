@@ -3,15 +3,24 @@ package Model;
 import Model.Board.Bank;
 import Model.Board.Dice;
 import Model.Board.Gameboard;
+import Model.Board.JailDecisionEngine;
+import Model.Board.LiquidationPlanner;
 import Model.Board.Player;
+import Model.Board.Strategy.OpponentTracker;
 import Model.Cards.ChanceCard;
 import Model.Cards.CommunityChestCard;
+import Model.Events.CardDrawEvent;
+import Model.Ledger.Ledger;
+import Model.Metrics.GameMetrics;
 import Model.Property.Property;
-import Model.Spaces.RailroadSpace;
+import Model.Rules.RuleSet;
+import Model.Spaces.Ownable;
 import Model.Spaces.Space;
-import Model.Spaces.UtilitySpace;
+import Model.Termination.GameEnd;
+import Model.Termination.TerminationPolicy;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Author: Aiden Clare
@@ -20,10 +29,16 @@ import java.util.*;
  * It manages player turns, properties, money transactions, and game status.
  */
 public class GameState {
+    private static final AtomicLong GAME_IDS = new AtomicLong();
+    // Mixed into the game seed so the card decks do not follow the same sequence as the dice
+    private static final long CARD_SEED_MIX = 0xC2B2AE3D27D4EB4FL;
+
+    private final long gameId = GAME_IDS.incrementAndGet();
     private List<Player> players;
     private int currentPlayerIndex;
     private Gameboard board;
     private Dice dice;
+    private Random cardRandom = new Random();
     private List<ChanceCard> chanceCardDeck;
     private List<CommunityChestCard> communityChestCardDeck;
     private int currentChanceCardIndex;
@@ -31,6 +46,15 @@ public class GameState {
     private Map<Player, Boolean> isInJail;
     private boolean gameActive;
     private Bank bank;
+    private Ledger ledger;
+    private RuleSet rules = RuleSet.standard();
+    private GameMetrics metrics = GameMetrics.global();
+    private JailDecisionEngine jailDecisions = new JailDecisionEngine();
+    private final LiquidationPlanner liquidationPlanner = new LiquidationPlanner();
+    private final OpponentTracker opponentTracker = new OpponentTracker();
+    private int turnsPlayed;
+    private final List<TerminationPolicy> terminationPolicies = new ArrayList<>();
+    private GameEnd endReason;
 
     /**
      * Author: Aiden Clare
@@ -58,6 +82,12 @@ public class GameState {
             isInJail.put(player, false);
         }
 
+        // Record every cash movement from here on
+        this.ledger = new Ledger(gameId);
+        for (Player player : this.players) {
+            ledger.open(player);
+        }
+
         this.gameActive = true;
         this.currentPlayerIndex = 0;
 
@@ -78,7 +108,12 @@ public class GameState {
 
         // Reset game state
         gameActive = true;
+        endReason = null;
         currentPlayerIndex = 0;
+        turnsPlayed = 0;
+        for (TerminationPolicy policy : terminationPolicies) {
+            policy.reset(this);
+        }
 
         // Reset jail status
         isInJail.clear();
@@ -93,62 +128,46 @@ public class GameState {
 
     /**
      * Author: Marena
-     * Initializes the Chance card deck with standard Monopoly Chance cards.
+     * Initializes the Chance card deck with the board's Chance cards.
      */
     private void initializeChanceCards() {
         chanceCardDeck.clear();
         currentChanceCardIndex = 0;
 
-        // Standard Monopoly Chance cards
-        chanceCardDeck.add(new ChanceCard("Advance to Go. Collect $200."));
-        chanceCardDeck.add(new ChanceCard("Advance to Illinois Avenue. If you pass Go, collect $200."));
-        chanceCardDeck.add(new ChanceCard("Advance to St. Charles Place. If you pass Go, collect $200."));
-        chanceCardDeck.add(new ChanceCard("Advance to the nearest Railroad. If unowned, you may buy it from the Bank. If owned, pay owner twice the rental to which they are otherwise entitled."));
-        chanceCardDeck.add(new ChanceCard("Advance to the nearest Utility. If unowned, you may buy it from the Bank. If owned, throw dice and pay owner 10 times the amount thrown."));
-        chanceCardDeck.add(new ChanceCard("Bank pays you dividend of $50."));
-        chanceCardDeck.add(new ChanceCard("Get Out of Jail Free."));
-        chanceCardDeck.add(new ChanceCard("Go Back 3 Spaces."));
-        chanceCardDeck.add(new ChanceCard("Go to Jail. Go directly to Jail. Do not pass Go. Do not collect $200."));
-        chanceCardDeck.add(new ChanceCard("Make general repairs on all your property. For each house pay $25. For each hotel pay $100."));
-        chanceCardDeck.add(new ChanceCard("Speeding fine $15."));
-        chanceCardDeck.add(new ChanceCard("Take a trip to Reading Railroad. If you pass Go, collect $200."));
-        chanceCardDeck.add(new ChanceCard("You have been elected Chairman of the Board. Pay each player $50."));
-        chanceCardDeck.add(new ChanceCard("Your building loan matures. Collect $150."));
-        chanceCardDeck.add(new ChanceCard("You have won a crossword competition. Collect $100."));
-        chanceCardDeck.add(new ChanceCard("Advance to Boardwalk."));
+        // Chance cards of the board's edition
+        for (String text : board.getDefinition().getChanceCards()) {
+            chanceCardDeck.add(new ChanceCard(text));
+        }
 
         // Shuffle the deck
-        Collections.shuffle(chanceCardDeck);
+        Collections.shuffle(chanceCardDeck, cardRandom);
     }
 
     /**
      * Author: Marena
-     * Initializes the Community Chest card deck with standard Monopoly Community Chest cards.
+     * Initializes the Community Chest card deck with the board's Community Chest cards.
      */
     private void initializeCommunityChestCards() {
         communityChestCardDeck.clear();
         currentCommunityChestCardIndex = 0;
 
-        // Standard Monopoly Community Chest cards
-        communityChestCardDeck.add(new CommunityChestCard("Advance to Go. Collect $200."));
-        communityChestCardDeck.add(new CommunityChestCard("Bank error in your favor. Collect $200."));
-        communityChestCardDeck.add(new CommunityChestCard("Doctor's fee. Pay $50."));
-        communityChestCardDeck.add(new CommunityChestCard("From sale of stock you get $50."));
-        communityChestCardDeck.add(new CommunityChestCard("Get Out of Jail Free."));
-        communityChestCardDeck.add(new CommunityChestCard("Go to Jail. Go directly to Jail. Do not pass Go. Do not collect $200."));
-        communityChestCardDeck.add(new CommunityChestCard("Holiday fund matures. Receive $100."));
-        communityChestCardDeck.add(new CommunityChestCard("Income tax refund. Collect $20."));
-        communityChestCardDeck.add(new CommunityChestCard("It is your birthday. Collect $10 from each player."));
-        communityChestCardDeck.add(new CommunityChestCard("Life insurance matures. Collect $100."));
-        communityChestCardDeck.add(new CommunityChestCard("Pay hospital fees of $100."));
-        communityChestCardDeck.add(new CommunityChestCard("Pay school fees of $50."));
-        communityChestCardDeck.add(new CommunityChestCard("Receive $25 consultancy fee."));
-        communityChestCardDeck.add(new CommunityChestCard("You are assessed for street repairs. $40 per house. $115 per hotel."));
-        communityChestCardDeck.add(new CommunityChestCard("You have won second prize in a beauty contest. Collect $10."));
-        communityChestCardDeck.add(new CommunityChestCard("You inherit $100."));
+        // Community Chest cards of the board's edition
+        for (String text : board.getDefinition().getCommunityChestCards()) {
+            communityChestCardDeck.add(new CommunityChestCard(text));
+        }
 
         // Shuffle the deck
-        Collections.shuffle(communityChestCardDeck);
+        Collections.shuffle(communityChestCardDeck, cardRandom);
+    }
+
+    /**
+     * Gets the id of this game, unique within the running program. Flight Recorder
+     * events carry it so events from different games can be told apart.
+     *
+     * @return The game id
+     */
+    public long getGameId() {
+        return gameId;
     }
 
     /**
@@ -178,6 +197,143 @@ public class GameState {
             }
         }
         bank.setAvailableProperties(properties);
+        rules.applyTo(bank);
+        bank.setObserver(opponentTracker);
+        bank.setGameboard(board);
+    }
+
+    /**
+     * Gets the house rules this game is played with.
+     *
+     * @return The compiled rules
+     */
+    public RuleSet getRules() {
+        return rules;
+    }
+
+    /**
+     * Sets the house rules this game is played with. Rules are chosen at setup, before
+     * the first turn.
+     *
+     * @param rules The compiled rules
+     */
+    public void setRules(RuleSet rules) {
+        this.rules = rules;
+        if (bank != null) {
+            rules.applyTo(bank);
+        }
+    }
+
+    /**
+     * Gets the metrics this game records into.
+     *
+     * @return The game metrics, shared by every game by default
+     */
+    public GameMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets the metrics this game records into.
+     *
+     * @param metrics The game metrics
+     */
+    public void setMetrics(GameMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Gets the engine that decides what players in jail do.
+     *
+     * @return The jail decision engine
+     */
+    public JailDecisionEngine getJailDecisions() {
+        return jailDecisions;
+    }
+
+    /**
+     * Sets the engine that decides what players in jail do.
+     *
+     * @param jailDecisions The jail decision engine
+     */
+    public void setJailDecisions(JailDecisionEngine jailDecisions) {
+        this.jailDecisions = jailDecisions;
+    }
+
+    /**
+     * Gets the models of how each player has played so far, which the game's bank and
+     * controller keep up to date.
+     *
+     * @return The opponent tracker
+     */
+    public OpponentTracker getOpponentTracker() {
+        return opponentTracker;
+    }
+
+    /**
+     * Adds a condition that stops the game early. The policy starts watching from the current turn.
+     *
+     * @param policy The termination policy
+     */
+    public void addTerminationPolicy(TerminationPolicy policy) {
+        terminationPolicies.add(policy);
+        policy.reset(this);
+    }
+
+    /**
+     * Gets the conditions that can stop this game early, besides the rules' turn limit.
+     *
+     * @return The termination policies, in the order they are checked
+     */
+    public List<TerminationPolicy> getTerminationPolicies() {
+        return Collections.unmodifiableList(terminationPolicies);
+    }
+
+    /**
+     * Checks whether the game should stop after the turn just played: first the rules'
+     * turn limit, then each termination policy in the order it was added.
+     *
+     * @return Why the game should end, or null to keep playing
+     */
+    public GameEnd checkTermination() {
+        if (turnsPlayed >= rules.getTurnLimit()) {
+            return GameEnd.TURN_LIMIT;
+        }
+        for (int i = 0; i < terminationPolicies.size(); i++) {
+            GameEnd end = terminationPolicies.get(i).check(this);
+            if (end != null) {
+                return end;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Ends the game.
+     *
+     * @param reason Why the game ended
+     */
+    public void endGame(GameEnd reason) {
+        endReason = reason;
+        gameActive = false;
+    }
+
+    /**
+     * Gets why the game ended.
+     *
+     * @return The reason, or null if the game has not ended
+     */
+    public GameEnd getEndReason() {
+        return gameActive ? null : endReason;
+    }
+
+    /**
+     * Gets the number of turns played so far.
+     *
+     * @return The number of turns
+     */
+    public int getTurnsPlayed() {
+        return turnsPlayed;
     }
 
     /**
@@ -207,6 +363,7 @@ public class GameState {
      */
     public void nextTurn() {
         currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
+        turnsPlayed++;
     }
 
     /**
@@ -265,7 +422,7 @@ public class GameState {
         }
 
         if (currentChanceCardIndex >= chanceCardDeck.size()) {
-            Collections.shuffle(chanceCardDeck);
+            Collections.shuffle(chanceCardDeck, cardRandom);
             currentChanceCardIndex = 0;
         }
 
@@ -280,6 +437,7 @@ public class GameState {
 
         // Execute the card's effect
         drawnCard.executeEffect(getCurrentPlayer(), this);
+        CardDrawEvent.emit(gameId, getCurrentPlayer().getName(), "Chance", drawnCard.getDescription());
 
         return drawnCard.getDescription();
     }
@@ -297,7 +455,7 @@ public class GameState {
         }
 
         if (currentCommunityChestCardIndex >= communityChestCardDeck.size()) {
-            Collections.shuffle(communityChestCardDeck);
+            Collections.shuffle(communityChestCardDeck, cardRandom);
             currentCommunityChestCardIndex = 0;
         }
 
@@ -312,6 +470,7 @@ public class GameState {
 
         // Execute the card's effect
         drawnCard.executeEffect(getCurrentPlayer(), this);
+        CardDrawEvent.emit(gameId, getCurrentPlayer().getName(), "Community Chest", drawnCard.getDescription());
 
         return drawnCard.getDescription();
     }
@@ -325,10 +484,10 @@ public class GameState {
     public void returnGetOutOfJailFreeCard(String cardType) {
         if (cardType.equals("Chance")) {
             chanceCardDeck.add(new ChanceCard("Get Out of Jail Free."));
-            Collections.shuffle(chanceCardDeck);
+            Collections.shuffle(chanceCardDeck, cardRandom);
         } else if (cardType.equals("Community Chest")) {
             communityChestCardDeck.add(new CommunityChestCard("Get Out of Jail Free."));
-            Collections.shuffle(communityChestCardDeck);
+            Collections.shuffle(communityChestCardDeck, cardRandom);
         }
     }
 
@@ -343,14 +502,55 @@ public class GameState {
      * @return true if the transfer was successful, false if the payer doesn't have enough money
      */
     public boolean transferMoney(Player from, Player to, int amount) {
-        if (from.getMoney() >= amount) {
-            from.subtractMoney(amount);
-            to.addMoney(amount);
+        return ledger.transfer(from, to, amount, "Transfer");
+    }
+
+    /**
+     * Makes one player pay a debt to another player or the bank, first selling buildings
+     * and mortgaging properties if they are short and doing so would raise enough. A player
+     * who still cannot pay hands over all the cash they have, which leaves them bankrupt.
+     *
+     * @param debtor   The player who owes the money
+     * @param creditor The player owed, or null for the bank
+     * @param amount   The amount owed
+     * @param memo     A short description recorded in the ledger
+     * @return true if the debt was paid in full
+     */
+    public boolean payDebt(Player debtor, Player creditor, int amount, String memo) {
+        // Paying every last dollar would leave the debtor bankrupt, so raise cash before that too
+        if (debtor.getMoney() <= amount && bank != null && debtor.getNetWorth().getLiquidationValue() > amount) {
+            LiquidationPlanner.Plan plan = liquidationPlanner.plan(debtor, amount, bank);
+            if (plan.isSufficient()) {
+                if (GameLog.isEnabled()) {
+                    System.out.println(debtor.getName() + " raises $" + plan.getAmountRaised() + " to pay: " + plan.getSteps());
+                }
+                plan.execute(debtor, bank);
+            }
+        }
+        if (debtor.getMoney() >= amount) {
+            ledger.transfer(debtor, creditor, amount, memo);
             return true;
         }
+
+        int paid = Math.max(0, debtor.getMoney());
+        if (paid > 0) {
+            ledger.transfer(debtor, creditor, paid, memo);
+        }
+        if (GameLog.isEnabled()) {
+            System.out.println(debtor.getName() + " can only pay $" + paid + " of $" + amount + " and is bankrupt");
+        }
         return false;
     }
 
+    /**
+     * Gets the ledger recording every cash movement in the game.
+     *
+     * @return The ledger
+     */
+    public Ledger getLedger() {
+        return ledger;
+    }
+
     /**
      * Author: Marena
      * Collects money from the bank for a player.
@@ -402,9 +602,15 @@ public class GameState {
      * @param player The player to send to jail
      */
     public void sendToJail(Player player) {
+        boolean wasInJail = isPlayerInJail(player);
         isInJail.put(player, true);
-        player.setPosition(10); // Move to jail space
-        System.out.println(player.getName() + " has been sent to Jail!");
+        player.setPosition(board.getJailPosition()); // Move to jail space
+        if (!wasInJail) {
+            player.fireJailStateChanged(true);
+        }
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " has been sent to Jail!");
+        }
     }
 
     /**
@@ -414,9 +620,15 @@ public class GameState {
      * @param player The player to release from jail
      */
     public void releaseFromJail(Player player) {
+        boolean wasInJail = isPlayerInJail(player);
         isInJail.put(player, false);
         player.setTurnsInJail(0);
-        System.out.println(player.getName() + " has been released from Jail!");
+        if (wasInJail) {
+            player.fireJailStateChanged(false);
+        }
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " has been released from Jail!");
+        }
     }
 
     /**
@@ -451,39 +663,40 @@ public class GameState {
      * @param player The bankrupt player
      */
     public void handlePlayerBankruptcy(Player player) {
-        System.out.println(player.getName() + " is bankrupt and out of the game!");
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " is bankrupt and out of the game!");
+        }
+        metrics.bankruptcy();
 
-        // Return all properties to the bank
+        // Return all properties to the bank, their houses and hotels back into its stock
         for (Property property : player.getProperties()) {
+            if (BuildingInventory.levelOf(property) > 0) {
+                bank.getBuildingInventory().apply(Collections.singletonList(property), new int[1]);
+            }
             property.setOwner(null);
-            property.setHouses(0);
-            property.setHasHotel(false);
             property.setMortgaged(false);
             bank.getAvailableProperties().add(property);
         }
 
-        // Also check railroads and utilities owned by this player
-        for (Space space : board.getSpaces()) {
-            if (space instanceof RailroadSpace) {
-                RailroadSpace railroad = (RailroadSpace) space;
-                if (player.equals(railroad.getOwner())) {
-                    railroad.setOwner(null);
-                }
-            } else if (space instanceof UtilitySpace) {
-                UtilitySpace utility = (UtilitySpace) space;
-                if (player.equals(utility.getOwner())) {
-                    utility.setOwner(null);
-                }
-            }
+        // Then everything else they hold on the board, railroads and utilities included
+        for (Ownable ownable : new ArrayList<>(board.getOwnershipIndex().getHoldings(player))) {
+            ownable.setMortgaged(false);
+            ownable.setOwner(null);
         }
 
-        // Remove player from the game
+        // Remove player from the game, keeping the turn with the same player
+        int index = players.indexOf(player);
         players.remove(player);
+        if (index >= 0 && index < currentPlayerIndex) {
+            currentPlayerIndex--;
+        }
 
         // Check if game is over
         if (players.size() == 1) {
-            System.out.println(players.get(0).getName() + " wins the game!");
-            setGameActive(false);
+            if (GameLog.isEnabled()) {
+                System.out.println(players.get(0).getName() + " wins the game!");
+            }
+            endGame(GameEnd.LAST_PLAYER_STANDING);
         }
     }
 
@@ -507,6 +720,21 @@ public class GameState {
         this.dice = dice;
     }
 
+    /**
+     * Seeds everything the game leaves to chance: the dice, and the order of both card decks,
+     * which are shuffled again from the seed. Two games seeded alike, with players who decide
+     * alike, play out the same way. Seed the game before a controller is made for it, as the
+     * controller keeps the dice it is given.
+     *
+     * @param seed The game seed
+     */
+    public void setSeed(long seed) {
+        this.dice = new Dice(seed);
+        this.cardRandom = new Random(seed ^ CARD_SEED_MIX);
+        initializeChanceCards();
+        initializeCommunityChestCards();
+    }
+
     /**
      * Author: Aiden Clare
      * Gets the Chance card deck.
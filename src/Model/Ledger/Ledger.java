@@ -0,0 +1,523 @@
+package Model.Ledger;
+
+import Model.Board.Player;
+import Model.Events.BankTransactionEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records every movement of cash in a game.
+ * All money a player gains or spends is posted here as a transfer between two accounts
+ * (a player or the bank), grouped into atomic transactions and kept in an append-only
+ * log. Balances are maintained as postings are made so they can be read in constant
+ * time, and {@link #reconcile()} replays the log to prove that the balances, the log and
+ * the players' cash all agree.
+ *
+ * <p>The log keeps the most recent transfers up to a limit. Once it is full, the oldest
+ * transfer is folded into a checkpoint of balances as each new one is added, so a game of
+ * any length runs in fixed memory and {@link #reconcile()} replays from the checkpoint.
+ */
+public class Ledger {
+    /** Account number of the bank. */
+    public static final int BANK = 0;
+
+    /** Transfers the log keeps, unless changed, before the oldest are folded into the checkpoint. */
+    public static final int DEFAULT_LOG_LIMIT = 1 << 16;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final long gameId;
+    private final Map<Player, Integer> accounts;
+    private final List<Player> holders;
+    private int[] balances;
+    private int[] openingBalances;
+    // Balances before the oldest transfer still in the log
+    private int[] checkpointBalances;
+
+    // Append-only log, one slot per transfer, used as a ring once it reaches the limit
+    private int[] entryTransaction;
+    private int[] entryFrom;
+    private int[] entryTo;
+    private int[] entryAmount;
+    private int[] entryMemo;
+    private int entryCount;
+    private int firstEntry;
+    private final int logLimit;
+    private int transactionCount;
+
+    private final List<String> memos;
+    private final Map<String, Integer> memoIds;
+
+    // Net change per account for each posting in progress, one buffer per nesting level,
+    // so a listener posting while another posting is applied works on a buffer of its own
+    private int[][] scratch;
+    private int postDepth;
+
+    // Reused for single transfers so a payment allocates nothing
+    private final Transaction single;
+    private boolean singleInUse;
+
+    /**
+     * Constructs an empty ledger holding only the bank's account.
+     */
+    public Ledger() {
+        this(0);
+    }
+
+    /**
+     * Constructs an empty ledger for a game, holding only the bank's account.
+     *
+     * @param gameId The id of the game, recorded with bank transaction events
+     */
+    public Ledger(long gameId) {
+        this(gameId, DEFAULT_LOG_LIMIT);
+    }
+
+    /**
+     * Constructs an empty ledger for a game whose log keeps a given number of transfers.
+     *
+     * @param gameId   The id of the game, recorded with bank transaction events
+     * @param logLimit The most transfers the log keeps, at least 1
+     */
+    public Ledger(long gameId, int logLimit) {
+        if (logLimit < 1) {
+            throw new IllegalArgumentException("Log limit must be at least 1: " + logLimit);
+        }
+        this.gameId = gameId;
+        this.accounts = new IdentityHashMap<>();
+        this.holders = new ArrayList<>();
+        this.holders.add(null); // the bank
+        this.balances = new int[8];
+        this.openingBalances = new int[8];
+        this.checkpointBalances = new int[8];
+
+        int capacity = Math.min(INITIAL_CAPACITY, logLimit);
+        this.entryTransaction = new int[capacity];
+        this.entryFrom = new int[capacity];
+        this.entryTo = new int[capacity];
+        this.entryAmount = new int[capacity];
+        this.entryMemo = new int[capacity];
+        this.entryCount = 0;
+        this.firstEntry = 0;
+        this.logLimit = logLimit;
+        this.transactionCount = 0;
+
+        this.memos = new ArrayList<>();
+        this.memoIds = new HashMap<>();
+        this.scratch = new int[2][];
+        this.single = new Transaction(this, null);
+    }
+
+    /**
+     * Gets the id of the game this ledger belongs to.
+     *
+     * @return The game id, 0 for a ledger outside a game
+     */
+    public long getGameId() {
+        return gameId;
+    }
+
+    /**
+     * Opens an account for a player with their current cash as the opening balance,
+     * and routes the player's future cash changes through this ledger.
+     * Opening an account that already exists does nothing.
+     *
+     * @param player The player
+     * @return The player's account number
+     */
+    public synchronized int open(Player player) {
+        Integer existing = accounts.get(player);
+        if (existing != null) {
+            return existing;
+        }
+
+        int account = holders.size();
+        holders.add(player);
+        accounts.put(player, account);
+        if (account == balances.length) {
+            balances = Arrays.copyOf(balances, account * 2);
+            openingBalances = Arrays.copyOf(openingBalances, account * 2);
+            checkpointBalances = Arrays.copyOf(checkpointBalances, account * 2);
+        }
+        balances[account] = player.getMoney();
+        openingBalances[account] = player.getMoney();
+        checkpointBalances[account] = player.getMoney();
+        player.setLedger(this);
+        return account;
+    }
+
+    /**
+     * Starts a transaction of one or more transfers that will be posted atomically.
+     *
+     * @param memo A short description recorded with the transfers
+     * @return The new transaction
+     */
+    public Transaction begin(String memo) {
+        return new Transaction(this, memo);
+    }
+
+    /**
+     * Moves money from one account to another. A null player stands for the bank.
+     *
+     * @param payer  The player paying, or null for the bank
+     * @param payee  The player paid, or null for the bank
+     * @param amount The amount
+     * @param memo   A short description
+     * @return true if the transfer was posted, false if the payer cannot afford it
+     */
+    public synchronized boolean transfer(Player payer, Player payee, int amount, String memo) {
+        return postSingle(payer, payee, amount, memo, false);
+    }
+
+    /**
+     * Moves money from one account to another, letting the payer's balance go negative
+     * if necessary. A null player stands for the bank.
+     *
+     * @param payer  The player paying, or null for the bank
+     * @param payee  The player paid, or null for the bank
+     * @param amount The amount
+     * @param memo   A short description
+     */
+    public synchronized void transferAllowingDebt(Player payer, Player payee, int amount, String memo) {
+        postSingle(payer, payee, amount, memo, true);
+    }
+
+    private boolean postSingle(Player payer, Player payee, int amount, String memo, boolean allowDebt) {
+        // A listener paying out in response to a balance change gets a transaction of its own
+        if (singleInUse) {
+            Transaction transaction = begin(memo).transfer(payer, payee, amount);
+            return allowDebt ? transaction.commitAllowingDebt() : transaction.commit();
+        }
+        singleInUse = true;
+        try {
+            Transaction transaction = single.reuse(memo).transfer(payer, payee, amount);
+            return allowDebt ? transaction.commitAllowingDebt() : transaction.commit();
+        } finally {
+            singleInUse = false;
+        }
+    }
+
+    /**
+     * Has one player pay the same amount to each of the others, as a single transaction.
+     *
+     * @param payer   The player paying
+     * @param players The players in the game; the payer is skipped
+     * @param amount  The amount paid to each player
+     * @param memo    A short description
+     * @return true if everyone was paid, false if the payer cannot afford the total
+     */
+    public synchronized boolean payEach(Player payer, List<Player> players, int amount, String memo) {
+        return postEach(payer, players, amount, memo, true);
+    }
+
+    /**
+     * Has each of the other players pay one player the same amount, as a single transaction.
+     *
+     * @param collector The player collecting
+     * @param players   The players in the game; the collector is skipped
+     * @param amount    The amount collected from each player
+     * @param memo      A short description
+     * @return true if everyone paid, false if anyone cannot afford it
+     */
+    public synchronized boolean collectFromEach(Player collector, List<Player> players, int amount, String memo) {
+        return postEach(collector, players, amount, memo, false);
+    }
+
+    private boolean postEach(Player player, List<Player> players, int amount, String memo, boolean paying) {
+        // Reuses the single-transfer transaction too, unless a posting in progress has it
+        boolean reuse = !singleInUse;
+        Transaction transaction = reuse ? single.reuse(memo) : begin(memo);
+        singleInUse = true;
+        try {
+            for (int i = 0; i < players.size(); i++) {
+                Player other = players.get(i);
+                if (other == player) {
+                    continue;
+                }
+                if (paying) {
+                    transaction.transfer(player, other, amount);
+                } else {
+                    transaction.transfer(other, player, amount);
+                }
+            }
+            return transaction.commit();
+        } finally {
+            if (reuse) {
+                singleInUse = false;
+            }
+        }
+    }
+
+    /**
+     * Gets a player's balance as recorded by the ledger.
+     *
+     * @param player The player
+     * @return The balance, or the player's cash if they have no account yet
+     */
+    public synchronized int getBalance(Player player) {
+        Integer account = accounts.get(player);
+        return account != null ? balances[account] : player.getMoney();
+    }
+
+    /**
+     * Gets the bank's balance: the net amount it has received from players.
+     * Negative when the bank has paid out more than it has collected.
+     *
+     * @return The bank's balance
+     */
+    public synchronized int getBankBalance() {
+        return balances[BANK];
+    }
+
+    /**
+     * Gets the number of transactions posted.
+     *
+     * @return The number of transactions
+     */
+    public synchronized int getTransactionCount() {
+        return transactionCount;
+    }
+
+    /**
+     * Gets the number of transfers ever posted, including those no longer kept in the log.
+     *
+     * @return The number of log entries
+     */
+    public synchronized int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Gets the index of the oldest entry still kept in the log.
+     *
+     * @return 0 until the log first reaches its limit
+     */
+    public synchronized int getFirstEntry() {
+        return firstEntry;
+    }
+
+    /**
+     * Describes one log entry.
+     *
+     * @param index The entry index, 0 being the first ever posted
+     * @return A readable description of the transfer
+     * @throws IndexOutOfBoundsException If the entry was never posted or is no longer kept
+     */
+    public synchronized String describeEntry(int index) {
+        if (index < firstEntry || index >= entryCount) {
+            throw new IndexOutOfBoundsException("Entry: " + index + ", Entries kept: " + firstEntry + " to " + entryCount);
+        }
+        int slot = slot(index);
+        return "#" + entryTransaction[slot] + " " + accountName(entryFrom[slot]) + " -> "
+                + accountName(entryTo[slot]) + " $" + entryAmount[slot] + " (" + memos.get(entryMemo[slot]) + ")";
+    }
+
+    /**
+     * Checks that the ledger is consistent: replaying the log from the checkpoint
+     * balances gives the recorded balances, no money was created or lost, and every
+     * player's cash matches their balance. Prints each discrepancy found.
+     *
+     * @return true if everything agrees
+     */
+    public synchronized boolean reconcile() {
+        boolean consistent = true;
+
+        int[] replayed = Arrays.copyOf(checkpointBalances, holders.size());
+        for (int i = firstEntry; i < entryCount; i++) {
+            int slot = slot(i);
+            replayed[entryFrom[slot]] -= entryAmount[slot];
+            replayed[entryTo[slot]] += entryAmount[slot];
+        }
+
+        long total = 0;
+        long openingTotal = 0;
+        for (int account = 0; account < holders.size(); account++) {
+            if (replayed[account] != balances[account]) {
+                System.out.println("Ledger mismatch for " + accountName(account) + ": log gives $"
+                        + replayed[account] + " but balance is $" + balances[account]);
+                consistent = false;
+            }
+            Player player = holders.get(account);
+            if (player != null && player.getMoney() != balances[account]) {
+                System.out.println("Ledger mismatch for " + accountName(account) + ": cash is $"
+                        + player.getMoney() + " but balance is $" + balances[account]);
+                consistent = false;
+            }
+            total += balances[account];
+            openingTotal += openingBalances[account];
+        }
+
+        if (total != openingTotal) {
+            System.out.println("Ledger does not balance: $" + (total - openingTotal) + " created or lost");
+            consistent = false;
+        }
+        return consistent;
+    }
+
+    /**
+     * Posts a transaction: checks every payer can cover their net share, then appends
+     * every transfer to the log and updates balances and players in one step.
+     */
+    synchronized boolean post(Transaction transaction, boolean allowDebt) {
+        int legs = transaction.getLegCount();
+        for (int leg = 0; leg < legs; leg++) {
+            // Make sure every account exists before sizing the scratch array
+            accountOf(transaction.getPayer(leg));
+            accountOf(transaction.getPayee(leg));
+        }
+
+        int[] net = scratchBuffer(postDepth++);
+        try {
+            return post(transaction, allowDebt, net);
+        } finally {
+            postDepth--;
+        }
+    }
+
+    private boolean post(Transaction transaction, boolean allowDebt, int[] net) {
+        int legs = transaction.getLegCount();
+        for (int leg = 0; leg < legs; leg++) {
+            int amount = transaction.getAmount(leg);
+            net[accountOf(transaction.getPayer(leg))] -= amount;
+            net[accountOf(transaction.getPayee(leg))] += amount;
+        }
+
+        if (!allowDebt) {
+            for (int leg = 0; leg < legs; leg++) {
+                int account = accountOf(transaction.getPayer(leg));
+                if (account != BANK && balances[account] + net[account] < 0) {
+                    clearScratch(transaction, net);
+                    return false;
+                }
+            }
+        }
+
+        int id = ++transactionCount;
+        int memo = memoId(transaction.getMemo());
+        for (int leg = 0; leg < legs; leg++) {
+            if (transaction.getAmount(leg) == 0) {
+                continue;
+            }
+            ensureLogCapacity();
+            int slot = slot(entryCount);
+            entryTransaction[slot] = id;
+            entryFrom[slot] = accountOf(transaction.getPayer(leg));
+            entryTo[slot] = accountOf(transaction.getPayee(leg));
+            entryAmount[slot] = transaction.getAmount(leg);
+            entryMemo[slot] = memo;
+            entryCount++;
+            recordBankTransaction(transaction, leg);
+        }
+
+        // Apply each account's net change once, so listeners see one update per player
+        for (int leg = 0; leg < legs; leg++) {
+            applyNet(accountOf(transaction.getPayer(leg)), net);
+            applyNet(accountOf(transaction.getPayee(leg)), net);
+        }
+        return true;
+    }
+
+    /**
+     * Gets the zeroed buffer for a posting at a nesting level, large enough for every
+     * account. Buffers are kept, so only the first posting at a level allocates one.
+     */
+    private int[] scratchBuffer(int depth) {
+        if (depth == scratch.length) {
+            scratch = Arrays.copyOf(scratch, depth * 2);
+        }
+        int[] buffer = scratch[depth];
+        if (buffer == null || buffer.length < holders.size()) {
+            // Any buffer found here belongs to no posting in progress and is all zeros
+            buffer = new int[balances.length];
+            scratch[depth] = buffer;
+        }
+        return buffer;
+    }
+
+    private void recordBankTransaction(Transaction transaction, int leg) {
+        Player payer = transaction.getPayer(leg);
+        Player payee = transaction.getPayee(leg);
+        if (payer == null && payee != null) {
+            BankTransactionEvent.emit(gameId, payee.getName(), transaction.getAmount(leg), transaction.getMemo());
+        } else if (payee == null && payer != null) {
+            BankTransactionEvent.emit(gameId, payer.getName(), -transaction.getAmount(leg), transaction.getMemo());
+        }
+    }
+
+    private void applyNet(int account, int[] net) {
+        int change = net[account];
+        if (change == 0) {
+            return;
+        }
+        net[account] = 0;
+        balances[account] += change;
+        Player player = holders.get(account);
+        if (player != null) {
+            player.applyBalanceChange(change);
+        }
+    }
+
+    private void clearScratch(Transaction transaction, int[] net) {
+        for (int leg = 0; leg < transaction.getLegCount(); leg++) {
+            net[accountOf(transaction.getPayer(leg))] = 0;
+            net[accountOf(transaction.getPayee(leg))] = 0;
+        }
+    }
+
+    private int accountOf(Player player) {
+        if (player == null) {
+            return BANK;
+        }
+        Integer account = accounts.get(player);
+        return account != null ? account : open(player);
+    }
+
+    private int memoId(String memo) {
+        String key = memo != null ? memo : "";
+        Integer id = memoIds.get(key);
+        if (id == null) {
+            id = memos.size();
+            memos.add(key);
+            memoIds.put(key, id);
+        }
+        return id;
+    }
+
+    /**
+     * Makes room in the log for one more transfer: grows it while it is under the limit,
+     * and after that folds the oldest transfer into the checkpoint balances.
+     */
+    private void ensureLogCapacity() {
+        if (entryCount - firstEntry < entryAmount.length) {
+            return;
+        }
+        if (entryAmount.length < logLimit) {
+            // Nothing has been folded yet, so every entry still sits at its own index
+            int capacity = (int) Math.min((long) entryAmount.length * 2, logLimit);
+            entryTransaction = Arrays.copyOf(entryTransaction, capacity);
+            entryFrom = Arrays.copyOf(entryFrom, capacity);
+            entryTo = Arrays.copyOf(entryTo, capacity);
+            entryAmount = Arrays.copyOf(entryAmount, capacity);
+            entryMemo = Arrays.copyOf(entryMemo, capacity);
+            return;
+        }
+        int oldest = slot(firstEntry);
+        checkpointBalances[entryFrom[oldest]] -= entryAmount[oldest];
+        checkpointBalances[entryTo[oldest]] += entryAmount[oldest];
+        firstEntry++;
+    }
+
+    private int slot(int index) {
+        return index % entryAmount.length;
+    }
+
+    private String accountName(int account) {
+        Player player = holders.get(account);
+        return player != null ? player.getName() : "Bank";
+    }
+}
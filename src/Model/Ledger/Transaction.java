@@ -0,0 +1,124 @@
+package Model.Ledger;
+
+import Model.Board.Player;
+
+import java.util.Arrays;
+
+/**
+ * A posting being assembled for a {@link Ledger}: one or more transfers that are
+ * committed together or not at all. For example "pay each player $50" is a single
+ * transaction with one transfer per opponent, so either every opponent is paid or,
+ * if the payer cannot cover the total, nobody is.
+ */
+public class Transaction {
+    private final Ledger ledger;
+    private String memo;
+    private Player[] from;
+    private Player[] to;
+    private int[] amounts;
+    private int legs;
+    private boolean committed;
+
+    /**
+     * Constructs an empty transaction. Use {@link Ledger#begin(String)}.
+     *
+     * @param ledger The ledger the transaction will be posted to
+     * @param memo   A short description recorded with every transfer
+     */
+    Transaction(Ledger ledger, String memo) {
+        this.ledger = ledger;
+        this.memo = memo;
+        this.from = new Player[4];
+        this.to = new Player[4];
+        this.amounts = new int[4];
+        this.legs = 0;
+        this.committed = false;
+    }
+
+    /**
+     * Adds a transfer to the transaction. A null player stands for the bank.
+     *
+     * @param payer  The player paying, or null for the bank
+     * @param payee  The player paid, or null for the bank
+     * @param amount The amount, which must not be negative
+     * @return This transaction, for chaining
+     */
+    public Transaction transfer(Player payer, Player payee, int amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Transfer amount must not be negative: " + amount);
+        }
+        if (committed) {
+            throw new IllegalStateException("Transaction has already been committed");
+        }
+        if (legs == amounts.length) {
+            from = Arrays.copyOf(from, legs * 2);
+            to = Arrays.copyOf(to, legs * 2);
+            amounts = Arrays.copyOf(amounts, legs * 2);
+        }
+        from[legs] = payer;
+        to[legs] = payee;
+        amounts[legs] = amount;
+        legs++;
+        return this;
+    }
+
+    /**
+     * Posts every transfer at once if every paying player can cover their share.
+     *
+     * @return true if the transaction was posted, false if nothing changed
+     */
+    public boolean commit() {
+        return commit(false);
+    }
+
+    /**
+     * Posts every transfer at once, letting balances go negative if necessary.
+     * Used for charges the player cannot refuse.
+     *
+     * @return true once the transaction has been posted
+     */
+    public boolean commitAllowingDebt() {
+        return commit(true);
+    }
+
+    private boolean commit(boolean allowDebt) {
+        if (committed) {
+            throw new IllegalStateException("Transaction has already been committed");
+        }
+        committed = ledger.post(this, allowDebt);
+        return committed;
+    }
+
+    /**
+     * Empties the transaction so it can be posted again with a new memo.
+     *
+     * @param memo A short description recorded with every transfer
+     * @return This transaction
+     */
+    Transaction reuse(String memo) {
+        this.memo = memo;
+        this.legs = 0;
+        this.committed = false;
+        return this;
+    }
+
+    String getMemo() {
+        return memo;
+    }
+
+    int getLegCount() {
+        return legs;
+    }
+
+    Player getPayer(int leg) {
+        return from[leg];
+    }
+
+    Player getPayee(int leg) {
+        return to[leg];
+    }
+
+    int getAmount(int leg) {
+        return amounts[leg];
+    }
+}
@@ -0,0 +1,62 @@
+package Model.Metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A count that many threads can add to at once. Backed by a {@link LongAdder}, which keeps
+ * a striped cell per contending thread, so simulation threads never wait on each other.
+ */
+public class Counter {
+    private final String name;
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Constructs a counter at zero. Use {@link MetricsRegistry#counter(String)}.
+     *
+     * @param name The metric name
+     */
+    Counter(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the metric name.
+     *
+     * @return The name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Adds one to the count.
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * Adds to the count.
+     *
+     * @param amount The amount to add
+     */
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    /**
+     * Gets the count.
+     *
+     * @return The sum of everything added since the last reset
+     */
+    public long get() {
+        return count.sum();
+    }
+
+    /**
+     * Sets the count back to zero.
+     */
+    public void reset() {
+        count.reset();
+    }
+}
@@ -0,0 +1,241 @@
+package Model.Metrics;
+
+import Model.Termination.GameEnd;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+/**
+ * The metrics a game records as it is played: turns, finished games with their length and
+ * how they ended, computer decision times, rent paid and bankruptcies. The metrics are looked up in a
+ * {@link MetricsRegistry} once when this is constructed, so recording from the turn loop
+ * is a striped add or a histogram increment and many games can record on many threads
+ * at once. Every game shares {@link #global()} unless it is given its own.
+ */
+public class GameMetrics implements GameMetricsMXBean {
+    /** The JMX name the global metrics are published under. */
+    public static final String OBJECT_NAME = "Monopoly:type=GameMetrics";
+
+    private static final GameMetrics GLOBAL = new GameMetrics(new MetricsRegistry());
+
+    private final MetricsRegistry registry;
+    private final Counter turns;
+    private final Counter games;
+    private final Counter rentVolume;
+    private final Counter bankruptcies;
+    private final Counter[] endings;
+    private final Histogram gameLength;
+    private final Histogram decisionNanos;
+    private volatile long startNanos;
+
+    /**
+     * Constructs game metrics kept in their own registry.
+     */
+    public GameMetrics() {
+        this(new MetricsRegistry());
+    }
+
+    /**
+     * Constructs game metrics kept in a given registry.
+     *
+     * @param registry The registry holding the metrics
+     */
+    public GameMetrics(MetricsRegistry registry) {
+        this.registry = registry;
+        this.turns = registry.counter("turns");
+        this.games = registry.counter("games");
+        this.rentVolume = registry.counter("rent.volume");
+        this.bankruptcies = registry.counter("bankruptcies");
+        this.endings = new Counter[GameEnd.values().length];
+        for (GameEnd end : GameEnd.values()) {
+            endings[end.ordinal()] = registry.counter("games.ended." + end.name().toLowerCase());
+        }
+        this.gameLength = registry.histogram("game.length");
+        this.decisionNanos = registry.histogram("decision.nanos");
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Gets the metrics every game records into unless it is given its own.
+     *
+     * @return The shared game metrics
+     */
+    public static GameMetrics global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Publishes the shared metrics to the platform MBean server as {@value #OBJECT_NAME}.
+     * Publishing them again does nothing.
+     *
+     * @return The name they are published under
+     */
+    public static ObjectName registerGlobal() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            try {
+                server.registerMBean(GLOBAL, name);
+            } catch (InstanceAlreadyExistsException e) {
+                // already published
+            }
+            return name;
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not publish game metrics: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Gets the registry holding these metrics.
+     *
+     * @return The registry
+     */
+    public MetricsRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Records a turn being played.
+     */
+    public void turnPlayed() {
+        turns.increment();
+    }
+
+    /**
+     * Records a game finishing.
+     *
+     * @param length The number of turns the game took
+     */
+    public void gameFinished(int length) {
+        games.increment();
+        gameLength.record(length);
+    }
+
+    /**
+     * Records a game finishing and why it ended.
+     *
+     * @param length The number of turns the game took
+     * @param reason Why the game ended, or null if it was stopped from outside
+     */
+    public void gameFinished(int length, GameEnd reason) {
+        gameFinished(length);
+        if (reason != null) {
+            endings[reason.ordinal()].increment();
+        }
+    }
+
+    /**
+     * Gets the number of finished games that ended a given way.
+     *
+     * @param reason How the games ended
+     * @return The number of games
+     */
+    public long getGamesEnded(GameEnd reason) {
+        return endings[reason.ordinal()].get();
+    }
+
+    /**
+     * Records how long a computer player's strategy took to decide.
+     *
+     * @param nanos The decision time in nanoseconds
+     */
+    public void decisionMade(long nanos) {
+        decisionNanos.record(Math.max(0, nanos));
+    }
+
+    /**
+     * Records rent being paid.
+     *
+     * @param amount The rent paid
+     */
+    public void rentPaid(int amount) {
+        rentVolume.add(amount);
+    }
+
+    /**
+     * Records a player going bankrupt.
+     */
+    public void bankruptcy() {
+        bankruptcies.increment();
+    }
+
+    @Override
+    public long getTurns() {
+        return turns.get();
+    }
+
+    @Override
+    public long getGames() {
+        return games.get();
+    }
+
+    @Override
+    public double getTurnsPerSecond() {
+        return perSecond(turns.get());
+    }
+
+    @Override
+    public double getGamesPerSecond() {
+        return perSecond(games.get());
+    }
+
+    @Override
+    public double getMeanGameLength() {
+        return gameLength.getMean();
+    }
+
+    @Override
+    public double getDecisionMicrosP50() {
+        return decisionNanos.getPercentile(50) / 1000.0;
+    }
+
+    @Override
+    public double getDecisionMicrosP90() {
+        return decisionNanos.getPercentile(90) / 1000.0;
+    }
+
+    @Override
+    public double getDecisionMicrosP99() {
+        return decisionNanos.getPercentile(99) / 1000.0;
+    }
+
+    @Override
+    public double getDecisionMicrosMax() {
+        return decisionNanos.getMax() / 1000.0;
+    }
+
+    @Override
+    public long getRentVolume() {
+        return rentVolume.get();
+    }
+
+    @Override
+    public long getBankruptcies() {
+        return bankruptcies.get();
+    }
+
+    @Override
+    public long getStalemates() {
+        return getGamesEnded(GameEnd.STALEMATE);
+    }
+
+    @Override
+    public Map<String, Long> getCounts() {
+        return registry.getCounts();
+    }
+
+    @Override
+    public void reset() {
+        registry.reset();
+        startNanos = System.nanoTime();
+    }
+
+    private double perSecond(long count) {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        return seconds <= 0 ? 0 : count / seconds;
+    }
+}
@@ -0,0 +1,105 @@
+package Model.Metrics;
+
+import java.util.Map;
+
+/**
+ * The game metrics as published over JMX, for watching a simulation run from jconsole.
+ */
+public interface GameMetricsMXBean {
+
+    /**
+     * Gets the number of turns played.
+     *
+     * @return The turn count
+     */
+    long getTurns();
+
+    /**
+     * Gets the number of games finished.
+     *
+     * @return The game count
+     */
+    long getGames();
+
+    /**
+     * Gets the turns played per second since the metrics were started or reset.
+     *
+     * @return The turn rate
+     */
+    double getTurnsPerSecond();
+
+    /**
+     * Gets the games finished per second since the metrics were started or reset.
+     *
+     * @return The game rate
+     */
+    double getGamesPerSecond();
+
+    /**
+     * Gets the mean number of turns in a finished game.
+     *
+     * @return The mean game length
+     */
+    double getMeanGameLength();
+
+    /**
+     * Gets the median time a computer player's strategy takes to decide.
+     *
+     * @return The median decision time in microseconds
+     */
+    double getDecisionMicrosP50();
+
+    /**
+     * Gets the 90th percentile time a computer player's strategy takes to decide.
+     *
+     * @return The decision time in microseconds
+     */
+    double getDecisionMicrosP90();
+
+    /**
+     * Gets the 99th percentile time a computer player's strategy takes to decide.
+     *
+     * @return The decision time in microseconds
+     */
+    double getDecisionMicrosP99();
+
+    /**
+     * Gets the longest time a computer player's strategy took to decide.
+     *
+     * @return The decision time in microseconds
+     */
+    double getDecisionMicrosMax();
+
+    /**
+     * Gets the total rent paid.
+     *
+     * @return The rent volume in dollars
+     */
+    long getRentVolume();
+
+    /**
+     * Gets the number of players who went bankrupt.
+     *
+     * @return The bankruptcy count
+     */
+    long getBankruptcies();
+
+    /**
+     * Gets the number of games stopped because nothing had changed hands in too long.
+     *
+     * @return The stalemate count
+     */
+    long getStalemates();
+
+    /**
+     * Gets every counter in the registry, including any added outside the game metrics.
+     *
+     * @return The counts by name
+     */
+    Map<String, Long> getCounts();
+
+    /**
+     * Sets every metric back to zero and restarts the rate clock.
+     */
+    void reset();
+}
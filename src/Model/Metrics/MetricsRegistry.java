@@ -0,0 +1,70 @@
+package Model.Metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds a program's counters and histograms by name. Looking a metric up goes through a
+ * concurrent map, so code on a hot path should look its metrics up once and keep them;
+ * recording into a metric never touches the registry.
+ */
+public class MetricsRegistry {
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the counter with a name, creating it the first time it is asked for.
+     *
+     * @param name The metric name
+     * @return The counter
+     */
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, Counter::new);
+    }
+
+    /**
+     * Gets the histogram with a name, creating it the first time it is asked for.
+     *
+     * @param name The metric name
+     * @return The histogram
+     */
+    public Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, Histogram::new);
+    }
+
+    /**
+     * Gets the current value of every counter.
+     *
+     * @return The counts by name, in name order
+     */
+    public Map<String, Long> getCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Counter counter : counters.values()) {
+            counts.put(counter.getName(), counter.get());
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Gets every histogram.
+     *
+     * @return The histograms by name, in name order
+     */
+    public Map<String, Histogram> getHistograms() {
+        return Collections.unmodifiableMap(new TreeMap<>(histograms));
+    }
+
+    /**
+     * Sets every counter back to zero and clears every histogram.
+     */
+    public void reset() {
+        for (Counter counter : counters.values()) {
+            counter.reset();
+        }
+        for (Histogram histogram : histograms.values()) {
+            histogram.reset();
+        }
+    }
+}
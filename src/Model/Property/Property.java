@@ -3,22 +3,29 @@ package Model.Property;
  * Represents a property space on the Monopoly board.
  * Properties can be bought, sold, and developed with houses and hotels.
  */
+import Model.Events.RentEvent;
+import Model.GameLog;
 import Model.GameState;
-import Model.Houses;
+import Model.Spaces.Ownable;
 import Model.Spaces.Space;
 import Model.Cards.TitleDeedCard;
 
+import java.util.Arrays;
 
-public class Property extends Space {
+
+public class Property extends Space implements Ownable {
     private int price;
     private int houses;
     private boolean hasHotel;
     private boolean isMortgaged;
+    private final int[] rents;
+    private final int houseCost;
     private TitleDeedCard titleDeed;
 
     /**
      * Author: Marena
      * Constructs a new property on the Monopoly board with a title deed card.
+     * Standard properties share the official rent schedule; others get one derived from their price.
      *
      * @param name     The name of the property
      * @param position The position on the board
@@ -26,22 +33,45 @@ public class Property extends Space {
      * @param colorGroup The color group of the property
      */
     public Property(String name, int position, int price, String colorGroup) {
+        this(name, position, price, colorGroup, RentSchedule.rentsFor(position, price, colorGroup));
+    }
+
+    /**
+     * Constructs a property with its own rent schedule, as given by a board definition.
+     *
+     * @param name       The name of the property
+     * @param position   The position on the board
+     * @param price      The purchase price of the property
+     * @param colorGroup The color group of the property
+     * @param rents      The rent unimproved, with 1-4 houses and with a hotel; must not be changed afterwards
+     */
+    public Property(String name, int position, int price, String colorGroup, int[] rents) {
+        this(name, position, price, colorGroup, rents, -1);
+    }
+
+    /**
+     * Constructs a property with its own rent schedule and house cost, as given by a board definition.
+     *
+     * @param name       The name of the property
+     * @param position   The position on the board
+     * @param price      The purchase price of the property
+     * @param colorGroup The color group of the property
+     * @param rents      The rent unimproved, with 1-4 houses and with a hotel; must not be changed afterwards
+     * @param houseCost  The cost of a house, or -1 to use the standard cost of the color group
+     */
+    public Property(String name, int position, int price, String colorGroup, int[] rents, int houseCost) {
         super(name, position, "Property");
+        if (rents.length != RentSchedule.HOTEL + 1) {
+            throw new IllegalArgumentException(name + " needs " + (RentSchedule.HOTEL + 1) + " rents but got " + rents.length);
+        }
         this.price = price;
         this.colorGroup = colorGroup;
         this.owner = null;  // No owner initially
         this.houses = 0;
         this.hasHotel = false;
         this.isMortgaged = false;
-
-        // Create corresponding title deed card with rent values
-        // These rent values are based on standard Monopoly rules
-        int baseRent = calculateBaseRent(price);
-        int[] houseRents = calculateHouseRents(baseRent, colorGroup);
-        int hotelRent = calculateHotelRent(baseRent, colorGroup);
-        int houseCost = Houses.getHousePrice(colorGroup);
-
-        this.titleDeed = new TitleDeedCard(name, colorGroup, price, baseRent, houseRents, hotelRent, houseCost);
+        this.rents = rents;
+        this.houseCost = houseCost;
     }
 
     /**
@@ -56,107 +86,18 @@ public class Property extends Space {
         this(name, position, getDefaultPrice(position), getDefaultColorGroup(position));
     }
 
-    /**
-     * Author: Marena
-     * Calculates the base rent for a property based on its price.
-     * By Monopoly standards, base rent is typically 10% of the purchase price.
-     *
-     * @param price The purchase price of the property
-     * @return The base rent
-     */
-    private int calculateBaseRent(int price) {
-        return (int)(price * 0.1); // Standard: base rent is 10% of purchase price
-    }
-
-    /**
-     * Author: Marena
-     * Calculates the rent values for properties with houses.
-     * Follows standard Monopoly progression of rent increases.
-     *
-     * @param baseRent The base rent without houses
-     * @param colorGroup The color group of the property
-     * @return An array of rent values for 1-4 houses
-     */
-    private int[] calculateHouseRents(int baseRent, String colorGroup) {
-        int[] houseRents = new int[4];
-
-        // Different color groups have different rent progressions
-        switch (colorGroup.toLowerCase()) {
-            case "brown":
-            case "light blue":
-                houseRents[0] = baseRent * 5;    // 1 house
-                houseRents[1] = baseRent * 15;   // 2 houses
-                houseRents[2] = baseRent * 45;   // 3 houses
-                houseRents[3] = baseRent * 80;   // 4 houses
-                break;
-            case "pink":
-            case "orange":
-                houseRents[0] = baseRent * 5;    // 1 house
-                houseRents[1] = baseRent * 15;   // 2 houses
-                houseRents[2] = baseRent * 45;   // 3 houses
-                houseRents[3] = baseRent * 90;   // 4 houses
-                break;
-            case "red":
-            case "yellow":
-                houseRents[0] = baseRent * 3;    // 1 house
-                houseRents[1] = baseRent * 9;    // 2 houses
-                houseRents[2] = baseRent * 27;   // 3 houses
-                houseRents[3] = baseRent * 50;   // 4 houses
-                break;
-            case "green":
-            case "dark blue":
-                houseRents[0] = baseRent * 7;    // 1 house
-                houseRents[1] = baseRent * 20;   // 2 houses
-                houseRents[2] = baseRent * 55;   // 3 houses
-                houseRents[3] = baseRent * 110;  // 4 houses
-                break;
-            default:
-                houseRents[0] = baseRent * 5;    // Default values
-                houseRents[1] = baseRent * 15;
-                houseRents[2] = baseRent * 45;
-                houseRents[3] = baseRent * 80;
-        }
-
-        return houseRents;
-    }
-
-    /**
-     * Author: Marena
-     * Calculates the hotel rent based on base rent and color group.
-     *
-     * @param baseRent The base rent without houses
-     * @param colorGroup The color group of the property
-     * @return The hotel rent
-     */
-    private int calculateHotelRent(int baseRent, String colorGroup) {
-        // Hotel rent is typically higher than 4-house rent
-        switch (colorGroup.toLowerCase()) {
-            case "brown":
-            case "light blue":
-                return baseRent * 125;
-            case "pink":
-            case "orange":
-                return baseRent * 140;
-            case "red":
-            case "yellow":
-                return baseRent * 150;
-            case "green":
-            case "dark blue":
-                return baseRent * 170;
-            default:
-                return baseRent * 125;
-        }
-    }
-
     /**
      * Author: Marena
      * Gets the default price for a property based on its position.
-     * This is a simplified approach for backward compatibility.
+     * Positions that hold a property on the standard board use its official price.
      *
      * @param position The position on the board
      * @return The default price
      */
     private static int getDefaultPrice(int position) {
+        if (RentSchedule.isStandardProperty(position)) {
+            return RentSchedule.getPrice(position);
+        }
         // Simple rule: Properties closer to Go are cheaper
         // In a real implementation, this would be a lookup table with actual prices
         int basePrice = 60;
@@ -166,12 +107,15 @@ public class Property extends Space {
     /**
      * Author: Marena
      * Gets the default color group for a property based on its position.
-     * This is a simplified approach for backward compatibility.
+     * Positions that hold a property on the standard board use its official color group.
      *
      * @param position The position on the board
      * @return The default color group
      */
     private static String getDefaultColorGroup(int position) {
+        if (RentSchedule.isStandardProperty(position)) {
+            return RentSchedule.getColorGroup(position);
+        }
         // Simple mapping of positions to color groups
         // In a real implementation, this would be a lookup table with actual assignments
         String[] colorGroups = {"Brown", "Light Blue", "Pink", "Orange",
@@ -181,14 +125,31 @@ public class Property extends Space {
 
     /**
      * Author: Marena
-     * Gets the title deed card for this property.
+     * Gets the title deed card for this property, creating it the first time it is needed.
      *
      * @return The title deed card
      */
     public TitleDeedCard getTitleDeed() {
+        if (titleDeed == null) {
+            titleDeed = new TitleDeedCard(name, colorGroup, price, rents[0],
+                    Arrays.copyOfRange(rents, 1, RentSchedule.HOTEL), rents[RentSchedule.HOTEL],
+                    getHouseCost());
+            titleDeed.setMortgaged(isMortgaged);
+        }
         return titleDeed;
     }
 
+    /**
+     * Gets the cost of a house, or of a hotel, on this property: the cost the board
+     * definition gives its color group, or the standard cost for properties made without one.
+     *
+     * @return The house cost
+     * @throws IllegalArgumentException If no cost was given and the color group is not a standard one
+     */
+    public int getHouseCost() {
+        return houseCost >= 0 ? houseCost : RentSchedule.houseCostFor(colorGroup);
+    }
+
     /**
      * Author: Marena
      * Gets the price of the property.
@@ -207,14 +168,20 @@ public class Property extends Space {
      */
     public boolean addHouse() {
         if (houses < 4 && !hasHotel) {
+            beforeChange();
             houses++;
+            afterBuildingChange();
             return true;
         } else if (houses == 4 && !hasHotel) {
+            beforeChange();
             houses = 0;
             hasHotel = true;
+            afterBuildingChange();
             return true;
         } else {
-            System.out.println(name + " already has a hotel!");
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " already has a hotel!");
+            }
             return false;
         }
     }
@@ -227,14 +194,20 @@ public class Property extends Space {
      */
     public boolean removeHouse() {
         if (houses > 0) {
+            beforeChange();
             houses--;
+            afterBuildingChange();
             return true;
         } else if (hasHotel) {
+            beforeChange();
             hasHotel = false;
             houses = 4;
+            afterBuildingChange();
             return true;
         } else {
-            System.out.println(name + " has no houses or hotels to remove!");
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " has no houses or hotels to remove!");
+            }
             return false;
         }
     }
@@ -267,8 +240,44 @@ public class Property extends Space {
      * @param mortgaged The new mortgage status
      */
     public void setMortgaged(boolean mortgaged) {
+        beforeChange();
         this.isMortgaged = mortgaged;
-        this.titleDeed.setMortgaged(mortgaged);
+        if (titleDeed != null) {
+            titleDeed.setMortgaged(mortgaged);
+        }
+        afterChange();
+        if (getOwnershipIndex() != null) {
+            getOwnershipIndex().mortgageChanged(this);
+        }
+    }
+
+    /**
+     * Takes this property's contribution out of its owner's net worth before a change.
+     */
+    private void beforeChange() {
+        if (owner != null) {
+            owner.getNetWorth().remove(this);
+        }
+    }
+
+    /**
+     * Puts this property's contribution back into its owner's net worth after a change.
+     */
+    private void afterChange() {
+        if (owner != null) {
+            owner.getNetWorth().add(this);
+        }
+    }
+
+    /**
+     * Puts this property back into its owner's net worth after a house or hotel was added
+     * or taken away, and tells the ownership index the board has been developed.
+     */
+    private void afterBuildingChange() {
+        afterChange();
+        if (getOwnershipIndex() != null) {
+            getOwnershipIndex().buildingsChanged(this);
+        }
     }
 
     /**
@@ -279,22 +288,32 @@ public class Property extends Space {
      * @param gameState The current game state
      */
     public void onLand(Model.Board.Player player, Model.GameState gameState) {
-        System.out.println(player.getName() + " landed on " + name);
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " landed on " + name);
+        }
 
         if (isOwned()) {
             if (owner != player) {
                 if (isMortgaged) {
-                    System.out.println(name + " is mortgaged, no rent is due.");
+                    if (GameLog.isEnabled()) {
+                        System.out.println(name + " is mortgaged, no rent is due.");
+                    }
                 } else {
                     int calculatedRent = calculateRent(gameState);
-                    System.out.println(player.getName() + " must pay $" + calculatedRent + " rent to " + owner.getName());
+                    if (GameLog.isEnabled()) {
+                        System.out.println(player.getName() + " must pay $" + calculatedRent + " rent to " + owner.getName());
+                    }
                     player.payRent(owner, calculatedRent);
                 }
             } else {
-                System.out.println(player.getName() + " owns this property.");
+                if (GameLog.isEnabled()) {
+                    System.out.println(player.getName() + " owns this property.");
+                }
             }
         } else {
-            System.out.println(name + " is not owned. It costs $" + price);
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " is not owned. It costs $" + price);
+            }
             // Logic for player to decide to buy would be handled elsewhere
             if (player.getMoney() >= price) {
                 // In a real game, this would be a player decision
@@ -308,7 +327,9 @@ public class Property extends Space {
                     }
                 }
             } else {
-                System.out.println(player.getName() + " cannot afford to buy " + name);
+                if (GameLog.isEnabled()) {
+                    System.out.println(player.getName() + " cannot afford to buy " + name);
+                }
             }
         }
     }
@@ -321,21 +342,39 @@ public class Property extends Space {
      * @return The calculated rent
      */
     public int calculateRent(GameState gameState) {
+        int rent = rentFor(gameState);
+        RentEvent.emit(gameState.getGameId(), name, owner != null ? owner.getName() : null,
+                hasHotel ? RentSchedule.HOTEL : houses, rent);
+        return rent;
+    }
+
+    private int rentFor(GameState gameState) {
         if (isMortgaged) {
             return 0;
         }
 
-        if (houses == 0 && !hasHotel) {
+        if (hasHotel) {
+            return rents[RentSchedule.HOTEL];
+        } else if (houses == 0) {
             // Check if all properties in the color group are owned by the same player
             if (gameState.getBoard().playerOwnsAllInColorGroup(owner, colorGroup)) {
-                return titleDeed.getBaseRent() * 2; // Double rent for a monopoly
+                return rents[0] * 2; // Double rent for a monopoly
             }
-            return titleDeed.getBaseRent();
-        } else if (hasHotel) {
-            return titleDeed.getHotelRent();
-        } else {
-            return titleDeed.getHouseRent(houses);
+            return rents[0];
         }
+        return houses < RentSchedule.HOTEL ? rents[houses] : rents[0];
+    }
+
+    /**
+     * Calculates the rent for this property; the dice roll does not matter.
+     *
+     * @param gameState The current game state
+     * @param diceRoll  The dice roll, ignored
+     * @return The calculated rent
+     */
+    @Override
+    public int calculateRent(GameState gameState, int diceRoll) {
+        return calculateRent(gameState);
     }
 
     /**
@@ -383,7 +422,9 @@ public class Property extends Space {
      * @param houses The new number of houses
      */
     public void setHouses(int houses) {
+        beforeChange();
         this.houses = houses;
+        afterBuildingChange();
     }
 
     /**
@@ -393,7 +434,7 @@ public class Property extends Space {
      * @return The base rent
      */
     public int getRent() {
-        return titleDeed.getBaseRent();
+        return rents[0];
     }
 
     /**
@@ -403,7 +444,9 @@ public class Property extends Space {
      * @param hasHotel True if the property should have a hotel, false otherwise
      */
     public void setHasHotel(boolean hasHotel) {
+        beforeChange();
         this.hasHotel = hasHotel;
+        afterBuildingChange();
     }
 
     /**
@@ -413,7 +456,7 @@ public class Property extends Space {
      * @return The mortgage value (half the purchase price)
      */
     public int getMortgageValue() {
-        return titleDeed.getMortgageValue();
+        return price / 2;
     }
 
     /**
@@ -423,7 +466,7 @@ public class Property extends Space {
      * @return The unmortgage cost (mortgage value plus 10% interest)
      */
     public int getUnmortgageCost() {
-        return titleDeed.getUnmortgageCost();
+        return (int) (getMortgageValue() * 1.1);
     }
 
     /**
@@ -433,6 +476,8 @@ public class Property extends Space {
      */
     @Override
     public void playerOnProperty() {
-        System.out.println("Player landed on property " + name);
+        if (GameLog.isEnabled()) {
+            System.out.println("Player landed on property " + name);
+        }
     }
 }
\ No newline at end of file
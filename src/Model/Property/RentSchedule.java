@@ -0,0 +1,204 @@
+package Model.Property;
+
+import Model.Board.BoardDefinition;
+
+/**
+ * The official price, mortgage, house cost and rent schedules of the standard board.
+ * Schedules are loaded once from the standard {@link BoardDefinition} into static tables
+ * indexed by board position, so every board shares them and looking up a rent is a
+ * single array read.
+ *
+ * <p>Rent rows are indexed by development level: 0 for an unimproved property,
+ * 1 to 4 for houses and {@link #HOTEL} for a hotel. Properties built with a price or
+ * color group that differs from the standard board get a row derived from their price
+ * instead, through {@link #derive(int, String)}.
+ */
+public final class RentSchedule {
+    private static final BoardDefinition STANDARD = BoardDefinition.standard();
+
+    /** Development level of a property with a hotel. */
+    public static final int HOTEL = 5;
+    /** Number of positions on the standard board. */
+    public static final int BOARD_SIZE = STANDARD.getSize();
+
+    private static final String[] COLOR_GROUPS = {"Brown", "Light Blue", "Pink", "Orange",
+            "Red", "Yellow", "Green", "Dark Blue"};
+
+    /** House cost for each color group, in COLOR_GROUPS order. */
+    private static final int[] GROUP_HOUSE_COSTS = {50, 50, 100, 100, 150, 150, 200, 200};
+
+    /** Multiples of the base rent for 1-4 houses and a hotel, in COLOR_GROUPS order. */
+    private static final int[][] GROUP_MULTIPLIERS = {
+            {5, 15, 45, 80, 125},
+            {5, 15, 45, 80, 125},
+            {5, 15, 45, 90, 140},
+            {5, 15, 45, 90, 140},
+            {3, 9, 27, 50, 150},
+            {3, 9, 27, 50, 150},
+            {7, 20, 55, 110, 170},
+            {7, 20, 55, 110, 170}
+    };
+
+    private static final int[] PRICES = new int[BOARD_SIZE];
+    private static final String[] GROUPS = new String[BOARD_SIZE];
+    private static final int[][] RENTS = new int[BOARD_SIZE][];
+
+    static {
+        for (BoardDefinition.SpaceDefinition space : STANDARD.getSpaces()) {
+            if (space.getKind() == BoardDefinition.Kind.PROPERTY) {
+                PRICES[space.getPosition()] = space.getPrice();
+                GROUPS[space.getPosition()] = space.getColorGroup();
+                RENTS[space.getPosition()] = space.getRents();
+            }
+        }
+    }
+
+    private RentSchedule() {
+    }
+
+    /**
+     * Checks whether a position holds a property on the standard board.
+     *
+     * @param position The board position
+     * @return true if the standard board has a property there
+     */
+    public static boolean isStandardProperty(int position) {
+        return position >= 0 && position < BOARD_SIZE && RENTS[position] != null;
+    }
+
+    /**
+     * Checks whether a property matches the standard board's property at its position.
+     *
+     * @param position   The board position
+     * @param price      The property's price
+     * @param colorGroup The property's color group
+     * @return true if the official schedule applies to it
+     */
+    public static boolean isStandardProperty(int position, int price, String colorGroup) {
+        return isStandardProperty(position) && PRICES[position] == price
+                && GROUPS[position].equals(colorGroup);
+    }
+
+    /**
+     * Gets the price of the standard property at a position.
+     *
+     * @param position The board position, which must hold a standard property
+     * @return The price
+     */
+    public static int getPrice(int position) {
+        return PRICES[position];
+    }
+
+    /**
+     * Gets the mortgage value of the standard property at a position.
+     *
+     * @param position The board position, which must hold a standard property
+     * @return The mortgage value, half the price
+     */
+    public static int getMortgageValue(int position) {
+        return PRICES[position] / 2;
+    }
+
+    /**
+     * Gets the color group of the standard property at a position.
+     *
+     * @param position The board position, which must hold a standard property
+     * @return The color group
+     */
+    public static String getColorGroup(int position) {
+        return GROUPS[position];
+    }
+
+    /**
+     * Gets the cost of a house on the standard property at a position.
+     *
+     * @param position The board position, which must hold a standard property
+     * @return The house cost
+     */
+    public static int getHouseCost(int position) {
+        return STANDARD.getHouseCost(GROUPS[position]);
+    }
+
+    /**
+     * Gets the rent of the standard property at a position.
+     *
+     * @param position The board position, which must hold a standard property
+     * @param level    The development level, 0 to {@link #HOTEL}
+     * @return The rent, before any doubling for owning the whole group
+     */
+    public static int getRent(int position, int level) {
+        return RENTS[position][level];
+    }
+
+    /**
+     * Gets the rent for landing on a railroad.
+     *
+     * @param railroadsOwned The number of railroads the owner has, 1 to 4
+     * @return The rent
+     */
+    public static int getRailroadRent(int railroadsOwned) {
+        return STANDARD.getRailroadRent(railroadsOwned);
+    }
+
+    /**
+     * Gets the multiple of the dice roll owed for landing on a utility.
+     *
+     * @param utilitiesOwned The number of utilities the owner has, 1 or 2
+     * @return The multiplier, 0 if the owner has none
+     */
+    public static int getUtilityMultiplier(int utilitiesOwned) {
+        return STANDARD.getUtilityMultiplier(utilitiesOwned);
+    }
+
+    /**
+     * Gets the rent row of a property, by development level. Standard properties share
+     * the official row, which must not be modified.
+     *
+     * @param position   The board position
+     * @param price      The property's price
+     * @param colorGroup The property's color group
+     * @return The rent at each development level
+     */
+    static int[] rentsFor(int position, int price, String colorGroup) {
+        return isStandardProperty(position, price, colorGroup) ? RENTS[position] : derive(price, colorGroup);
+    }
+
+    /**
+     * Derives a rent row for a property that is not on the standard board: the base rent
+     * is 10% of the price, and houses and a hotel multiply it by the color group's factors.
+     *
+     * @param price      The property's price
+     * @param colorGroup The property's color group
+     * @return The rent at each development level
+     * @throws IllegalArgumentException If the color group is not one of the eight groups
+     */
+    static int[] derive(int price, String colorGroup) {
+        int baseRent = (int) (price * 0.1);
+        int[] multipliers = GROUP_MULTIPLIERS[groupIndex(colorGroup)];
+        int[] rents = new int[HOTEL + 1];
+        rents[0] = baseRent;
+        for (int level = 1; level <= HOTEL; level++) {
+            rents[level] = baseRent * multipliers[level - 1];
+        }
+        return rents;
+    }
+
+    /**
+     * Gets the house cost for a color group.
+     *
+     * @param colorGroup The color group
+     * @return The house cost
+     */
+    static int houseCostFor(String colorGroup) {
+        return GROUP_HOUSE_COSTS[groupIndex(colorGroup)];
+    }
+
+    private static int groupIndex(String colorGroup) {
+        for (int i = 0; i < COLOR_GROUPS.length; i++) {
+            if (COLOR_GROUPS[i].equalsIgnoreCase(colorGroup)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Invalid color group: " + colorGroup);
+    }
+}
@@ -0,0 +1,41 @@
+package Model.Rules;
+
+import Model.Board.Bank;
+import Model.Board.Player;
+import Model.GameLog;
+import Model.Spaces.Space;
+
+import java.util.List;
+
+/**
+ * What happens to a property, railroad or utility the player landing on it does not buy.
+ */
+public enum DeclineRule {
+    /** The bank auctions it to every player. */
+    AUCTION {
+        @Override
+        public Player declined(Space space, Bank bank, List<Player> players) {
+            return bank.auction(space, players);
+        }
+    },
+    /** It stays with the bank until someone lands on it and buys it. */
+    LEAVE_UNSOLD {
+        @Override
+        public Player declined(Space space, Bank bank, List<Player> players) {
+            if (GameLog.isEnabled()) {
+                System.out.println(space.getName() + " remains with the bank.");
+            }
+            return null;
+        }
+    };
+
+    /**
+     * Handles a space the player landing on it did not buy.
+     *
+     * @param space   The space
+     * @param bank    The bank
+     * @param players The players in the game
+     * @return The player who ended up with the space, or null if nobody did
+     */
+    public abstract Player declined(Space space, Bank bank, List<Player> players);
+}
@@ -0,0 +1,62 @@
+package Model.Rules;
+
+import Model.Board.Player;
+import Model.GameLog;
+import Model.Spaces.FreeParkingSpace;
+
+/**
+ * What happens to taxes and fines, and to a player landing on Free Parking.
+ */
+public enum FreeParkingRule {
+    /** Taxes go to the bank and Free Parking is just a resting place. */
+    STANDARD {
+        @Override
+        public void collect(FreeParkingSpace freeParking, int amount) {
+            // the bank keeps it
+        }
+
+        @Override
+        public int land(Player player, FreeParkingSpace freeParking) {
+            return 0;
+        }
+    },
+    /** Taxes build up a jackpot on Free Parking that the next player to land there collects. */
+    JACKPOT {
+        @Override
+        public void collect(FreeParkingSpace freeParking, int amount) {
+            if (freeParking != null) {
+                freeParking.addMoneyToPool(amount);
+            }
+        }
+
+        @Override
+        public int land(Player player, FreeParkingSpace freeParking) {
+            int jackpot = freeParking.getMoneyPool();
+            if (jackpot > 0) {
+                if (GameLog.isEnabled()) {
+                    System.out.println(player.getName() + " collects $" + jackpot + " from Free Parking!");
+                }
+                player.addMoney(jackpot);
+                freeParking.addMoneyToPool(-jackpot);
+            }
+            return jackpot;
+        }
+    };
+
+    /**
+     * Takes in a tax or fine a player has just paid.
+     *
+     * @param freeParking The board's Free Parking space, or null if it has none
+     * @param amount      The amount paid
+     */
+    public abstract void collect(FreeParkingSpace freeParking, int amount);
+
+    /**
+     * Handles a player landing on Free Parking.
+     *
+     * @param player      The player
+     * @param freeParking The Free Parking space
+     * @return The amount the player collected
+     */
+    public abstract int land(Player player, FreeParkingSpace freeParking);
+}
@@ -0,0 +1,40 @@
+package Model.Rules;
+
+/**
+ * How much the bank pays a player for reaching Go.
+ */
+public enum GoSalary {
+    /** $200 whether the player passes Go or lands on it. */
+    STANDARD {
+        @Override
+        public int landing() {
+            return SALARY;
+        }
+    },
+    /** $200 for passing Go and double that for landing on it. */
+    DOUBLE_ON_LANDING {
+        @Override
+        public int landing() {
+            return 2 * SALARY;
+        }
+    };
+
+    /** The salary for passing Go. */
+    public static final int SALARY = 200;
+
+    /**
+     * Gets the salary for passing Go.
+     *
+     * @return The amount paid
+     */
+    public int passing() {
+        return SALARY;
+    }
+
+    /**
+     * Gets the salary for landing on Go.
+     *
+     * @return The amount paid
+     */
+    public abstract int landing();
+}
@@ -0,0 +1,183 @@
+package Model.Rules;
+
+import Model.BuildingInventory;
+
+/**
+ * The house rules a game is played with, chosen before the game starts.
+ * A HouseRules value is immutable; each {@code with...} method returns a copy with one
+ * rule changed, so variants are built up from {@link #standard()}. The choices are
+ * {@link #compile() compiled} into a {@link RuleSet} of handlers once at setup, and the
+ * turn loop calls those handlers instead of checking any of these flags again.
+ */
+public final class HouseRules {
+    private static final HouseRules STANDARD = new HouseRules(false, false, true, false, true, 0);
+
+    private final boolean freeParkingJackpot;
+    private final boolean doubleSalaryOnGo;
+    private final boolean auctionOnDecline;
+    private final boolean noRentInJail;
+    private final boolean evenBuilding;
+    private final int turnLimit;
+
+    private HouseRules(boolean freeParkingJackpot, boolean doubleSalaryOnGo, boolean auctionOnDecline,
+                       boolean noRentInJail, boolean evenBuilding, int turnLimit) {
+        this.freeParkingJackpot = freeParkingJackpot;
+        this.doubleSalaryOnGo = doubleSalaryOnGo;
+        this.auctionOnDecline = auctionOnDecline;
+        this.noRentInJail = noRentInJail;
+        this.evenBuilding = evenBuilding;
+        this.turnLimit = turnLimit;
+    }
+
+    /**
+     * Gets the official rules: taxes go to the bank, $200 for Go, unbought spaces are auctioned,
+     * owners in jail still collect rent, houses are built evenly and there is no turn limit.
+     *
+     * @return The standard rules
+     */
+    public static HouseRules standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Sets whether taxes go into a jackpot on Free Parking.
+     *
+     * @param enabled true to play with the jackpot
+     * @return The changed rules
+     */
+    public HouseRules withFreeParkingJackpot(boolean enabled) {
+        return new HouseRules(enabled, doubleSalaryOnGo, auctionOnDecline, noRentInJail, evenBuilding, turnLimit);
+    }
+
+    /**
+     * Sets whether landing exactly on Go pays double salary.
+     *
+     * @param enabled true to pay double for landing on Go
+     * @return The changed rules
+     */
+    public HouseRules withDoubleSalaryOnGo(boolean enabled) {
+        return new HouseRules(freeParkingJackpot, enabled, auctionOnDecline, noRentInJail, evenBuilding, turnLimit);
+    }
+
+    /**
+     * Sets whether a space the player landing on it does not buy is auctioned.
+     *
+     * @param enabled true to auction, false to leave the space with the bank
+     * @return The changed rules
+     */
+    public HouseRules withAuctionOnDecline(boolean enabled) {
+        return new HouseRules(freeParkingJackpot, doubleSalaryOnGo, enabled, noRentInJail, evenBuilding, turnLimit);
+    }
+
+    /**
+     * Sets whether owners in jail stop collecting rent.
+     *
+     * @param enabled true if no rent is collected in jail
+     * @return The changed rules
+     */
+    public HouseRules withNoRentInJail(boolean enabled) {
+        return new HouseRules(freeParkingJackpot, doubleSalaryOnGo, auctionOnDecline, enabled, evenBuilding, turnLimit);
+    }
+
+    /**
+     * Sets whether houses must be built and sold evenly across a color group.
+     *
+     * @param enabled true for the even-building rule
+     * @return The changed rules
+     */
+    public HouseRules withEvenBuilding(boolean enabled) {
+        return new HouseRules(freeParkingJackpot, doubleSalaryOnGo, auctionOnDecline, noRentInJail, enabled, turnLimit);
+    }
+
+    /**
+     * Sets the number of turns after which the game ends and the richest player wins.
+     *
+     * @param turns The turn limit, or 0 for no limit
+     * @return The changed rules
+     */
+    public HouseRules withTurnLimit(int turns) {
+        if (turns < 0) {
+            throw new IllegalArgumentException("Invalid turn limit: " + turns);
+        }
+        return new HouseRules(freeParkingJackpot, doubleSalaryOnGo, auctionOnDecline, noRentInJail, evenBuilding, turns);
+    }
+
+    /**
+     * Checks whether taxes go into a jackpot on Free Parking.
+     *
+     * @return true if playing with the jackpot
+     */
+    public boolean isFreeParkingJackpot() {
+        return freeParkingJackpot;
+    }
+
+    /**
+     * Checks whether landing exactly on Go pays double salary.
+     *
+     * @return true if landing on Go pays double
+     */
+    public boolean isDoubleSalaryOnGo() {
+        return doubleSalaryOnGo;
+    }
+
+    /**
+     * Checks whether unbought spaces are auctioned.
+     *
+     * @return true if they are auctioned
+     */
+    public boolean isAuctionOnDecline() {
+        return auctionOnDecline;
+    }
+
+    /**
+     * Checks whether owners in jail stop collecting rent.
+     *
+     * @return true if no rent is collected in jail
+     */
+    public boolean isNoRentInJail() {
+        return noRentInJail;
+    }
+
+    /**
+     * Checks whether houses must be built evenly.
+     *
+     * @return true for the even-building rule
+     */
+    public boolean isEvenBuilding() {
+        return evenBuilding;
+    }
+
+    /**
+     * Gets the turn limit.
+     *
+     * @return The turn limit, or 0 for no limit
+     */
+    public int getTurnLimit() {
+        return turnLimit;
+    }
+
+    /**
+     * Turns these choices into the handlers the game calls during play.
+     *
+     * @return The compiled rules
+     */
+    public RuleSet compile() {
+        return new RuleSet(
+                doubleSalaryOnGo ? GoSalary.DOUBLE_ON_LANDING : GoSalary.STANDARD,
+                freeParkingJackpot ? FreeParkingRule.JACKPOT : FreeParkingRule.STANDARD,
+                noRentInJail ? RentRule.NO_RENT_IN_JAIL : RentRule.STANDARD,
+                auctionOnDecline ? DeclineRule.AUCTION : DeclineRule.LEAVE_UNSOLD,
+                evenBuilding ? 1 : BuildingInventory.HOTEL,
+                turnLimit == 0 ? Integer.MAX_VALUE : turnLimit);
+    }
+
+    @Override
+    public String toString() {
+        return "HouseRules{freeParkingJackpot=" + freeParkingJackpot
+                + ", doubleSalaryOnGo=" + doubleSalaryOnGo
+                + ", auctionOnDecline=" + auctionOnDecline
+                + ", noRentInJail=" + noRentInJail
+                + ", evenBuilding=" + evenBuilding
+                + ", turnLimit=" + turnLimit + "}";
+    }
+}
@@ -0,0 +1,33 @@
+package Model.Rules;
+
+import Model.Board.Player;
+import Model.GameState;
+
+/**
+ * Whether an owner collects rent.
+ */
+public enum RentRule {
+    /** Owners always collect rent, even from jail. */
+    STANDARD {
+        @Override
+        public boolean collects(Player owner, GameState gameState) {
+            return true;
+        }
+    },
+    /** Owners collect nothing while they are in jail. */
+    NO_RENT_IN_JAIL {
+        @Override
+        public boolean collects(Player owner, GameState gameState) {
+            return !gameState.isPlayerInJail(owner);
+        }
+    };
+
+    /**
+     * Checks whether an owner collects the rent due to them right now.
+     *
+     * @param owner     The owner
+     * @param gameState The current game state
+     * @return true if the rent must be paid
+     */
+    public abstract boolean collects(Player owner, GameState gameState);
+}
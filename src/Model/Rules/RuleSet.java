@@ -0,0 +1,101 @@
+package Model.Rules;
+
+import Model.Board.Bank;
+
+/**
+ * A game's house rules compiled into the handlers the turn loop calls. Each rule is a handler
+ * chosen once from {@link HouseRules}, so play never branches on a rule flag: the controller
+ * calls the same method whichever variant is in force.
+ */
+public final class RuleSet {
+    private static final RuleSet STANDARD = HouseRules.standard().compile();
+
+    private final GoSalary goSalary;
+    private final FreeParkingRule freeParking;
+    private final RentRule rentRule;
+    private final DeclineRule declineRule;
+    private final int maxBuildSpread;
+    private final int turnLimit;
+
+    RuleSet(GoSalary goSalary, FreeParkingRule freeParking, RentRule rentRule, DeclineRule declineRule,
+            int maxBuildSpread, int turnLimit) {
+        this.goSalary = goSalary;
+        this.freeParking = freeParking;
+        this.rentRule = rentRule;
+        this.declineRule = declineRule;
+        this.maxBuildSpread = maxBuildSpread;
+        this.turnLimit = turnLimit;
+    }
+
+    /**
+     * Gets the compiled official rules.
+     *
+     * @return The standard rule set
+     */
+    public static RuleSet standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Gets the salary paid for reaching Go.
+     *
+     * @return The Go salary rule
+     */
+    public GoSalary getGoSalary() {
+        return goSalary;
+    }
+
+    /**
+     * Gets what happens to taxes and on Free Parking.
+     *
+     * @return The Free Parking rule
+     */
+    public FreeParkingRule getFreeParking() {
+        return freeParking;
+    }
+
+    /**
+     * Gets whether owners collect rent.
+     *
+     * @return The rent rule
+     */
+    public RentRule getRentRule() {
+        return rentRule;
+    }
+
+    /**
+     * Gets what happens to spaces nobody buys on landing.
+     *
+     * @return The decline rule
+     */
+    public DeclineRule getDeclineRule() {
+        return declineRule;
+    }
+
+    /**
+     * Gets how far apart building levels in a color group may be.
+     *
+     * @return 1 for even building
+     */
+    public int getMaxBuildSpread() {
+        return maxBuildSpread;
+    }
+
+    /**
+     * Gets the number of turns after which the game ends.
+     *
+     * @return The turn limit, {@link Integer#MAX_VALUE} when there is none
+     */
+    public int getTurnLimit() {
+        return turnLimit;
+    }
+
+    /**
+     * Sets up the bank for these rules.
+     *
+     * @param bank The game's bank
+     */
+    public void applyTo(Bank bank) {
+        bank.getBuildingInventory().setMaxSpread(maxBuildSpread);
+    }
+}
@@ -5,6 +5,7 @@ package Model.Spaces;
  * Author: Marena Abboud
  */
 import Model.Board.Player;
+import Model.GameLog;
 import Model.GameState;
 
 
@@ -17,7 +18,16 @@ public class FreeParkingSpace extends SpecialSpace {
      * In standard Monopoly, landing on Free Parking has no effect.
      */
     public FreeParkingSpace() {
-        super("Free Parking", 20, "Free Parking");
+        this(20);
+    }
+
+    /**
+     * Constructs a Free Parking space at a given position, for boards laid out differently.
+     *
+     * @param position The position on the board
+     */
+    public FreeParkingSpace(int position) {
+        super("Free Parking", position, "Free Parking");
         this.moneyPool = 0;
     }
 
@@ -32,10 +42,14 @@ public class FreeParkingSpace extends SpecialSpace {
      * @param useHouseRules Whether to use the house rule where player collects money
      */
     public void onLand(Model.Board.Player player, Model.GameState gameState, boolean useHouseRules) {
-        System.out.println(player.getName() + " landed on Free Parking.");
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " landed on Free Parking.");
+        }
 
         if (useHouseRules && moneyPool > 0) {
-            System.out.println(player.getName() + " collects $" + moneyPool + " from Free Parking!");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " collects $" + moneyPool + " from Free Parking!");
+            }
             player.addMoney(moneyPool);
             moneyPool = 0; // Reset the money pool
         }
@@ -64,13 +78,17 @@ public class FreeParkingSpace extends SpecialSpace {
 
     /**
      * Author: Marena Abboud
-     * Default version of onLand that uses standard rules (no money collection).
+     * Default version of onLand that follows the game's house rules, so the pot is only
+     * paid out when the game is played with the Free Parking jackpot.
      *
      * @param player The player who landed on Free Parking
      * @param gameState The current game state
      */
     public void onLand(Model.Board.Player player, Model.GameState gameState) {
-        onLand(player, gameState, false);
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " landed on Free Parking.");
+        }
+        gameState.getRules().getFreeParking().land(player, this);
     }
 
     /**
@@ -79,6 +97,6 @@ public class FreeParkingSpace extends SpecialSpace {
      */
     @Override
     public void playerOnSpecialSpace() {
-        System.out.println("Player landed on Free Parking");
+        GameLog.print("Player landed on Free Parking");
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package Model.Spaces;
 
 import Model.Board.Player;
+import Model.GameLog;
 import Model.GameState;
 
 /**
@@ -22,14 +23,17 @@ public class GoSpace extends SpecialSpace {
     /**
      * Author: Marena
      * Handles a player landing directly on the Go space.
-     * Players collect $200 when landing on Go.
+     * Players collect $200 when landing on Go, or more if the game's house rules say so.
      *
      * @param player The player who landed on Go
      * @param gameState The current game state
      */
     public void onLand(Model.Board.Player player, Model.GameState gameState) {
-        System.out.println(player.getName() + " landed on Go and collects $" + GO_AMOUNT);
-        player.addMoney(GO_AMOUNT);
+        int salary = gameState.getRules().getGoSalary().landing();
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " landed on Go and collects $" + salary);
+        }
+        player.addMoney(salary);
     }
 
     /**
@@ -41,7 +45,9 @@ public class GoSpace extends SpecialSpace {
      * @param gameState The current game state
      */
     public static void onPass(Model.Board.Player player, Model.GameState gameState) {
-        System.out.println(player.getName() + " passed Go and collects $" + GO_AMOUNT);
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " passed Go and collects $" + GO_AMOUNT);
+        }
         player.addMoney(GO_AMOUNT);
     }
 
@@ -55,7 +61,9 @@ public class GoSpace extends SpecialSpace {
      */
     public static void moveToGo(Model.Board.Player player, Model.GameState gameState) {
         player.setPosition(0);
-        System.out.println(player.getName() + " moved to Go and collects $" + GO_AMOUNT);
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " moved to Go and collects $" + GO_AMOUNT);
+        }
         player.addMoney(GO_AMOUNT);
     }
 
@@ -65,6 +73,8 @@ public class GoSpace extends SpecialSpace {
      */
     @Override
     public void playerOnSpecialSpace() {
-        System.out.println("Player landed on Go and collects $" + GO_AMOUNT);
+        if (GameLog.isEnabled()) {
+            System.out.println("Player landed on Go and collects $" + GO_AMOUNT);
+        }
     }
 }
\ No newline at end of file
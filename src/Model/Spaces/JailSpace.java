@@ -1,6 +1,7 @@
 package Model.Spaces;
 
 import Model.Board.Player;
+import Model.GameLog;
 import Model.GameState;
 
 /**
@@ -16,7 +17,16 @@ public class JailSpace extends SpecialSpace {
      * Constructs a Jail space on the Monopoly board.
      */
     public JailSpace() {
-        super("Jail", 10, "Jail");
+        this(10);
+    }
+
+    /**
+     * Constructs a Jail space at a given position, for boards laid out differently.
+     *
+     * @param position The position on the board
+     */
+    public JailSpace(int position) {
+        super("Jail", position, "Jail");
     }
 
     /**
@@ -28,7 +38,7 @@ public class JailSpace extends SpecialSpace {
      */
     public void onLand(Model.Board.Player player, Model.GameState gameState) {
         // If the player is not sent to jail, they're just visiting
-        if (!gameState.isPlayerInJail(player)) {
+        if (!gameState.isPlayerInJail(player) && GameLog.isEnabled()) {
             System.out.println(player.getName() + " is just visiting Jail.");
         }
     }
@@ -42,9 +52,10 @@ public class JailSpace extends SpecialSpace {
      * @param gameState The current game state
      */
     public static void goToJail(Model.Board.Player player, Model.GameState gameState) {
-        player.setPosition(10); // Jail is at position 10 on the board
         gameState.sendToJail(player);
-        System.out.println(player.getName() + " has been sent to Jail!");
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " has been sent to Jail!");
+        }
     }
 
     /**
@@ -59,10 +70,14 @@ public class JailSpace extends SpecialSpace {
         if (gameState.isPlayerInJail(player) && player.getMoney() >= JAIL_FEE) {
             player.subtractMoney(JAIL_FEE);
             gameState.releaseFromJail(player);
-            System.out.println(player.getName() + " paid $" + JAIL_FEE + " to get out of Jail.");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " paid $" + JAIL_FEE + " to get out of Jail.");
+            }
             return true;
         } else if (gameState.isPlayerInJail(player)) {
-            System.out.println(player.getName() + " doesn't have enough money to pay the Jail fee.");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " doesn't have enough money to pay the Jail fee.");
+            }
             return false;
         }
         return false;
@@ -81,17 +96,23 @@ public class JailSpace extends SpecialSpace {
             int roll = gameState.rollDice();
             int[] diceValues = gameState.getDiceValues();
 
-            System.out.println(player.getName() + " rolled " + diceValues[0] + " and " + diceValues[1]);
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " rolled " + diceValues[0] + " and " + diceValues[1]);
+            }
 
             if (diceValues[0] == diceValues[1]) {
                 gameState.releaseFromJail(player);
-                System.out.println(player.getName() + " rolled doubles and is out of Jail!");
+                if (GameLog.isEnabled()) {
+                    System.out.println(player.getName() + " rolled doubles and is out of Jail!");
+                }
                 // Move the player based on the roll
                 int newPosition = (player.getPosition() + roll) % gameState.getBoard().getSpaces().size();
                 player.setPosition(newPosition);
                 return true;
             } else {
-                System.out.println(player.getName() + " failed to roll doubles and remains in Jail.");
+                if (GameLog.isEnabled()) {
+                    System.out.println(player.getName() + " failed to roll doubles and remains in Jail.");
+                }
                 return false;
             }
         }
@@ -115,7 +136,9 @@ public class JailSpace extends SpecialSpace {
         if (gameState.isPlayerInJail(player) && hasCard) {
             gameState.releaseFromJail(player);
             player.setHasGetOutOfJailFreeCard(false);
-            System.out.println(player.getName() + " used a Get Out of Jail Free card!");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " used a Get Out of Jail Free card!");
+            }
             return true;
         }
         return false;
@@ -127,6 +150,6 @@ public class JailSpace extends SpecialSpace {
      */
     @Override
     public void playerOnSpecialSpace() {
-        System.out.println("Player is at Jail (Just Visiting)");
+        GameLog.print("Player is at Jail (Just Visiting)");
     }
 }
@@ -0,0 +1,90 @@
+package Model.Spaces;
+
+import Model.Board.Player;
+import Model.GameState;
+
+/**
+ * A space that can be bought, owned, mortgaged and charged rent on:
+ * properties, railroads and utilities.
+ */
+public interface Ownable {
+
+    /**
+     * Gets the name of the space.
+     *
+     * @return The name
+     */
+    String getName();
+
+    /**
+     * Gets the position of the space on the board.
+     *
+     * @return The position
+     */
+    int getPosition();
+
+    /**
+     * Gets the list price of the space.
+     *
+     * @return The price
+     */
+    int getPrice();
+
+    /**
+     * Gets the owner of the space.
+     *
+     * @return The owner, or null if the bank holds it
+     */
+    Player getOwner();
+
+    /**
+     * Sets the owner of the space.
+     *
+     * @param owner The new owner, or null to return it to the bank
+     */
+    void setOwner(Player owner);
+
+    /**
+     * Checks if the space is owned.
+     *
+     * @return true if a player owns it
+     */
+    boolean isOwned();
+
+    /**
+     * Checks if the space is mortgaged.
+     *
+     * @return true if it is mortgaged
+     */
+    boolean isMortgaged();
+
+    /**
+     * Sets the mortgage status of the space.
+     *
+     * @param mortgaged The new mortgage status
+     */
+    void setMortgaged(boolean mortgaged);
+
+    /**
+     * Gets the cash the bank lends against the space.
+     *
+     * @return The mortgage value
+     */
+    int getMortgageValue();
+
+    /**
+     * Gets the cost to lift the mortgage: the mortgage value plus 10% interest.
+     *
+     * @return The unmortgage cost
+     */
+    int getUnmortgageCost();
+
+    /**
+     * Calculates the rent a player landing on the space owes its owner.
+     *
+     * @param gameState The current game state
+     * @param diceRoll  The roll that brought the player here, used by utilities
+     * @return The rent, 0 if unowned or mortgaged
+     */
+    int calculateRent(GameState gameState, int diceRoll);
+}
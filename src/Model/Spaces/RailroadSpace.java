@@ -1,20 +1,18 @@
 package Model.Spaces;
 
 import Model.Board.Player;
+import Model.GameLog;
 import Model.GameState;
 
-import java.util.List;
-
 /**
  * Author: Marena
  * Model.Spaces.RailroadSpace.java
  * this class represents a railroad space on the Monopoly board.
  * It extends the Model.Spaces.Space class.
  */
-public class RailroadSpace extends Space {
+public class RailroadSpace extends Space implements Ownable {
     private int price;
-    private Model.Board.Player owner;
-    private final int BASE_RENT = 25;
+    private boolean mortgaged;
 
     /**
      * Author: Marena
@@ -24,9 +22,19 @@ public class RailroadSpace extends Space {
      * @param position The position on the board
      */
     public RailroadSpace(String name, int position) {
+        this(name, position, 200); // Standard price for railroads in Monopoly
+    }
+
+    /**
+     * Constructs a railroad space with its own price.
+     *
+     * @param name     The name of the railroad
+     * @param position The position on the board
+     * @param price    The price of the railroad
+     */
+    public RailroadSpace(String name, int position, int price) {
         super(name, position, "Railroad");
-        this.price = 200; // Standard price for railroads in Monopoly
-        this.owner = null;
+        this.price = price;
     }
 
     /**
@@ -35,38 +43,68 @@ public class RailroadSpace extends Space {
      *
      * @return The price of the railroad
      */
+    @Override
     public int getPrice() {
         return price;
     }
 
     /**
-     * Author: Aiden Clare
-     * Sets the owner of the railroad.
+     * Author: Marena
+     * Checks if the railroad is owned.
      *
-     * @param owner The player who owns the railroad
+     * @return True if the railroad is owned, false otherwise
      */
-    public void setOwner(Model.Board.Player owner) {
-        this.owner = owner;
+    public boolean isOwned() {
+        return owner != null;
     }
 
     /**
-     * Author: Aiden Clare
-     * Gets the owner of the railroad.
+     * Checks if the railroad is mortgaged.
      *
-     * @return The owner of the railroad
+     * @return True if the railroad is mortgaged, false otherwise
      */
-    public Model.Board.Player getOwner() {
-        return owner;
+    @Override
+    public boolean isMortgaged() {
+        return mortgaged;
     }
 
     /**
-     * Author: Marena
-     * Checks if the railroad is owned.
+     * Sets the mortgage status of the railroad.
      *
-     * @return True if the railroad is owned, false otherwise
+     * @param mortgaged The new mortgage status
      */
-    public boolean isOwned() {
-        return owner != null;
+    @Override
+    public void setMortgaged(boolean mortgaged) {
+        if (owner != null) {
+            owner.getNetWorth().remove(this);
+        }
+        this.mortgaged = mortgaged;
+        if (owner != null) {
+            owner.getNetWorth().add(this);
+        }
+        if (getOwnershipIndex() != null) {
+            getOwnershipIndex().mortgageChanged(this);
+        }
+    }
+
+    /**
+     * Gets the mortgage value of the railroad.
+     *
+     * @return The mortgage value (half the purchase price)
+     */
+    @Override
+    public int getMortgageValue() {
+        return price / 2;
+    }
+
+    /**
+     * Gets the cost to unmortgage the railroad.
+     *
+     * @return The unmortgage cost (mortgage value plus 10% interest)
+     */
+    @Override
+    public int getUnmortgageCost() {
+        return (int) (getMortgageValue() * 1.1);
     }
 
     /**
@@ -79,33 +117,32 @@ public class RailroadSpace extends Space {
      * @return The rent amount to be paid
      */
     public int calculateRent(Model.GameState gameState) {
-        if (owner == null) {
+        if (owner == null || mortgaged) {
             return 0;
         }
 
         // Count how many railroads the owner has
-        int railroadCount = 0;
-        List<Space> spaces = gameState.getBoard().getSpaces();
-
-        for (Space space : spaces) {
-            if (space instanceof RailroadSpace) {
-                RailroadSpace railroad = (RailroadSpace) space;
-                Model.Board.Player railroadOwner = railroad.getOwner();
-
-                // Check if this railroad has the same owner as the current railroad
-                if (railroadOwner != null && railroadOwner.getName().equals(owner.getName())) {
-                    railroadCount++;
-                }
-            }
-        }
+        int railroadCount = gameState.getBoard().getOwnershipIndex().count(owner, RailroadSpace.class);
 
         // Make sure railroadCount is at least 1 if this railroad has an owner
         if (railroadCount == 0) {
             railroadCount = 1;
         }
 
-        // Calculate rent: 25 for 1 railroad, 50 for 2, 100 for 3, 200 for 4
-        return BASE_RENT * (int) Math.pow(2, railroadCount - 1);
+        // Rent: 25 for 1 railroad, 50 for 2, 100 for 3, 200 for 4 on the standard board
+        return gameState.getBoard().getDefinition().getRailroadRent(railroadCount);
+    }
+
+    /**
+     * Calculates the rent for this railroad; the dice roll does not matter.
+     *
+     * @param gameState The current game state
+     * @param diceRoll  The dice roll, ignored
+     * @return The rent amount to be paid
+     */
+    @Override
+    public int calculateRent(GameState gameState, int diceRoll) {
+        return calculateRent(gameState);
     }
 
     /**
@@ -116,10 +153,14 @@ public class RailroadSpace extends Space {
      * @param gameState The current game state
      */
     public void onLand(Model.Board.Player player, Model.GameState gameState) {
-        System.out.println(player.getName() + " landed on " + name);
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " landed on " + name);
+        }
 
         if (!isOwned()) {
-            System.out.println(name + " is not owned. It costs $" + price);
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " is not owned. It costs $" + price);
+            }
             // Logic for player to decide to buy would be handled elsewhere
             if (player.getMoney() >= price) {
                 boolean wantToBuy = true; // In a real game, this would be a player decision
@@ -127,14 +168,24 @@ public class RailroadSpace extends Space {
                     player.buyRailroad(this);
                 }
             } else {
-                System.out.println(player.getName() + " cannot afford to buy " + name);
+                if (GameLog.isEnabled()) {
+                    System.out.println(player.getName() + " cannot afford to buy " + name);
+                }
+            }
+        } else if (owner != player && mortgaged) {
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " is mortgaged, no rent is due.");
             }
         } else if (owner != player) {
             int rent = calculateRent(gameState);
-            System.out.println(player.getName() + " must pay $" + rent + " to " + owner.getName());
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " must pay $" + rent + " to " + owner.getName());
+            }
             player.payRent(owner, rent);
         } else {
-            System.out.println("You own this railroad.");
+            if (GameLog.isEnabled()) {
+                System.out.println("You own this railroad.");
+            }
         }
     }
 
@@ -155,6 +206,8 @@ public class RailroadSpace extends Space {
      */
     @Override
     public void playerOnRailroad() {
-        System.out.println("Player landed on railroad " + name);
+        if (GameLog.isEnabled()) {
+            System.out.println("Player landed on railroad " + name);
+        }
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package Model.Spaces;
 
+import Model.Board.OwnershipIndex;
 import Model.Board.Player;
+import Model.GameLog;
 
 /**
  * Author: Marena
@@ -14,6 +16,7 @@ public abstract class Space {
     protected String type;
     protected Player owner;
     protected String colorGroup;
+    private OwnershipIndex ownershipIndex;
 
     /**
      * Author: Aiden Clare
@@ -52,7 +55,49 @@ public abstract class Space {
      * @param owner The player who owns the space
      */
     public void setOwner(Player owner) {
+        Player oldOwner = this.owner;
         this.owner = owner;
+        updateOwnerNetWorth(oldOwner, owner);
+        if (ownershipIndex != null && this instanceof Ownable) {
+            ownershipIndex.ownerChanged((Ownable) this, oldOwner, owner);
+        }
+    }
+
+    /**
+     * Gets the ownership index of the board this space is on.
+     *
+     * @return The index, or null if the space is not on a board
+     */
+    public OwnershipIndex getOwnershipIndex() {
+        return ownershipIndex;
+    }
+
+    /**
+     * Sets the ownership index this space reports changes of owner to.
+     * Called by the index when it starts tracking the space.
+     *
+     * @param ownershipIndex The index
+     */
+    public void setOwnershipIndex(OwnershipIndex ownershipIndex) {
+        this.ownershipIndex = ownershipIndex;
+    }
+
+    /**
+     * Moves this space's contribution to net worth from its old owner to its new owner.
+     *
+     * @param oldOwner The previous owner, or null
+     * @param newOwner The new owner, or null
+     */
+    protected void updateOwnerNetWorth(Player oldOwner, Player newOwner) {
+        if (oldOwner == newOwner) {
+            return;
+        }
+        if (oldOwner != null) {
+            oldOwner.getNetWorth().remove(this);
+        }
+        if (newOwner != null) {
+            newOwner.getNetWorth().add(this);
+        }
     }
 
     /**
@@ -79,7 +124,14 @@ public abstract class Space {
      * @param colorGroup The color group to set
      */
     public void setColorGroup(String colorGroup) {
+        // Building costs depend on the color group, so the owner's net worth may change
+        if (owner != null) {
+            owner.getNetWorth().remove(this);
+        }
         this.colorGroup = colorGroup;
+        if (owner != null) {
+            owner.getNetWorth().add(this);
+        }
     }
 
     /**
@@ -87,7 +139,9 @@ public abstract class Space {
      * Method for handling a player landing on a special space.
      */
     public void playerOnSpecialSpace(){
-        System.out.println("Player landed on "+ name );
+        if (GameLog.isEnabled()) {
+            System.out.println("Player landed on "+ name );
+        }
     }
 
     /**
@@ -95,7 +149,9 @@ public abstract class Space {
      * Method for handling a player landing on a property.
      */
     public void playerOnProperty(){
-        System.out.println("Player landed on property " + name);
+        if (GameLog.isEnabled()) {
+            System.out.println("Player landed on property " + name);
+        }
     }
 
     /**
@@ -103,7 +159,9 @@ public abstract class Space {
      * Method for handling a player landing on a railroad.
      */
     public void playerOnRailroad(){
-        System.out.println("Player landed on railroad " + name);
+        if (GameLog.isEnabled()) {
+            System.out.println("Player landed on railroad " + name);
+        }
     }
 
     /**
@@ -111,7 +169,9 @@ public abstract class Space {
      * Method for handling a player landing on a card space.
      */
     public void playerOnCardSpace(){
-        System.out.println("Player landed on card space " + name);
+        if (GameLog.isEnabled()) {
+            System.out.println("Player landed on card space " + name);
+        }
     }
 
     /**
@@ -5,12 +5,13 @@ package Model.Spaces;
  * The rent depends on the dice roll and how many utilities the owner has.
  */
 import Model.Board.Player;
+import Model.GameLog;
 import Model.GameState;
 
 
-public class UtilitySpace extends Space {
+public class UtilitySpace extends Space implements Ownable {
     private int price;
-    private Model.Board.Player owner;
+    private boolean mortgaged;
     private static final int PRICE = 150; // Standard price for utilities in Monopoly
 
     /**
@@ -21,9 +22,19 @@ public class UtilitySpace extends Space {
      * @param position The position on the board
      */
     public UtilitySpace(String name, int position) {
+        this(name, position, PRICE);
+    }
+
+    /**
+     * Constructs a utility space with its own price.
+     *
+     * @param name     The name of the utility
+     * @param position The position on the board
+     * @param price    The price of the utility
+     */
+    public UtilitySpace(String name, int position, int price) {
         super(name, position, "Utility");
-        this.price = PRICE;
-        this.owner = null;
+        this.price = price;
     }
 
     /**
@@ -32,38 +43,68 @@ public class UtilitySpace extends Space {
      *
      * @return The price of the utility
      */
+    @Override
     public int getPrice() {
         return price;
     }
 
     /**
      * Author: Marena
-     * Sets the owner of the utility.
+     * Checks if the utility is owned.
      *
-     * @param owner The player who owns the utility
+     * @return True if the utility is owned, false otherwise
      */
-    public void setOwner(Model.Board.Player owner) {
-        this.owner = owner;
+    public boolean isOwned() {
+        return owner != null;
     }
 
     /**
-     * Author: Marena
-     * Gets the owner of the utility.
+     * Checks if the utility is mortgaged.
      *
-     * @return The owner of the utility
+     * @return True if the utility is mortgaged, false otherwise
      */
-    public Model.Board.Player getOwner() {
-        return owner;
+    @Override
+    public boolean isMortgaged() {
+        return mortgaged;
     }
 
     /**
-     * Author: Marena
-     * Checks if the utility is owned.
+     * Sets the mortgage status of the utility.
      *
-     * @return True if the utility is owned, false otherwise
+     * @param mortgaged The new mortgage status
      */
-    public boolean isOwned() {
-        return owner != null;
+    @Override
+    public void setMortgaged(boolean mortgaged) {
+        if (owner != null) {
+            owner.getNetWorth().remove(this);
+        }
+        this.mortgaged = mortgaged;
+        if (owner != null) {
+            owner.getNetWorth().add(this);
+        }
+        if (getOwnershipIndex() != null) {
+            getOwnershipIndex().mortgageChanged(this);
+        }
+    }
+
+    /**
+     * Gets the mortgage value of the utility.
+     *
+     * @return The mortgage value (half the purchase price)
+     */
+    @Override
+    public int getMortgageValue() {
+        return price / 2;
+    }
+
+    /**
+     * Gets the cost to unmortgage the utility.
+     *
+     * @return The unmortgage cost (mortgage value plus 10% interest)
+     */
+    @Override
+    public int getUnmortgageCost() {
+        return (int) (getMortgageValue() * 1.1);
     }
 
     /**
@@ -77,29 +118,27 @@ public class UtilitySpace extends Space {
      * @return The rent amount to be paid
      */
     public int calculateRent(int diceRoll, Model.GameState gameState) {
-        if (owner == null) {
+        if (owner == null || mortgaged) {
             return 0;
         }
 
         // Count how many utilities the owner has
-        int utilityCount = 0;
-        for (Space space : gameState.getBoard().getSpaces()) {
-            if (space instanceof UtilitySpace) {
-                UtilitySpace utility = (UtilitySpace) space;
-                if (utility.getOwner() == owner) {
-                    utilityCount++;
-                }
-            }
-        }
+        int utilityCount = gameState.getBoard().getOwnershipIndex().count(owner, UtilitySpace.class);
 
-        // Calculate rent based on utility count
-        if (utilityCount == 1) {
-            return 4 * diceRoll;
-        } else if (utilityCount == 2) {
-            return 10 * diceRoll;
-        }
+        // Rent is 4 times the dice roll with 1 utility, 10 times with 2 on the standard board
+        return gameState.getBoard().getDefinition().getUtilityMultiplier(utilityCount) * diceRoll;
+    }
 
-        return 0; // Should never reach here
+    /**
+     * Calculates the rent for this utility.
+     *
+     * @param gameState The current game state
+     * @param diceRoll  The value of the dice roll
+     * @return The rent amount to be paid
+     */
+    @Override
+    public int calculateRent(GameState gameState, int diceRoll) {
+        return calculateRent(diceRoll, gameState);
     }
 
     /**
@@ -110,10 +149,14 @@ public class UtilitySpace extends Space {
      * @param gameState The current game state
      */
     public void onLand(Model.Board.Player player, Model.GameState gameState) {
-        System.out.println(player.getName() + " landed on " + name);
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " landed on " + name);
+        }
 
         if (!isOwned()) {
-            System.out.println(name + " is not owned. It costs $" + price);
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " is not owned. It costs $" + price);
+            }
             // Logic for player to decide to buy would be handled elsewhere
             if (player.getMoney() >= price) {
                 boolean wantToBuy = true; // In a real game, this would be a player decision
@@ -121,18 +164,28 @@ public class UtilitySpace extends Space {
                     player.buyUtility(this);
                 }
             } else {
-                System.out.println(player.getName() + " cannot afford to buy " + name);
+                if (GameLog.isEnabled()) {
+                    System.out.println(player.getName() + " cannot afford to buy " + name);
+                }
+            }
+        } else if (owner != player && mortgaged) {
+            if (GameLog.isEnabled()) {
+                System.out.println(name + " is mortgaged, no rent is due.");
             }
         } else if (owner != player) {
             // Roll dice to determine rent
             int diceRoll = gameState.rollDice();
             int rent = calculateRent(diceRoll, gameState);
 
-            System.out.println(player.getName() + " rolled " + diceRoll + " and must pay $" + rent +
-                    " to " + owner.getName());
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " rolled " + diceRoll + " and must pay $" + rent +
+                        " to " + owner.getName());
+            }
             player.payRent(owner, rent);
         } else {
-            System.out.println(player.getName() + " owns this utility.");
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " owns this utility.");
+            }
         }
     }
 
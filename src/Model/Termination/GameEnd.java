@@ -0,0 +1,36 @@
+package Model.Termination;
+
+/**
+ * Why a game ended. Only a game won by bankrupting everyone else has an outright winner;
+ * a game stopped early goes to the player with the highest net worth.
+ */
+public enum GameEnd {
+    LAST_PLAYER_STANDING("Every other player is bankrupt."),
+    TURN_LIMIT("The turn limit has been reached."),
+    STALEMATE("Nothing has changed hands in too long."),
+    TIME_LIMIT("The time limit has been reached.");
+
+    private final String message;
+
+    GameEnd(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Gets a line describing why the game ended.
+     *
+     * @return The message
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Checks whether the winner is the player with the highest net worth.
+     *
+     * @return true for games that were stopped before one player was left
+     */
+    public boolean isDecidedByNetWorth() {
+        return this != LAST_PLAYER_STANDING;
+    }
+}
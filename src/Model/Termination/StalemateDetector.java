@@ -0,0 +1,88 @@
+package Model.Termination;
+
+import Model.Board.Bank;
+import Model.BuildingInventory;
+import Model.GameState;
+
+/**
+ * Stops a game that has stopped going anywhere. Progress means a space changing hands,
+ * a house or hotel being built or sold, or a player going bankrupt; cash drifting between
+ * players through rent, taxes and salaries does not count. When a given number of full
+ * rounds pass without progress the game is a stalemate, since cautious strategies that
+ * neither buy nor build can otherwise circle the board forever.
+ */
+public class StalemateDetector implements TerminationPolicy {
+    private final int rounds;
+    private int ownershipChanges;
+    private int housesAvailable;
+    private int hotelsAvailable;
+    private int playerCount;
+    private int lastProgressTurn;
+
+    /**
+     * Constructs a stalemate detector.
+     *
+     * @param rounds The number of full rounds without progress that make a stalemate
+     */
+    public StalemateDetector(int rounds) {
+        if (rounds < 1) {
+            throw new IllegalArgumentException("Invalid number of rounds: " + rounds);
+        }
+        this.rounds = rounds;
+    }
+
+    /**
+     * Gets the number of full rounds without progress that make a stalemate.
+     *
+     * @return The number of rounds
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Gets the turn in which the game last made progress.
+     *
+     * @return The number of turns played when progress was last seen
+     */
+    public int getLastProgressTurn() {
+        return lastProgressTurn;
+    }
+
+    @Override
+    public void reset(GameState gameState) {
+        remember(gameState);
+    }
+
+    @Override
+    public GameEnd check(GameState gameState) {
+        if (madeProgress(gameState)) {
+            remember(gameState);
+            return null;
+        }
+        int turnsWithoutProgress = gameState.getTurnsPlayed() - lastProgressTurn;
+        return turnsWithoutProgress >= rounds * playerCount ? GameEnd.STALEMATE : null;
+    }
+
+    private boolean madeProgress(GameState gameState) {
+        BuildingInventory buildings = buildings(gameState);
+        return gameState.getBoard().getOwnershipIndex().getChangeCount() != ownershipChanges
+                || (buildings != null && buildings.getAvailableHouses() != housesAvailable)
+                || (buildings != null && buildings.getAvailableHotels() != hotelsAvailable)
+                || gameState.getPlayers().size() != playerCount;
+    }
+
+    private void remember(GameState gameState) {
+        BuildingInventory buildings = buildings(gameState);
+        ownershipChanges = gameState.getBoard().getOwnershipIndex().getChangeCount();
+        housesAvailable = buildings == null ? 0 : buildings.getAvailableHouses();
+        hotelsAvailable = buildings == null ? 0 : buildings.getAvailableHotels();
+        playerCount = gameState.getPlayers().size();
+        lastProgressTurn = gameState.getTurnsPlayed();
+    }
+
+    private static BuildingInventory buildings(GameState gameState) {
+        Bank bank = gameState.getBank();
+        return bank == null ? null : bank.getBuildingInventory();
+    }
+}
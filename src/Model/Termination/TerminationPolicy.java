@@ -0,0 +1,25 @@
+package Model.Termination;
+
+import Model.GameState;
+
+/**
+ * A condition that stops a game before only one player is left. The game checks its
+ * policies after every completed turn, so a check should be cheap and must not allocate.
+ */
+public interface TerminationPolicy {
+    /**
+     * Starts watching a new game. Called when the policy is added to a game and whenever
+     * the game is initialized again.
+     *
+     * @param gameState The game
+     */
+    void reset(GameState gameState);
+
+    /**
+     * Checks whether the game should stop.
+     *
+     * @param gameState The game
+     * @return Why the game should end, or null to keep playing
+     */
+    GameEnd check(GameState gameState);
+}
@@ -0,0 +1,53 @@
+package Model.Termination;
+
+import Model.GameState;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Stops a game once it has run for a given wall-clock time, so a batch of simulated games
+ * has a bounded worst case per game however the strategies play.
+ */
+public class TimeLimit implements TerminationPolicy {
+    private final long limitNanos;
+    private final LongSupplier clock;
+    private long startNanos;
+
+    /**
+     * Constructs a time limit.
+     *
+     * @param limit How long a game may run
+     */
+    public TimeLimit(Duration limit) {
+        this(limit, System::nanoTime);
+    }
+
+    TimeLimit(Duration limit, LongSupplier clock) {
+        if (limit.isNegative() || limit.isZero()) {
+            throw new IllegalArgumentException("Invalid time limit: " + limit);
+        }
+        this.limitNanos = limit.toNanos();
+        this.clock = clock;
+        this.startNanos = clock.getAsLong();
+    }
+
+    /**
+     * Gets how long a game may run.
+     *
+     * @return The limit
+     */
+    public Duration getLimit() {
+        return Duration.ofNanos(limitNanos);
+    }
+
+    @Override
+    public void reset(GameState gameState) {
+        startNanos = clock.getAsLong();
+    }
+
+    @Override
+    public GameEnd check(GameState gameState) {
+        return clock.getAsLong() - startNanos >= limitNanos ? GameEnd.TIME_LIMIT : null;
+    }
+}
@@ -0,0 +1,253 @@
+package Model.Trade;
+
+import Model.Board.Player;
+import Model.GameLog;
+import Model.Ledger.Ledger;
+import Model.Property.Property;
+import Model.Spaces.Ownable;
+import Model.Spaces.Space;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A negotiation between two players. It starts with an offer; the player it is made to
+ * can accept it, reject it, or answer with a counter-offer, which the other player must
+ * then answer in turn. Accepting settles the trade in one step: everything is checked
+ * first, and only if every space, card and dollar is still available does anything move.
+ */
+public class Trade {
+    private final List<TradeOffer> history;
+    private TradeStatus status;
+
+    /**
+     * Starts a negotiation with an opening offer.
+     *
+     * @param offer The opening offer
+     */
+    public Trade(TradeOffer offer) {
+        this.history = new ArrayList<>();
+        this.history.add(offer);
+        this.status = TradeStatus.PENDING;
+    }
+
+    /**
+     * Gets the offer waiting for an answer, or the one that ended the negotiation.
+     *
+     * @return The latest offer
+     */
+    public TradeOffer getCurrentOffer() {
+        return history.get(history.size() - 1);
+    }
+
+    /**
+     * Gets every offer made, oldest first.
+     *
+     * @return The read-only list of offers
+     */
+    public List<TradeOffer> getHistory() {
+        return Collections.unmodifiableList(history);
+    }
+
+    /**
+     * Gets where the negotiation stands.
+     *
+     * @return The status
+     */
+    public TradeStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Answers the current offer with a counter-offer. Only the player the current offer
+     * was made to can counter, and the counter must be made to the other player.
+     *
+     * @param counter The counter-offer
+     * @return true if the counter-offer is now the current offer
+     */
+    public boolean counter(TradeOffer counter) {
+        TradeOffer current = getCurrentOffer();
+        if (status != TradeStatus.PENDING
+                || counter.getProposer() != current.getRecipient()
+                || counter.getRecipient() != current.getProposer()) {
+            if (GameLog.isEnabled()) {
+                System.out.println("That counter-offer does not answer the current offer.");
+            }
+            return false;
+        }
+        history.add(counter);
+        if (GameLog.isEnabled()) {
+            System.out.println(counter);
+        }
+        return true;
+    }
+
+    /**
+     * Accepts the current offer and settles it.
+     *
+     * @param player The player accepting, who must be the one the offer was made to
+     * @return true if the trade was settled, false if nothing changed
+     */
+    public boolean accept(Player player) {
+        TradeOffer offer = getCurrentOffer();
+        if (status != TradeStatus.PENDING || player != offer.getRecipient()) {
+            if (GameLog.isEnabled()) {
+                System.out.println(player.getName() + " cannot accept this offer.");
+            }
+            return false;
+        }
+
+        String problem = check(offer);
+        if (problem != null) {
+            if (GameLog.isEnabled()) {
+                System.out.println("The trade cannot go ahead: " + problem);
+            }
+            return false;
+        }
+
+        settle(offer);
+        status = TradeStatus.ACCEPTED;
+        if (GameLog.isEnabled()) {
+            System.out.println(offer.getRecipient().getName() + " accepted: " + offer);
+        }
+        return true;
+    }
+
+    /**
+     * Rejects the current offer, ending the negotiation. Either player may walk away.
+     *
+     * @param player The player rejecting
+     * @return true if the negotiation was ended
+     */
+    public boolean reject(Player player) {
+        TradeOffer offer = getCurrentOffer();
+        if (status != TradeStatus.PENDING
+                || (player != offer.getRecipient() && player != offer.getProposer())) {
+            return false;
+        }
+        status = TradeStatus.REJECTED;
+        if (GameLog.isEnabled()) {
+            System.out.println(player.getName() + " rejected the trade.");
+        }
+        return true;
+    }
+
+    /**
+     * Checks that an offer can be carried out as things stand: each side owns what it gives,
+     * no traded property's color group has buildings, both can cover the cash, and each card
+     * goes to a player who does not already hold one.
+     *
+     * @param offer The offer
+     * @return null if the offer can be settled, otherwise the reason it cannot
+     */
+    public static String check(TradeOffer offer) {
+        Player proposer = offer.getProposer();
+        Player recipient = offer.getRecipient();
+
+        String problem = checkSpaces(offer.getOffered(), proposer);
+        if (problem == null) {
+            problem = checkSpaces(offer.getRequested(), recipient);
+        }
+        if (problem != null) {
+            return problem;
+        }
+
+        int netCash = offer.getNetCash();
+        if (netCash > proposer.getMoney()) {
+            return proposer.getName() + " cannot pay $" + netCash;
+        }
+        if (-netCash > recipient.getMoney()) {
+            return recipient.getName() + " cannot pay $" + -netCash;
+        }
+
+        if (offer.isJailCardOffered() && offer.isJailCardRequested()) {
+            return "the Get Out of Jail Free cards would just swap";
+        }
+        if (offer.isJailCardOffered() && (!proposer.hasGetOutOfJailFreeCard() || recipient.hasGetOutOfJailFreeCard())) {
+            return proposer.getName() + " cannot give a Get Out of Jail Free card to " + recipient.getName();
+        }
+        if (offer.isJailCardRequested() && (!recipient.hasGetOutOfJailFreeCard() || proposer.hasGetOutOfJailFreeCard())) {
+            return recipient.getName() + " cannot give a Get Out of Jail Free card to " + proposer.getName();
+        }
+        return null;
+    }
+
+    private static String checkSpaces(List<Space> spaces, Player owner) {
+        for (int i = 0; i < spaces.size(); i++) {
+            Space space = spaces.get(i);
+            if (!(space instanceof Ownable)) {
+                return space.getName() + " cannot be traded";
+            }
+            if (space.getOwner() != owner || spaces.indexOf(space) != i) {
+                return owner.getName() + " does not own " + space.getName();
+            }
+            if (space instanceof Property && groupHasBuildings((Property) space, owner)) {
+                return "buildings in the " + ((Property) space).getColorGroup() + " group must be sold first";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Buildings can only stand on a complete color group, so if the group has any they
+     * are on properties held by the same owner.
+     */
+    private static boolean groupHasBuildings(Property property, Player owner) {
+        for (Property held : owner.getProperties()) {
+            if (held.getColorGroup().equals(property.getColorGroup()) && (held.getHouses() > 0 || held.hasHotel())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves everything in a checked offer.
+     */
+    private static void settle(TradeOffer offer) {
+        Player proposer = offer.getProposer();
+        Player recipient = offer.getRecipient();
+
+        for (Space space : offer.getOffered()) {
+            moveSpace(space, proposer, recipient);
+        }
+        for (Space space : offer.getRequested()) {
+            moveSpace(space, recipient, proposer);
+        }
+
+        int netCash = offer.getNetCash();
+        if (netCash != 0) {
+            Player payer = netCash > 0 ? proposer : recipient;
+            Player payee = netCash > 0 ? recipient : proposer;
+            int amount = Math.abs(netCash);
+            Ledger ledger = payer.getLedger();
+            if (ledger != null) {
+                ledger.transfer(payer, payee, amount, "Trade between " + proposer.getName() + " and " + recipient.getName());
+            } else {
+                payer.subtractMoney(amount);
+                payee.addMoney(amount);
+            }
+        }
+
+        if (offer.isJailCardOffered()) {
+            proposer.setHasGetOutOfJailFreeCard(false);
+            recipient.setHasGetOutOfJailFreeCard(true);
+        }
+        if (offer.isJailCardRequested()) {
+            recipient.setHasGetOutOfJailFreeCard(false);
+            proposer.setHasGetOutOfJailFreeCard(true);
+        }
+    }
+
+    private static void moveSpace(Space space, Player from, Player to) {
+        if (space instanceof Property) {
+            Property property = (Property) space;
+            from.removeProperty(property);
+            property.setOwner(to);
+            to.addProperty(property);
+        } else {
+            space.setOwner(to);
+        }
+    }
+}
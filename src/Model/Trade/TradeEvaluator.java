@@ -0,0 +1,169 @@
+package Model.Trade;
+
+import Model.Board.Gameboard;
+import Model.Board.Player;
+import Model.Board.Strategy.OpponentTracker;
+import Model.Property.Property;
+import Model.Spaces.Ownable;
+import Model.Spaces.Space;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scores trades for computer players and answers offers made to them.
+ * A trade is worth the list price of the spaces gained less those given up (a mortgaged
+ * property is worth its price less what it costs to lift the mortgage), plus cash and cards.
+ * On top of that, completing a color group is worth as much again as the whole group, and
+ * handing an opponent a complete group or breaking up one's own costs the same. Given an
+ * {@link OpponentTracker}, handing a group to an opponent who has been seen building costs
+ * more again, up to double, as they are the likelier to develop it.
+ *
+ * <p>The color groups are looked up once when the evaluator is built, so scoring only
+ * touches the spaces in the offer and their groups and takes well under a millisecond.
+ */
+public class TradeEvaluator {
+    /** What a Get Out of Jail Free card is worth: the fine it saves. */
+    public static final int JAIL_CARD_VALUE = 50;
+    /** How many offers a negotiation may go through before a computer player gives up. */
+    public static final int MAX_OFFERS = 4;
+
+    private final Map<String, List<Property>> groups;
+    private OpponentTracker opponents;
+
+    /**
+     * Constructs an evaluator for a board.
+     *
+     * @param gameboard The game board, used to find each color group
+     */
+    public TradeEvaluator(Gameboard gameboard) {
+        this.groups = new HashMap<>();
+        for (Space space : gameboard.getSpaces()) {
+            if (space instanceof Property) {
+                Property property = (Property) space;
+                groups.computeIfAbsent(property.getColorGroup(), color -> new ArrayList<>(3)).add(property);
+            }
+        }
+    }
+
+    /**
+     * Sets the models of how each player has played, used to judge how dangerous a complete
+     * group is in an opponent's hands.
+     *
+     * @param opponents The opponent tracker, or null to treat every opponent alike
+     */
+    public void setOpponentTracker(OpponentTracker opponents) {
+        this.opponents = opponents;
+    }
+
+    /**
+     * Scores an offer from one side's point of view.
+     *
+     * @param offer  The offer
+     * @param player The proposer or the recipient
+     * @return How much better off the player would be, negative if worse off
+     */
+    public int score(TradeOffer offer, Player player) {
+        boolean proposing = player == offer.getProposer();
+        Player other = proposing ? offer.getRecipient() : offer.getProposer();
+        List<Space> gained = proposing ? offer.getRequested() : offer.getOffered();
+        List<Space> lost = proposing ? offer.getOffered() : offer.getRequested();
+
+        int score = proposing ? -offer.getNetCash() : offer.getNetCash();
+        boolean cardGained = proposing ? offer.isJailCardRequested() : offer.isJailCardOffered();
+        boolean cardLost = proposing ? offer.isJailCardOffered() : offer.isJailCardRequested();
+        score += cardGained ? JAIL_CARD_VALUE : 0;
+        score -= cardLost ? JAIL_CARD_VALUE : 0;
+
+        for (Space space : gained) {
+            score += worth(space);
+        }
+        for (Space space : lost) {
+            score -= worth(space);
+        }
+
+        // Color groups the trade touches, each counted once
+        List<String> touched = new ArrayList<>(4);
+        addGroups(gained, touched);
+        addGroups(lost, touched);
+        for (String color : touched) {
+            List<Property> group = groups.get(color);
+            if (group == null) {
+                continue;
+            }
+            int groupValue = 0;
+            boolean ownedBefore = true;
+            boolean ownedAfter = true;
+            boolean otherBefore = true;
+            boolean otherAfter = true;
+            for (Property property : group) {
+                groupValue += property.getPrice();
+                Player owner = property.getOwner();
+                Player newOwner = gained.contains(property) ? player : lost.contains(property) ? other : owner;
+                ownedBefore &= owner == player;
+                ownedAfter &= newOwner == player;
+                otherBefore &= owner == other;
+                otherAfter &= newOwner == other;
+            }
+            if (ownedAfter && !ownedBefore) {
+                score += groupValue;
+            } else if (ownedBefore && !ownedAfter) {
+                score -= groupValue;
+            }
+            if (otherAfter && !otherBefore) {
+                double threat = opponents == null ? 0 : opponents.get(other).getDevelopmentPropensity();
+                score -= (int) Math.round(groupValue * (1 + threat));
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Answers the current offer of a negotiation for the computer player it was made to:
+     * accepts a trade that does not leave them worse off, otherwise asks the proposer to make
+     * up the difference in cash, and rejects if that cannot work or the talks have gone on too long.
+     *
+     * @param trade The negotiation
+     * @return The status after answering
+     */
+    public TradeStatus respond(Trade trade) {
+        TradeOffer offer = trade.getCurrentOffer();
+        Player player = offer.getRecipient();
+        int score = score(offer, player);
+
+        if (score >= 0 && trade.accept(player)) {
+            return trade.getStatus();
+        }
+
+        if (score < 0 && trade.getHistory().size() < MAX_OFFERS) {
+            TradeOffer counter = offer.reverse().requestCash(-score);
+            if (Trade.check(counter) == null && trade.counter(counter)) {
+                return trade.getStatus();
+            }
+        }
+
+        trade.reject(player);
+        return trade.getStatus();
+    }
+
+    private void addGroups(List<Space> spaces, List<String> touched) {
+        for (Space space : spaces) {
+            if (space instanceof Property) {
+                String color = ((Property) space).getColorGroup();
+                if (!touched.contains(color)) {
+                    touched.add(color);
+                }
+            }
+        }
+    }
+
+    private static int worth(Space space) {
+        if (space instanceof Ownable) {
+            Ownable ownable = (Ownable) space;
+            return ownable.isMortgaged() ? ownable.getPrice() - ownable.getUnmortgageCost() : ownable.getPrice();
+        }
+        return 0;
+    }
+}
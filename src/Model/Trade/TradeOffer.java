@@ -0,0 +1,231 @@
+package Model.Trade;
+
+import Model.Board.Player;
+import Model.Spaces.Space;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One side's proposal in a trade: what the proposer gives the recipient and what they ask
+ * for in return. Properties, railroads, utilities, cash and Get Out of Jail Free cards can
+ * all be part of an offer. The offer is built up with the chaining methods and does not
+ * change anything until a {@link Trade} accepts it.
+ */
+public class TradeOffer {
+    private final Player proposer;
+    private final Player recipient;
+    private final List<Space> offered;
+    private final List<Space> requested;
+    private int cashOffered;
+    private int cashRequested;
+    private boolean jailCardOffered;
+    private boolean jailCardRequested;
+
+    /**
+     * Constructs an empty offer.
+     *
+     * @param proposer  The player making the offer
+     * @param recipient The player it is made to
+     */
+    public TradeOffer(Player proposer, Player recipient) {
+        if (proposer == recipient) {
+            throw new IllegalArgumentException("A player cannot trade with themselves");
+        }
+        this.proposer = proposer;
+        this.recipient = recipient;
+        this.offered = new ArrayList<>();
+        this.requested = new ArrayList<>();
+    }
+
+    /**
+     * Adds a space the proposer gives.
+     *
+     * @param space The property, railroad or utility
+     * @return This offer, for chaining
+     */
+    public TradeOffer give(Space space) {
+        offered.add(space);
+        return this;
+    }
+
+    /**
+     * Adds a space the proposer asks for.
+     *
+     * @param space The property, railroad or utility
+     * @return This offer, for chaining
+     */
+    public TradeOffer request(Space space) {
+        requested.add(space);
+        return this;
+    }
+
+    /**
+     * Adds cash the proposer gives.
+     *
+     * @param amount The amount
+     * @return This offer, for chaining
+     */
+    public TradeOffer giveCash(int amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Cash offered must not be negative: " + amount);
+        }
+        cashOffered += amount;
+        return this;
+    }
+
+    /**
+     * Adds cash the proposer asks for.
+     *
+     * @param amount The amount
+     * @return This offer, for chaining
+     */
+    public TradeOffer requestCash(int amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Cash requested must not be negative: " + amount);
+        }
+        cashRequested += amount;
+        return this;
+    }
+
+    /**
+     * Has the proposer give their Get Out of Jail Free card.
+     *
+     * @return This offer, for chaining
+     */
+    public TradeOffer giveJailCard() {
+        jailCardOffered = true;
+        return this;
+    }
+
+    /**
+     * Has the proposer ask for the recipient's Get Out of Jail Free card.
+     *
+     * @return This offer, for chaining
+     */
+    public TradeOffer requestJailCard() {
+        jailCardRequested = true;
+        return this;
+    }
+
+    /**
+     * Builds the matching offer from the recipient's side: what this offer requests becomes
+     * what they give, and the other way round. Used as the starting point of a counter-offer.
+     *
+     * @return A new offer from the recipient to the proposer
+     */
+    public TradeOffer reverse() {
+        TradeOffer reversed = new TradeOffer(recipient, proposer);
+        reversed.offered.addAll(requested);
+        reversed.requested.addAll(offered);
+        reversed.cashOffered = cashRequested;
+        reversed.cashRequested = cashOffered;
+        reversed.jailCardOffered = jailCardRequested;
+        reversed.jailCardRequested = jailCardOffered;
+        return reversed;
+    }
+
+    /**
+     * Gets the player making the offer.
+     *
+     * @return The proposer
+     */
+    public Player getProposer() {
+        return proposer;
+    }
+
+    /**
+     * Gets the player the offer is made to.
+     *
+     * @return The recipient
+     */
+    public Player getRecipient() {
+        return recipient;
+    }
+
+    /**
+     * Gets the spaces the proposer gives.
+     *
+     * @return The read-only list of spaces offered
+     */
+    public List<Space> getOffered() {
+        return Collections.unmodifiableList(offered);
+    }
+
+    /**
+     * Gets the spaces the proposer asks for.
+     *
+     * @return The read-only list of spaces requested
+     */
+    public List<Space> getRequested() {
+        return Collections.unmodifiableList(requested);
+    }
+
+    /**
+     * Gets the cash the proposer gives.
+     *
+     * @return The cash offered
+     */
+    public int getCashOffered() {
+        return cashOffered;
+    }
+
+    /**
+     * Gets the cash the proposer asks for.
+     *
+     * @return The cash requested
+     */
+    public int getCashRequested() {
+        return cashRequested;
+    }
+
+    /**
+     * Checks whether the proposer gives their Get Out of Jail Free card.
+     *
+     * @return true if the card is offered
+     */
+    public boolean isJailCardOffered() {
+        return jailCardOffered;
+    }
+
+    /**
+     * Checks whether the proposer asks for a Get Out of Jail Free card.
+     *
+     * @return true if the card is requested
+     */
+    public boolean isJailCardRequested() {
+        return jailCardRequested;
+    }
+
+    /**
+     * Gets the cash that moves from the proposer to the recipient once both cash amounts are netted.
+     *
+     * @return The net cash, negative if the recipient pays the proposer
+     */
+    public int getNetCash() {
+        return cashOffered - cashRequested;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(proposer.getName()).append(" offers ").append(describe(offered, cashOffered, jailCardOffered));
+        sb.append(" to ").append(recipient.getName()).append(" for ").append(describe(requested, cashRequested, jailCardRequested));
+        return sb.toString();
+    }
+
+    private static String describe(List<Space> spaces, int cash, boolean jailCard) {
+        List<String> items = new ArrayList<>();
+        for (Space space : spaces) {
+            items.add(space.getName());
+        }
+        if (cash > 0) {
+            items.add("$" + cash);
+        }
+        if (jailCard) {
+            items.add("a Get Out of Jail Free card");
+        }
+        return items.isEmpty() ? "nothing" : String.join(", ", items);
+    }
+}
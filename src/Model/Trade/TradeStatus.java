@@ -0,0 +1,13 @@
+package Model.Trade;
+
+/**
+ * Where a {@link Trade} stands.
+ */
+public enum TradeStatus {
+    /** The latest offer is waiting for an answer. */
+    PENDING,
+    /** The offer was accepted and everything has changed hands. */
+    ACCEPTED,
+    /** The offer was turned down and the negotiation is over. */
+    REJECTED
+}
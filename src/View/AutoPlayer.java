@@ -0,0 +1,196 @@
+package View;
+
+import Controller.BoardController;
+import Model.Board.Player;
+import Model.GameState;
+
+import javax.swing.*;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Drives a game made up only of computer players without user input.
+ * Turns are played by the {@link BoardController} on a background thread while
+ * a Swing timer refreshes the screen at most a fixed number of times per second,
+ * so a game can be fast-forwarded to the end without flooding the event dispatch thread.
+ * Every turn runs while holding the shared game lock, and the refresh takes the same
+ * lock, so the screen always shows the state between two whole turns.
+ */
+public class AutoPlayer {
+    /** Default number of screen refreshes per second while auto-playing. */
+    public static final int DEFAULT_REFRESHES_PER_SECOND = 10;
+
+    /** Default pause between turns when watching rather than fast-forwarding. */
+    public static final int DEFAULT_WATCH_DELAY_MILLIS = 300;
+
+    /** Safety limit so a game that never produces a winner cannot run forever. */
+    public static final int DEFAULT_MAX_TURNS = 10000;
+
+    private final BoardController controller;
+    private final Object gameLock;
+    private final Runnable refresh;
+    private final Runnable onStopped;
+    private final Timer refreshTimer;
+    private final AtomicBoolean dirty;
+    private final Queue<String> pendingLog;
+    private final int maxTurns;
+
+    private volatile boolean running;
+    private volatile int turnDelayMillis;
+    private volatile long turnsPlayed;
+    private Thread worker;
+
+    /**
+     * Constructs an auto player.
+     *
+     * @param controller          The controller that plays the turns
+     * @param gameLock            The lock guarding the game model, shared with all UI code reading it
+     * @param refresh             Redraws the UI; run on the event dispatch thread while holding the lock
+     * @param onStopped           Run on the event dispatch thread once the auto player stops
+     * @param refreshesPerSecond  The maximum number of UI refreshes per second
+     */
+    public AutoPlayer(BoardController controller, Object gameLock, Runnable refresh, Runnable onStopped,
+                      int refreshesPerSecond) {
+        this.controller = controller;
+        this.gameLock = gameLock;
+        this.refresh = refresh;
+        this.onStopped = onStopped;
+        this.dirty = new AtomicBoolean(false);
+        this.pendingLog = new ConcurrentLinkedQueue<>();
+        this.maxTurns = Integer.getInteger("monopoly.autoplay.maxTurns", DEFAULT_MAX_TURNS);
+        this.turnDelayMillis = DEFAULT_WATCH_DELAY_MILLIS;
+        this.refreshTimer = new Timer(1000 / Math.max(1, refreshesPerSecond), e -> refreshIfDirty());
+        this.refreshTimer.setCoalesce(true);
+    }
+
+    /**
+     * Checks whether every player in the game is controlled by the computer.
+     *
+     * @param gameState The game to check
+     * @return true if there are no human players
+     */
+    public static boolean isComputerOnlyGame(GameState gameState) {
+        for (Player player : gameState.getPlayers()) {
+            if (!(player instanceof Model.Board.ComputerPlayer)) {
+                return false;
+            }
+        }
+        return !gameState.getPlayers().isEmpty();
+    }
+
+    /**
+     * Starts playing turns in the background. Must be called on the event dispatch thread.
+     */
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        refreshTimer.start();
+        worker = new Thread(this::playTurns, "auto-play");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Asks the auto player to stop after the turn in progress.
+     */
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Checks whether turns are currently being played.
+     *
+     * @return true while the auto player is running
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Sets the pause between turns. Zero fast-forwards as quickly as possible.
+     *
+     * @param millis The delay in milliseconds
+     */
+    public void setTurnDelayMillis(int millis) {
+        this.turnDelayMillis = Math.max(0, millis);
+    }
+
+    /**
+     * Gets the number of turns played by this auto player.
+     *
+     * @return The number of turns played
+     */
+    public long getTurnsPlayed() {
+        return turnsPlayed;
+    }
+
+    /**
+     * Removes and returns the next queued log line, or null if none is waiting.
+     * Intended for the refresh callback, which drains the queue in one batch.
+     *
+     * @return The next log line, or null
+     */
+    public String pollLogLine() {
+        return pendingLog.poll();
+    }
+
+    /**
+     * Worker loop: plays whole turns under the game lock until stopped or the game ends.
+     */
+    private void playTurns() {
+        try {
+            while (running) {
+                boolean gameContinues;
+                synchronized (gameLock) {
+                    Player player = controller.getGameState().getCurrentPlayer();
+                    gameContinues = controller.nextTurn() && !controller.isGameOver();
+                    turnsPlayed++;
+                    pendingLog.add("Turn " + turnsPlayed + ": " + player.getName() + " is on "
+                            + controller.getBoard().getspace(player.getPosition()).getName()
+                            + " with $" + player.getMoney());
+                }
+                dirty.set(true);
+
+                if (!gameContinues) {
+                    pendingLog.add("Game over after " + turnsPlayed + " turns.");
+                    break;
+                }
+                if (turnsPlayed >= maxTurns) {
+                    pendingLog.add("Auto-play stopped after reaching the limit of " + maxTurns + " turns.");
+                    break;
+                }
+
+                int delay = turnDelayMillis;
+                if (delay > 0) {
+                    Thread.sleep(delay);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            pendingLog.add("Auto-play stopped: " + e);
+        } finally {
+            running = false;
+            SwingUtilities.invokeLater(() -> {
+                refreshTimer.stop();
+                dirty.set(true);
+                refreshIfDirty();
+                onStopped.run();
+            });
+        }
+    }
+
+    /**
+     * Timer callback: redraws the UI only if at least one turn finished since the last refresh.
+     */
+    private void refreshIfDirty() {
+        if (dirty.getAndSet(false)) {
+            synchronized (gameLock) {
+                refresh.run();
+            }
+        }
+    }
+}
@@ -4,25 +4,33 @@
  */
 package View;
 
+import Controller.BoardController;
+import Model.Auction.Auction;
+import Model.Auction.AuctionFormat;
+import Model.Auction.ValuationBidder;
 import Model.Board.Bank;
+import Model.Board.BuildOrder;
+import Model.Board.ComputerPlayer;
 import Model.Board.Gameboard;
 import Model.Board.Player;
 import Model.Board.Tokens;
 import Model.GameState;
-import Model.Houses;
+import Model.Metrics.GameMetrics;
 import Model.Property.Property;
 import Model.Spaces.RailroadSpace;
 import Model.Spaces.Space;
 import Model.Spaces.UtilitySpace;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import javax.swing.border.TitledBorder;
 import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.awt.geom.AffineTransform;
-import java.io.File;
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +42,13 @@ public class GUI extends JFrame {
     private Gameboard board;
     private List<Player> players;
     private Bank bank;
+    private BoardController controller;
+
+    // Auto-play for computer-only games; every turn and every repaint holds gameLock
+    private final Object gameLock = new Object();
+    private AutoPlayer autoPlayer;
+    private JButton autoPlayButton;
+    private JCheckBox fastForwardCheckBox;
 
     // UI components
     private JPanel mainPanel;
@@ -42,8 +57,10 @@ public class GUI extends JFrame {
     private JPanel actionPanel;
     private JPanel dicePanel;
     private JPanel cardDisplayPanel;
-    private JTextArea gameLog;
+    private GameLogModel logModel;
+    private JList<String> gameLog;
     private JScrollPane logScrollPane;
+    private final List<PlayerInfoView> playerViews = new ArrayList<>();
 
     // Action buttons - separated by turn phases
     private JButton rollDiceButton;
@@ -59,6 +76,7 @@ public class GUI extends JFrame {
     private JButton useJailCardButton;
     private JButton rollForJailButton;
     private JButton sellHouseButton; // Button for selling houses
+    private JLabel jailOptionsLabel;
 
 
     // Current state tracking
@@ -79,6 +97,12 @@ public class GUI extends JFrame {
         super("Monopoly");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setSize(WINDOW_WIDTH, WINDOW_HEIGHT);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                logModel.close();
+            }
+        });
         setLocationRelativeTo(null);
 
         // Set up the game components
@@ -149,11 +173,25 @@ public class GUI extends JFrame {
         JButton toggleButton = new JButton("Game Log ▲");
         toggleButton.setPreferredSize(new Dimension(WINDOW_WIDTH, 25));
 
-        // Create the log area
-        gameLog = new JTextArea(5, 40);
-        gameLog.setEditable(false);
+        // Create the log view; a fixed cell size lets the list lay out and paint only the visible rows
+        gameLog = new JList<>(logModel);
+        gameLog.setVisibleRowCount(5);
+        gameLog.setFixedCellHeight(gameLog.getFontMetrics(gameLog.getFont()).getHeight() + 2);
         logScrollPane = new JScrollPane(gameLog);
 
+        // Rows are as wide as the visible area, so no row has to be measured to size the list
+        JViewport viewport = logScrollPane.getViewport();
+        gameLog.setFixedCellWidth(WINDOW_WIDTH);
+        viewport.addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                int width = viewport.getExtentSize().width;
+                if (width > 0 && width != gameLog.getFixedCellWidth()) {
+                    gameLog.setFixedCellWidth(width);
+                }
+            }
+        });
+
         // Add to panel
         logPanel.add(toggleButton, BorderLayout.NORTH);
         logPanel.add(logScrollPane, BorderLayout.CENTER);
@@ -194,6 +232,9 @@ public class GUI extends JFrame {
         gameState = new GameState(players, board);
         gameState.setBank(bank);
 
+        // Controller that plays computer turns during auto-play
+        controller = new BoardController(gameState, board, bank, players);
+
         // Give starting money to players
         for (Player player : players) {
             bank.giveStartingMoney(player);
@@ -213,7 +254,7 @@ public class GUI extends JFrame {
         // Create each player
         for (int i = 1; i <= numPlayers; i++) {
             String playerName = promptPlayerName(i);
-            Player player = new Player(playerName);
+            Player player = promptPlayerIsComputer(playerName) ? new ComputerPlayer(playerName) : new Player(playerName);
 
             // Choose token
             String token = promptPlayerToken(player);
@@ -261,6 +302,25 @@ public class GUI extends JFrame {
         return (name != null && !name.trim().isEmpty()) ? name : "Player " + playerNumber;
     }
 
+    /**
+     * Prompts whether a player is controlled by a person or by the computer
+     */
+    private boolean promptPlayerIsComputer(String playerName) {
+        String[] options = {"Human", "Computer"};
+        int selection = JOptionPane.showOptionDialog(
+                this,
+                "Who controls " + playerName + "?",
+                "Player Setup",
+                JOptionPane.DEFAULT_OPTION,
+                JOptionPane.QUESTION_MESSAGE,
+                null,
+                options,
+                options[0]
+        );
+
+        return selection == 1;
+    }
+
     /**
      * Prompts for a player's token
      * Author: Marena
@@ -304,9 +364,13 @@ public class GUI extends JFrame {
      * Author: Marena
      */
     private void logMessage(String message) {
-        gameLog.append(message + "\n");
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> logMessage(message));
+            return;
+        }
+        logModel.append(message);
         // Scroll to the bottom of the log
-        gameLog.setCaretPosition(gameLog.getDocument().getLength());
+        gameLog.ensureIndexIsVisible(logModel.getSize() - 1);
     }
 
     /**
@@ -334,12 +398,69 @@ public class GUI extends JFrame {
         // Create card display panel
         cardDisplayPanel = createCardDisplayPanel();
 
-        // Create game log with smaller height
-        gameLog = new JTextArea(5, 40);  // Reduced from 10 rows to 5
-        gameLog.setEditable(false);
-        logScrollPane = new JScrollPane(gameLog);
-        logScrollPane.setBorder(new TitledBorder("Game Log"));
-        logScrollPane.setPreferredSize(new Dimension(WINDOW_WIDTH, 100)); // Set fixed height of 100 pixels
+        // Create the bounded game log model; the view is created with the collapsible log panel
+        logModel = GameLogModel.createDefault();
+
+        // Auto-play refreshes the screen at most this many times per second, however fast turns are played
+        int refreshesPerSecond = Integer.getInteger("monopoly.autoplay.fps", AutoPlayer.DEFAULT_REFRESHES_PER_SECOND);
+        autoPlayer = new AutoPlayer(controller, gameLock, this::refreshAfterAutoPlay,
+                this::handleAutoPlayStopped, refreshesPerSecond);
+    }
+
+    /**
+     * Redraws the UI from the model after a batch of auto-played turns.
+     * Runs on the event dispatch thread while holding the game lock.
+     */
+    private void refreshAfterAutoPlay() {
+        String line;
+        while ((line = autoPlayer.pollLogLine()) != null) {
+            logModel.append(line);
+        }
+        gameLog.ensureIndexIsVisible(logModel.getSize() - 1);
+
+        lastDiceRoll[0] = gameState.getDice().getDie1Value();
+        lastDiceRoll[1] = gameState.getDice().getDie2Value();
+        updateUI();
+    }
+
+    /**
+     * Starts or stops auto-play
+     */
+    private void handleToggleAutoPlay() {
+        if (autoPlayer.isRunning()) {
+            autoPlayer.stop();
+            autoPlayButton.setEnabled(false);
+            return;
+        }
+
+        if (controller.isGameOver()) {
+            logMessage("The game is over.");
+            return;
+        }
+
+        autoPlayer.setTurnDelayMillis(fastForwardCheckBox.isSelected() ? 0 : AutoPlayer.DEFAULT_WATCH_DELAY_MILLIS);
+        autoPlayer.start();
+        autoPlayButton.setText("Stop Auto Play");
+        logMessage(fastForwardCheckBox.isSelected() ? "Fast-forwarding..." : "Auto-play started.");
+    }
+
+    /**
+     * Resets the auto-play controls once the background turns have stopped
+     */
+    private void handleAutoPlayStopped() {
+        autoPlayButton.setText("Auto Play");
+        autoPlayButton.setEnabled(true);
+        if (!controller.isGameOver()) {
+            logMessage("Auto-play paused after " + autoPlayer.getTurnsPlayed() + " turns.");
+            return;
+        }
+
+        logMessage("Game over after " + autoPlayer.getTurnsPlayed() + " turns.");
+        Player winner = controller.getWinner();
+        if (winner != null) {
+            logMessage(winner.getName() + " wins the game!");
+            JOptionPane.showMessageDialog(this, winner.getName() + " wins the game!");
+        }
     }
 
     /**
@@ -379,6 +500,11 @@ public class GUI extends JFrame {
         payJailFeeButton = new JButton("Pay $50 to Get Out of Jail");
         useJailCardButton = new JButton("Use Get Out of Jail Free Card");
         rollForJailButton = new JButton("Roll for Doubles");
+        jailOptionsLabel = new JLabel("Jail Options:");
+
+        // Auto-play controls, shown only when every player is a computer
+        autoPlayButton = new JButton("Auto Play");
+        fastForwardCheckBox = new JCheckBox("Fast Forward");
 
         // Add action listeners
         rollDiceButton.addActionListener(e -> handleRollDice());
@@ -395,6 +521,11 @@ public class GUI extends JFrame {
         useJailCardButton.addActionListener(e -> handleUseJailCard());
         rollForJailButton.addActionListener(e -> handleRollForJail());
 
+        // Auto-play actions; switching speed takes effect from the next turn
+        autoPlayButton.addActionListener(e -> handleToggleAutoPlay());
+        fastForwardCheckBox.addActionListener(e -> autoPlayer.setTurnDelayMillis(
+                fastForwardCheckBox.isSelected() ? 0 : AutoPlayer.DEFAULT_WATCH_DELAY_MILLIS));
+
         // Return panel without adding buttons initially
         // Buttons will be added dynamically based on game state
         return panel;
@@ -455,68 +586,46 @@ public class GUI extends JFrame {
      * Updates the player information panel
      */
     private void updatePlayerInfo() {
-        playerInfoPanel.removeAll();
-
-        for (Player player : players) {
-            JPanel playerPanel = new JPanel();
-            playerPanel.setLayout(new BoxLayout(playerPanel, BoxLayout.Y_AXIS));
-
-            // Highlight current player
-            if (player == gameState.getCurrentPlayer()) {
-                playerPanel.setBorder(BorderFactory.createCompoundBorder(
-                        BorderFactory.createLineBorder(Color.RED, 2),
-                        BorderFactory.createEmptyBorder(5, 5, 5, 5)
-                ));
-
-                // Add "Current Player" label
-                JLabel currentLabel = new JLabel("→ CURRENT PLAYER");
-                currentLabel.setForeground(Color.RED);
-                currentLabel.setFont(currentLabel.getFont().deriveFont(Font.BOLD));
-                playerPanel.add(currentLabel);
-            } else {
-                playerPanel.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
+        // Rebuild only when players join or leave; the views update their own labels otherwise
+        if (!playerViewsMatchPlayers()) {
+            for (PlayerInfoView view : playerViews) {
+                view.dispose();
             }
+            playerViews.clear();
+            playerInfoPanel.removeAll();
 
-            // Player name and token
-            JLabel nameLabel = new JLabel(player.getName() + " (" + player.getToken() + ")");
-            nameLabel.setFont(nameLabel.getFont().deriveFont(Font.BOLD, 14f));
-
-            // Money
-            JLabel moneyLabel = new JLabel("Money: $" + player.getMoney());
-
-            // Position
-            Space currentSpace = board.getspace(player.getPosition());
-            JLabel positionLabel = new JLabel("Position: " + currentSpace.getName());
-
-            // Properties
-            JLabel propertiesLabel = new JLabel("Properties: " + player.getProperties().size());
-
-            // Add labels to panel
-            playerPanel.add(nameLabel);
-            playerPanel.add(moneyLabel);
-            playerPanel.add(positionLabel);
-            playerPanel.add(propertiesLabel);
-
-            // Add jail status if applicable
-            if (gameState.isPlayerInJail(player)) {
-                JLabel jailLabel = new JLabel("IN JAIL (" + player.getTurnsInJail() + " turns)");
-                jailLabel.setForeground(Color.RED);
-                playerPanel.add(jailLabel);
+            for (Player player : players) {
+                PlayerInfoView view = new PlayerInfoView(player, gameState, board);
+                playerViews.add(view);
+                playerInfoPanel.add(view);
+                playerInfoPanel.add(Box.createVerticalStrut(10));
             }
 
-            // Add "Get Out of Jail Free" card status if applicable
-            if (player.hasGetOutOfJailFreeCard()) {
-                JLabel cardLabel = new JLabel("Has Get Out of Jail Free card");
-                cardLabel.setForeground(Color.BLUE);
-                playerPanel.add(cardLabel);
-            }
+            playerInfoPanel.revalidate();
+            playerInfoPanel.repaint();
+        }
 
-            playerInfoPanel.add(playerPanel);
-            playerInfoPanel.add(Box.createVerticalStrut(10));
+        // Highlight current player
+        Player currentPlayer = gameState.getCurrentPlayer();
+        for (PlayerInfoView view : playerViews) {
+            view.setCurrent(view.getPlayer() == currentPlayer);
+            view.refreshIfStale();
         }
+    }
 
-        playerInfoPanel.revalidate();
-        playerInfoPanel.repaint();
+    /**
+     * Checks whether the player views still show exactly the players in the game, in order
+     */
+    private boolean playerViewsMatchPlayers() {
+        if (playerViews.size() != players.size()) {
+            return false;
+        }
+        for (int i = 0; i < players.size(); i++) {
+            if (playerViews.get(i).getPlayer() != players.get(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -524,7 +633,15 @@ public class GUI extends JFrame {
      * Updates the action buttons based on current game state and turn phase
      */
     private void updateActionButtons() {
-        actionPanel.removeAll();
+        List<Component> actions = new ArrayList<>();
+
+        // Computer-only games are driven by auto-play rather than the turn buttons
+        if (AutoPlayer.isComputerOnlyGame(gameState)) {
+            actions.add(autoPlayButton);
+            actions.add(fastForwardCheckBox);
+            showActions(actions);
+            return;
+        }
 
         Player currentPlayer = gameState.getCurrentPlayer();
         int position = currentPlayer.getPosition();
@@ -533,25 +650,25 @@ public class GUI extends JFrame {
         // Check if player is in jail
         if (gameState.isPlayerInJail(currentPlayer)) {
             // Show jail options
-            actionPanel.add(new JLabel("Jail Options:"));
+            actions.add(jailOptionsLabel);
 
             // Only show pay option if player has enough money
             if (currentPlayer.getMoney() >= 50) {
-                actionPanel.add(payJailFeeButton);
+                actions.add(payJailFeeButton);
             }
 
             // Only show card option if player has a card
             if (currentPlayer.hasGetOutOfJailFreeCard()) {
-                actionPanel.add(useJailCardButton);
+                actions.add(useJailCardButton);
             }
 
-            actionPanel.add(rollForJailButton);
+            actions.add(rollForJailButton);
         } else {
             // Normal turn options
 
             // If dice haven't been rolled yet, only show roll button
             if (lastDiceRoll[0] == 0 && lastDiceRoll[1] == 0) {
-                actionPanel.add(rollDiceButton);
+                actions.add(rollDiceButton);
             } else {
                 // After dice roll, show appropriate action buttons
 
@@ -559,32 +676,47 @@ public class GUI extends JFrame {
                 if (currentSpace instanceof Property) {
                     Property property = (Property) currentSpace;
                     if (!property.isOwned() && currentPlayer.getMoney() >= property.getPrice()) {
-                        actionPanel.add(buyPropertyButton);
-                        actionPanel.add(auctionPropertyButton);
+                        actions.add(buyPropertyButton);
+                        actions.add(auctionPropertyButton);
                     }
                 } else if (currentSpace instanceof RailroadSpace) {
                     RailroadSpace railroad = (RailroadSpace) currentSpace;
                     if (!railroad.isOwned() && currentPlayer.getMoney() >= railroad.getPrice()) {
-                        actionPanel.add(buyPropertyButton);
-                        actionPanel.add(auctionPropertyButton);
+                        actions.add(buyPropertyButton);
+                        actions.add(auctionPropertyButton);
                     }
                 } else if (currentSpace instanceof UtilitySpace) {
                     UtilitySpace utility = (UtilitySpace) currentSpace;
                     if (!utility.isOwned() && currentPlayer.getMoney() >= utility.getPrice()) {
-                        actionPanel.add(buyPropertyButton);
-                        actionPanel.add(auctionPropertyButton);
+                        actions.add(buyPropertyButton);
+                        actions.add(auctionPropertyButton);
                     }
                 }
 
                 // Always show these buttons after roll
-                actionPanel.add(buildHouseButton);
-                actionPanel.add(sellHouseButton); // Add the Sell House button
-                actionPanel.add(mortgageButton);
-                actionPanel.add(unmortgageButton);
-                actionPanel.add(endTurnButton);
+                actions.add(buildHouseButton);
+                actions.add(sellHouseButton); // Add the Sell House button
+                actions.add(mortgageButton);
+                actions.add(unmortgageButton);
+                actions.add(endTurnButton);
             }
         }
 
+        showActions(actions);
+    }
+
+    /**
+     * Shows the given components in the action panel, relaying it out only if they differ from what is shown
+     */
+    private void showActions(List<Component> actions) {
+        if (actions.equals(java.util.Arrays.asList(actionPanel.getComponents()))) {
+            return;
+        }
+
+        actionPanel.removeAll();
+        for (Component action : actions) {
+            actionPanel.add(action);
+        }
         actionPanel.revalidate();
         actionPanel.repaint();
     }
@@ -784,7 +916,7 @@ public class GUI extends JFrame {
         List<Property> buildableProperties = currentPlayer.getProperties().stream()
                 .filter(p -> p.getColorGroup() != null &&
                         board.playerOwnsAllInColorGroup(currentPlayer, p.getColorGroup()) &&
-                        p.getHouses() < 4)
+                        !p.hasHotel())
                 .collect(Collectors.toList());
 
         if (buildableProperties.isEmpty()) {
@@ -806,13 +938,48 @@ public class GUI extends JFrame {
 
         if (selectedProperty != null) {
             try {
-                bank.sellHouses(selectedProperty, currentPlayer, 1, board);
-                logMessage(currentPlayer.getName() + " built a house on " + selectedProperty.getName());
+                // Build across the whole color group in one order, spread evenly
+                String colorGroup = selectedProperty.getColorGroup();
+                List<Property> group = board.getPropertiesByColorGroup(colorGroup);
+                int maxBuildings = 0;
+                for (Property p : group) {
+                    maxBuildings += 5 - (p.hasHotel() ? 5 : p.getHouses());
+                }
+                String[] options = new String[maxBuildings];
+                for (int i = 0; i < maxBuildings; i++) {
+                    options[i] = String.valueOf(i + 1);
+                }
 
-                // Update UI
-                updatePlayerInfo();
-                updateActionButtons();
-                boardPanel.repaint();
+                String selection = (String) JOptionPane.showInputDialog(
+                        this,
+                        "How many houses do you want to build across the " + colorGroup + " group?",
+                        "Build Houses",
+                        JOptionPane.QUESTION_MESSAGE,
+                        null,
+                        options,
+                        options[0]
+                );
+
+                if (selection != null) {
+                    int count = Integer.parseInt(selection);
+                    // Placed as an order, so a house shortage is settled by auction
+                    Map<Player, Integer> built = bank.placeBuildOrders(
+                            Collections.singletonList(new BuildOrder(currentPlayer, colorGroup, count)), board);
+                    int housesBuilt = built.getOrDefault(currentPlayer, 0);
+                    if (housesBuilt > 0) {
+                        logMessage(currentPlayer.getName() + " built " + housesBuilt + " house(s) on the "
+                                + colorGroup + " group");
+
+                        // Update UI
+                        updatePlayerInfo();
+                        updateActionButtons();
+                        boardPanel.repaint();
+                    } else {
+                        JOptionPane.showMessageDialog(this,
+                                "Failed to build " + count + " house(s) on the " + colorGroup + " group.",
+                                "Cannot Build House", JOptionPane.ERROR_MESSAGE);
+                    }
+                }
             } catch (Exception e) {
                 JOptionPane.showMessageDialog(this, e.getMessage(),
                         "Cannot Build House", JOptionPane.ERROR_MESSAGE);
@@ -979,7 +1146,12 @@ public class GUI extends JFrame {
 
         if (selectedProperty != null) {
             try {
-                int maxHouses = selectedProperty.hasHotel() ? 5 : selectedProperty.getHouses();
+                // Sell evenly across the whole color group, most developed first
+                String colorGroup = selectedProperty.getColorGroup();
+                int maxHouses = 0;
+                for (Property p : board.getPropertiesByColorGroup(colorGroup)) {
+                    maxHouses += p.hasHotel() ? 5 : p.getHouses();
+                }
                 String[] options = new String[maxHouses];
                 for (int i = 0; i < maxHouses; i++) {
                     options[i] = String.valueOf(i + 1);
@@ -987,7 +1159,7 @@ public class GUI extends JFrame {
 
                 String selection = (String) JOptionPane.showInputDialog(
                         this,
-                        "How many houses do you want to sell?",
+                        "How many buildings do you want to sell from the " + colorGroup + " group?",
                         "Sell Houses",
                         JOptionPane.QUESTION_MESSAGE,
                         null,
@@ -997,14 +1169,14 @@ public class GUI extends JFrame {
 
                 if (selection != null) {
                     int count = Integer.parseInt(selection);
-                    boolean success = bank.buyBackHouses(selectedProperty, currentPlayer, count);
+                    boolean success = bank.buyBackBuildings(currentPlayer, colorGroup, count, board);
 
                     if (success) {
-                        int housePrice = Houses.getHousePrice(selectedProperty.getColorGroup());
+                        int housePrice = board.getDefinition().getHouseCost(colorGroup);
                         int refund = (housePrice * count) / 2;
                         logMessage(currentPlayer.getName() + " sold " + count +
-                                " house(s) from " + selectedProperty.getName() +
-                                " for $" + refund);
+                                " building(s) from the " + colorGroup +
+                                " group for $" + refund);
 
                         // Update UI
                         updatePlayerInfo();
@@ -1012,7 +1184,7 @@ public class GUI extends JFrame {
                         boardPanel.repaint();
                     } else {
                         JOptionPane.showMessageDialog(this,
-                                "Failed to sell houses from " + selectedProperty.getName() + ".",
+                                "Failed to sell buildings from the " + colorGroup + " group.",
                                 "Cannot Sell Houses",
                                 JOptionPane.ERROR_MESSAGE);
                     }
@@ -1156,8 +1328,7 @@ public class GUI extends JFrame {
         private final List<Player> players;
         private final Space propertySpace;
         private final Map<Player, JTextField> bidFields;
-        private Player highestBidder;
-        private int highestBid;
+        private final Auction auction;
 
         /**
          * Author: Marena
@@ -1168,8 +1339,7 @@ public class GUI extends JFrame {
             this.players = players;
             this.propertySpace = propertySpace;
             this.bidFields = new HashMap<>();
-            this.highestBid = 0;
-            this.highestBidder = null;
+            this.auction = new Auction(propertySpace, AuctionFormat.ENGLISH, 1);
 
             initComponents();
             pack();
@@ -1207,6 +1377,17 @@ public class GUI extends JFrame {
                 // Player name
                 biddingPanel.add(new JLabel(player.getName() + " ($" + player.getMoney() + ")"));
 
+                // Computer players bid for themselves, up to the limit their strategy sets
+                if (player instanceof ComputerPlayer) {
+                    ComputerPlayer computer = (ComputerPlayer) player;
+                    auction.addBidder(player, new ValuationBidder(player,
+                            computer.getStrategy().auctionLimit(propertySpace, computer)));
+                    biddingPanel.add(new JLabel("Computer"));
+                    biddingPanel.add(new JLabel());
+                    continue;
+                }
+                auction.addHumanBidder(player);
+
                 // Bid field
                 JTextField bidField = new JTextField("0");
                 bidFields.put(player, bidField);
@@ -1237,6 +1418,7 @@ public class GUI extends JFrame {
             try {
                 JTextField bidField = bidFields.get(player);
                 int bidAmount = Integer.parseInt(bidField.getText());
+                int highestBid = auction.getHighBid();
 
                 // Validate bid
                 if (bidAmount <= highestBid) {
@@ -1255,9 +1437,23 @@ public class GUI extends JFrame {
                     return;
                 }
 
-                // Update highest bid
-                highestBid = bidAmount;
-                highestBidder = player;
+                if (!auction.placeBid(player, bidAmount)) {
+                    JOptionPane.showMessageDialog(this,
+                            "Your bid was not accepted. The highest bid is now $" + auction.getHighBid(),
+                            "Invalid Bid",
+                            JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                logMessage(player.getName() + " bids $" + bidAmount + " for " + propertySpace.getName());
+
+                // Let computer players answer until none of them raises
+                while (auction.solicitBids() > 0) {
+                    // each round is bounded by the bidder timeout
+                }
+                Player highestBidder = auction.getLeader();
+                if (highestBidder != player) {
+                    logMessage(highestBidder.getName() + " bids $" + auction.getHighBid() + " for " + propertySpace.getName());
+                }
 
                 // Highlight highest bid
                 for (Map.Entry<Player, JTextField> entry : bidFields.entrySet()) {
@@ -1265,16 +1461,16 @@ public class GUI extends JFrame {
                 }
 
                 JOptionPane.showMessageDialog(this,
-                        player.getName() + " has placed the highest bid of $" + bidAmount,
+                        highestBidder.getName() + " has placed the highest bid of $" + auction.getHighBid(),
                         "New Highest Bid",
                         JOptionPane.INFORMATION_MESSAGE);
-
-                logMessage(player.getName() + " bids $" + bidAmount + " for " + propertySpace.getName());
             } catch (NumberFormatException e) {
                 JOptionPane.showMessageDialog(this,
                         "Please enter a valid number for your bid",
                         "Invalid Bid",
                         JOptionPane.ERROR_MESSAGE);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             }
         }
 
@@ -1283,6 +1479,8 @@ public class GUI extends JFrame {
          * Finishes the auction and sells the property to the highest bidder
          */
         private void finishAuction() {
+            int highestBid = auction.getHighBid();
+            Player highestBidder = bank.settleAuction(auction);
             if (highestBidder == null) {
                 JOptionPane.showMessageDialog(this,
                         "No bids were placed. The property remains with the bank.",
@@ -1293,42 +1491,15 @@ public class GUI extends JFrame {
                 return;
             }
 
-            try {
-                // Handle different property types
-                if (propertySpace instanceof Property) {
-                    Property property = (Property) propertySpace;
-                    highestBidder.subtractMoney(highestBid);
-                    property.setOwner(highestBidder);
-                    highestBidder.getProperties().add(property);
-                    logMessage(highestBidder.getName() + " won the auction for " + property.getName() +
-                            " with a bid of $" + highestBid);
-                } else if (propertySpace instanceof RailroadSpace) {
-                    RailroadSpace railroad = (RailroadSpace) propertySpace;
-                    highestBidder.subtractMoney(highestBid);
-                    railroad.setOwner(highestBidder);
-                    logMessage(highestBidder.getName() + " won the auction for " + railroad.getName() +
-                            " with a bid of $" + highestBid);
-                } else if (propertySpace instanceof UtilitySpace) {
-                    UtilitySpace utility = (UtilitySpace) propertySpace;
-                    highestBidder.subtractMoney(highestBid);
-                    utility.setOwner(highestBidder);
-                    logMessage(highestBidder.getName() + " won the auction for " + utility.getName() +
-                            " with a bid of $" + highestBid);
-                }
-
-                JOptionPane.showMessageDialog(this,
-                        highestBidder.getName() + " won the auction for " + propertySpace.getName() +
-                                " with a bid of $" + highestBid,
-                        "Auction Completed",
-                        JOptionPane.INFORMATION_MESSAGE);
+            logMessage(highestBidder.getName() + " won the auction for " + propertySpace.getName() +
+                    " with a bid of $" + highestBid);
+            JOptionPane.showMessageDialog(this,
+                    highestBidder.getName() + " won the auction for " + propertySpace.getName() +
+                            " with a bid of $" + highestBid,
+                    "Auction Completed",
+                    JOptionPane.INFORMATION_MESSAGE);
 
-                dispose();
-            } catch (Exception e) {
-                JOptionPane.showMessageDialog(this,
-                        "Error completing auction: " + e.getMessage(),
-                        "Auction Error",
-                        JOptionPane.ERROR_MESSAGE);
-            }
+            dispose();
         }
     }
 
@@ -1358,15 +1529,23 @@ public class GUI extends JFrame {
                 new Color(0, 102, 153)     // Railroads/Utilities - Blue
         };
 
-        // Image fields
-        private Image houseImage;
-        private Image hotelImage;
+        // Sprite sizes (in board pixels) used when drawing buildings
+        private static final int SPACE_HOUSE_SIZE = 15;
+        private static final int SPACE_HOTEL_SIZE = 20;
+        private static final int LARGE_HOUSE_SIZE = 20;
+        private static final int LARGE_HOTEL_SIZE = 28;
+
+        // Sprites are loaded and scaled off the EDT; paint code only reads the cache
+        private final SpriteCache sprites = SpriteCache.getInstance();
+
+        // Display scale of the screen the board is on, refreshed at the start of every paint
+        private double spriteScale = 1.0;
 
         /**
          * Author: Marena
          * Edited by: Aiden Clare
          * Constructor for BoardPanel
-         * Sets up the board size, background color, and loads images
+         * Sets up the board size, background color, and starts loading images
          */
         public BoardPanel() {
             setPreferredSize(new Dimension(BOARD_SIZE, BOARD_SIZE));
@@ -1374,16 +1553,19 @@ public class GUI extends JFrame {
             setBackground(new Color(217, 238, 217));
             setBorder(BorderFactory.createLineBorder(Color.BLACK, 2));
 
-            // Load house and hotel images
-            try {
-                houseImage = ImageIO.read(new File("path/to/houses.jpg")).getScaledInstance(15, 15, Image.SCALE_SMOOTH);
-                hotelImage = ImageIO.read(new File("path/to/hotel.png")).getScaledInstance(20, 20, Image.SCALE_SMOOTH);
-            } catch (IOException e) {
-                e.printStackTrace();
-                // Fallback to drawing if images can't be loaded
-                houseImage = null;
-                hotelImage = null;
-            }
+            // Load house and hotel images in the background; fallback drawing is used until they are ready
+            sprites.addReadyListener(this::repaint);
+            double scale = SpriteCache.deviceScale(this);
+            sprites.preload(SpriteCache.Sprite.HOUSE, scale, SPACE_HOUSE_SIZE, LARGE_HOUSE_SIZE);
+            sprites.preload(SpriteCache.Sprite.HOTEL, scale, SPACE_HOTEL_SIZE, LARGE_HOTEL_SIZE);
+        }
+
+        /**
+         * Works out the scale sprites should be prepared at. The board is always painted at
+         * its design size without a transform, so only the screen's device scale applies.
+         */
+        private double currentSpriteScale() {
+            return SpriteCache.deviceScale(this);
         }
 
         /**
@@ -1396,10 +1578,19 @@ public class GUI extends JFrame {
         @Override
         protected void paintComponent(Graphics g) {
             super.paintComponent(g);
-            System.out.println("Painting board: " + getWidth() + "x" + getHeight());
 
-            Graphics2D g2d = (Graphics2D) g;
+            // Auto-play mutates the model off the event dispatch thread; paint between whole turns only
+            synchronized (gameLock) {
+                paintBoard((Graphics2D) g);
+            }
+        }
+
+        /**
+         * Paints the board, its spaces and the player tokens
+         */
+        private void paintBoard(Graphics2D g2d) {
             g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            spriteScale = currentSpriteScale();
 
             // Draw board outline
             drawBoardOutline(g2d);
@@ -1505,9 +1696,9 @@ public class GUI extends JFrame {
 
             if (isHotel) {
                 // Draw hotel
+                Image hotelImage = sprites.get(SpriteCache.Sprite.HOTEL, LARGE_HOTEL_SIZE, LARGE_HOTEL_SIZE, spriteScale);
                 if (hotelImage != null) {
-                    // Scale the image based on the new board size
-                    g2d.drawImage(hotelImage, x + spaceWidth / 2 - 14, y + spaceHeight - 40, 28, 28, null);
+                    g2d.drawImage(hotelImage, x + spaceWidth / 2 - 14, y + spaceHeight - 40, LARGE_HOTEL_SIZE, LARGE_HOTEL_SIZE, null);
                 } else {
                     // Fallback drawing
                     g2d.setColor(Color.RED);
@@ -1517,8 +1708,9 @@ public class GUI extends JFrame {
                 }
             } else {
                 // Draw houses
-                int houseSize = 20; // Increased from 15
+                int houseSize = LARGE_HOUSE_SIZE;
                 int startX = x + (spaceWidth - (houseCount * houseSize)) / 2;
+                Image houseImage = sprites.get(SpriteCache.Sprite.HOUSE, houseSize, houseSize, spriteScale);
 
                 for (int i = 0; i < houseCount; i++) {
                     if (houseImage != null) {
@@ -1780,8 +1972,9 @@ public class GUI extends JFrame {
 
             if (hasHotel) {
                 // Draw hotel
+                Image hotelImage = sprites.get(SpriteCache.Sprite.HOTEL, SPACE_HOTEL_SIZE, SPACE_HOTEL_SIZE, spriteScale);
                 if (hotelImage != null) {
-                    g2d.drawImage(hotelImage, x + width / 2 - 10, y + 20, null);
+                    g2d.drawImage(hotelImage, x + width / 2 - 10, y + 20, SPACE_HOTEL_SIZE, SPACE_HOTEL_SIZE, null);
                 } else {
                     // Fallback drawing
                     g2d.setColor(Color.RED);
@@ -1791,12 +1984,13 @@ public class GUI extends JFrame {
                 }
             } else if (houseCount > 0) {
                 // Draw houses
-                int houseSize = 15;
+                int houseSize = SPACE_HOUSE_SIZE;
                 int startX = x + (width - (houseCount * houseSize)) / 2;
+                Image houseImage = sprites.get(SpriteCache.Sprite.HOUSE, houseSize, houseSize, spriteScale);
 
                 for (int i = 0; i < houseCount; i++) {
                     if (houseImage != null) {
-                        g2d.drawImage(houseImage, startX + i * houseSize, y + 20, null);
+                        g2d.drawImage(houseImage, startX + i * houseSize, y + 20, houseSize, houseSize, null);
                     } else {
                         // Fallback drawing
                         g2d.setColor(Color.GREEN);
@@ -2156,6 +2350,9 @@ public class GUI extends JFrame {
      * Main method to launch the application
      */
     public static void main(String[] args) {
+        // Publish the game metrics so jconsole can watch them
+        GameMetrics.registerGlobal();
+
         // Launch the GUI on the event dispatch thread
         SwingUtilities.invokeLater(GUI::new);
     }
@@ -0,0 +1,169 @@
+package View;
+
+import javax.swing.*;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+/**
+ * List model backing the game log.
+ * Keeps the most recent messages in a fixed-size ring buffer so memory and append
+ * cost stay constant no matter how long the game runs. Messages pushed out of the
+ * buffer are appended to a spill file on disk instead of being lost.
+ * Paired with a fixed-height {@link JList}, only the rows on screen are ever rendered.
+ */
+public class GameLogModel extends AbstractListModel<String> {
+    private static final long serialVersionUID = 1L;
+
+    /** Default number of messages kept in memory. */
+    public static final int DEFAULT_RETENTION = 500;
+
+    private final String[] buffer;
+    private int head;   // index of the oldest retained message
+    private int size;
+    private long spilledCount;
+
+    private final File spillFile;
+    private BufferedWriter spillWriter;
+
+    /**
+     * Constructs a log model with the given retention limit.
+     *
+     * @param retention The maximum number of messages kept in memory
+     * @param spillFile The file older messages are appended to, or null to discard them
+     */
+    public GameLogModel(int retention, File spillFile) {
+        if (retention < 1) {
+            throw new IllegalArgumentException("Retention must be at least 1: " + retention);
+        }
+        this.buffer = new String[retention];
+        this.head = 0;
+        this.size = 0;
+        this.spilledCount = 0;
+        this.spillFile = spillFile;
+    }
+
+    /**
+     * Creates a log model using the retention from the {@code monopoly.log.retention}
+     * system property and a spill file in the temporary directory.
+     *
+     * @return The new log model
+     */
+    public static GameLogModel createDefault() {
+        int retention = Integer.getInteger("monopoly.log.retention", DEFAULT_RETENTION);
+        File spill = null;
+        try {
+            spill = File.createTempFile("monopoly-game-log-", ".txt");
+            spill.deleteOnExit();
+        } catch (IOException e) {
+            System.out.println("Could not create game log spill file, old log entries will be discarded.");
+        }
+        return new GameLogModel(Math.max(1, retention), spill);
+    }
+
+    /**
+     * Appends a message, evicting (and spilling) the oldest one if the buffer is full.
+     * Must be called on the event dispatch thread, like any Swing model change.
+     *
+     * @param message The message to append
+     */
+    public void append(String message) {
+        if (size == buffer.length) {
+            spill(buffer[head]);
+            buffer[head] = null;
+            head = (head + 1) % buffer.length;
+            size--;
+            fireIntervalRemoved(this, 0, 0);
+        }
+
+        buffer[(head + size) % buffer.length] = message;
+        size++;
+        fireIntervalAdded(this, size - 1, size - 1);
+    }
+
+    /**
+     * Gets the number of messages currently held in memory.
+     *
+     * @return The number of retained messages
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets a retained message, 0 being the oldest.
+     *
+     * @param index The index of the message
+     * @return The message
+     */
+    @Override
+    public String getElementAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return buffer[(head + index) % buffer.length];
+    }
+
+    /**
+     * Gets the maximum number of messages kept in memory.
+     *
+     * @return The retention limit
+     */
+    public int getRetention() {
+        return buffer.length;
+    }
+
+    /**
+     * Gets how many messages have been moved out of memory so far.
+     *
+     * @return The number of spilled messages
+     */
+    public long getSpilledCount() {
+        return spilledCount;
+    }
+
+    /**
+     * Gets the file older messages are written to.
+     *
+     * @return The spill file, or null if spilling is disabled
+     */
+    public File getSpillFile() {
+        return spillFile;
+    }
+
+    /**
+     * Flushes and closes the spill file.
+     */
+    public void close() {
+        if (spillWriter != null) {
+            try {
+                spillWriter.close();
+            } catch (IOException e) {
+                System.out.println("Could not close game log spill file: " + e.getMessage());
+            }
+            spillWriter = null;
+        }
+    }
+
+    /**
+     * Writes an evicted message to the spill file, opening it on first use.
+     */
+    private void spill(String message) {
+        spilledCount++;
+        if (spillFile == null) {
+            return;
+        }
+
+        try {
+            if (spillWriter == null) {
+                spillWriter = new BufferedWriter(new FileWriter(spillFile, true));
+            }
+            spillWriter.write(message);
+            spillWriter.newLine();
+        } catch (IOException e) {
+            System.out.println("Could not write to game log spill file: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package View;
+
+import Model.Board.Gameboard;
+import Model.Board.Player;
+import Model.GameState;
+
+import javax.swing.*;
+import javax.swing.border.Border;
+import java.awt.*;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+
+/**
+ * Persistent view of one player in the player information panel.
+ * The labels are created once and kept in sync by listening to the player's
+ * change events, so only the labels whose values changed are updated and the
+ * panel is never torn down and laid out again. Events fired from a background
+ * thread (auto-play) only mark the view as stale; it is brought up to date by the
+ * next throttled UI refresh, however many changes happened in between.
+ */
+public class PlayerInfoView extends JPanel implements PropertyChangeListener {
+    private static final long serialVersionUID = 1L;
+
+    private static final Border CURRENT_BORDER = BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(Color.RED, 2),
+            BorderFactory.createEmptyBorder(5, 5, 5, 5));
+    private static final Border NORMAL_BORDER = BorderFactory.createEmptyBorder(7, 7, 7, 7);
+
+    private final Player player;
+    private final GameState gameState;
+    private final Gameboard board;
+
+    private final JLabel currentLabel;
+    private final JLabel moneyLabel;
+    private final JLabel positionLabel;
+    private final JLabel propertiesLabel;
+    private final JLabel jailLabel;
+    private final JLabel cardLabel;
+
+    private boolean current;
+    private volatile boolean stale;
+
+    /**
+     * Constructs the view and starts listening to the player.
+     *
+     * @param player    The player shown
+     * @param gameState The game state, which holds jail status
+     * @param board     The board, used to name the player's position
+     */
+    public PlayerInfoView(Player player, GameState gameState, Gameboard board) {
+        this.player = player;
+        this.gameState = gameState;
+        this.board = board;
+
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+        setBorder(NORMAL_BORDER);
+
+        currentLabel = new JLabel("→ CURRENT PLAYER");
+        currentLabel.setForeground(Color.RED);
+        currentLabel.setFont(currentLabel.getFont().deriveFont(Font.BOLD));
+        currentLabel.setVisible(false);
+
+        JLabel nameLabel = new JLabel(player.getName() + " (" + player.getToken() + ")");
+        nameLabel.setFont(nameLabel.getFont().deriveFont(Font.BOLD, 14f));
+
+        moneyLabel = new JLabel();
+        positionLabel = new JLabel();
+        propertiesLabel = new JLabel();
+
+        jailLabel = new JLabel();
+        jailLabel.setForeground(Color.RED);
+
+        cardLabel = new JLabel("Has Get Out of Jail Free card");
+        cardLabel.setForeground(Color.BLUE);
+
+        add(currentLabel);
+        add(nameLabel);
+        add(moneyLabel);
+        add(positionLabel);
+        add(propertiesLabel);
+        add(jailLabel);
+        add(cardLabel);
+
+        refresh();
+        player.addPropertyChangeListener(this);
+    }
+
+    /**
+     * Gets the player shown by this view.
+     *
+     * @return The player
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Highlights or un-highlights this player as the one whose turn it is.
+     * Does nothing if the highlight is already in the requested state.
+     *
+     * @param current true if it is this player's turn
+     */
+    public void setCurrent(boolean current) {
+        if (this.current == current) {
+            return;
+        }
+        this.current = current;
+        currentLabel.setVisible(current);
+        setBorder(current ? CURRENT_BORDER : NORMAL_BORDER);
+    }
+
+    /**
+     * Stops listening to the player, e.g. when they leave the game.
+     */
+    public void dispose() {
+        player.removePropertyChangeListener(this);
+    }
+
+    /**
+     * Updates the labels for a change to the player, or marks the view as stale
+     * if the change was made off the event dispatch thread.
+     *
+     * @param event The change event
+     */
+    @Override
+    public void propertyChange(PropertyChangeEvent event) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            refresh();
+        } else {
+            stale = true;
+        }
+    }
+
+    /**
+     * Brings the labels up to date if the player changed off the event dispatch thread.
+     * Must be called on the event dispatch thread while holding the game lock.
+     */
+    public void refreshIfStale() {
+        if (stale) {
+            stale = false;
+            refresh();
+        }
+    }
+
+    /**
+     * Copies the player's current values into the labels, touching only
+     * the labels whose text actually changed.
+     */
+    private void refresh() {
+        setText(moneyLabel, "Money: $" + player.getMoney());
+        setText(positionLabel, "Position: " + board.getspace(player.getPosition()).getName());
+        setText(propertiesLabel, "Properties: " + player.getProperties().size());
+
+        boolean inJail = gameState.isPlayerInJail(player);
+        if (inJail) {
+            setText(jailLabel, "IN JAIL (" + player.getTurnsInJail() + " turns)");
+        }
+        jailLabel.setVisible(inJail);
+        cardLabel.setVisible(player.hasGetOutOfJailFreeCard());
+    }
+
+    private static void setText(JLabel label, String text) {
+        if (!text.equals(label.getText())) {
+            label.setText(text);
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package View;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Cache for the house and hotel sprites drawn on the board.
+ * The bundled images are read from the classpath on a background thread and
+ * every size the board asks for is scaled once, ahead of time, for the current
+ * display scale. Painting code only reads from the cache: a miss returns null so
+ * the caller can use its fallback drawing while the image is prepared.
+ *
+ * Only copies for one scale are kept. Asking for a different scale, as happens when
+ * the window moves to a screen with another device scale, drops the copies made for
+ * the old one, so the cache never holds more than one copy of each sprite size.
+ */
+public final class SpriteCache {
+
+    /**
+     * The sprites bundled with the game.
+     */
+    public enum Sprite {
+        HOUSE("/View/houses.png"),
+        HOTEL("/View/hotel.jpg");
+
+        private final String resource;
+
+        Sprite(String resource) {
+            this.resource = resource;
+        }
+
+        /**
+         * Gets the classpath location of the sprite image.
+         *
+         * @return The resource path
+         */
+        public String getResource() {
+            return resource;
+        }
+    }
+
+    private static final SpriteCache INSTANCE = new SpriteCache();
+
+    private final ExecutorService loader;
+    private final Map<Sprite, BufferedImage> sources;
+    private final Map<Key, BufferedImage> scaled;
+    private final Set<Key> pending;
+    private final Set<Sprite> failed;
+    private final List<Runnable> readyListeners;
+    private volatile int scalePercent = -1;
+
+    private SpriteCache() {
+        this.loader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sprite-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sources = new ConcurrentHashMap<>();
+        this.scaled = new ConcurrentHashMap<>();
+        this.pending = ConcurrentHashMap.newKeySet();
+        this.failed = ConcurrentHashMap.newKeySet();
+        this.readyListeners = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Gets the shared sprite cache.
+     *
+     * @return The sprite cache
+     */
+    public static SpriteCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers a callback that is run on the event dispatch thread whenever
+     * a newly scaled sprite becomes available (typically a repaint).
+     *
+     * @param listener The callback to run
+     */
+    public void addReadyListener(Runnable listener) {
+        readyListeners.add(listener);
+    }
+
+    /**
+     * Removes a callback registered with {@link #addReadyListener(Runnable)}.
+     *
+     * @param listener The callback to remove
+     */
+    public void removeReadyListener(Runnable listener) {
+        readyListeners.remove(listener);
+    }
+
+    /**
+     * Starts loading a sprite and scaling it to the given logical sizes in the background.
+     * Returns immediately.
+     *
+     * @param sprite The sprite to prepare
+     * @param scale  The display scale
+     * @param sizes  Logical square sizes (in board pixels) the sprite will be drawn at
+     */
+    public void preload(Sprite sprite, double scale, int... sizes) {
+        for (int size : sizes) {
+            Key key = new Key(sprite, size, size, scale);
+            useScale(key.scalePercent);
+            request(key);
+        }
+    }
+
+    /**
+     * Gets a sprite scaled for drawing at the given logical size.
+     * Never blocks: if the scaled copy is not ready yet it is queued and null is returned.
+     *
+     * @param sprite The sprite to draw
+     * @param width  The logical width it will be drawn at
+     * @param height The logical height it will be drawn at
+     * @param scale  The display scale
+     * @return The pre-scaled image, or null if it is not available (yet)
+     */
+    public Image get(Sprite sprite, int width, int height, double scale) {
+        Key key = new Key(sprite, width, height, scale);
+        useScale(key.scalePercent);
+        BufferedImage image = scaled.get(key);
+        if (image == null) {
+            request(key);
+        }
+        return image;
+    }
+
+    /**
+     * Gets the device scale of the screen a component is shown on.
+     *
+     * @param component The component being painted
+     * @return The device scale, 1.0 when unknown or headless
+     */
+    public static double deviceScale(Component component) {
+        GraphicsConfiguration configuration = component.getGraphicsConfiguration();
+        if (configuration == null) {
+            if (GraphicsEnvironment.isHeadless()) {
+                return 1.0;
+            }
+            configuration = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+        }
+        AffineTransform transform = configuration.getDefaultTransform();
+        return transform.getScaleX();
+    }
+
+    /**
+     * Queues a key for scaling unless it is already cached, queued, or its source failed to load.
+     */
+    private void request(Key key) {
+        if (scaled.containsKey(key) || failed.contains(key.sprite) || !pending.add(key)) {
+            return;
+        }
+        loader.execute(() -> {
+            try {
+                BufferedImage source = loadSource(key.sprite);
+                // A copy finished after the scale changed would never be asked for again
+                if (source != null && key.scalePercent == scalePercent) {
+                    scaled.put(key, scale(source, key.pixelWidth(), key.pixelHeight()));
+                    notifyReady();
+                }
+            } finally {
+                pending.remove(key);
+            }
+        });
+    }
+
+    /**
+     * Drops the scaled copies made for any other scale when the scale changes.
+     */
+    private void useScale(int percent) {
+        if (percent != scalePercent) {
+            synchronized (scaled) {
+                if (percent != scalePercent) {
+                    scalePercent = percent;
+                    scaled.keySet().removeIf(key -> key.scalePercent != percent);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the source image of a sprite, once. Runs on the loader thread only.
+     */
+    private BufferedImage loadSource(Sprite sprite) {
+        BufferedImage source = sources.get(sprite);
+        if (source != null) {
+            return source;
+        }
+
+        try (InputStream in = SpriteCache.class.getResourceAsStream(sprite.getResource())) {
+            if (in != null) {
+                source = ImageIO.read(in);
+            }
+        } catch (IOException e) {
+            source = null;
+        }
+
+        if (source == null) {
+            System.out.println("Could not load sprite " + sprite.getResource() + ", using fallback drawing.");
+            failed.add(sprite);
+            return null;
+        }
+
+        sources.put(sprite, source);
+        return source;
+    }
+
+    /**
+     * Scales an image down with repeated bilinear halving, which gives results close to
+     * SCALE_SMOOTH at a fraction of the cost and without producing a lazy Image.
+     */
+    private static BufferedImage scale(BufferedImage source, int targetWidth, int targetHeight) {
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage step = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2d = step.createGraphics();
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2d.drawImage(current, 0, 0, width, height, null);
+            g2d.dispose();
+            current = step;
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    private void notifyReady() {
+        SwingUtilities.invokeLater(() -> {
+            for (Runnable listener : readyListeners) {
+                listener.run();
+            }
+        });
+    }
+
+    /**
+     * Identifies one scaled copy of a sprite.
+     */
+    private static final class Key {
+        private final Sprite sprite;
+        private final int width;
+        private final int height;
+        private final int scalePercent;
+
+        Key(Sprite sprite, int width, int height, double scale) {
+            this.sprite = sprite;
+            this.width = width;
+            this.height = height;
+            this.scalePercent = (int) Math.round(scale * 100);
+        }
+
+        int pixelWidth() {
+            return Math.max(1, (int) Math.ceil(width * scalePercent / 100.0));
+        }
+
+        int pixelHeight() {
+            return Math.max(1, (int) Math.ceil(height * scalePercent / 100.0));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return sprite == other.sprite && width == other.width
+                    && height == other.height && scalePercent == other.scalePercent;
+        }
+
+        @Override
+        public int hashCode() {
+            return ((sprite.ordinal() * 31 + width) * 31 + height) * 31 + scalePercent;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package Controller;
+
+import Model.Board.Bank;
+import Model.Board.ComputerPlayer;
+import Model.Board.Gameboard;
+import Model.Board.Player;
+import Model.GameLog;
+import Model.GameState;
+import Model.Metrics.GameMetrics;
+import Model.Property.Property;
+import Model.Spaces.Ownable;
+import Model.Spaces.Space;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Allocation regression test for the turn loop. With commentary off and no recording running,
+ * a turn in a running game must not allocate: the test plays computer players on the standard
+ * board, cards and all, for a long warm-up so everything is compiled and every owner is settled,
+ * then measures the bytes the thread allocates over many more turns against a small fixed budget.
+ */
+public class TurnLoopAllocationTest {
+
+    // Long enough that the ledger's log has reached its limit and folds as it goes
+    private static final int WARM_UP_TURNS = 100_000;
+    private static final int MEASURED_TURNS = 20_000;
+    // Room for a one-off, such as a method being recompiled during the window; anything
+    // allocated turn after turn, even by one card in the deck, comes to far more
+    private static final long ALLOCATION_BUDGET_BYTES = 1024;
+
+    private BoardController controller;
+    private GameState gameState;
+
+    @Before
+    public void setUp() {
+        GameLog.setEnabled(false);
+
+        List<Player> players = new ArrayList<>();
+        players.add(new ComputerPlayer("Computer 1"));
+        players.add(new ComputerPlayer("Computer 2"));
+        players.add(new ComputerPlayer("Computer 3"));
+
+        // The standard board, so turns draw cards, pay taxes and go to jail as in play
+        Gameboard board = new Gameboard();
+        Bank bank = new Bank();
+        gameState = new GameState(players, board);
+        gameState.setBank(bank);
+        gameState.setMetrics(new GameMetrics());
+        gameState.setSeed(20240601L);
+
+        // Everything is owned, so no turn buys or auctions anything
+        int next = 0;
+        for (Space space : board.getSpaces()) {
+            if (space instanceof Ownable) {
+                Player owner = players.get(next++ % players.size());
+                space.setOwner(owner);
+                if (space instanceof Property) {
+                    owner.addProperty((Property) space);
+                }
+            }
+        }
+        for (Player player : players) {
+            player.addMoney(100_000_000);
+        }
+
+        controller = new BoardController(gameState, board, bank, players);
+    }
+
+    @After
+    public void tearDown() {
+        GameLog.setEnabled(true);
+    }
+
+    @Test
+    public void testTurnAllocatesNothing() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocation = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(allocation.isThreadAllocatedMemorySupported());
+        allocation.setThreadAllocatedMemoryEnabled(true);
+
+        for (int i = 0; i < WARM_UP_TURNS; i++) {
+            controller.nextTurn();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = allocation.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_TURNS; i++) {
+            controller.nextTurn();
+        }
+        long allocated = allocation.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(gameState.isGameActive());
+        assertTrue(gameState.getLedger().getFirstEntry() > 0);
+        assertTrue("Allocated " + allocated + " bytes over " + MEASURED_TURNS + " turns",
+                allocated <= ALLOCATION_BUDGET_BYTES);
+    }
+}
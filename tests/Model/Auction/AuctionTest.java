@@ -0,0 +1,214 @@
+package Model.Auction;
+
+import Model.Board.Player;
+import Model.Property.Property;
+import Model.Spaces.FreeParkingSpace;
+import Model.Spaces.Space;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the Auction class
+ */
+public class AuctionTest {
+
+    private Property boardwalk;
+    private Player alice;
+    private Player bob;
+
+    @Before
+    public void setUp() {
+        boardwalk = new Property("Boardwalk", 39, 400, "Dark Blue");
+        alice = new Player("Alice");
+        bob = new Player("Bob");
+        alice.addMoney(1000);
+        bob.addMoney(1000);
+    }
+
+    @Test
+    public void testEnglishHighestValuationWins() {
+        Auction auction = new Auction(boardwalk, AuctionFormat.ENGLISH, 1);
+        auction.addBidder(alice, new ValuationBidder(alice, 300));
+        auction.addBidder(bob, new ValuationBidder(bob, 250));
+
+        Player winner = auction.run();
+
+        assertSame(alice, winner);
+        assertTrue(auction.getHighBid() >= 250);
+        assertTrue(auction.getHighBid() <= 300);
+    }
+
+    @Test
+    public void testSealedHighestBidWins() {
+        Auction auction = new Auction(boardwalk, AuctionFormat.SEALED, 1);
+        auction.addBidder(alice, new ValuationBidder(alice, 300));
+        auction.addBidder(bob, new ValuationBidder(bob, 350));
+
+        assertSame(bob, auction.run());
+        assertEquals(350, auction.getHighBid());
+    }
+
+    @Test
+    public void testInSeatOrderRunsOnCallingThread() {
+        Auction auction = new Auction(boardwalk, AuctionFormat.ENGLISH, 1);
+        auction.setInSeatOrder(true);
+        List<Thread> askedOn = new ArrayList<>();
+        ValuationBidder aliceLimit = new ValuationBidder(alice, 300);
+        auction.addBidder(alice, (lot, highBid, format) -> {
+            askedOn.add(Thread.currentThread());
+            return aliceLimit.nextBid(lot, highBid, format);
+        });
+        auction.addBidder(bob, new ValuationBidder(bob, 250));
+
+        assertSame(alice, auction.run());
+        assertFalse(askedOn.isEmpty());
+        for (Thread thread : askedOn) {
+            assertSame(Thread.currentThread(), thread);
+        }
+    }
+
+    @Test
+    public void testInSeatOrderRepeats() {
+        Player first = null;
+        int firstBid = 0;
+        for (int i = 0; i < 20; i++) {
+            // Equal limits, so only the order of asking decides the winner
+            Auction auction = new Auction(boardwalk, AuctionFormat.ENGLISH, 1);
+            auction.setInSeatOrder(true);
+            auction.addBidder(alice, new ValuationBidder(alice, 300));
+            auction.addBidder(bob, new ValuationBidder(bob, 300));
+
+            Player winner = auction.run();
+            if (first == null) {
+                first = winner;
+                firstBid = auction.getHighBid();
+            }
+            assertSame(first, winner);
+            assertEquals(firstBid, auction.getHighBid());
+        }
+    }
+
+    @Test
+    public void testNoBids() {
+        Auction auction = new Auction(boardwalk, AuctionFormat.ENGLISH, 1);
+        auction.addBidder(alice, (lot, highBid, format) -> 0);
+
+        assertNull(auction.run());
+        assertEquals(0, auction.getHighBid());
+    }
+
+    @Test
+    public void testSlowBidderTimesOut() {
+        Auction auction = new Auction(boardwalk, AuctionFormat.ENGLISH, 1);
+        auction.setBidderTimeoutMillis(20);
+        auction.addBidder(alice, new ValuationBidder(alice, 100));
+        auction.addBidder(bob, (lot, highBid, format) -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                return 0;
+            }
+            return highBid + 100;
+        });
+
+        long start = System.currentTimeMillis();
+        Player winner = auction.run();
+
+        assertSame(alice, winner);
+        assertTrue(System.currentTimeMillis() - start < 2000);
+    }
+
+    @Test
+    public void testLateBidAfterTimeoutIsIgnored() throws Exception {
+        Auction auction = new Auction(boardwalk, AuctionFormat.ENGLISH, 1);
+        auction.setBidderTimeoutMillis(20);
+        CountDownLatch answered = new CountDownLatch(1);
+        auction.addBidder(bob, (lot, highBid, format) -> {
+            // Ignores being cancelled and answers after the timeout anyway
+            long wakeUp = System.currentTimeMillis() + 200;
+            while (System.currentTimeMillis() < wakeUp) {
+                Thread.interrupted();
+            }
+            answered.countDown();
+            return highBid + 100;
+        });
+
+        assertEquals(0, auction.solicitBids());
+        assertTrue(answered.await(2, TimeUnit.SECONDS));
+        Thread.sleep(50);
+
+        assertNull(auction.getLeader());
+        assertEquals(0, auction.getHighBid());
+    }
+
+    @Test
+    public void testHumanBidDuringRoundTimeout() throws Exception {
+        Auction auction = new Auction(boardwalk, AuctionFormat.ENGLISH, 1);
+        auction.setRoundTimeoutMillis(2000);
+        auction.addHumanBidder(alice);
+        auction.addBidder(bob, new ValuationBidder(bob, 50));
+
+        Thread human = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ignored) {
+            }
+            auction.placeBid(alice, 200);
+        });
+        human.start();
+        auction.setRoundTimeoutMillis(500);
+        Player winner = auction.run();
+        human.join();
+
+        assertSame(alice, winner);
+        assertEquals(200, auction.getHighBid());
+    }
+
+    @Test
+    public void testUnknownPlayerCannotBid() {
+        Auction auction = new Auction(boardwalk, AuctionFormat.ENGLISH, 1);
+        auction.addHumanBidder(alice);
+
+        assertFalse(auction.placeBid(bob, 10));
+        assertTrue(auction.placeBid(alice, 10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOnlyPurchasableSpaces() {
+        Space freeParking = new FreeParkingSpace();
+        new Auction(freeParking, AuctionFormat.ENGLISH, 1);
+    }
+
+    @Test
+    public void testClosedAuctionRejectsBids() {
+        Auction auction = new Auction(boardwalk, AuctionFormat.ENGLISH, 1);
+        auction.addHumanBidder(alice);
+        auction.close();
+
+        assertFalse(auction.placeBid(alice, 10));
+    }
+
+    @Test
+    public void testTopBidPerParticipant() {
+        Player carol = new Player("Carol");
+        Auction auction = new Auction(boardwalk, AuctionFormat.SEALED, 1);
+        auction.addBidder(alice, new ValuationBidder(alice, 300));
+        auction.addBidder(bob, (lot, highBid, format) -> 0);
+        auction.addHumanBidder(carol);
+        auction.setRoundTimeoutMillis(10);
+
+        auction.run();
+
+        assertEquals(3, auction.getParticipants().size());
+        assertEquals(300, auction.getTopBid(alice));
+        assertEquals(0, auction.getTopBid(bob));
+        assertEquals(0, auction.getTopBid(carol));
+    }
+}
@@ -0,0 +1,144 @@
+package Model.Auction;
+
+import Model.Board.Player;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the BidBook class
+ */
+public class BidBookTest {
+
+    private Player alice;
+    private Player bob;
+
+    @Before
+    public void setUp() {
+        alice = new Player("Alice");
+        bob = new Player("Bob");
+        alice.addMoney(500);
+        bob.addMoney(500);
+    }
+
+    @Test
+    public void testEnglishBidsMustRaise() {
+        BidBook book = new BidBook(AuctionFormat.ENGLISH, 5);
+
+        assertTrue(book.place(alice, 10));
+        assertFalse(book.place(bob, 12));
+        assertTrue(book.place(bob, 15));
+        assertFalse(book.place(bob, 30)); // already winning
+
+        assertSame(bob, book.getLeader());
+        assertEquals(15, book.getHighBid());
+        assertEquals(2, book.getVersion());
+    }
+
+    @Test
+    public void testCannotBidMoreThanCash() {
+        BidBook book = new BidBook(AuctionFormat.ENGLISH, 1);
+
+        assertFalse(book.place(alice, alice.getMoney() + 1));
+        assertFalse(book.place(alice, 0));
+        assertNull(book.getLeader());
+    }
+
+    @Test
+    public void testSealedOneBidEachHighestWins() {
+        BidBook book = new BidBook(AuctionFormat.SEALED, 1);
+
+        assertTrue(book.place(alice, 120));
+        assertFalse(book.place(alice, 200));
+        assertTrue(book.place(bob, 80));
+
+        assertSame(alice, book.getLeader());
+        assertEquals(120, book.getHighBid());
+        assertEquals(0, book.getVisibleHighBid());
+        assertEquals(2, book.getSealedBidCount());
+    }
+
+    @Test
+    public void testSealedTieGoesToEarliest() {
+        BidBook book = new BidBook(AuctionFormat.SEALED, 1);
+        book.place(bob, 100);
+        book.place(alice, 100);
+
+        assertSame(bob, book.getLeader());
+    }
+
+    @Test
+    public void testClosedBookRejectsBids() {
+        BidBook book = new BidBook(AuctionFormat.ENGLISH, 1);
+        book.close();
+
+        assertFalse(book.place(alice, 10));
+        assertTrue(book.isClosed());
+    }
+
+    @Test
+    public void testAwaitBidWakesOnBid() throws Exception {
+        BidBook book = new BidBook(AuctionFormat.ENGLISH, 1);
+        Thread bidder = new Thread(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException ignored) {
+            }
+            book.place(alice, 10);
+        });
+        bidder.start();
+
+        assertTrue(book.awaitBid(0, 5000));
+        assertFalse(book.awaitBid(book.getVersion(), 10));
+        bidder.join();
+    }
+
+    @Test
+    public void testConcurrentBidsKeepBookConsistent() throws Exception {
+        BidBook book = new BidBook(AuctionFormat.ENGLISH, 1);
+        List<Player> bidders = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Player player = new Player("Bidder " + i);
+            player.addMoney(10000);
+            bidders.add(player);
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        int[] accepted = new int[bidders.size()];
+        for (int i = 0; i < bidders.size(); i++) {
+            int index = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ignored) {
+                }
+                for (int bid = 1; bid <= 500; bid++) {
+                    if (book.place(bidders.get(index), bid)) {
+                        accepted[index]++;
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        int total = 0;
+        for (int count : accepted) {
+            total += count;
+        }
+        // Every accepted bid raised the price by at least $1
+        assertEquals(total, book.getVersion());
+        assertTrue(book.getHighBid() >= total);
+        assertTrue(book.getHighBid() <= 500);
+    }
+}
@@ -1,6 +1,11 @@
 package Model.Board;
 
+import Model.Board.Strategy.HeuristicStrategy;
+import Model.GameLog;
+import Model.Board.Strategy.StrategyParameters;
+import Model.Property.ColorGroup;
 import Model.Property.Property;
+import Model.Property.PropertyColor;
 import Model.Spaces.RailroadSpace;
 import Model.Spaces.UtilitySpace;
 import org.junit.Before;
@@ -10,6 +15,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.*;
 
@@ -37,6 +43,7 @@ public class BankTest {
         bank = new Bank();
         player = new Player("Test Player");
         gameboard = new Gameboard();
+        bank.setGameboard(gameboard);
 
         // Create test properties
         property1 = new Property("Test Property", 1, 200, "Brown");
@@ -135,7 +142,7 @@ public class BankTest {
     public void testBuyBackHouses() {
         // Set up a property with houses
         property1.setOwner(player);
-        property1.setHouses(2); // 2 houses
+        bank.getBuildingInventory().apply(List.of(property1), new int[]{2}); // 2 houses from the bank
         player.getProperties().add(property1);
 
         // Test buying back houses
@@ -301,6 +308,31 @@ public class BankTest {
         }
     }
 
+    @Test
+    public void testSalesAndAuctionsSilentWhenLogDisabled() {
+        Player rival = new Player("Rival");
+        List<Player> bidders = new ArrayList<>();
+        bidders.add(player);
+        bidders.add(rival);
+
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(outContent));
+        GameLog.setEnabled(false);
+
+        try {
+            assertTrue(bank.sellProperty(property1, player));
+            assertFalse(bank.sellProperty(property1, rival));
+            assertNotNull(bank.auction(property2, bidders));
+            assertNull(bank.auction(railroad, new ArrayList<>()));
+
+            assertEquals("", outContent.toString());
+        } finally {
+            GameLog.setEnabled(true);
+            System.setOut(originalOut);
+        }
+    }
+
     @Test
     public void testAuctionRailroad_NoValidBidders() {
         // Create a test railroad
@@ -412,4 +444,321 @@ public class BankTest {
             System.setOut(originalOut);
         }
     }
-}
\ No newline at end of file
+
+    private List<Property> giveColorGroup(Player owner, String colorGroup) {
+        List<Property> group = gameboard.getPropertiesByColorGroup(colorGroup);
+        for (Property property : group) {
+            property.setOwner(owner);
+            owner.addProperty(property);
+        }
+        return group;
+    }
+
+    @Test
+    public void testBuildHousesSpreadsEvenly() {
+        List<Property> brown = giveColorGroup(player, "Brown");
+        int initialMoney = player.getMoney();
+
+        assertTrue(bank.buildHouses(player, "Brown", 3, gameboard));
+
+        assertEquals(3, brown.get(0).getHouses() + brown.get(1).getHouses());
+        assertTrue(Math.abs(brown.get(0).getHouses() - brown.get(1).getHouses()) <= 1);
+        assertEquals(MAX_HOUSES - 3, bank.getHouses());
+        assertEquals(initialMoney - 150, player.getMoney());
+    }
+
+    @Test
+    public void testBuildHousesRejectedLeavesNothingChanged() {
+        List<Property> brown = giveColorGroup(player, "Brown");
+
+        // 11 levels would go past a hotel on each property
+        assertFalse(bank.buildHouses(player, "Brown", 11, gameboard));
+
+        assertEquals(0, brown.get(0).getHouses());
+        assertEquals(MAX_HOUSES, bank.getHouses());
+    }
+
+    @Test
+    public void testBuildHousesMortgagedGroup() {
+        List<Property> brown = giveColorGroup(player, "Brown");
+        brown.get(0).setMortgaged(true);
+
+        assertFalse(bank.buildHouses(player, "Brown", 2, gameboard));
+        assertEquals(MAX_HOUSES, bank.getHouses());
+    }
+
+    @Test
+    public void testHotelReturnsHousesAndBuyBackTakesThem() {
+        List<Property> brown = giveColorGroup(player, "Brown");
+
+        assertTrue(bank.buildHouses(player, "Brown", 9, gameboard));
+        assertEquals(MAX_HOUSES - 4, bank.getHouses());
+        assertEquals(MAX_HOTELS - 1, bank.getHotels());
+
+        assertTrue(bank.buyBackBuildings(player, "Brown", 1, gameboard));
+        assertFalse(brown.get(0).hasHotel() || brown.get(1).hasHotel());
+        assertEquals(MAX_HOUSES - 8, bank.getHouses());
+        assertEquals(MAX_HOTELS, bank.getHotels());
+    }
+
+    @Test
+    public void testBuyBackHousesFromHotel() {
+        giveColorGroup(player, "Brown");
+        bank.buildHouses(player, "Brown", 10, gameboard);
+        Property property = gameboard.getPropertiesByColorGroup("Brown").get(0);
+
+        assertTrue(bank.buyBackHouses(property, player, 1));
+
+        assertEquals(4, property.getHouses());
+        assertFalse(property.hasHotel());
+        assertEquals(MAX_HOUSES - 4, bank.getHouses());
+    }
+
+    @Test
+    public void testBuyBackHousesKeepsGroupEven() {
+        giveColorGroup(player, "Brown");
+        bank.buildHouses(player, "Brown", 10, gameboard);
+        Property property = gameboard.getPropertiesByColorGroup("Brown").get(0);
+
+        // A hotel beside 3 houses would leave the group uneven
+        assertFalse(bank.buyBackHouses(property, player, 2));
+
+        assertTrue(property.hasHotel());
+        assertEquals(MAX_HOUSES, bank.getHouses());
+    }
+
+    @Test
+    public void testSellHotelNeedsWholeGroupBuiltUp() {
+        List<Property> brown = giveColorGroup(player, "Brown");
+        bank.buildHouses(player, "Brown", 7, gameboard);
+        Property withFour = brown.get(0).getHouses() == 4 ? brown.get(0) : brown.get(1);
+
+        // The other property has only 3 houses
+        assertFalse(bank.sellHotel(withFour, player));
+        assertFalse(withFour.hasHotel());
+        assertEquals(MAX_HOTELS, bank.getHotels());
+
+        assertTrue(bank.buildHouses(player, "Brown", 1, gameboard));
+        assertTrue(bank.sellHotel(withFour, player));
+        assertTrue(withFour.hasHotel());
+    }
+
+    @Test
+    public void testBuildingsConservedAcrossTrades() {
+        giveColorGroup(player, "Brown");
+        bank.buildHouses(player, "Brown", 10, gameboard);
+        bank.buyBackBuildings(player, "Brown", 10, gameboard);
+
+        assertEquals(MAX_HOUSES, bank.getHouses());
+        assertEquals(MAX_HOTELS, bank.getHotels());
+    }
+
+    @Test
+    public void testPlaceBuildOrdersWithEnoughHouses() {
+        Player other = new Player("Other Player");
+        giveColorGroup(player, "Brown");
+        giveColorGroup(other, "Light Blue");
+
+        List<BuildOrder> orders = new ArrayList<>();
+        orders.add(new BuildOrder(player, "Brown", 2));
+        orders.add(new BuildOrder(other, "Light Blue", 3));
+        Map<Player, Integer> built = bank.placeBuildOrders(orders, gameboard);
+
+        assertEquals(Integer.valueOf(2), built.get(player));
+        assertEquals(Integer.valueOf(3), built.get(other));
+        assertEquals(MAX_HOUSES - 5, bank.getHouses());
+    }
+
+    @Test
+    public void testPlaceBuildOrdersAuctionsShortage() {
+        Player other = new Player("Other Player");
+        other.addMoney(5000);
+        player.addMoney(5000);
+        giveColorGroup(player, "Light Blue");
+        giveColorGroup(other, "Red");
+
+        // Use up all but 5 houses
+        giveColorGroup(other, "Dark Blue");
+        giveColorGroup(other, "Green");
+        giveColorGroup(other, "Pink");
+        bank.buildHouses(other, "Green", 12, gameboard);
+        bank.buildHouses(other, "Dark Blue", 8, gameboard);
+        bank.buildHouses(other, "Pink", 7, gameboard);
+        assertEquals(5, bank.getHouses());
+
+        List<BuildOrder> orders = new ArrayList<>();
+        orders.add(new BuildOrder(player, "Light Blue", 6));
+        orders.add(new BuildOrder(other, "Red", 6));
+        int moneyBefore = player.getMoney() + other.getMoney();
+
+        Map<Player, Integer> built = bank.placeBuildOrders(orders, gameboard);
+
+        assertEquals(0, bank.getHouses());
+        assertEquals(5, built.get(player) + built.get(other));
+        int spent = moneyBefore - player.getMoney() - other.getMoney();
+        assertTrue(spent >= 5 * 50);
+        assertTrue(spent <= 5 * 2 * 150);
+    }
+
+    @Test
+    public void testPlaceBuildOrdersShortageBidsFromStrategies() {
+        ComputerPlayer keen = new ComputerPlayer("Keen", new HeuristicStrategy(
+                StrategyParameters.standard().withWeight("Light Blue", 3.0)));
+        ComputerPlayer cautious = new ComputerPlayer("Cautious", new HeuristicStrategy());
+        keen.addMoney(5000);
+        cautious.addMoney(5000);
+        giveColorGroup(keen, "Light Blue");
+        giveColorGroup(cautious, "Orange");
+
+        // Use up all but 2 houses
+        giveColorGroup(player, "Green");
+        giveColorGroup(player, "Dark Blue");
+        giveColorGroup(player, "Pink");
+        player.addMoney(5000);
+        bank.buildHouses(player, "Green", 12, gameboard);
+        bank.buildHouses(player, "Dark Blue", 8, gameboard);
+        bank.buildHouses(player, "Pink", 10, gameboard);
+        assertEquals(2, bank.getHouses());
+
+        List<BuildOrder> orders = new ArrayList<>();
+        orders.add(new BuildOrder(cautious, "Orange", 2));
+        orders.add(new BuildOrder(keen, "Light Blue", 2));
+        int keenMoney = keen.getMoney();
+
+        Map<Player, Integer> built = bank.placeBuildOrders(orders, gameboard);
+
+        // Keen values Light Blue at 3 x 2 x $50 = $300, over Cautious's 2 x $100 = $200,
+        // so it wins both houses for a step over Cautious's limit
+        assertEquals(Integer.valueOf(2), built.get(keen));
+        assertEquals(Integer.valueOf(0), built.get(cautious));
+        assertEquals(keenMoney - 2 * 210, keen.getMoney());
+    }
+
+    @Test
+    public void testDevelopColorGroupToTarget() {
+        List<Property> lightBlue = giveColorGroup(player, "Light Blue");
+        int initialMoney = player.getMoney();
+
+        assertTrue(bank.developColorGroup(player, lightBlue, new int[]{3, 3, 4}));
+
+        assertEquals(3, lightBlue.get(0).getHouses());
+        assertEquals(4, lightBlue.get(2).getHouses());
+        assertEquals(MAX_HOUSES - 10, bank.getHouses());
+        assertEquals(initialMoney - 10 * 50, player.getMoney());
+    }
+
+    @Test
+    public void testDevelopColorGroupNotEnoughMoney() {
+        List<Property> lightBlue = giveColorGroup(player, "Light Blue");
+        player.subtractMoney(player.getMoney() - 100);
+
+        assertFalse(bank.developColorGroup(player, lightBlue, new int[]{1, 1, 1}));
+
+        assertEquals(0, lightBlue.get(0).getHouses());
+        assertEquals(100, player.getMoney());
+        assertEquals(MAX_HOUSES, bank.getHouses());
+    }
+
+    @Test
+    public void testDevelopColorGroupSellsDown() {
+        List<Property> lightBlue = giveColorGroup(player, "Light Blue");
+        bank.developColorGroup(player, lightBlue, new int[]{2, 2, 2});
+        int moneyBefore = player.getMoney();
+
+        assertTrue(bank.developColorGroup(player, lightBlue, new int[]{1, 0, 1}));
+
+        assertEquals(moneyBefore + 4 * 50 / 2, player.getMoney());
+        assertEquals(MAX_HOUSES - 2, bank.getHouses());
+    }
+
+    @Test
+    public void testDevelopColorGroupRequiresMonopoly() {
+        List<Property> lightBlue = giveColorGroup(player, "Light Blue");
+        lightBlue.get(1).setOwner(new Player("Other Player"));
+
+        assertFalse(bank.developColorGroup(player, lightBlue, new int[]{1, 1, 1}));
+        assertEquals(MAX_HOUSES, bank.getHouses());
+    }
+
+    @Test
+    public void testDevelopColorGroupRejectsPartialGroup() {
+        Property boardwalk = gameboard.getPropertiesByColorGroup("Dark Blue").get(1);
+        boardwalk.setOwner(player);
+        player.addProperty(boardwalk);
+        int initialMoney = player.getMoney();
+
+        assertFalse(bank.developColorGroup(player, List.of(boardwalk), new int[]{5}));
+
+        assertFalse(boardwalk.hasHotel());
+        assertEquals(0, boardwalk.getHouses());
+        assertEquals(MAX_HOTELS, bank.getHotels());
+        assertEquals(initialMoney, player.getMoney());
+    }
+
+    @Test
+    public void testDevelopColorGroupRejectsPartialColorGroup() {
+        List<Property> darkBlue = giveColorGroup(player, "Dark Blue");
+        ColorGroup group = new ColorGroup(PropertyColor.DARK_BLUE);
+        group.addProperty(darkBlue.get(1));
+
+        assertFalse(bank.developColorGroup(player, group, new int[]{1}));
+        assertEquals(MAX_HOUSES, bank.getHouses());
+    }
+
+    @Test
+    public void testDevelopColorGroupNeedsBoard() {
+        List<Property> lightBlue = giveColorGroup(player, "Light Blue");
+        Bank boardless = new Bank();
+
+        assertFalse(boardless.developColorGroup(player, lightBlue, new int[]{1, 1, 1}));
+        assertEquals(0, lightBlue.get(0).getHouses());
+    }
+
+    @Test
+    public void testDevelopColorGroupFromColorGroup() {
+        ColorGroup group = new ColorGroup(PropertyColor.DARK_BLUE);
+        for (Property property : gameboard.getPropertiesByColorGroup("Dark Blue")) {
+            property.setOwner(player);
+            group.addProperty(property);
+        }
+
+        assertTrue(bank.developColorGroup(player, group, new int[]{1, 2}));
+        assertEquals(MAX_HOUSES - 3, bank.getHouses());
+    }
+
+    @Test
+    public void testAuctionGoesToHighestBidder() {
+        Player rich = new Player("Rich Player");
+        rich.addMoney(1000);
+        Player poor = new Player("Poor Player");
+        poor.subtractMoney(poor.getMoney());
+        poor.addMoney(100);
+        List<Player> bidders = new ArrayList<>();
+        bidders.add(poor);
+        bidders.add(rich);
+        int before = rich.getMoney();
+
+        Player winner = bank.auction(property1, bidders);
+
+        assertSame(rich, winner);
+        assertSame(rich, property1.getOwner());
+        assertTrue(rich.getProperties().contains(property1));
+        assertFalse(bank.getAvailableProperties().contains(property1));
+        assertTrue(before - rich.getMoney() >= 100);
+        assertTrue(before - rich.getMoney() <= property1.getPrice());
+    }
+
+    @Test
+    public void testAuctionRailroadSetsOwner() {
+        Player bidder = new Player("Bidder");
+        bidder.addMoney(500);
+        List<Player> bidders = new ArrayList<>();
+        bidders.add(bidder);
+        int before = bidder.getMoney();
+
+        bank.auctionRailroad(railroad, bidders);
+
+        assertSame(bidder, railroad.getOwner());
+        assertTrue(bidder.getMoney() < before);
+    }
+}
@@ -0,0 +1,197 @@
+package Model.Board;
+
+import Model.GameState;
+import Model.Property.Property;
+import Model.Spaces.JailSpace;
+import Model.Spaces.RailroadSpace;
+import Model.Spaces.Space;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the BoardDefinition class
+ */
+public class BoardDefinitionTest {
+
+    private static final String SMALL_BOARD = String.join("\n",
+            "# A twelve-space house board",
+            "name|Small",
+            "group|Brown|50",
+            "group|Dark Blue|200",
+            "railroad-rents|30|90",
+            "utility-multipliers|5",
+            "space|0|go|Go",
+            "space|1|property|Old Kent Road|Brown|60|2|10|30|90|160|250",
+            "space|2|tax|Income Tax|150",
+            "space|3|property|Whitechapel Road|Brown|60|4|20|60|180|320|450",
+            "space|4|railroad|Kings Cross|180",
+            "space|5|jail|Jail",
+            "space|6|chance|Chance",
+            "space|7|utility|Water Works|120",
+            "space|8|railroad|Fenchurch Street|180",
+            "space|9|gotojail|Go To Jail",
+            "space|10|property|Park Lane|Dark Blue|350|35|175|500|1100|1300|1500",
+            "space|11|property|Mayfair|Dark Blue|400|50|200|600|1400|1700|2000",
+            "card|chance|Advance to Go. Collect $200.",
+            "card|chest|Bank error in your favor. Collect $200.");
+
+    @Test
+    public void testStandardBoard() {
+        BoardDefinition standard = BoardDefinition.standard();
+
+        assertEquals("Standard", standard.getName());
+        assertEquals(40, standard.getSize());
+        assertEquals(10, standard.getJailPosition());
+        assertEquals(16, standard.getChanceCards().size());
+        assertEquals(16, standard.getCommunityChestCards().size());
+        assertEquals(8, standard.getColorGroups().size());
+        assertEquals(200, standard.getTaxAmount(4));
+        assertEquals(100, standard.getTaxAmount(38));
+        assertEquals(0, standard.getTaxAmount(5));
+        assertEquals(200, standard.getRailroadRent(4));
+        assertEquals(10, standard.getUtilityMultiplier(2));
+
+        BoardDefinition.SpaceDefinition boardwalk = standard.getSpace(39);
+        assertEquals(BoardDefinition.Kind.PROPERTY, boardwalk.getKind());
+        assertEquals("Boardwalk", boardwalk.getName());
+        assertEquals(400, boardwalk.getPrice());
+        assertEquals(2000, boardwalk.getRent(5));
+    }
+
+    @Test
+    public void testDefinitionsAreCachedAndShared() {
+        assertSame(BoardDefinition.standard(), BoardDefinition.load(BoardDefinition.STANDARD));
+        assertSame(new Gameboard().getDefinition(), new Gameboard().getDefinition());
+    }
+
+    @Test
+    public void testDefinitionCannotBeChanged() {
+        BoardDefinition standard = BoardDefinition.standard();
+        standard.getSpace(1).getRents()[0] = 1000;
+        assertEquals(2, standard.getSpace(1).getRent(0));
+
+        try {
+            standard.getChanceCards().clear();
+            fail("Card decks should not be modifiable");
+        } catch (UnsupportedOperationException expected) {
+            assertEquals(16, standard.getChanceCards().size());
+        }
+    }
+
+    @Test
+    public void testStandardGameboardMatchesDefinition() {
+        Gameboard gameboard = new Gameboard();
+        BoardDefinition standard = BoardDefinition.standard();
+
+        assertEquals(standard.getSize(), gameboard.getSpaces().size());
+        for (BoardDefinition.SpaceDefinition defined : standard.getSpaces()) {
+            Space space = gameboard.getspace(defined.getPosition());
+            assertEquals(defined.getName(), space.getName());
+            assertEquals(defined.getPosition(), space.getPosition());
+        }
+        assertTrue(gameboard.getspace(10) instanceof JailSpace);
+    }
+
+    @Test
+    public void testCustomBoard() {
+        BoardDefinition small = BoardDefinition.parse(SMALL_BOARD);
+        Gameboard gameboard = new Gameboard(small);
+
+        assertEquals("Small", small.getName());
+        assertEquals(12, gameboard.getSpaces().size());
+        assertEquals(5, gameboard.getJailPosition());
+        assertEquals(150, gameboard.getTaxAmount(gameboard.getspace(2)));
+
+        Property mayfair = (Property) gameboard.getspace(11);
+        assertEquals("Mayfair", mayfair.getName());
+        assertEquals(400, mayfair.getPrice());
+        assertEquals(50, mayfair.getRent());
+        assertEquals(180, ((RailroadSpace) gameboard.getspace(4)).getPrice());
+    }
+
+    @Test
+    public void testCustomBoardDrivesTheGame() {
+        Gameboard gameboard = new Gameboard(BoardDefinition.parse(SMALL_BOARD));
+        List<Player> players = new ArrayList<>();
+        Player owner = new Player("Owner");
+        Player visitor = new Player("Visitor");
+        players.add(owner);
+        players.add(visitor);
+        GameState gameState = new GameState(players, gameboard);
+
+        assertEquals(1, gameState.getChanceCardDeck().size());
+
+        gameState.sendToJail(visitor);
+        assertEquals(5, visitor.getPosition());
+
+        RailroadSpace kingsCross = (RailroadSpace) gameboard.getspace(4);
+        kingsCross.setOwner(owner);
+        assertEquals(30, kingsCross.calculateRent(gameState));
+        gameboard.getspace(8).setOwner(owner);
+        assertEquals(90, kingsCross.calculateRent(gameState));
+    }
+
+    @Test
+    public void testNonStandardGroupUsesItsHouseCost() {
+        Gameboard gameboard = new Gameboard(BoardDefinition.parse(String.join("\n",
+                "name|Purple",
+                "group|Purple|75",
+                "space|0|go|Go",
+                "space|1|property|Violet Lane|Purple|100|6|30|90|270|400|550",
+                "space|2|jail|Jail",
+                "space|3|property|Lilac Row|Purple|120|8|40|100|300|450|600")));
+        List<Player> players = new ArrayList<>();
+        Player owner = new Player("Owner");
+        players.add(owner);
+        GameState gameState = new GameState(players, gameboard);
+        Bank bank = new Bank();
+        gameState.setBank(bank);
+
+        Property violet = (Property) gameboard.getspace(1);
+        Property lilac = (Property) gameboard.getspace(3);
+        violet.setOwner(owner);
+        lilac.setOwner(owner);
+        owner.addProperty(violet);
+        owner.addProperty(lilac);
+        assertEquals(75, violet.getHouseCost());
+        assertEquals(75, violet.getTitleDeed().getHouseCost());
+
+        int money = owner.getMoney();
+        assertTrue(bank.buildHouses(owner, "Purple", 3, gameboard));
+        assertEquals(money - 3 * 75, owner.getMoney());
+        assertEquals(100 + 2 * 75, NetWorth.assetValueOf(violet));
+        assertEquals(2 * 75 / 2 + violet.getMortgageValue(), NetWorth.liquidationValueOf(violet));
+
+        assertTrue(bank.buyBackBuildings(owner, "Purple", 1, gameboard));
+        assertEquals(money - 3 * 75 + 75 / 2, owner.getMoney());
+    }
+
+    @Test
+    public void testMalformedDefinitions() {
+        assertRejected("name|Broken\nspace|0|go|Go\n", "no jail");
+        assertRejected("space|0|jail|Jail\n", "position 0 must be Go");
+        assertRejected("space|0|go|Go\nspace|2|jail|Jail\n", "positions must run");
+        assertRejected("space|0|go|Go\nspace|1|castle|Castle\n", "unknown kind");
+        assertRejected("space|0|go|Go\nspace|1|property|Nowhere|Purple|60|1|2|3|4|5|6\n", "not declared");
+        assertRejected("group|Brown|fifty\n", "expected a number");
+        assertRejected("space|0|go|Go\nspace|1|railroad|Reading\n", "expected 5 fields");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingResource() {
+        BoardDefinition.load("no-such.board");
+    }
+
+    private static void assertRejected(String text, String reason) {
+        try {
+            BoardDefinition.parse(text);
+            fail("Expected the definition to be rejected: " + reason);
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains(reason));
+        }
+    }
+}
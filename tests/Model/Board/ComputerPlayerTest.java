@@ -0,0 +1,127 @@
+package Model.Board;
+
+import Controller.BoardController;
+import Model.Board.Strategy.AggressiveStrategy;
+import Model.Board.Strategy.ComputerPlayerStrategy;
+import Model.Board.Strategy.DefaultStrategy;
+import Model.Board.Strategy.DefensiveStrategy;
+import Model.Board.Strategy.HeuristicStrategy;
+import Model.Board.Strategy.StrategyRegistry;
+import Model.Board.Strategy.StrategySelector;
+import Model.Board.Strategy.StrategyState;
+import Model.GameState;
+import Model.Property.Property;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the ComputerPlayer class
+ */
+public class ComputerPlayerTest {
+
+    private static final StrategyState.Key<int[]> TURNS = StrategyState.Key.of("turns", () -> new int[1]);
+
+    private ComputerPlayer computer;
+    private Gameboard board;
+    private GameState gameState;
+    private Bank bank;
+    private final PrintStream originalOut = System.out;
+
+    @Before
+    public void setUp() {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        computer = new ComputerPlayer("Computer");
+        List<Player> players = new ArrayList<>();
+        players.add(computer);
+        players.add(new Player("Opponent"));
+        board = new Gameboard();
+        gameState = new GameState(players, board);
+        bank = new Bank();
+        gameState.setBank(bank);
+    }
+
+    @After
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    public void testSelectionReusesSharedStrategies() {
+        ComputerPlayerStrategy first = computer.selectStrategy(gameState);
+        ComputerPlayerStrategy second = computer.selectStrategy(gameState);
+
+        assertTrue(first instanceof AggressiveStrategy);
+        assertSame(first, second);
+        assertSame(StrategyRegistry.shared().get(StrategyRegistry.AGGRESSIVE), first);
+    }
+
+    @Test
+    public void testSelectionFollowsCash() {
+        computer.subtractMoney(1200);
+
+        assertTrue(computer.selectStrategy(gameState) instanceof DefensiveStrategy);
+    }
+
+    @Test
+    public void testFixedStrategyIsKept() {
+        HeuristicStrategy strategy = new HeuristicStrategy();
+        ComputerPlayer fixed = new ComputerPlayer("Fixed", strategy);
+        fixed.subtractMoney(1400);
+
+        assertSame(strategy, fixed.selectStrategy(gameState));
+        assertSame(strategy, fixed.getStrategy());
+    }
+
+    @Test
+    public void testSelectorCanBeReplaced() {
+        ComputerPlayerStrategy strategy = StrategyRegistry.shared().get(StrategyRegistry.DEFENSIVE);
+        computer.setStrategySelector(StrategySelector.fixed(strategy));
+
+        assertSame(strategy, computer.selectStrategy(gameState));
+    }
+
+    @Test
+    public void testStrategyStatePersistsAcrossTurns() {
+        BoardController controller = new BoardController(gameState, board, bank, gameState.getPlayers());
+        for (int i = 0; i < 3; i++) {
+            computer.getStrategyState().get(TURNS)[0]++;
+            gameState.setCurrentPlayerIndex(0);
+            controller.nextTurn();
+        }
+
+        assertEquals(3, computer.getStrategyState().get(TURNS)[0]);
+    }
+
+    @Test
+    public void testBuiltInStrategyBuysSpaceUnderPlayer() {
+        Property mediterranean = (Property) board.getspace(1);
+        computer.setPosition(1);
+        DefaultStrategy strategy = new DefaultStrategy();
+
+        for (int i = 0; i < 200 && !mediterranean.isOwned(); i++) {
+            strategy.executeStrategy(board, gameState, computer);
+        }
+
+        assertSame(computer, mediterranean.getOwner());
+        assertTrue(computer.getProperties().contains(mediterranean));
+        assertFalse(bank.getAvailableProperties().contains(mediterranean));
+    }
+
+    @Test
+    public void testBuiltInStrategiesIgnoreSpacesNotForSale() {
+        computer.setPosition(0);
+
+        new AggressiveStrategy().executeStrategy(board, gameState, computer);
+        new DefensiveStrategy().executeStrategy(board, gameState, computer);
+
+        assertEquals(1500, computer.getMoney());
+    }
+}
@@ -0,0 +1,62 @@
+package Model.Board;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the DiceOdds class
+ */
+public class DiceOddsTest {
+
+    private static final double EPSILON = 1e-12;
+
+    @Test
+    public void testStandardTotals() {
+        DiceOdds odds = DiceOdds.standard();
+
+        assertEquals(2, odds.getMinTotal());
+        assertEquals(12, odds.getMaxTotal());
+        assertEquals(1.0 / 36, odds.probabilityOfTotal(2), EPSILON);
+        assertEquals(6.0 / 36, odds.probabilityOfTotal(7), EPSILON);
+        assertEquals(1.0 / 36, odds.probabilityOfTotal(12), EPSILON);
+        assertEquals(0, odds.probabilityOfTotal(1), 0);
+        assertEquals(0, odds.probabilityOfTotal(13), 0);
+    }
+
+    @Test
+    public void testTotalsAddUpToOne() {
+        DiceOdds odds = DiceOdds.of(8);
+        double sum = 0;
+        double doubles = 0;
+        for (int total = odds.getMinTotal(); total <= odds.getMaxTotal(); total++) {
+            sum += odds.probabilityOfTotal(total);
+            doubles += odds.probabilityOfDoublesTotalling(total);
+        }
+
+        assertEquals(1.0, sum, EPSILON);
+        assertEquals(odds.probabilityOfDoubles(), doubles, EPSILON);
+    }
+
+    @Test
+    public void testDoubles() {
+        DiceOdds odds = DiceOdds.standard();
+
+        assertEquals(1.0 / 6, odds.probabilityOfDoubles(), EPSILON);
+        assertEquals(1.0 / 36, odds.probabilityOfDoublesTotalling(8), EPSILON);
+        assertEquals(0, odds.probabilityOfDoublesTotalling(7), 0);
+        assertEquals(4.0 / 36, odds.probabilityOfNonDoublesTotalling(8), EPSILON);
+        assertEquals(6.0 / 36, odds.probabilityOfNonDoublesTotalling(7), EPSILON);
+    }
+
+    @Test
+    public void testOfSixIsStandard() {
+        assertSame(DiceOdds.standard(), DiceOdds.of(6));
+        assertEquals(4, DiceOdds.of(4).getSides());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSides() {
+        DiceOdds.of(0);
+    }
+}
@@ -0,0 +1,98 @@
+package Model.Board;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the DiceStream class
+ */
+public class DiceStreamTest {
+
+    @Test
+    public void testSameSeedSameRolls() {
+        DiceStream first = new DiceStream(1234L);
+        DiceStream second = new DiceStream(1234L);
+
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(first.nextOutcome(), second.nextOutcome());
+        }
+    }
+
+    @Test
+    public void testBlockSizeDoesNotChangeRolls() {
+        DiceStream large = new DiceStream(6, 1234L, DiceStream.DEFAULT_BLOCK_SIZE);
+        DiceStream small = new DiceStream(6, 1234L, 7);
+
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(large.nextOutcome(), small.nextOutcome());
+        }
+    }
+
+    @Test
+    public void testDifferentSeedsDiffer() {
+        DiceStream first = new DiceStream(1L);
+        DiceStream second = new DiceStream(2L);
+
+        boolean differ = false;
+        for (int i = 0; i < 100 && !differ; i++) {
+            differ = first.nextOutcome() != second.nextOutcome();
+        }
+        assertTrue(differ);
+    }
+
+    @Test
+    public void testEveryOutcomeIsEquallyLikely() {
+        DiceStream stream = new DiceStream(2024L);
+        int rolls = 360_000;
+        int[] counts = new int[36];
+        for (int i = 0; i < rolls; i++) {
+            int outcome = stream.nextOutcome();
+            int die1 = stream.firstDie(outcome);
+            int die2 = stream.secondDie(outcome);
+            assertTrue(die1 >= 1 && die1 <= 6);
+            assertTrue(die2 >= 1 && die2 <= 6);
+            counts[(die1 - 1) * 6 + (die2 - 1)]++;
+        }
+
+        // Each outcome expects 10,000 rolls; a standard deviation is about 98
+        for (int count : counts) {
+            assertEquals(10_000, count, 600);
+        }
+    }
+
+    @Test
+    public void testArbitrarySides() {
+        DiceStream stream = new DiceStream(10, 5L, 16);
+        boolean sawTen = false;
+        for (int i = 0; i < 2000; i++) {
+            int outcome = stream.nextOutcome();
+            int die1 = stream.firstDie(outcome);
+            int die2 = stream.secondDie(outcome);
+            assertTrue(die1 >= 1 && die1 <= 10);
+            assertTrue(die2 >= 1 && die2 <= 10);
+            sawTen |= die1 == 10 || die2 == 10;
+        }
+        assertTrue(sawTen);
+        assertEquals(10, stream.getSides());
+    }
+
+    @Test
+    public void testOneSidedDice() {
+        DiceStream stream = new DiceStream(1, 5L, 4);
+        int outcome = stream.nextOutcome();
+
+        assertEquals(1, stream.firstDie(outcome));
+        assertEquals(1, stream.secondDie(outcome));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSides() {
+        new DiceStream(0, 1L, 16);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBlockSize() {
+        new DiceStream(6, 1L, 0);
+    }
+}
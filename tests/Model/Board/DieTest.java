@@ -66,4 +66,17 @@ public class DieTest {
         int newRollValue = die.roll();
         assertEquals(newRollValue, die.getDieValue());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSeededDieReplay() {
+        Die first = new Die(20, 99L);
+        Die second = new Die(20, 99L);
+
+        for (int i = 0; i < 100; i++) {
+            int value = first.roll();
+            assertEquals(value, second.roll());
+            assertTrue("Roll value should be between 1 and 20", value >= 1 && value <= 20);
+        }
+        assertEquals(20, first.getNumberOfSides());
+    }
+}
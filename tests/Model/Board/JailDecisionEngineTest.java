@@ -0,0 +1,220 @@
+package Model.Board;
+
+import Model.GameState;
+import Model.Property.Property;
+import Model.Rules.HouseRules;
+import Model.Spaces.Ownable;
+import Model.Spaces.Space;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the JailDecisionEngine class
+ */
+public class JailDecisionEngineTest {
+
+    private JailDecisionEngine engine;
+    private GameState gameState;
+    private Gameboard board;
+    private Player prisoner;
+    private Player opponent;
+    private final PrintStream originalOut = System.out;
+
+    @Before
+    public void setUp() {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        prisoner = new Player("Prisoner");
+        opponent = new Player("Opponent");
+        List<Player> players = new ArrayList<>();
+        players.add(prisoner);
+        players.add(opponent);
+
+        board = new Gameboard();
+        gameState = new GameState(players, board);
+        gameState.setBank(new Bank());
+        gameState.sendToJail(prisoner);
+        prisoner.setPosition(10);
+        prisoner.setTurnsInJail(1);
+        engine = new JailDecisionEngine();
+    }
+
+    @After
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    /**
+     * Gives the opponent every space a roll out of jail can reach.
+     */
+    private void opponentOwnsTheSpacesPastJail() {
+        for (int position = 12; position <= 22; position++) {
+            Space space = board.getspace(position);
+            if (space instanceof Ownable) {
+                space.setOwner(opponent);
+            }
+        }
+    }
+
+    @Test
+    public void testLeavesWhileSpacesAreForSale() {
+        assertTrue(engine.advantageOfLeaving(prisoner, gameState) > 0);
+        assertEquals(JailDecision.PAY, engine.decide(prisoner, gameState));
+    }
+
+    @Test
+    public void testPrefersCardToFine() {
+        prisoner.setHasGetOutOfJailFreeCard(true);
+
+        assertEquals(JailDecision.USE_CARD, engine.decide(prisoner, gameState));
+    }
+
+    @Test
+    public void testRollsWhenFineIsUnaffordable() {
+        prisoner.subtractMoney(prisoner.getMoney() - 10);
+
+        assertEquals(JailDecision.ROLL, engine.decide(prisoner, gameState));
+    }
+
+    @Test
+    public void testRollsOnLastTurn() {
+        prisoner.setTurnsInJail(3);
+
+        assertEquals(JailDecision.ROLL, engine.decide(prisoner, gameState));
+    }
+
+    @Test
+    public void testStaysWhenOpponentsOwnTheWay() {
+        opponentOwnsTheSpacesPastJail();
+
+        assertTrue(engine.advantageOfLeaving(prisoner, gameState) < 0);
+        assertEquals(JailDecision.ROLL, engine.decide(prisoner, gameState));
+    }
+
+    @Test
+    public void testDevelopmentRaisesExposure() {
+        opponentOwnsTheSpacesPastJail();
+        double unimproved = engine.advantageOfLeaving(prisoner, gameState);
+
+        ((Property) board.getspace(16)).setHouses(3);
+        ((Property) board.getspace(18)).setHouses(3);
+        ((Property) board.getspace(19)).setHouses(3);
+
+        assertTrue(engine.advantageOfLeaving(prisoner, gameState) < unimproved);
+    }
+
+    @Test
+    public void testTableFollowsOwnership() {
+        assertTrue(engine.prefersToLeave(prisoner, gameState));
+
+        opponentOwnsTheSpacesPastJail();
+
+        assertFalse(engine.prefersToLeave(prisoner, gameState));
+    }
+
+    @Test
+    public void testTableFollowsMortgages() {
+        gameState.setRules(HouseRules.standard().withNoRentInJail(true).compile());
+        opponentOwnsTheSpacesPastJail();
+        for (int position : new int[]{37, 39}) {
+            board.getspace(position).setOwner(prisoner);
+            ((Property) board.getspace(position)).setHasHotel(true);
+        }
+        assertTrue(engine.prefersToLeave(prisoner, gameState));
+
+        ((Property) board.getspace(37)).setMortgaged(true);
+        ((Property) board.getspace(39)).setMortgaged(true);
+
+        assertFalse(engine.prefersToLeave(prisoner, gameState));
+    }
+
+    @Test
+    public void testTableFollowsBuildings() {
+        gameState.setRules(HouseRules.standard().withNoRentInJail(true).compile());
+        opponentOwnsTheSpacesPastJail();
+        for (int position : new int[]{37, 39}) {
+            board.getspace(position).setOwner(prisoner);
+            ((Property) board.getspace(position)).setHasHotel(true);
+        }
+        assertTrue(engine.prefersToLeave(prisoner, gameState));
+
+        // Taken off the board directly, so the bank's stock of buildings does not change
+        ((Property) board.getspace(37)).setHasHotel(false);
+        ((Property) board.getspace(39)).setHasHotel(false);
+
+        assertFalse(engine.prefersToLeave(prisoner, gameState));
+    }
+
+    @Test
+    public void testChanceToBuyCountsAtAShareOfThePrice() {
+        gameState.setRules(HouseRules.standard().withNoRentInJail(false).compile());
+        double forSale = engine.advantageOfLeaving(prisoner, gameState);
+
+        // Only Kentucky Avenue, reached on a non-doubles eleven, is left for sale
+        for (int position = 12; position <= 20; position++) {
+            Space space = board.getspace(position);
+            if (space instanceof Ownable) {
+                space.setOwner(prisoner);
+            }
+        }
+        double oneForSale = engine.advantageOfLeaving(prisoner, gameState);
+
+        assertTrue(forSale > oneForSale);
+        double opportunity = DiceOdds.standard().probabilityOfNonDoublesTotalling(11) * 220
+                * JailDecisionEngine.OPPORTUNITY_RATE;
+        double fineForStaying = Math.pow(5.0 / 6, 3) * JailDecisionEngine.FEE;
+        assertEquals(opportunity - JailDecisionEngine.FEE + fineForStaying, oneForSale, 1e-9);
+    }
+
+    @Test
+    public void testFineForStayingGrowsTowardsTheLastTurn() {
+        double firstTurn = engine.expectedFineForStaying(prisoner);
+        prisoner.setTurnsInJail(2);
+        double secondTurn = engine.expectedFineForStaying(prisoner);
+        prisoner.setTurnsInJail(3);
+        double lastTurn = engine.expectedFineForStaying(prisoner);
+
+        // Three, two, then one roll left to throw doubles before the fine is due
+        assertEquals(Math.pow(5.0 / 6, 3) * JailDecisionEngine.FEE, firstTurn, 1e-9);
+        assertEquals(Math.pow(5.0 / 6, 2) * JailDecisionEngine.FEE, secondTurn, 1e-9);
+        assertEquals(5.0 / 6 * JailDecisionEngine.FEE, lastTurn, 1e-9);
+    }
+
+    @Test
+    public void testCachedDecisionFollowsTurnsInJail() {
+        opponentOwnsTheSpacesPastJail();
+        double firstTurn = engine.advantageOfLeaving(prisoner, gameState);
+        assertEquals(firstTurn > 0, engine.prefersToLeave(prisoner, gameState));
+
+        prisoner.setTurnsInJail(2);
+
+        double secondTurn = engine.advantageOfLeaving(prisoner, gameState);
+        assertTrue(secondTurn > firstTurn);
+        assertEquals(secondTurn > 0, engine.prefersToLeave(prisoner, gameState));
+    }
+
+    @Test
+    public void testLostRentMakesLeavingWorthwhile() {
+        opponentOwnsTheSpacesPastJail();
+        for (int position = 31; position <= 39; position++) {
+            Space space = board.getspace(position);
+            if (space instanceof Property) {
+                space.setOwner(prisoner);
+                ((Property) space).setHasHotel(true);
+            }
+        }
+        assertFalse(engine.prefersToLeave(prisoner, gameState));
+
+        gameState.setRules(HouseRules.standard().withNoRentInJail(true).compile());
+
+        assertTrue(engine.prefersToLeave(prisoner, gameState));
+        assertEquals(JailDecision.PAY, engine.decide(prisoner, gameState));
+    }
+}
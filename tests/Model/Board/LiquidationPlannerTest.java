@@ -0,0 +1,231 @@
+package Model.Board;
+
+import Model.Houses;
+import Model.Property.Property;
+import Model.Spaces.RailroadSpace;
+import Model.Spaces.UtilitySpace;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the LiquidationPlanner class
+ */
+public class LiquidationPlannerTest {
+
+    private LiquidationPlanner planner;
+    private Bank bank;
+    private Player player;
+    private Property mediterranean;
+    private Property baltic;
+    private Property boardwalk;
+    private Property parkPlace;
+
+    @Before
+    public void setUp() {
+        planner = new LiquidationPlanner();
+        bank = new Bank();
+        player = new Player("Alice");
+        mediterranean = new Property("Mediterranean Avenue", 1, 60, "Brown");
+        baltic = new Property("Baltic Avenue", 3, 60, "Brown");
+        parkPlace = new Property("Park Place", 37, 350, "Dark Blue");
+        boardwalk = new Property("Boardwalk", 39, 400, "Dark Blue");
+    }
+
+    private void give(Property... properties) {
+        for (Property property : properties) {
+            property.setOwner(player);
+            player.addProperty(property);
+        }
+    }
+
+    @Test
+    public void testNoPlanNeededWhenPlayerCanPay() {
+        LiquidationPlanner.Plan plan = planner.plan(player, 100, bank);
+
+        assertTrue(plan.isSufficient());
+        assertEquals(0, plan.getTarget());
+        assertTrue(plan.getSteps().isEmpty());
+    }
+
+    @Test
+    public void testMortgagesBeforeSellingHouses() {
+        give(mediterranean, baltic, parkPlace, boardwalk);
+        mediterranean.setHouses(1);
+        baltic.setHouses(1);
+
+        LiquidationPlanner.Plan plan = planner.plan(player, player.getMoney() + 150, bank);
+
+        assertTrue(plan.isSufficient());
+        for (LiquidationPlanner.Step step : plan.getSteps()) {
+            assertEquals(LiquidationPlanner.Action.MORTGAGE, step.getAction());
+            assertEquals("Dark Blue", step.getProperty().getColorGroup());
+        }
+        assertEquals(1, plan.getSteps().size());
+    }
+
+    @Test
+    public void testOvershootKeptSmall() {
+        give(mediterranean, boardwalk);
+
+        LiquidationPlanner.Plan plan = planner.plan(player, player.getMoney() + 20, bank);
+
+        assertEquals(1, plan.getSteps().size());
+        assertSame(mediterranean, plan.getSteps().get(0).getProperty());
+    }
+
+    @Test
+    public void testPlayerKeepsADollarAfterPaying() {
+        give(mediterranean, baltic);
+        player.subtractMoney(player.getMoney() - 100);
+
+        // Mortgaging Mediterranean alone raises exactly the $30 short, which would leave $0
+        LiquidationPlanner.Plan plan = planner.plan(player, 130, bank);
+
+        assertEquals(31, plan.getTarget());
+        assertTrue(plan.isSufficient());
+        assertEquals(2, plan.getSteps().size());
+        assertTrue(plan.execute(player, bank));
+        assertTrue(mediterranean.isMortgaged());
+        assertTrue(baltic.isMortgaged());
+        assertTrue(player.subtractMoney(130));
+        assertFalse(player.isBankrupt());
+    }
+
+    @Test
+    public void testInsufficientWhenRaisingOnlyReachesZero() {
+        give(mediterranean);
+        player.subtractMoney(player.getMoney() - 100);
+
+        LiquidationPlanner.Plan plan = planner.plan(player, 100 + mediterranean.getMortgageValue(), bank);
+
+        assertFalse(plan.isSufficient());
+    }
+
+    @Test
+    public void testHousesSoldEvenlyHighestFirst() {
+        give(mediterranean, baltic);
+        mediterranean.setHouses(2);
+        baltic.setHouses(1);
+        int refund = Houses.getHousePrice("Brown") / 2;
+
+        LiquidationPlanner.Plan plan = planner.plan(player, player.getMoney() + 2 * refund, bank);
+
+        List<LiquidationPlanner.Step> steps = plan.getSteps();
+        assertTrue(plan.isSufficient());
+        assertSame(mediterranean, steps.get(0).getProperty());
+        assertEquals(LiquidationPlanner.Action.SELL_HOUSE, steps.get(0).getAction());
+    }
+
+    @Test
+    public void testGroupClearedBeforeMortgaging() {
+        give(mediterranean, baltic);
+        mediterranean.setHouses(1);
+
+        LiquidationPlanner.Plan plan = planner.plan(player, player.getMoney() + 40, bank);
+
+        List<LiquidationPlanner.Step> steps = plan.getSteps();
+        assertTrue(plan.isSufficient());
+        assertEquals(LiquidationPlanner.Action.SELL_HOUSE, steps.get(0).getAction());
+        assertEquals(LiquidationPlanner.Action.MORTGAGE, steps.get(steps.size() - 1).getAction());
+    }
+
+    @Test
+    public void testHotelSoldFirst() {
+        give(parkPlace, boardwalk);
+        boardwalk.setHasHotel(true);
+        parkPlace.setHouses(4);
+
+        LiquidationPlanner.Plan plan = planner.plan(player, player.getMoney() + 10, bank);
+
+        assertEquals(1, plan.getSteps().size());
+        assertEquals(LiquidationPlanner.Action.SELL_HOTEL, plan.getSteps().get(0).getAction());
+        assertSame(boardwalk, plan.getSteps().get(0).getProperty());
+    }
+
+    @Test
+    public void testInsufficientWhenNothingToSell() {
+        give(mediterranean);
+
+        LiquidationPlanner.Plan plan = planner.plan(player, player.getMoney() + 1000, bank);
+
+        assertFalse(plan.isSufficient());
+        assertEquals(mediterranean.getMortgageValue(), plan.getAmountRaised());
+    }
+
+    @Test
+    public void testExecuteRaisesPlannedAmount() {
+        give(mediterranean, baltic);
+        mediterranean.setHouses(2);
+        baltic.setHouses(2);
+        int before = player.getMoney();
+
+        LiquidationPlanner.Plan plan = planner.plan(player, before + 100, bank);
+        assertTrue(plan.execute(player, bank));
+
+        assertEquals(before + plan.getAmountRaised(), player.getMoney());
+        assertTrue(player.getMoney() >= before + 100);
+        assertTrue(Math.abs(mediterranean.getHouses() - baltic.getHouses()) <= 1);
+    }
+
+    @Test
+    public void testLossReported() {
+        give(boardwalk);
+
+        LiquidationPlanner.Plan plan = planner.plan(player, player.getMoney() + 100, bank);
+
+        assertEquals(boardwalk.getUnmortgageCost() - boardwalk.getMortgageValue(), plan.getLoss());
+    }
+
+    @Test
+    public void testMortgagesRailroadsAndUtilities() {
+        Gameboard gameboard = new Gameboard();
+        bank.setGameboard(gameboard);
+        RailroadSpace reading = gameboard.getRailroads().get(0);
+        UtilitySpace electric = gameboard.getUtilities().get(0);
+        reading.setOwner(player);
+        electric.setOwner(player);
+        int before = player.getMoney();
+
+        // Owing $1 less than both mortgages raise, so paying leaves the player $1
+        LiquidationPlanner.Plan plan = planner.plan(player,
+                before + reading.getMortgageValue() + electric.getMortgageValue() - 1, bank);
+
+        assertTrue(plan.isSufficient());
+        assertEquals(2, plan.getSteps().size());
+        assertTrue(plan.execute(player, bank));
+        assertTrue(reading.isMortgaged());
+        assertTrue(electric.isMortgaged());
+        assertEquals(before + reading.getMortgageValue() + electric.getMortgageValue(), player.getMoney());
+    }
+
+    @Test
+    public void testPrefersCheaperMortgageOverRailroad() {
+        Gameboard gameboard = new Gameboard();
+        bank.setGameboard(gameboard);
+        RailroadSpace reading = gameboard.getRailroads().get(0);
+        reading.setOwner(player);
+        give(boardwalk);
+
+        LiquidationPlanner.Plan plan = planner.plan(player, player.getMoney() + 50, bank);
+
+        // Either covers $50 at the same 10% interest; the smaller railroad mortgage overshoots less
+        assertEquals(1, plan.getSteps().size());
+        assertSame(reading, plan.getSteps().get(0).getSpace());
+        assertNull(plan.getSteps().get(0).getProperty());
+    }
+
+    @Test
+    public void testRailroadsIgnoredWithoutBoard() {
+        RailroadSpace reading = new RailroadSpace("Reading Railroad", 5);
+        reading.setOwner(player);
+
+        LiquidationPlanner.Plan plan = planner.plan(player, player.getMoney() + 50, bank);
+
+        assertFalse(plan.isSufficient());
+        assertTrue(plan.getSteps().isEmpty());
+    }
+}
@@ -0,0 +1,146 @@
+package Model.Board;
+
+import Model.GameState;
+import Model.Houses;
+import Model.Property.Property;
+import Model.Spaces.RailroadSpace;
+import Model.Spaces.Space;
+import Model.Spaces.UtilitySpace;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the NetWorth class
+ */
+public class NetWorthTest {
+
+    private Player player;
+    private Player other;
+    private Property property;
+    private int housePrice;
+
+    @Before
+    public void setUp() {
+        player = new Player("Alice");
+        other = new Player("Bob");
+        property = new Property("Boardwalk", 39, 400, "Dark Blue");
+        housePrice = Houses.getHousePrice("Dark Blue");
+    }
+
+    @Test
+    public void testCashOnly() {
+        NetWorth netWorth = player.getNetWorth();
+
+        assertEquals(1500, netWorth.getTotal());
+        assertEquals(0, netWorth.getAssetValue());
+        assertEquals(1500, netWorth.getLiquidationValue());
+        assertEquals(0, netWorth.getMortgageableValue());
+    }
+
+    @Test
+    public void testPurchaseKeepsNetWorth() {
+        player.buyProperty(property);
+
+        NetWorth netWorth = player.getNetWorth();
+        assertEquals(1500, netWorth.getTotal());
+        assertEquals(400, netWorth.getAssetValue());
+        assertEquals(1100 + property.getMortgageValue(), netWorth.getLiquidationValue());
+        assertEquals(property.getMortgageValue(), netWorth.getMortgageableValue());
+    }
+
+    @Test
+    public void testBuildingsCounted() {
+        property.setOwner(player);
+        property.addHouse();
+        property.addHouse();
+
+        NetWorth netWorth = player.getNetWorth();
+        assertEquals(400 + 2 * housePrice, netWorth.getAssetValue());
+        assertEquals(1500 + housePrice + property.getMortgageValue(), netWorth.getLiquidationValue());
+        assertEquals(0, netWorth.getMortgageableValue());
+
+        property.removeHouse();
+        assertEquals(400 + housePrice, netWorth.getAssetValue());
+    }
+
+    @Test
+    public void testHotelCountsAsFiveBuildings() {
+        property.setOwner(player);
+        property.setHasHotel(true);
+
+        assertEquals(400 + 5 * housePrice, player.getNetWorth().getAssetValue());
+
+        property.removeHouse(); // hotel back to four houses
+        assertEquals(400 + 4 * housePrice, player.getNetWorth().getAssetValue());
+    }
+
+    @Test
+    public void testMortgageReducesNetWorth() {
+        player.buyProperty(property);
+        player.mortgageProperty(property);
+
+        NetWorth netWorth = player.getNetWorth();
+        assertEquals(400 - property.getMortgageValue(), netWorth.getAssetValue());
+        assertEquals(1500, netWorth.getTotal());
+        assertEquals(0, netWorth.getMortgageableValue());
+        assertEquals(player.getMoney(), netWorth.getLiquidationValue());
+
+        player.unmortgageProperty(property);
+        assertEquals(400, netWorth.getAssetValue());
+    }
+
+    @Test
+    public void testOwnershipChangeMovesValue() {
+        property.setOwner(player);
+        property.setOwner(other);
+
+        assertEquals(0, player.getNetWorth().getAssetValue());
+        assertEquals(400, other.getNetWorth().getAssetValue());
+
+        property.setOwner(null);
+        assertEquals(0, other.getNetWorth().getAssetValue());
+    }
+
+    @Test
+    public void testRailroadsAndUtilities() {
+        RailroadSpace railroad = new RailroadSpace("Reading Railroad", 5);
+        UtilitySpace utility = new UtilitySpace("Electric Company", 12);
+        railroad.setOwner(player);
+        utility.setOwner(player);
+
+        int expected = railroad.getPrice() + utility.getPrice();
+        assertEquals(expected, player.getNetWorth().getAssetValue());
+        assertEquals(expected / 2, player.getNetWorth().getMortgageableValue());
+    }
+
+    @Test
+    public void testMatchesFullRecalculationAfterPlay() {
+        List<Player> players = new ArrayList<>();
+        players.add(player);
+        players.add(other);
+        Gameboard board = new Gameboard();
+        GameState gameState = new GameState(players, board);
+        Bank bank = new Bank();
+        gameState.setBank(bank);
+        Controller.BoardController controller = new Controller.BoardController(gameState, board, bank, players);
+
+        for (int turn = 0; turn < 300 && !controller.isGameOver(); turn++) {
+            controller.nextTurn();
+        }
+
+        for (Player p : new Player[]{player, other}) {
+            int assets = 0;
+            for (Space space : board.getSpaces()) {
+                if (space.getOwner() == p) {
+                    assets += NetWorth.assetValueOf(space);
+                }
+            }
+            assertEquals(assets, p.getNetWorth().getAssetValue());
+        }
+    }
+}
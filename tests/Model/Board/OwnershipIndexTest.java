@@ -0,0 +1,137 @@
+package Model.Board;
+
+import Model.Property.Property;
+import Model.Spaces.Ownable;
+import Model.Spaces.RailroadSpace;
+import Model.Spaces.Space;
+import Model.Spaces.UtilitySpace;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the OwnershipIndex class
+ */
+public class OwnershipIndexTest {
+
+    private Gameboard gameboard;
+    private OwnershipIndex index;
+    private Player alice;
+    private Player bob;
+
+    @Before
+    public void setUp() {
+        gameboard = new Gameboard();
+        index = gameboard.getOwnershipIndex();
+        alice = new Player("Alice");
+        bob = new Player("Bob");
+    }
+
+    @Test
+    public void testEmptyBoardHasNoOwners() {
+        for (int position = 0; position < 40; position++) {
+            assertNull(index.getOwner(position));
+        }
+        assertTrue(index.getHoldings(alice).isEmpty());
+        assertNull(index.getOwner(-1));
+        assertNull(index.getOwner(40));
+    }
+
+    @Test
+    public void testOnlyOwnableSpacesAreTracked() {
+        assertNull(index.getOwnable(0));  // Go
+        assertNull(index.getOwnable(2));  // Community Chest
+        assertTrue(index.getOwnable(1) instanceof Property);
+        assertTrue(index.getOwnable(5) instanceof RailroadSpace);
+        assertTrue(index.getOwnable(12) instanceof UtilitySpace);
+    }
+
+    @Test
+    public void testSetOwnerUpdatesIndex() {
+        Space reading = gameboard.getspace(5);
+        reading.setOwner(alice);
+
+        assertEquals(alice, index.getOwner(5));
+        assertEquals(List.of(reading), index.getHoldings(alice));
+    }
+
+    @Test
+    public void testOwnerChangeMovesHoldings() {
+        Space boardwalk = gameboard.getspace(39);
+        boardwalk.setOwner(alice);
+        boardwalk.setOwner(bob);
+
+        assertEquals(bob, index.getOwner(39));
+        assertTrue(index.getHoldings(alice).isEmpty());
+        assertEquals(1, index.getHoldings(bob).size());
+
+        boardwalk.setOwner(null);
+        assertNull(index.getOwner(39));
+        assertTrue(index.getHoldings(bob).isEmpty());
+    }
+
+    @Test
+    public void testCountByKind() {
+        gameboard.getspace(5).setOwner(alice);
+        gameboard.getspace(15).setOwner(alice);
+        gameboard.getspace(12).setOwner(alice);
+        gameboard.getspace(1).setOwner(alice);
+        gameboard.getspace(25).setOwner(bob);
+
+        assertEquals(2, index.count(alice, RailroadSpace.class));
+        assertEquals(1, index.count(alice, UtilitySpace.class));
+        assertEquals(1, index.count(alice, Property.class));
+        assertEquals(4, index.count(alice, Ownable.class));
+        assertEquals(1, index.count(bob, RailroadSpace.class));
+        assertEquals(0, index.count(bob, UtilitySpace.class));
+    }
+
+    @Test
+    public void testSpacesOffTheBoardAreIgnored() {
+        Property offBoard = new Property("Test Property", 1, 200, "Brown");
+        offBoard.setOwner(alice);
+
+        assertNull(index.getOwner(1));
+        assertTrue(index.getHoldings(alice).isEmpty());
+    }
+
+    @Test
+    public void testSetSpacesRebuildsIndex() {
+        RailroadSpace railroad = new RailroadSpace("Test Railroad", 0);
+        railroad.setOwner(alice);
+        List<Space> spaces = new ArrayList<>();
+        spaces.add(railroad);
+
+        gameboard.setSpaces(spaces);
+        OwnershipIndex rebuilt = gameboard.getOwnershipIndex();
+
+        assertNotSame(index, rebuilt);
+        assertEquals(alice, rebuilt.getOwner(0));
+        assertEquals(1, rebuilt.count(alice, RailroadSpace.class));
+    }
+
+    @Test
+    public void testChangeCountCountsChangesOfHands() {
+        int before = index.getChangeCount();
+        gameboard.getspace(5).setOwner(alice);
+        gameboard.getspace(5).setOwner(alice);
+        gameboard.getspace(5).setOwner(null);
+
+        assertEquals(before + 2, index.getChangeCount());
+    }
+
+    @Test
+    public void testHoldingsAreReadOnly() {
+        gameboard.getspace(5).setOwner(alice);
+        try {
+            index.getHoldings(alice).clear();
+            fail("Holdings should not be modifiable");
+        } catch (UnsupportedOperationException expected) {
+            assertEquals(1, index.getHoldings(alice).size());
+        }
+    }
+}
@@ -107,6 +107,32 @@ public class PlayerTest {
         assertFalse(player.getProperties().contains(expensiveProperty));
     }
 
+    @Test
+    public void testMortgageRailroadAndUtility() {
+        RailroadSpace railroad = gameboard.getRailroads().get(0);
+        UtilitySpace utility = gameboard.getUtilities().get(0);
+        player.buyRailroad(railroad);
+        player.buyUtility(utility);
+        int initialMoney = player.getMoney();
+
+        assertTrue(player.mortgage(railroad));
+        assertTrue(player.mortgage(utility));
+        assertTrue(railroad.isMortgaged());
+        assertTrue(utility.isMortgaged());
+        assertEquals(initialMoney + railroad.getMortgageValue() + utility.getMortgageValue(), player.getMoney());
+
+        // Already mortgaged, or not the player's to mortgage
+        assertFalse(player.mortgage(railroad));
+        assertFalse(player2.mortgage(utility));
+
+        assertTrue(player.unmortgage(railroad));
+        assertFalse(railroad.isMortgaged());
+        assertEquals(initialMoney + utility.getMortgageValue() + railroad.getMortgageValue()
+                - railroad.getUnmortgageCost(), player.getMoney());
+        assertFalse(player.unmortgage(railroad));
+        assertTrue(gameState.getLedger().reconcile());
+    }
+
     @Test
     public void testMortgageProperty() {
         // Create and buy a property
@@ -817,4 +843,70 @@ public class PlayerTest {
     }
 
 
+    @Test
+    public void testChangeListenerNotifiedOfMoneyAndPosition() {
+        List<String> events = new ArrayList<>();
+        player.addPropertyChangeListener(e -> events.add(e.getPropertyName()));
+
+        player.addMoney(100);
+        player.subtractMoney(50);
+        player.setPosition(5);
+
+        assertEquals(Arrays.asList(Player.MONEY, Player.MONEY, Player.POSITION), events);
+    }
+
+    @Test
+    public void testChangeListenerNotFiredWhenNothingChanges() {
+        List<String> events = new ArrayList<>();
+        player.addPropertyChangeListener(e -> events.add(e.getPropertyName()));
+
+        player.addMoney(0);
+        player.subtractMoney(100000);
+        player.setPosition(player.getPosition());
+
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void testAddAndRemovePropertyNotifyListeners() {
+        Property property = new Property("Test Property", 5, 100, "Red");
+        List<String> events = new ArrayList<>();
+        player.addPropertyChangeListener(e -> events.add(e.getPropertyName()));
+
+        assertTrue(player.addProperty(property));
+        assertFalse(player.addProperty(property));
+        assertTrue(player.removeProperty(property));
+        assertFalse(player.removeProperty(property));
+
+        assertEquals(Arrays.asList(Player.PROPERTIES, Player.PROPERTIES), events);
+        assertTrue(player.getProperties().isEmpty());
+    }
+
+    @Test
+    public void testJailStateChangesNotifyListeners() {
+        List<Player> players = new ArrayList<>();
+        players.add(player);
+        GameState state = new GameState(players, new Gameboard());
+        List<String> events = new ArrayList<>();
+        player.addPropertyChangeListener(e -> events.add(e.getPropertyName()));
+
+        state.sendToJail(player);
+        state.releaseFromJail(player);
+
+        assertTrue(events.contains(Player.JAIL));
+        assertEquals(2, events.stream().filter(Player.JAIL::equals).count());
+    }
+
+    @Test
+    public void testRemovedListenerIsNotNotified() {
+        List<String> events = new ArrayList<>();
+        java.beans.PropertyChangeListener listener = e -> events.add(e.getPropertyName());
+        player.addPropertyChangeListener(listener);
+        player.removePropertyChangeListener(listener);
+
+        player.addMoney(10);
+
+        assertTrue(events.isEmpty());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,253 @@
+package Model.Board.Strategy;
+
+import Controller.BoardController;
+import Model.Board.Bank;
+import Model.Board.ComputerPlayer;
+import Model.Board.Gameboard;
+import Model.Board.Player;
+import Model.GameState;
+import Model.Property.Property;
+import Model.Rules.HouseRules;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the HeuristicStrategy class
+ */
+public class HeuristicStrategyTest {
+
+    private Gameboard board;
+    private GameState gameState;
+    private Bank bank;
+    private Property mediterranean;
+    private Property baltic;
+    private Property boardwalk;
+    private final PrintStream originalOut = System.out;
+
+    @Before
+    public void setUp() {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        board = new Gameboard();
+        mediterranean = (Property) board.getspace(1);
+        baltic = (Property) board.getspace(3);
+        boardwalk = (Property) board.getspace(39);
+    }
+
+    @After
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    private ComputerPlayer playerWith(StrategyParameters parameters) {
+        ComputerPlayer player = new ComputerPlayer("Computer", new HeuristicStrategy(parameters));
+        List<Player> players = new ArrayList<>();
+        players.add(player);
+        players.add(new Player("Opponent"));
+        gameState = new GameState(players, board);
+        bank = new Bank();
+        gameState.setBank(bank);
+        return player;
+    }
+
+    private void give(ComputerPlayer player, Property property) {
+        property.setOwner(player);
+        player.addProperty(property);
+    }
+
+    @Test
+    public void testBuysWhileReserveIsKept() {
+        ComputerPlayer player = playerWith(StrategyParameters.standard().withCashReserve(1200));
+
+        assertTrue(player.shouldBuy(mediterranean, gameState));
+        assertFalse(player.shouldBuy(boardwalk, gameState));
+    }
+
+    @Test
+    public void testWeightScalesReserve() {
+        ComputerPlayer player = playerWith(StrategyParameters.standard()
+                .withCashReserve(1200)
+                .withWeight("Dark Blue", 2));
+
+        assertTrue(player.shouldBuy(boardwalk, gameState));
+    }
+
+    @Test
+    public void testNeverBuysUnwantedGroup() {
+        ComputerPlayer player = playerWith(StrategyParameters.standard().withCashReserve(0).withWeight("Brown", 0));
+
+        assertFalse(player.shouldBuy(mediterranean, gameState));
+    }
+
+    @Test
+    public void testAuctionLimit() {
+        ComputerPlayer player = playerWith(StrategyParameters.standard().withBidCap(0.5).withWeight("Dark Blue", 2));
+
+        assertEquals(400, player.getStrategy().auctionLimit(boardwalk, player));
+    }
+
+    @Test
+    public void testMortgagesCheapestFirstBelowFloor() {
+        ComputerPlayer player = playerWith(StrategyParameters.standard().withMortgageFloor(100));
+        give(player, mediterranean);
+        give(player, boardwalk);
+        player.subtractMoney(player.getMoney() - 80);
+
+        player.manageHoldings(board, gameState);
+
+        assertTrue(mediterranean.isMortgaged());
+        assertFalse(boardwalk.isMortgaged());
+        assertEquals(110, player.getMoney());
+    }
+
+    @Test
+    public void testMortgagesDearestFirstWhenAsked() {
+        ComputerPlayer player = playerWith(StrategyParameters.standard()
+                .withMortgageFloor(100)
+                .withMortgageOrder(MortgageOrder.DEAREST_FIRST));
+        give(player, mediterranean);
+        give(player, boardwalk);
+        player.subtractMoney(player.getMoney() - 80);
+
+        player.manageHoldings(board, gameState);
+
+        assertFalse(mediterranean.isMortgaged());
+        assertTrue(boardwalk.isMortgaged());
+    }
+
+    @Test
+    public void testLiftsMortgagesAboveReserve() {
+        ComputerPlayer player = playerWith(StrategyParameters.standard().withBuildAggressiveness(0));
+        give(player, boardwalk);
+        player.mortgageProperty(boardwalk);
+
+        player.manageHoldings(board, gameState);
+
+        assertFalse(boardwalk.isMortgaged());
+    }
+
+    @Test
+    public void testBuildsOnCompleteGroup() {
+        ComputerPlayer player = playerWith(StrategyParameters.standard()
+                .withCashReserve(1000)
+                .withBuildAggressiveness(1));
+        give(player, mediterranean);
+        give(player, baltic);
+
+        player.manageHoldings(board, gameState);
+
+        // $500 above the reserve buys ten $50 houses, the most the group takes
+        assertEquals(10, mediterranean.getHouses() + baltic.getHouses()
+                + (mediterranean.hasHotel() ? 5 : 0) + (baltic.hasHotel() ? 5 : 0));
+        assertEquals(1000, player.getMoney());
+    }
+
+    @Test
+    public void testBuildsWhatTheBankHasLeftDuringShortage() {
+        ComputerPlayer player = playerWith(StrategyParameters.standard()
+                .withCashReserve(1000)
+                .withBuildAggressiveness(1));
+        player.addMoney(5000);
+        give(player, mediterranean);
+        give(player, baltic);
+        for (Property property : board.getPropertiesByColorGroup("Light Blue")) {
+            give(player, property);
+        }
+
+        // An opponent takes all but three of the houses
+        Player opponent = gameState.getPlayers().get(1);
+        opponent.addMoney(10000);
+        for (String group : new String[] {"Green", "Red", "Orange"}) {
+            for (Property property : board.getPropertiesByColorGroup(group)) {
+                property.setOwner(opponent);
+                opponent.addProperty(property);
+            }
+        }
+        assertTrue(bank.buildHouses(opponent, "Green", 12, board));
+        assertTrue(bank.buildHouses(opponent, "Red", 12, board));
+        assertTrue(bank.buildHouses(opponent, "Orange", 5, board));
+        assertEquals(3, bank.getHouses());
+
+        player.manageHoldings(board, gameState);
+
+        // Orders for more than the bank has are auctioned a house at a time, so none go to waste
+        assertEquals(0, bank.getHouses());
+        int built = 0;
+        for (Property property : player.getProperties()) {
+            built += property.getHouses();
+        }
+        assertEquals(3, built);
+    }
+
+    @Test
+    public void testDoesNotBuildWithoutAggressiveness() {
+        ComputerPlayer player = playerWith(StrategyParameters.standard().withBuildAggressiveness(0));
+        give(player, mediterranean);
+        give(player, baltic);
+
+        player.manageHoldings(board, gameState);
+
+        assertEquals(0, mediterranean.getHouses());
+        assertEquals(1500, player.getMoney());
+    }
+
+    @Test
+    public void testControllerRespectsDecision() {
+        ComputerPlayer player = playerWith(StrategyParameters.standard().withWeight("Brown", 0));
+        BoardController controller = new BoardController(gameState, board, bank, gameState.getPlayers());
+        gameState.setRules(HouseRules.standard().withAuctionOnDecline(false).compile());
+        player.setPosition(1);
+
+        controller.handleSpaceLanding(player);
+
+        assertFalse(mediterranean.isOwned());
+        assertEquals(1500, player.getMoney());
+    }
+
+    @Test
+    public void testLeavesSpaceToTimidBidders() {
+        ComputerPlayer player = playerWith(StrategyParameters.standard());
+        Player opponent = gameState.getPlayers().get(1);
+        for (int i = 0; i < HeuristicStrategy.MIN_AUCTIONS_OBSERVED; i++) {
+            gameState.getOpponentTracker().get(opponent).recordAuction(200, 60);
+        }
+
+        assertFalse(player.shouldBuy(boardwalk, gameState));
+
+        gameState.setRules(HouseRules.standard().withAuctionOnDecline(false).compile());
+        assertTrue(player.shouldBuy(boardwalk, gameState));
+    }
+
+    @Test
+    public void testBuysWhenBiddersAreKeen() {
+        ComputerPlayer player = playerWith(StrategyParameters.standard());
+        Player opponent = gameState.getPlayers().get(1);
+        for (int i = 0; i < HeuristicStrategy.MIN_AUCTIONS_OBSERVED; i++) {
+            gameState.getOpponentTracker().get(opponent).recordAuction(200, 200);
+        }
+
+        assertTrue(player.shouldBuy(boardwalk, gameState));
+    }
+
+    @Test
+    public void testBuildsHarderAgainstABuilder() {
+        ComputerPlayer player = playerWith(StrategyParameters.standard()
+                .withCashReserve(1300)
+                .withBuildAggressiveness(0.5));
+        give(player, mediterranean);
+        give(player, baltic);
+        gameState.getOpponentTracker().get(gameState.getPlayers().get(1)).recordBuilding(30, 1500, 100);
+
+        player.manageHoldings(board, gameState);
+
+        // Half of the spare $200 buys two houses; a rival builder pushes that to three
+        assertEquals(3, mediterranean.getHouses() + baltic.getHouses());
+    }
+}
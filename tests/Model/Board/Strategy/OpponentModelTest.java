@@ -0,0 +1,88 @@
+package Model.Board.Strategy;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the OpponentModel class
+ */
+public class OpponentModelTest {
+
+    private OpponentModel model;
+
+    @Before
+    public void setUp() {
+        model = new OpponentModel();
+    }
+
+    @Test
+    public void testNeutralPriors() {
+        assertEquals(0.5, model.getBuyRate(), 0.0);
+        assertEquals(1.0, model.getBidAggressiveness(), 0.0);
+        assertEquals(400, model.expectedTopBid(400));
+        assertEquals(-1, model.getCashFloor());
+        assertEquals(0.0, model.getDevelopmentPropensity(), 0.0);
+    }
+
+    @Test
+    public void testBuyRate() {
+        model.recordOffer(1500, 200, true);
+        model.recordOffer(1300, 60, true);
+        model.recordOffer(1240, 400, false);
+
+        assertEquals(3, model.getOffers());
+        assertEquals(2, model.getBuys());
+        assertEquals(0.6, model.getBuyRate(), 1e-9);
+    }
+
+    @Test
+    public void testCashThresholds() {
+        model.recordOffer(500, 200, true);
+        model.recordOffer(900, 400, false);
+        model.recordBuilding(2, 100, 250);
+
+        assertEquals(250, model.getCashFloor());
+        assertEquals(500, model.getMaxCashAfterDecline());
+    }
+
+    @Test
+    public void testBidding() {
+        model.recordAuction(400, 200);
+        model.recordAuction(200, 150);
+        model.recordAuction(100, 0);
+
+        assertEquals(3, model.getAuctions());
+        assertEquals((0.5 + 0.75) / 3, model.getBidAggressiveness(), 1e-9);
+        assertEquals(300, model.expectedTopBid(400));
+    }
+
+    @Test
+    public void testBuilding() {
+        model.recordBuilding(3, 150, 800);
+        model.recordBuilding(7, 700, 100);
+
+        assertEquals(10, model.getBuildings());
+        assertEquals(850, model.getBuildingSpend());
+        assertEquals(0.5, model.getDevelopmentPropensity(), 1e-9);
+    }
+
+    @Test
+    public void testSnapshotIsFrozenCopy() {
+        model.recordOffer(1500, 200, true);
+        OpponentModel snapshot = model.snapshot();
+
+        model.recordOffer(1300, 200, false);
+
+        assertTrue(snapshot.isReadOnly());
+        assertEquals(1, snapshot.getOffers());
+        assertEquals(2, model.getOffers());
+        assertSame(snapshot, snapshot.snapshot());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSnapshotCannotRecord() {
+        model.snapshot().recordAuction(100, 50);
+    }
+}
@@ -0,0 +1,118 @@
+package Model.Board.Strategy;
+
+import Controller.BoardController;
+import Model.Board.Bank;
+import Model.Board.Gameboard;
+import Model.Board.Player;
+import Model.GameState;
+import Model.Property.Property;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the OpponentTracker class
+ */
+public class OpponentTrackerTest {
+
+    private Gameboard board;
+    private GameState gameState;
+    private Bank bank;
+    private Player alice;
+    private Player bob;
+    private OpponentTracker tracker;
+    private final PrintStream originalOut = System.out;
+
+    @Before
+    public void setUp() {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        alice = new Player("Alice");
+        bob = new Player("Bob");
+        List<Player> players = new ArrayList<>();
+        players.add(alice);
+        players.add(bob);
+        board = new Gameboard();
+        gameState = new GameState(players, board);
+        bank = new Bank();
+        gameState.setBank(bank);
+        tracker = gameState.getOpponentTracker();
+    }
+
+    @After
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    public void testBankReportsToTracker() {
+        assertSame(tracker, bank.getObserver());
+    }
+
+    @Test
+    public void testPurchaseSeenByController() {
+        BoardController controller = new BoardController(gameState, board, bank, gameState.getPlayers());
+        alice.setPosition(1);
+
+        controller.handleSpaceLanding(alice);
+
+        assertEquals(1, tracker.get(alice).getBuys());
+        assertEquals(1500 - 60, tracker.get(alice).getCashFloor());
+    }
+
+    @Test
+    public void testUnaffordableOfferIgnored() {
+        alice.subtractMoney(1480);
+
+        tracker.purchaseDecided(alice, (Property) board.getspace(39), false);
+
+        assertEquals(0, tracker.get(alice).getOffers());
+    }
+
+    @Test
+    public void testAuctionSeen() {
+        bank.auction(board.getspace(39), gameState.getPlayers());
+
+        assertEquals(1, tracker.get(alice).getAuctions());
+        assertEquals(1, tracker.get(bob).getAuctions());
+        assertTrue(tracker.get(alice).getBidAggressiveness() > 0 || tracker.get(bob).getBidAggressiveness() > 0);
+    }
+
+    @Test
+    public void testBuildingSeen() {
+        for (Property property : board.getPropertiesByColorGroup("Brown")) {
+            property.setOwner(alice);
+            alice.addProperty(property);
+        }
+
+        bank.buildHouses(alice, "Brown", 3, board);
+
+        assertEquals(3, tracker.get(alice).getBuildings());
+        assertEquals(150, tracker.get(alice).getBuildingSpend());
+        assertEquals(0, tracker.get(bob).getBuildings());
+    }
+
+    @Test
+    public void testSnapshotIsReadOnly() {
+        tracker.purchaseDecided(alice, (Property) board.getspace(1), true);
+        OpponentTracker snapshot = tracker.snapshot();
+
+        tracker.purchaseDecided(alice, (Property) board.getspace(3), true);
+
+        assertTrue(snapshot.isReadOnly());
+        assertEquals(1, snapshot.get(alice).getBuys());
+        assertEquals(2, tracker.get(alice).getBuys());
+        assertSame(OpponentModel.UNKNOWN, snapshot.get(bob));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSnapshotCannotRecord() {
+        tracker.snapshot().buildingsBought(alice, 1, 50);
+    }
+}
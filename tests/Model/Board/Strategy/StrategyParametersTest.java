@@ -0,0 +1,98 @@
+package Model.Board.Strategy;
+
+import Model.Board.Gameboard;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the StrategyParameters class
+ */
+public class StrategyParametersTest {
+
+    @Test
+    public void testStandardParameters() {
+        StrategyParameters standard = StrategyParameters.standard();
+
+        assertEquals(200, standard.getCashReserve());
+        assertEquals(50, standard.getMortgageFloor());
+        assertEquals(0.5, standard.getBuildAggressiveness(), 0.0);
+        assertEquals(1.0, standard.getBidCap(), 0.0);
+        assertEquals(MortgageOrder.CHEAPEST_FIRST, standard.getMortgageOrder());
+        assertEquals(1.0, standard.getWeight("Dark Blue"), 0.0);
+        assertEquals(1.0, standard.getWeight("Railroad"), 0.0);
+    }
+
+    @Test
+    public void testWithReturnsChangedCopy() {
+        StrategyParameters changed = StrategyParameters.standard()
+                .withCashReserve(400)
+                .withMortgageOrder(MortgageOrder.LEAST_VALUED_FIRST)
+                .withWeight("Orange", 2.5);
+
+        assertEquals(400, changed.getCashReserve());
+        assertEquals(MortgageOrder.LEAST_VALUED_FIRST, changed.getMortgageOrder());
+        assertEquals(2.5, changed.getWeight("Orange"), 0.0);
+        assertEquals(200, StrategyParameters.standard().getCashReserve());
+        assertEquals(1.0, StrategyParameters.standard().getWeight("Orange"), 0.0);
+    }
+
+    @Test
+    public void testValuesAreClampedIntoRange() {
+        StrategyParameters clamped = StrategyParameters.standard()
+                .withCashReserve(-100)
+                .withBuildAggressiveness(7)
+                .withWeight("Red", 99);
+
+        assertEquals(0, clamped.getCashReserve());
+        assertEquals(1.0, clamped.getBuildAggressiveness(), 0.0);
+        assertEquals(StrategyParameters.getMax(StrategyParameters.GENES.length - 1), clamped.getWeight("Red"), 0.0);
+    }
+
+    @Test
+    public void testVectorRoundTrip() {
+        StrategyParameters parameters = StrategyParameters.standard().withBidCap(1.4).withWeight("Green", 0.3);
+        double[] vector = parameters.toVector();
+
+        assertEquals(StrategyParameters.GENES.length, vector.length);
+        assertEquals(parameters, StrategyParameters.fromVector(vector));
+    }
+
+    @Test
+    public void testFormatRoundTrip() {
+        StrategyParameters parameters = StrategyParameters.standard()
+                .withMortgageFloor(120)
+                .withMortgageOrder(MortgageOrder.DEAREST_FIRST)
+                .withWeight("Utility", 0.25);
+
+        assertEquals(parameters, StrategyParameters.parse(parameters.format()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseRejectsWrongLength() {
+        StrategyParameters.parse("200|50|0.5");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseRejectsText() {
+        StrategyParameters.parse(StrategyParameters.standard().format().replaceFirst("200.0", "lots"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownGroupRejected() {
+        StrategyParameters.standard().withWeight("Purple", 2);
+    }
+
+    @Test
+    public void testWeightOfSpace() {
+        Gameboard board = new Gameboard();
+        StrategyParameters parameters = StrategyParameters.standard()
+                .withWeight("Dark Blue", 2)
+                .withWeight("Railroad", 1.5)
+                .withWeight("Utility", 0.5);
+
+        assertEquals(2.0, parameters.getWeight(board.getspace(39)), 0.0);
+        assertEquals(1.5, parameters.getWeight(board.getspace(5)), 0.0);
+        assertEquals(0.5, parameters.getWeight(board.getspace(12)), 0.0);
+    }
+}
@@ -0,0 +1,72 @@
+package Model.Board.Strategy;
+
+import Model.Board.ComputerPlayer;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the StrategyRegistry class and the strategy selectors
+ */
+public class StrategyRegistryTest {
+
+    @Test
+    public void testBuiltInsRegistered() {
+        StrategyRegistry registry = StrategyRegistry.shared();
+
+        assertTrue(registry.get(StrategyRegistry.DEFAULT) instanceof DefaultStrategy);
+        assertTrue(registry.get(StrategyRegistry.AGGRESSIVE) instanceof AggressiveStrategy);
+        assertTrue(registry.get(StrategyRegistry.DEFENSIVE) instanceof DefensiveStrategy);
+        assertTrue(registry.get(StrategyRegistry.HEURISTIC) instanceof HeuristicStrategy);
+        assertEquals(4, registry.getNames().size());
+    }
+
+    @Test
+    public void testSharedInstances() {
+        assertSame(StrategyRegistry.shared().get(StrategyRegistry.DEFAULT),
+                StrategyRegistry.shared().get(StrategyRegistry.DEFAULT));
+    }
+
+    @Test
+    public void testRegisterCustomStrategy() {
+        StrategyRegistry registry = new StrategyRegistry();
+        HeuristicStrategy cautious = new HeuristicStrategy(StrategyParameters.standard().withCashReserve(800));
+
+        registry.register("cautious", cautious);
+
+        assertTrue(registry.contains("cautious"));
+        assertSame(cautious, registry.get("cautious"));
+        assertFalse(registry.contains(StrategyRegistry.DEFAULT));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownStrategyRejected() {
+        StrategyRegistry.shared().get("reckless");
+    }
+
+    @Test
+    public void testByCashSelector() {
+        StrategyRegistry registry = StrategyRegistry.shared();
+        StrategySelector selector = StrategySelector.byCash(registry);
+        ComputerPlayer player = new ComputerPlayer("Computer");
+
+        assertSame(registry.get(StrategyRegistry.AGGRESSIVE), selector.select(player, null));
+
+        player.subtractMoney(800);
+        assertSame(registry.get(StrategyRegistry.DEFAULT), selector.select(player, null));
+
+        player.subtractMoney(300);
+        assertSame(registry.get(StrategyRegistry.DEFENSIVE), selector.select(player, null));
+    }
+
+    @Test
+    public void testFixedSelector() {
+        HeuristicStrategy strategy = new HeuristicStrategy();
+        StrategySelector selector = StrategySelector.fixed(strategy);
+        ComputerPlayer player = new ComputerPlayer("Computer");
+
+        assertSame(strategy, selector.select(player, null));
+        player.subtractMoney(1400);
+        assertSame(strategy, selector.select(player, null));
+    }
+}
@@ -0,0 +1,65 @@
+package Model.Board.Strategy;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the StrategyState class
+ */
+public class StrategyStateTest {
+
+    private static final StrategyState.Key<List<Integer>> ROLLS = StrategyState.Key.of("rolls", ArrayList::new);
+    private static final StrategyState.Key<int[]> COUNTS = StrategyState.Key.of("counts", () -> new int[4]);
+
+    private StrategyState state;
+
+    @Before
+    public void setUp() {
+        state = new StrategyState();
+    }
+
+    @Test
+    public void testCreatesOnFirstUse() {
+        assertFalse(state.contains(ROLLS));
+
+        List<Integer> rolls = state.get(ROLLS);
+
+        assertTrue(rolls.isEmpty());
+        assertTrue(state.contains(ROLLS));
+        assertEquals(1, state.size());
+    }
+
+    @Test
+    public void testValuePersists() {
+        state.get(ROLLS).add(7);
+        state.get(COUNTS)[2]++;
+
+        assertSame(state.get(ROLLS), state.get(ROLLS));
+        assertEquals(Integer.valueOf(7), state.get(ROLLS).get(0));
+        assertEquals(1, state.get(COUNTS)[2]);
+    }
+
+    @Test
+    public void testRemoveStartsAfresh() {
+        state.get(ROLLS).add(7);
+
+        state.remove(ROLLS);
+
+        assertTrue(state.get(ROLLS).isEmpty());
+    }
+
+    @Test
+    public void testClear() {
+        state.get(ROLLS);
+        state.get(COUNTS);
+
+        state.clear();
+
+        assertEquals(0, state.size());
+    }
+}
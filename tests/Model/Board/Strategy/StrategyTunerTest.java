@@ -0,0 +1,126 @@
+package Model.Board.Strategy;
+
+import Model.GameLog;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the StrategyTuner class
+ */
+public class StrategyTunerTest {
+
+    private StrategyTuner tuner;
+    private final PrintStream originalOut = System.out;
+
+    @Before
+    public void setUp() {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        GameLog.setEnabled(false);
+        tuner = new StrategyTuner(4, 2, 7L);
+        tuner.setTurnLimit(150);
+        tuner.setThreads(2);
+    }
+
+    @After
+    public void tearDown() {
+        GameLog.setEnabled(true);
+        System.setOut(originalOut);
+    }
+
+    @Test
+    public void testEvolveScoresWholePopulationBestFirst() {
+        StrategyTuner.Candidate best = tuner.evolve(2);
+
+        List<StrategyTuner.Candidate> population = tuner.getPopulation();
+        assertEquals(2, tuner.getGeneration());
+        assertEquals(4, population.size());
+        assertSame(best, population.get(0));
+        for (int i = 1; i < population.size(); i++) {
+            assertTrue(population.get(i - 1).getFitness() >= population.get(i).getFitness());
+        }
+        assertEquals(2 * 4 * 2, tuner.getMetrics().getGames());
+    }
+
+    @Test
+    public void testElitesSurvive() {
+        tuner.evolve(1);
+        StrategyParameters first = tuner.getBest().getParameters();
+        StrategyParameters second = tuner.getPopulation().get(1).getParameters();
+
+        tuner.evolve(1);
+
+        boolean kept = false;
+        boolean keptSecond = false;
+        for (StrategyTuner.Candidate candidate : tuner.getPopulation()) {
+            kept |= candidate.getParameters().equals(first);
+            keptSecond |= candidate.getParameters().equals(second);
+        }
+        assertTrue(kept);
+        assertTrue(keptSecond);
+    }
+
+    @Test
+    public void testFitnessIsAShareOfNetWorth() {
+        double fitness = tuner.evaluate(StrategyParameters.standard(), 11L);
+
+        assertTrue(fitness >= 0);
+        assertTrue(fitness <= 4);
+    }
+
+    @Test
+    public void testEvaluateRepeatsForASeed() {
+        StrategyParameters parameters = StrategyParameters.standard();
+
+        assertEquals(tuner.evaluate(parameters, 11L), tuner.evaluate(parameters, 11L), 0.0);
+    }
+
+    @Test
+    public void testSameSeedRepeatsTheRun() {
+        StrategyTuner again = new StrategyTuner(4, 2, 7L);
+        again.setTurnLimit(150);
+        again.setThreads(1);
+
+        tuner.evolve(2);
+        again.evolve(2);
+
+        for (int i = 0; i < tuner.getPopulation().size(); i++) {
+            assertEquals(tuner.getPopulation().get(i).getParameters(), again.getPopulation().get(i).getParameters());
+            assertEquals(tuner.getPopulation().get(i).getFitness(), again.getPopulation().get(i).getFitness(), 0.0);
+        }
+    }
+
+    @Test
+    public void testSaveAndLoadBest() throws IOException {
+        tuner.evolve(1);
+        Path file = Files.createTempFile("strategy", ".txt");
+        try {
+            tuner.saveBest(file, 3);
+
+            List<StrategyParameters> loaded = StrategyTuner.loadBest(file);
+            assertEquals(3, loaded.size());
+            assertEquals(tuner.getBest().getParameters(), loaded.get(0));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsTinyPopulation() {
+        new StrategyTuner(1, 1, 0L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsTooManyElites() {
+        tuner.setElites(4);
+    }
+}
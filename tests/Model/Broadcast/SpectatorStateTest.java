@@ -0,0 +1,107 @@
+package Model.Broadcast;
+
+import Model.Board.Gameboard;
+import Model.Board.Player;
+import Model.GameState;
+import Model.Property.Property;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the SpectatorState class
+ */
+public class SpectatorStateTest {
+
+    private Gameboard board;
+    private Player player1;
+    private Player player2;
+    private StateBroadcaster broadcaster;
+    private SpectatorState spectator;
+
+    @Before
+    public void setUp() {
+        board = new Gameboard();
+        player1 = new Player("Alice");
+        player2 = new Player("Bob");
+        List<Player> players = new ArrayList<>();
+        players.add(player1);
+        players.add(player2);
+
+        broadcaster = new StateBroadcaster(new GameState(players, board));
+        spectator = new SpectatorState();
+        broadcaster.subscribe(spectator);
+    }
+
+    @Test
+    public void testInitiallyOutOfSync() {
+        assertFalse(new SpectatorState().isInSync());
+        assertEquals(0, new SpectatorState().getPlayerCount());
+    }
+
+    @Test
+    public void testKeyframeFillsState() {
+        broadcaster.publish();
+
+        assertTrue(spectator.isInSync());
+        assertEquals(2, spectator.getPlayerCount());
+        assertEquals("Alice", spectator.getPlayerName(0));
+        assertEquals("Bob", spectator.getPlayerName(1));
+        assertEquals(1500, spectator.getCash(1));
+        assertEquals(StateBroadcaster.NO_OWNER, spectator.getOwner(1));
+    }
+
+    @Test
+    public void testDeltasTrackGame() {
+        broadcaster.publish();
+        Property property = (Property) board.getspace(1);
+        player2.buyProperty(property);
+        property.setHasHotel(true);
+        player1.setPosition(7);
+        broadcaster.publish();
+
+        assertEquals(2, spectator.getSequence());
+        assertEquals(player2.getMoney(), spectator.getCash(1));
+        assertEquals(7, spectator.getPosition(0));
+        assertEquals(1, spectator.getOwner(1));
+        assertEquals(StateBroadcaster.HOTEL, spectator.getBuildings(1));
+    }
+
+    @Test
+    public void testMissedFrameLosesSyncUntilKeyframe() {
+        List<ByteBuffer> frames = new ArrayList<>();
+        broadcaster.subscribe(frames::add);
+        broadcaster.publish();
+        player1.addMoney(1);
+        broadcaster.publish();
+        player1.addMoney(1);
+        broadcaster.publish();
+
+        SpectatorState gapped = new SpectatorState();
+        gapped.onFrame(frames.get(0));
+        gapped.onFrame(frames.get(2));
+
+        assertFalse(gapped.isInSync());
+        assertEquals(1, gapped.getSequence());
+    }
+
+    @Test
+    public void testDeltaBeforeKeyframeIgnored() {
+        List<ByteBuffer> frames = new ArrayList<>();
+        broadcaster.subscribe(frames::add);
+        broadcaster.publish();
+        player1.addMoney(1);
+        broadcaster.publish();
+
+        SpectatorState joined = new SpectatorState();
+        joined.onFrame(frames.get(1));
+
+        assertFalse(joined.isInSync());
+        assertEquals(0, joined.getPlayerCount());
+    }
+}
@@ -0,0 +1,187 @@
+package Model.Broadcast;
+
+import Model.Board.Gameboard;
+import Model.Board.Player;
+import Model.GameState;
+import Model.Property.Property;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the StateBroadcaster class
+ */
+public class StateBroadcasterTest {
+
+    private Gameboard board;
+    private Player player1;
+    private Player player2;
+    private StateBroadcaster broadcaster;
+    private List<ByteBuffer> frames;
+
+    @Before
+    public void setUp() {
+        board = new Gameboard();
+        player1 = new Player("Alice");
+        player2 = new Player("Bob");
+        List<Player> players = new ArrayList<>();
+        players.add(player1);
+        players.add(player2);
+        GameState gameState = new GameState(players, board);
+
+        broadcaster = new StateBroadcaster(gameState, 3);
+        frames = new ArrayList<>();
+        broadcaster.subscribe(frames::add);
+    }
+
+    @Test
+    public void testFirstFrameIsKeyframe() {
+        assertTrue(broadcaster.publish());
+
+        assertEquals(1, frames.size());
+        assertEquals(StateBroadcaster.KEYFRAME, frames.get(0).get(0));
+        assertEquals(1, broadcaster.getSequence());
+    }
+
+    @Test
+    public void testNoFrameWhenNothingChanged() {
+        broadcaster.publish();
+
+        assertFalse(broadcaster.publish());
+        assertEquals(1, frames.size());
+    }
+
+    @Test
+    public void testDeltaContainsOnlyChanges() {
+        broadcaster.publish();
+        player1.addMoney(100);
+
+        assertTrue(broadcaster.publish());
+
+        ByteBuffer delta = frames.get(1);
+        assertEquals(StateBroadcaster.DELTA, delta.get());
+        assertEquals(2, delta.getLong());
+        assertEquals(1, delta.getShort());
+        assertEquals(StateBroadcaster.CASH, delta.get());
+        assertEquals(0, delta.getShort());
+        assertEquals(1600, delta.getInt());
+        assertFalse(delta.hasRemaining());
+    }
+
+    @Test
+    public void testKeyframeSentAtInterval() {
+        broadcaster.publish();
+        player1.addMoney(1);
+        broadcaster.publish();
+        player1.addMoney(1);
+        broadcaster.publish();
+        player1.addMoney(1);
+        broadcaster.publish();
+
+        assertEquals(4, frames.size());
+        assertEquals(StateBroadcaster.DELTA, frames.get(2).get(0));
+        assertEquals(StateBroadcaster.KEYFRAME, frames.get(3).get(0));
+    }
+
+    @Test
+    public void testSameBytesSharedByAllSubscribers() {
+        List<ByteBuffer> other = new ArrayList<>();
+        broadcaster.subscribe(other::add);
+
+        broadcaster.publish();
+
+        assertEquals(frames.get(0), other.get(0));
+        assertTrue(frames.get(0).isReadOnly());
+    }
+
+    @Test
+    public void testFailingSubscriberIsRemoved() {
+        broadcaster.subscribe(frame -> {
+            throw new IllegalStateException("gone");
+        });
+        assertEquals(2, broadcaster.getSubscriberCount());
+
+        broadcaster.publish();
+
+        assertEquals(1, broadcaster.getSubscriberCount());
+        assertEquals(1, frames.size());
+    }
+
+    @Test
+    public void testLateJoinerCatchesUp() {
+        broadcaster.publish();
+        player1.setPosition(5);
+        broadcaster.publish();
+        Property property = (Property) board.getspace(1);
+        property.setOwner(player2);
+        property.setHouses(2);
+        broadcaster.publish();
+
+        SpectatorState late = new SpectatorState();
+        broadcaster.subscribe(late);
+
+        assertTrue(late.isInSync());
+        assertEquals(3, late.getSequence());
+        assertEquals(5, late.getPosition(0));
+        assertEquals(1, late.getOwner(1));
+        assertEquals(2, late.getBuildings(1));
+    }
+
+    @Test
+    public void testStreamSubscriberWritesLengthPrefixedFrames() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        StreamSubscriber subscriber = new StreamSubscriber(stream);
+        broadcaster.subscribe(subscriber);
+
+        broadcaster.publish();
+        subscriber.close();
+
+        ByteBuffer written = ByteBuffer.wrap(stream.toByteArray());
+        assertEquals(frames.get(0).remaining(), written.getInt());
+        assertEquals(frames.get(0), written.slice());
+    }
+
+    @Test
+    public void testStalledStreamDoesNotBlockAndIsDropped() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        OutputStream stalled = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+        StreamSubscriber subscriber = new StreamSubscriber(stalled, 2);
+        broadcaster.subscribe(subscriber);
+
+        // Once the writer is stuck, two frames fill the queue and the next overflows it
+        int published = 0;
+        while (broadcaster.getSubscriberCount() == 2 && published < 1000) {
+            player1.addMoney(1);
+            assertTrue(broadcaster.publish());
+            published++;
+        }
+
+        assertEquals(1, broadcaster.getSubscriberCount());
+        assertEquals(published, frames.size());
+        release.countDown();
+        subscriber.close();
+    }
+}
@@ -0,0 +1,137 @@
+package Model;
+
+import Model.Property.Property;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the BuildingInventory class.
+ */
+public class BuildingInventoryTest {
+
+    private BuildingInventory inventory;
+    private List<Property> group;
+
+    @Before
+    public void setUp() {
+        inventory = new BuildingInventory();
+        group = Arrays.asList(
+                new Property("Oriental Avenue", 6, 100, "Light Blue"),
+                new Property("Vermont Avenue", 8, 100, "Light Blue"),
+                new Property("Connecticut Avenue", 9, 120, "Light Blue"));
+    }
+
+    @Test
+    public void testInitialization() {
+        assertEquals(32, inventory.getAvailableHouses());
+        assertEquals(12, inventory.getAvailableHotels());
+        assertFalse(inventory.isHouseShortage());
+    }
+
+    @Test
+    public void testApplyBatchOfHouses() {
+        int[] levels = {2, 2, 1};
+        assertNull(inventory.check(group, levels));
+
+        inventory.apply(group, levels);
+
+        assertEquals(27, inventory.getAvailableHouses());
+        assertEquals(2, group.get(0).getHouses());
+        assertEquals(1, group.get(2).getHouses());
+    }
+
+    @Test
+    public void testUnevenLevelsRejected() {
+        String problem = inventory.check(group, new int[]{2, 0, 0});
+
+        assertNotNull(problem);
+        assertTrue(problem.contains("evenly distributed"));
+    }
+
+    @Test
+    public void testRelaxedSpreadAllowsUnevenLevels() {
+        inventory.setMaxSpread(BuildingInventory.HOTEL);
+
+        assertNull(inventory.check(group, new int[]{4, 0, 0}));
+        assertNull(inventory.check(group, new int[]{5, 0, 1}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSpreadRejected() {
+        inventory.setMaxSpread(0);
+    }
+
+    @Test
+    public void testLevelOutOfRangeRejected() {
+        assertNotNull(inventory.check(group, new int[]{6, 5, 5}));
+        assertNotNull(inventory.check(group, new int[]{-1, 0, 0}));
+    }
+
+    @Test
+    public void testMortgagedGroupCannotBuild() {
+        group.get(1).setMortgaged(true);
+
+        assertNotNull(inventory.check(group, new int[]{1, 0, 0}));
+    }
+
+    @Test
+    public void testHouseSupplyEnforced() {
+        Houses houses = new Houses();
+        houses.useHouses(30);
+        inventory = new BuildingInventory(houses, new Hotels());
+
+        String problem = inventory.check(group, new int[]{1, 1, 1});
+
+        assertNotNull(problem);
+        assertTrue(problem.contains("Only 2 available"));
+        assertNull(inventory.check(group, new int[]{1, 1, 0}));
+    }
+
+    @Test
+    public void testHotelReturnsHouses() {
+        inventory.apply(group, new int[]{4, 4, 4});
+        assertEquals(20, inventory.getAvailableHouses());
+
+        inventory.apply(group, new int[]{5, 4, 4});
+
+        assertTrue(group.get(0).hasHotel());
+        assertEquals(0, group.get(0).getHouses());
+        assertEquals(24, inventory.getAvailableHouses());
+        assertEquals(11, inventory.getAvailableHotels());
+    }
+
+    @Test
+    public void testBreakingHotelNeedsHouses() {
+        Houses houses = new Houses();
+        inventory = new BuildingInventory(houses, new Hotels());
+        inventory.apply(group, new int[]{5, 5, 5});
+        houses.useHouses(30);
+
+        assertNotNull(inventory.check(group, new int[]{4, 5, 5}));
+        assertNull(inventory.check(group, new int[]{5, 5, 5}));
+        // Selling down far enough to need only 2 houses is allowed
+        assertNull(inventory.check(group, new int[]{1, 1, 0}));
+    }
+
+    @Test
+    public void testHousesNeeded() {
+        inventory.apply(group, new int[]{4, 4, 4});
+
+        assertEquals(-12, BuildingInventory.housesNeeded(group, new int[]{5, 5, 5}));
+        assertEquals(-3, BuildingInventory.housesNeeded(group, new int[]{3, 3, 3}));
+    }
+
+    @Test
+    public void testReset() {
+        inventory.apply(group, new int[]{5, 5, 5});
+        inventory.reset();
+
+        assertEquals(32, inventory.getAvailableHouses());
+        assertEquals(12, inventory.getAvailableHotels());
+    }
+}
@@ -178,11 +178,59 @@ public class ChanceCardTest {
 
         testCard.executeEffect(testPlayer, testGameState);
 
-        // Testing the exact expected values
-        assertEquals(1450, testPlayer.getMoney()); // Started with $1450, gave $50, received $0
+        // The drawer pays each other player $50
+        assertEquals(1400, testPlayer.getMoney()); // Started with $1450, gave $50
         assertEquals(1550, player2.getMoney()); // Started with $1500, received $50
 
-        assertTrue(outContent.toString().contains("collected $50 from other players"));
+        assertTrue(outContent.toString().contains("paid $50 to each other player"));
+        assertTrue(testGameState.getLedger().reconcile());
+    }
+
+    @Test
+    public void testChairmanOfTheBoardMortgagesToPay() {
+        Player drawer = new Player("Drawer");
+        Player other = new Player("Other");
+        drawer.subtractMoney(1480); // $20 left
+        Model.Property.Property boardwalk = new Model.Property.Property("Boardwalk", 39, 400, "Dark Blue");
+        boardwalk.setOwner(drawer);
+        drawer.addProperty(boardwalk);
+
+        List<Player> players = new ArrayList<>();
+        players.add(drawer);
+        players.add(other);
+        GameState testGameState = new GameState(players, gameboard);
+        testGameState.setBank(new Model.Board.Bank());
+
+        new ChanceCard("You have been elected Chairman of the Board. Pay each player $50.").executeEffect(drawer, testGameState);
+
+        // Boardwalk is mortgaged for $200 rather than the debt being skipped
+        assertTrue(boardwalk.isMortgaged());
+        assertEquals(170, drawer.getMoney());
+        assertEquals(1550, other.getMoney());
+        assertTrue(testGameState.getLedger().reconcile());
+    }
+
+    @Test
+    public void testChairmanOfTheBoardBankruptsDrawerWhoCannotPay() {
+        Player drawer = new Player("Drawer");
+        Player player2 = new Player("Player 2");
+        Player player3 = new Player("Player 3");
+        drawer.subtractMoney(1440); // $60 left, nothing to sell
+
+        List<Player> players = new ArrayList<>();
+        players.add(drawer);
+        players.add(player2);
+        players.add(player3);
+        GameState testGameState = new GameState(players, gameboard);
+
+        new ChanceCard("You have been elected Chairman of the Board. Pay each player $50.").executeEffect(drawer, testGameState);
+
+        // The first player is paid in full, the second gets what is left
+        assertEquals(1550, player2.getMoney());
+        assertEquals(1510, player3.getMoney());
+        assertEquals(0, drawer.getMoney());
+        assertTrue(drawer.isBankrupt());
+        assertTrue(testGameState.getLedger().reconcile());
     }
 
     @Test
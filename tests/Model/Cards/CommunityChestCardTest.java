@@ -189,6 +189,30 @@ public class CommunityChestCardTest {
         assertTrue(outContent.toString().contains("collected $10 for their birthday"));
     }
 
+    @Test
+    public void testBirthdayShortPayerDoesNotStopOthers() {
+        Player drawer = new Player("Drawer");
+        Player shortPayer = new Player("Short");
+        Player payer = new Player("Payer");
+        shortPayer.subtractMoney(1495); // $5 left, nothing to sell
+
+        List<Player> players = new ArrayList<>();
+        players.add(drawer);
+        players.add(shortPayer);
+        players.add(payer);
+        GameState testGameState = new GameState(players, gameboard);
+
+        new CommunityChestCard("It is your birthday. Collect $10 from each player.").executeEffect(drawer, testGameState);
+
+        // The full $10 from one player and all the short player has
+        assertEquals(1515, drawer.getMoney());
+        assertEquals(1490, payer.getMoney());
+        assertEquals(0, shortPayer.getMoney());
+        assertTrue(shortPayer.isBankrupt());
+        assertTrue(outContent.toString().contains("collected $15 for their birthday"));
+        assertTrue(testGameState.getLedger().reconcile());
+    }
+
     @Test
     public void testLifeInsurance() {
         communityChestCard = new CommunityChestCard("Life insurance matures. Collect $100.");
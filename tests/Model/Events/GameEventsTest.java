@@ -0,0 +1,161 @@
+package Model.Events;
+
+import Controller.BoardController;
+import Model.Board.Bank;
+import Model.Board.ComputerPlayer;
+import Model.Board.Gameboard;
+import Model.Board.Player;
+import Model.Board.Strategy.AggressiveStrategy;
+import Model.GameState;
+import Model.Property.Property;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the game's Flight Recorder events
+ */
+public class GameEventsTest {
+
+    private Player player1;
+    private Player player2;
+    private Gameboard board;
+    private GameState gameState;
+    private Bank bank;
+    private final PrintStream originalOut = System.out;
+
+    @Before
+    public void setUp() {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+
+        player1 = new Player("Player 1");
+        player2 = new ComputerPlayer("Computer", new AggressiveStrategy());
+        List<Player> players = new ArrayList<>();
+        players.add(player1);
+        players.add(player2);
+        board = new Gameboard();
+        bank = new Bank();
+        gameState = new GameState(players, board);
+        gameState.setBank(bank);
+    }
+
+    @After
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    public void testGamesHaveDistinctIds() {
+        GameState other = new GameState(new ArrayList<>(), new Gameboard());
+
+        assertNotEquals(gameState.getGameId(), other.getGameId());
+        assertEquals(gameState.getGameId(), gameState.getLedger().getGameId());
+    }
+
+    @Test
+    public void testEventsAreRecorded() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            Property property = (Property) board.getspace(39);
+            property.setOwner(player2);
+            property.calculateRent(gameState);
+
+            gameState.drawChanceCard();
+            player1.addMoney(100);
+
+            BoardController controller = new BoardController(gameState, board, bank, gameState.getPlayers());
+            controller.handlePlayerTurn(player1);
+
+            // Cards drawn on the computer's turn apply to the current player
+            gameState.setCurrentPlayerIndex(1);
+            player2.takeTurn(board, gameState);
+        });
+
+        RecordedEvent rent = first(events, "monopoly.Rent");
+        assertEquals(gameState.getGameId(), rent.getLong("gameId"));
+        assertEquals("Boardwalk", rent.getString("space"));
+        assertEquals("Computer", rent.getString("owner"));
+        assertEquals(50, rent.getInt("rent"));
+
+        RecordedEvent card = first(events, "monopoly.CardDraw");
+        assertEquals("Chance", card.getString("deck"));
+        assertEquals("Player 1", card.getString("player"));
+
+        boolean deposit = false;
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals("monopoly.BankTransaction")
+                    && event.getInt("amount") == 100 && event.getString("player").equals("Player 1")) {
+                deposit = true;
+            }
+        }
+        assertTrue(deposit);
+
+        RecordedEvent turn = first(events, "monopoly.Turn");
+        assertEquals("Player 1", turn.getString("player"));
+        assertEquals(player1.getPosition(), turn.getInt("toPosition"));
+
+        RecordedEvent decision = first(events, "monopoly.StrategyDecision");
+        assertEquals("Computer", decision.getString("player"));
+        assertEquals("AggressiveStrategy", decision.getString("strategy"));
+    }
+
+    @Test
+    public void testNothingRecordedWhenDisabled() throws IOException {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            for (Class<? extends jdk.jfr.Event> type : GameEvents.TYPES) {
+                recording.disable(type);
+            }
+            recording.start();
+            ((Property) board.getspace(1)).calculateRent(gameState);
+            recording.stop();
+            events = read(recording);
+        }
+
+        for (RecordedEvent event : events) {
+            assertFalse(event.getEventType().getName().startsWith(GameEvents.PREFIX));
+        }
+    }
+
+    private List<RecordedEvent> record(Runnable action) throws IOException {
+        try (Recording recording = new Recording()) {
+            GameEvents.enable(recording);
+            recording.start();
+            action.run();
+            recording.stop();
+            return read(recording);
+        }
+    }
+
+    private static List<RecordedEvent> read(Recording recording) throws IOException {
+        Path file = Files.createTempFile("monopoly", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static RecordedEvent first(List<RecordedEvent> events, String name) {
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(name)) {
+                return event;
+            }
+        }
+        fail("No " + name + " event was recorded");
+        return null;
+    }
+}
@@ -1,5 +1,6 @@
 package Model;
 
+import Controller.BoardController;
 import Model.Board.Bank;
 import Model.Board.Dice;
 import Model.Board.Gameboard;
@@ -9,7 +10,10 @@ import Model.Cards.CommunityChestCard;
 import Model.Property.Property;
 import Model.Spaces.RailroadSpace;
 import Model.Spaces.Space;
+import Model.Rules.HouseRules;
 import Model.Spaces.UtilitySpace;
+import Model.Termination.GameEnd;
+import Model.Termination.StalemateDetector;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -294,6 +298,19 @@ public class GameStateTest {
     /**
      * Test handling player bankruptcy
      */
+    @Test
+    public void testBankruptcyBeforeCurrentPlayerKeepsTurn() {
+        Player player3 = new Player("Test Player 3");
+        players.add(player3);
+        gameState.setCurrentPlayerIndex(2);
+
+        gameState.handlePlayerBankruptcy(player1);
+
+        assertSame(player3, gameState.getCurrentPlayer());
+        gameState.nextTurn();
+        assertSame(player2, gameState.getCurrentPlayer());
+    }
+
     @Test
     public void testHandlePlayerBankruptcy() {
         // Give player1 a property
@@ -316,6 +333,35 @@ public class GameStateTest {
 
         // Check if game is over with only one player
         assertFalse(gameState.isGameActive());
+        assertEquals(GameEnd.LAST_PLAYER_STANDING, gameState.getEndReason());
+    }
+
+    @Test
+    public void testBankruptcyReturnsBuildingsToStock() {
+        player1.addMoney(5000);
+        List<Property> brown = board.getPropertiesByColorGroup("Brown");
+        List<Property> darkBlue = board.getPropertiesByColorGroup("Dark Blue");
+        for (Property property : brown) {
+            property.setOwner(player1);
+            player1.addProperty(property);
+        }
+        for (Property property : darkBlue) {
+            property.setOwner(player1);
+            player1.addProperty(property);
+        }
+        assertTrue(bank.buildHouses(player1, "Brown", 5, board));
+        assertTrue(bank.buildHouses(player1, "Dark Blue", 10, board));
+        assertEquals(32 - 5, bank.getBuildingInventory().getAvailableHouses());
+        assertEquals(12 - 2, bank.getBuildingInventory().getAvailableHotels());
+
+        gameState.handlePlayerBankruptcy(player1);
+
+        assertEquals(32, bank.getBuildingInventory().getAvailableHouses());
+        assertEquals(12, bank.getBuildingInventory().getAvailableHotels());
+        for (Property property : brown) {
+            assertEquals(0, property.getHouses());
+            assertFalse(property.hasHotel());
+        }
     }
 
     /**
@@ -545,6 +591,26 @@ public class GameStateTest {
         assertNull("Utility owner should be null after bankruptcy", utility.getOwner());
     }
 
+    @Test
+    public void testHandlePlayerBankruptcyUsesOwnershipIndex() {
+        Player bankruptPlayer = new Player("Bankrupt");
+        players.add(bankruptPlayer);
+
+        RailroadSpace railroad = board.getRailroads().get(0);
+        railroad.setOwner(bankruptPlayer);
+        railroad.setMortgaged(true);
+        UtilitySpace utility = board.getUtilities().get(1);
+        utility.setOwner(bankruptPlayer);
+        assertEquals(2, board.getOwnershipIndex().getHoldings(bankruptPlayer).size());
+
+        gameState.handlePlayerBankruptcy(bankruptPlayer);
+
+        assertTrue(board.getOwnershipIndex().getHoldings(bankruptPlayer).isEmpty());
+        assertNull(railroad.getOwner());
+        assertFalse(railroad.isMortgaged());
+        assertNull(utility.getOwner());
+    }
+
     /**
      * Test class for initializing card decks
      */
@@ -877,4 +943,126 @@ public class GameStateTest {
         // Release for other tests
         gameState.releaseFromJail(player1);
     }
-}
\ No newline at end of file
+
+    /**
+     * Test that the rules' turn limit is checked before any termination policy
+     */
+    @Test
+    public void testCheckTermination() {
+        gameState.setRules(HouseRules.standard().withTurnLimit(4).compile());
+        gameState.addTerminationPolicy(new StalemateDetector(1));
+
+        gameState.nextTurn();
+        assertNull(gameState.checkTermination());
+        gameState.nextTurn();
+        assertEquals(GameEnd.STALEMATE, gameState.checkTermination());
+        gameState.nextTurn();
+        gameState.nextTurn();
+        assertEquals(GameEnd.TURN_LIMIT, gameState.checkTermination());
+    }
+
+    /**
+     * Test ending the game and starting it again
+     */
+    @Test
+    public void testEndGame() {
+        assertNull(gameState.getEndReason());
+
+        gameState.endGame(GameEnd.TIME_LIMIT);
+
+        assertFalse(gameState.isGameActive());
+        assertEquals(GameEnd.TIME_LIMIT, gameState.getEndReason());
+
+        gameState.initializeGame();
+        assertTrue(gameState.isGameActive());
+        assertNull(gameState.getEndReason());
+    }
+
+    /**
+     * Test that a debtor who raises cash to pay keeps enough to stay in the game
+     */
+    @Test
+    public void testPayDebtLeavesDebtorSolvent() {
+        player1.addMoney(100);
+        for (Property property : board.getPropertiesByColorGroup("Brown")) {
+            property.setOwner(player1);
+            player1.addProperty(property);
+        }
+
+        assertTrue(gameState.payDebt(player1, player2, 130, "Rent"));
+
+        assertEquals(130, player2.getMoney());
+        assertEquals(30, player1.getMoney());
+        assertFalse(player1.isBankrupt());
+    }
+
+    /**
+     * Test that a seed fixes the order of both card decks
+     */
+    @Test
+    public void testSeedFixesCardOrder() {
+        GameState first = new GameState(new ArrayList<>(), new Gameboard());
+        GameState second = new GameState(new ArrayList<>(), new Gameboard());
+        first.setSeed(42L);
+        second.setSeed(42L);
+
+        assertEquals(descriptions(first.getChanceCardDeck()), descriptions(second.getChanceCardDeck()));
+        assertEquals(descriptions(first.getCommunityChestCardDeck()),
+                descriptions(second.getCommunityChestCardDeck()));
+    }
+
+    /**
+     * Test that two games with the same seed play out turn for turn alike, cards included
+     */
+    @Test
+    public void testSameSeedReplaysTheGame() {
+        GameLog.setEnabled(false);
+        try {
+            List<String> first = replay(20240601L);
+            List<String> second = replay(20240601L);
+
+            assertEquals(first, second);
+            assertNotEquals(first, replay(7L));
+        } finally {
+            GameLog.setEnabled(true);
+        }
+    }
+
+    /**
+     * Plays a seeded game of three players and records where everyone stands after each turn.
+     */
+    private static List<String> replay(long seed) {
+        List<Player> seated = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            seated.add(new Player("Player " + i));
+        }
+        Gameboard gameboard = new Gameboard();
+        GameState game = new GameState(new ArrayList<>(seated), gameboard);
+        Bank gameBank = new Bank();
+        gameBank.setSimulation(true);
+        game.setBank(gameBank);
+        game.setSeed(seed);
+        BoardController controller = new BoardController(game, gameboard, gameBank, game.getPlayers());
+
+        List<String> transcript = new ArrayList<>();
+        for (int turn = 0; turn < 300 && controller.nextTurn(); turn++) {
+            StringBuilder line = new StringBuilder();
+            for (Player player : seated) {
+                line.append(player.getPosition()).append('/').append(player.getMoney()).append(' ');
+            }
+            line.append(game.getChanceCardDeck().size()).append(' ').append(game.getCommunityChestCardDeck().size());
+            transcript.add(line.toString());
+        }
+        return transcript;
+    }
+
+    private static List<String> descriptions(List<? extends Object> deck) {
+        List<String> texts = new ArrayList<>();
+        for (Object card : deck) {
+            texts.add(card instanceof ChanceCard
+                    ? ((ChanceCard) card).getDescription()
+                    : ((CommunityChestCard) card).getDescription());
+        }
+        return texts;
+    }
+}
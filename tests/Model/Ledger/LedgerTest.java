@@ -0,0 +1,279 @@
+package Model.Ledger;
+
+import Controller.BoardController;
+import Model.Board.Bank;
+import Model.Board.Gameboard;
+import Model.Board.Player;
+import Model.GameState;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the Ledger and Transaction classes
+ */
+public class LedgerTest {
+
+    private Ledger ledger;
+    private Player player1;
+    private Player player2;
+    private Player player3;
+    private List<Player> players;
+
+    @Before
+    public void setUp() {
+        ledger = new Ledger();
+        player1 = new Player("Alice");
+        player2 = new Player("Bob");
+        player3 = new Player("Carol");
+        players = new ArrayList<>();
+        players.add(player1);
+        players.add(player2);
+        players.add(player3);
+        for (Player player : players) {
+            ledger.open(player);
+        }
+    }
+
+    @Test
+    public void testOpenAttachesLedger() {
+        assertSame(ledger, player1.getLedger());
+        assertEquals(1500, ledger.getBalance(player1));
+        assertEquals(ledger.open(player1), ledger.open(player1));
+    }
+
+    @Test
+    public void testTransferMovesMoney() {
+        assertTrue(ledger.transfer(player1, player2, 200, "Rent"));
+
+        assertEquals(1300, player1.getMoney());
+        assertEquals(1700, player2.getMoney());
+        assertEquals(1300, ledger.getBalance(player1));
+        assertEquals(1, ledger.getEntryCount());
+        assertTrue(ledger.describeEntry(0).contains("Alice -> Bob $200 (Rent)"));
+    }
+
+    @Test
+    public void testTransferRejectedWhenShort() {
+        assertFalse(ledger.transfer(player1, player2, 5000, "Rent"));
+
+        assertEquals(1500, player1.getMoney());
+        assertEquals(1500, player2.getMoney());
+        assertEquals(0, ledger.getEntryCount());
+    }
+
+    @Test
+    public void testPlayerMethodsPostToLedger() {
+        player1.addMoney(200);
+        assertTrue(player1.subtractMoney(50));
+        assertFalse(player1.subtractMoney(100000));
+        player1.payRent(player2, 100);
+
+        assertEquals(1550, player1.getMoney());
+        assertEquals(1600, player2.getMoney());
+        assertEquals(3, ledger.getTransactionCount());
+        assertEquals(-150, ledger.getBankBalance());
+        assertTrue(ledger.reconcile());
+    }
+
+    @Test
+    public void testPayEachIsSingleAtomicPosting() {
+        assertTrue(ledger.payEach(player1, players, 50, "Chairman of the Board"));
+
+        assertEquals(1400, player1.getMoney());
+        assertEquals(1550, player2.getMoney());
+        assertEquals(1550, player3.getMoney());
+        assertEquals(1, ledger.getTransactionCount());
+        assertEquals(2, ledger.getEntryCount());
+    }
+
+    @Test
+    public void testPayEachFailsAsAWhole() {
+        player1.subtractMoney(1450);
+
+        assertFalse(ledger.payEach(player1, players, 50, "Chairman of the Board"));
+
+        assertEquals(50, player1.getMoney());
+        assertEquals(1500, player2.getMoney());
+        assertEquals(1500, player3.getMoney());
+    }
+
+    @Test
+    public void testCollectFromEachFailsIfAnyoneShort() {
+        player3.subtractMoney(1495);
+
+        assertFalse(ledger.collectFromEach(player1, players, 10, "Birthday"));
+        assertEquals(1500, player1.getMoney());
+        assertEquals(1500, player2.getMoney());
+
+        assertTrue(ledger.collectFromEach(player1, players, 5, "Birthday"));
+        assertEquals(1510, player1.getMoney());
+        assertEquals(0, player3.getMoney());
+    }
+
+    @Test
+    public void testTransactionNetsLegsPerPlayer() {
+        // Alice can afford the net $100 even though one leg alone is larger than her cash
+        player1.subtractMoney(1400);
+        boolean posted = ledger.begin("Trade")
+                .transfer(player1, player2, 300)
+                .transfer(player2, player1, 200)
+                .commit();
+
+        assertTrue(posted);
+        assertEquals(0, player1.getMoney());
+        assertEquals(1600, player2.getMoney());
+    }
+
+    @Test
+    public void testCommitAllowingDebt() {
+        assertTrue(ledger.begin("Tax").transfer(player1, null, 2000).commitAllowingDebt());
+        assertEquals(-500, player1.getMoney());
+        assertTrue(ledger.reconcile());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeTransferRejected() {
+        ledger.begin("Bad").transfer(player1, player2, -5);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testTransactionCannotBeCommittedTwice() {
+        Transaction transaction = ledger.begin("Once").transfer(player1, player2, 5);
+        transaction.commit();
+        transaction.commit();
+    }
+
+    @Test
+    public void testUnknownPlayerOpenedOnFirstPosting() {
+        Player newcomer = new Player("Dave");
+
+        assertTrue(ledger.transfer(newcomer, player1, 100, "Gift"));
+
+        assertSame(ledger, newcomer.getLedger());
+        assertEquals(1400, ledger.getBalance(newcomer));
+        assertTrue(ledger.reconcile());
+    }
+
+    @Test
+    public void testPostingFromListenerDuringPosting() {
+        // Fill the ledger's accounts so the listener's newcomer makes it grow mid-posting
+        for (int i = 0; i < 4; i++) {
+            ledger.open(new Player("Filler " + i));
+        }
+        Player newcomer = new Player("Dave");
+        boolean[] fired = {false};
+        player2.addPropertyChangeListener(event -> {
+            if (Player.MONEY.equals(event.getPropertyName()) && !fired[0]) {
+                fired[0] = true;
+                ledger.transfer(newcomer, player1, 100, "Gift");
+            }
+        });
+
+        assertTrue(ledger.begin("Chairman of the Board")
+                .transfer(player1, player2, 50)
+                .transfer(player1, player3, 50)
+                .commit());
+
+        assertTrue(fired[0]);
+        assertEquals(1500, player1.getMoney());
+        assertEquals(1550, player2.getMoney());
+        assertEquals(1550, player3.getMoney());
+        assertEquals(1400, newcomer.getMoney());
+        assertTrue(ledger.reconcile());
+    }
+
+    @Test
+    public void testReconcileDetectsCashChangedOutsideLedger() {
+        player1.setLedger(null);
+        player1.addMoney(100);
+
+        assertFalse(ledger.reconcile());
+    }
+
+    @Test
+    public void testLogGrowsBeyondInitialCapacity() {
+        for (int i = 0; i < 1000; i++) {
+            ledger.transfer(player1, player2, 1, "Tick");
+            ledger.transfer(player2, player1, 1, "Tock");
+        }
+
+        assertEquals(2000, ledger.getEntryCount());
+        assertEquals(1500, player1.getMoney());
+        assertTrue(ledger.reconcile());
+    }
+
+    @Test
+    public void testLogKeepsOnlyTheMostRecentTransfers() {
+        Ledger small = new Ledger(0, 4);
+        Player dave = new Player("Dave");
+        Player erin = new Player("Erin");
+        small.open(dave);
+        small.open(erin);
+
+        for (int i = 1; i <= 10; i++) {
+            small.transfer(dave, erin, i, "Rent");
+        }
+
+        assertEquals(10, small.getEntryCount());
+        assertEquals(6, small.getFirstEntry());
+        assertTrue(small.describeEntry(9).contains("Dave -> Erin $10 (Rent)"));
+        assertTrue(small.describeEntry(6).contains("$7"));
+        assertEquals(1500 - 55, dave.getMoney());
+        assertTrue(small.reconcile());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testFoldedEntryCannotBeDescribed() {
+        Ledger small = new Ledger(0, 2);
+        small.open(player1);
+        for (int i = 0; i < 3; i++) {
+            small.transfer(player1, null, 1, "Tax");
+        }
+
+        small.describeEntry(0);
+    }
+
+    @Test
+    public void testReconcileFindsTamperingAfterFolding() {
+        Ledger small = new Ledger(0, 2);
+        Player dave = new Player("Dave");
+        small.open(dave);
+        for (int i = 0; i < 5; i++) {
+            small.transfer(null, dave, 10, "Salary");
+        }
+        assertTrue(small.reconcile());
+
+        // Cash changed behind the ledger's back
+        dave.setLedger(null);
+        dave.addMoney(1);
+
+        assertFalse(small.reconcile());
+    }
+
+    @Test
+    public void testReconcilesAfterSimulatedGames() {
+        for (int game = 0; game < 20; game++) {
+            List<Player> gamePlayers = new ArrayList<>();
+            gamePlayers.add(new Player("Player 1"));
+            gamePlayers.add(new Player("Player 2"));
+            gamePlayers.add(new Player("Player 3"));
+            Gameboard board = new Gameboard();
+            GameState gameState = new GameState(gamePlayers, board);
+            Bank bank = new Bank();
+            gameState.setBank(bank);
+            BoardController controller = new BoardController(gameState, board, bank, gamePlayers);
+
+            for (int turn = 0; turn < 200 && !controller.isGameOver(); turn++) {
+                controller.nextTurn();
+            }
+
+            assertTrue("Game " + game + " does not reconcile", gameState.getLedger().reconcile());
+            assertTrue(gameState.getLedger().getEntryCount() > 0);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package Model.Metrics;
+
+import Controller.BoardController;
+import Model.Board.Bank;
+import Model.Board.ComputerPlayer;
+import Model.Board.Gameboard;
+import Model.Board.Player;
+import Model.GameState;
+import Model.Termination.GameEnd;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the GameMetrics class
+ */
+public class GameMetricsTest {
+
+    private GameMetrics metrics;
+    private final PrintStream originalOut = System.out;
+
+    @Before
+    public void setUp() {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        metrics = new GameMetrics();
+    }
+
+    @After
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    public void testRecording() {
+        metrics.turnPlayed();
+        metrics.turnPlayed();
+        metrics.gameFinished(100);
+        metrics.gameFinished(200);
+        metrics.rentPaid(50);
+        metrics.rentPaid(1000);
+        metrics.bankruptcy();
+        metrics.decisionMade(2_000);
+
+        assertEquals(2, metrics.getTurns());
+        assertEquals(2, metrics.getGames());
+        assertEquals(150, metrics.getMeanGameLength(), 0.0001);
+        assertEquals(1050, metrics.getRentVolume());
+        assertEquals(1, metrics.getBankruptcies());
+        assertEquals(2.0, metrics.getDecisionMicrosMax(), 0.0);
+        assertEquals(2.0, metrics.getDecisionMicrosP99(), 2.0 * 0.07);
+        assertTrue(metrics.getTurnsPerSecond() > 0);
+        assertEquals(Long.valueOf(2), metrics.getCounts().get("turns"));
+    }
+
+    @Test
+    public void testGamesEndedByReason() {
+        metrics.gameFinished(40, GameEnd.LAST_PLAYER_STANDING);
+        metrics.gameFinished(500, GameEnd.STALEMATE);
+        metrics.gameFinished(600, GameEnd.STALEMATE);
+        metrics.gameFinished(700, null);
+
+        assertEquals(4, metrics.getGames());
+        assertEquals(1, metrics.getGamesEnded(GameEnd.LAST_PLAYER_STANDING));
+        assertEquals(0, metrics.getGamesEnded(GameEnd.TIME_LIMIT));
+        assertEquals(2, metrics.getStalemates());
+        assertEquals(Long.valueOf(2), metrics.getCounts().get("games.ended.stalemate"));
+    }
+
+    @Test
+    public void testReset() {
+        metrics.turnPlayed();
+        metrics.gameFinished(10);
+
+        metrics.reset();
+
+        assertEquals(0, metrics.getTurns());
+        assertEquals(0, metrics.getGames());
+        assertEquals(0, metrics.getMeanGameLength(), 0.0);
+    }
+
+    @Test
+    public void testGamesRecordIntoTheirMetrics() {
+        Player human = new Player("Human");
+        ComputerPlayer computer = new ComputerPlayer("Computer");
+        List<Player> players = new ArrayList<>();
+        players.add(human);
+        players.add(computer);
+        Gameboard board = new Gameboard();
+        Bank bank = new Bank();
+        GameState gameState = new GameState(players, board);
+        gameState.setBank(bank);
+        assertSame(GameMetrics.global(), gameState.getMetrics());
+        gameState.setMetrics(metrics);
+
+        long globalTurns = GameMetrics.global().getTurns();
+        BoardController controller = new BoardController(gameState, board, bank, players);
+        controller.handlePlayerTurn(human);
+        gameState.handlePlayerBankruptcy(computer);
+
+        assertEquals(1, metrics.getTurns());
+        assertEquals(1, metrics.getBankruptcies());
+        assertEquals(globalTurns, GameMetrics.global().getTurns());
+    }
+
+    @Test
+    public void testPublishedOverJmx() throws Exception {
+        ObjectName name = GameMetrics.registerGlobal();
+        assertEquals(name, GameMetrics.registerGlobal());
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertTrue(server.isRegistered(name));
+        long turns = (Long) server.getAttribute(name, "Turns");
+        assertEquals(GameMetrics.global().getTurns(), turns);
+        assertNotNull(server.getAttribute(name, "DecisionMicrosP99"));
+    }
+}
@@ -0,0 +1,70 @@
+package Model.Metrics;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the MetricsRegistry and Counter classes
+ */
+public class MetricsRegistryTest {
+
+    private MetricsRegistry registry;
+
+    @Before
+    public void setUp() {
+        registry = new MetricsRegistry();
+    }
+
+    @Test
+    public void testMetricsAreCreatedOnce() {
+        assertSame(registry.counter("turns"), registry.counter("turns"));
+        assertSame(registry.histogram("latency"), registry.histogram("latency"));
+        assertNotSame(registry.counter("turns"), registry.counter("games"));
+    }
+
+    @Test
+    public void testCounts() {
+        registry.counter("turns").increment();
+        registry.counter("turns").increment();
+        registry.counter("rent").add(350);
+
+        Map<String, Long> counts = registry.getCounts();
+        assertEquals(Long.valueOf(2), counts.get("turns"));
+        assertEquals(Long.valueOf(350), counts.get("rent"));
+        assertEquals("[rent, turns]", counts.keySet().toString());
+    }
+
+    @Test
+    public void testReset() {
+        registry.counter("turns").add(5);
+        registry.histogram("latency").record(10);
+
+        registry.reset();
+
+        assertEquals(0, registry.counter("turns").get());
+        assertEquals(0, registry.histogram("latency").getCount());
+    }
+
+    @Test
+    public void testConcurrentCounting() throws InterruptedException {
+        Counter counter = registry.counter("turns");
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    counter.increment();
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(80_000, counter.get());
+    }
+}
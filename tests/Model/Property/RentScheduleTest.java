@@ -0,0 +1,122 @@
+package Model.Property;
+
+import Model.Board.Gameboard;
+import Model.Board.Player;
+import Model.GameState;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the RentSchedule class
+ */
+public class RentScheduleTest {
+
+    @Test
+    public void testStandardPositions() {
+        assertTrue(RentSchedule.isStandardProperty(1));
+        assertTrue(RentSchedule.isStandardProperty(39));
+        assertFalse(RentSchedule.isStandardProperty(0));
+        assertFalse(RentSchedule.isStandardProperty(5));
+        assertFalse(RentSchedule.isStandardProperty(-1));
+        assertFalse(RentSchedule.isStandardProperty(40));
+
+        int properties = 0;
+        for (int position = 0; position < RentSchedule.BOARD_SIZE; position++) {
+            if (RentSchedule.isStandardProperty(position)) {
+                properties++;
+            }
+        }
+        assertEquals(22, properties);
+    }
+
+    @Test
+    public void testOfficialSchedules() {
+        assertEquals(400, RentSchedule.getPrice(39));
+        assertEquals(200, RentSchedule.getMortgageValue(39));
+        assertEquals("Dark Blue", RentSchedule.getColorGroup(39));
+        assertEquals(200, RentSchedule.getHouseCost(39));
+        assertEquals(50, RentSchedule.getRent(39, 0));
+        assertEquals(1400, RentSchedule.getRent(39, 3));
+        assertEquals(2000, RentSchedule.getRent(39, RentSchedule.HOTEL));
+
+        assertEquals(140, RentSchedule.getPrice(11));
+        assertEquals("Pink", RentSchedule.getColorGroup(11));
+        assertEquals(100, RentSchedule.getHouseCost(11));
+        assertEquals(750, RentSchedule.getRent(11, RentSchedule.HOTEL));
+    }
+
+    @Test
+    public void testBoardUsesOfficialSchedule() {
+        Gameboard gameboard = new Gameboard();
+        for (int position = 0; position < RentSchedule.BOARD_SIZE; position++) {
+            if (RentSchedule.isStandardProperty(position)) {
+                Property property = (Property) gameboard.getspace(position);
+                assertEquals(RentSchedule.getPrice(position), property.getPrice());
+                assertEquals(RentSchedule.getColorGroup(position), property.getColorGroup());
+                assertEquals(RentSchedule.getRent(position, 0), property.getRent());
+            }
+        }
+    }
+
+    @Test
+    public void testRentIsReadFromSchedule() {
+        Gameboard gameboard = new Gameboard();
+        List<Player> players = new ArrayList<>();
+        Player owner = new Player("Owner");
+        players.add(owner);
+        GameState gameState = new GameState(players, gameboard);
+
+        Property boardwalk = (Property) gameboard.getspace(39);
+        boardwalk.setOwner(owner);
+        assertEquals(50, boardwalk.calculateRent(gameState));
+
+        gameboard.getspace(37).setOwner(owner);
+        assertEquals(100, boardwalk.calculateRent(gameState)); // doubled for the whole group
+
+        boardwalk.setHouses(2);
+        assertEquals(600, boardwalk.calculateRent(gameState));
+
+        boardwalk.setHouses(0);
+        boardwalk.setHasHotel(true);
+        assertEquals(2000, boardwalk.calculateRent(gameState));
+    }
+
+    @Test
+    public void testCustomPropertyGetsDerivedSchedule() {
+        Property custom = new Property("Custom", 39, 200, "Dark Blue");
+        assertEquals(20, custom.getRent());
+        assertEquals(140, custom.getTitleDeed().getHouseRent(1));
+        assertEquals(3400, custom.getTitleDeed().getHotelRent());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownColorGroup() {
+        new Property("Nowhere", 50, 100, "Purple");
+    }
+
+    @Test
+    public void testTitleDeedIsCreatedOnce() {
+        Property property = new Property("Boardwalk", 39);
+        property.setMortgaged(true);
+
+        assertSame(property.getTitleDeed(), property.getTitleDeed());
+        assertTrue(property.getTitleDeed().isMortgaged());
+        assertEquals(2000, property.getTitleDeed().getHotelRent());
+        assertEquals(200, property.getTitleDeed().getHouseCost());
+    }
+
+    @Test
+    public void testRailroadAndUtilitySchedules() {
+        assertEquals(25, RentSchedule.getRailroadRent(1));
+        assertEquals(50, RentSchedule.getRailroadRent(2));
+        assertEquals(100, RentSchedule.getRailroadRent(3));
+        assertEquals(200, RentSchedule.getRailroadRent(4));
+        assertEquals(0, RentSchedule.getUtilityMultiplier(0));
+        assertEquals(4, RentSchedule.getUtilityMultiplier(1));
+        assertEquals(10, RentSchedule.getUtilityMultiplier(2));
+    }
+}
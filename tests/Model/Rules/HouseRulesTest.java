@@ -0,0 +1,74 @@
+package Model.Rules;
+
+import Model.BuildingInventory;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the HouseRules class
+ */
+public class HouseRulesTest {
+
+    @Test
+    public void testStandardRules() {
+        HouseRules standard = HouseRules.standard();
+
+        assertFalse(standard.isFreeParkingJackpot());
+        assertFalse(standard.isDoubleSalaryOnGo());
+        assertTrue(standard.isAuctionOnDecline());
+        assertFalse(standard.isNoRentInJail());
+        assertTrue(standard.isEvenBuilding());
+        assertEquals(0, standard.getTurnLimit());
+    }
+
+    @Test
+    public void testWithersReturnChangedCopies() {
+        HouseRules standard = HouseRules.standard();
+        HouseRules variant = standard.withFreeParkingJackpot(true).withTurnLimit(100);
+
+        assertNotSame(standard, variant);
+        assertTrue(variant.isFreeParkingJackpot());
+        assertEquals(100, variant.getTurnLimit());
+        assertTrue(variant.isAuctionOnDecline());
+
+        assertFalse(standard.isFreeParkingJackpot());
+        assertEquals(0, standard.getTurnLimit());
+    }
+
+    @Test
+    public void testCompileStandard() {
+        RuleSet rules = HouseRules.standard().compile();
+
+        assertEquals(GoSalary.STANDARD, rules.getGoSalary());
+        assertEquals(FreeParkingRule.STANDARD, rules.getFreeParking());
+        assertEquals(RentRule.STANDARD, rules.getRentRule());
+        assertEquals(DeclineRule.AUCTION, rules.getDeclineRule());
+        assertEquals(1, rules.getMaxBuildSpread());
+        assertEquals(Integer.MAX_VALUE, rules.getTurnLimit());
+    }
+
+    @Test
+    public void testCompileEveryHouseRule() {
+        RuleSet rules = HouseRules.standard()
+                .withFreeParkingJackpot(true)
+                .withDoubleSalaryOnGo(true)
+                .withAuctionOnDecline(false)
+                .withNoRentInJail(true)
+                .withEvenBuilding(false)
+                .withTurnLimit(200)
+                .compile();
+
+        assertEquals(GoSalary.DOUBLE_ON_LANDING, rules.getGoSalary());
+        assertEquals(FreeParkingRule.JACKPOT, rules.getFreeParking());
+        assertEquals(RentRule.NO_RENT_IN_JAIL, rules.getRentRule());
+        assertEquals(DeclineRule.LEAVE_UNSOLD, rules.getDeclineRule());
+        assertEquals(BuildingInventory.HOTEL, rules.getMaxBuildSpread());
+        assertEquals(200, rules.getTurnLimit());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeTurnLimit() {
+        HouseRules.standard().withTurnLimit(-1);
+    }
+}
@@ -0,0 +1,138 @@
+package Model.Rules;
+
+import Model.Board.Bank;
+import Model.Board.Gameboard;
+import Model.Board.Player;
+import Model.BuildingInventory;
+import Model.GameState;
+import Model.Spaces.FreeParkingSpace;
+import Model.Spaces.GoSpace;
+import Model.Spaces.Space;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the RuleSet class and the rule handlers it is compiled from
+ */
+public class RuleSetTest {
+
+    private Player player1;
+    private Player player2;
+    private Gameboard board;
+    private Bank bank;
+    private GameState gameState;
+    private final PrintStream originalOut = System.out;
+
+    @Before
+    public void setUp() {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+
+        player1 = new Player("Player 1");
+        player2 = new Player("Player 2");
+        List<Player> players = new ArrayList<>();
+        players.add(player1);
+        players.add(player2);
+        board = new Gameboard();
+        bank = new Bank();
+        gameState = new GameState(players, board);
+        gameState.setBank(bank);
+    }
+
+    @After
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    public void testGameStartsWithStandardRules() {
+        assertSame(RuleSet.standard(), gameState.getRules());
+        assertEquals(1, bank.getBuildingInventory().getMaxSpread());
+    }
+
+    @Test
+    public void testGoSalary() {
+        assertEquals(200, GoSalary.STANDARD.passing());
+        assertEquals(200, GoSalary.STANDARD.landing());
+        assertEquals(200, GoSalary.DOUBLE_ON_LANDING.passing());
+        assertEquals(400, GoSalary.DOUBLE_ON_LANDING.landing());
+
+        gameState.setRules(HouseRules.standard().withDoubleSalaryOnGo(true).compile());
+        new GoSpace().onLand(player1, gameState);
+        assertEquals(1900, player1.getMoney());
+    }
+
+    @Test
+    public void testFreeParkingJackpot() {
+        FreeParkingSpace freeParking = board.getFreeParkingSpace();
+        assertNotNull(freeParking);
+
+        FreeParkingRule.STANDARD.collect(freeParking, 100);
+        assertEquals(0, freeParking.getMoneyPool());
+
+        FreeParkingRule.JACKPOT.collect(freeParking, 100);
+        FreeParkingRule.JACKPOT.collect(freeParking, 75);
+        assertEquals(175, freeParking.getMoneyPool());
+
+        assertEquals(0, FreeParkingRule.STANDARD.land(player1, freeParking));
+        assertEquals(1500, player1.getMoney());
+
+        gameState.setRules(HouseRules.standard().withFreeParkingJackpot(true).compile());
+        freeParking.onLand(player1, gameState);
+        assertEquals(1675, player1.getMoney());
+        assertEquals(0, freeParking.getMoneyPool());
+    }
+
+    @Test
+    public void testNoRentInJail() {
+        gameState.sendToJail(player2);
+
+        assertTrue(RentRule.STANDARD.collects(player2, gameState));
+        assertFalse(RentRule.NO_RENT_IN_JAIL.collects(player2, gameState));
+        assertTrue(RentRule.NO_RENT_IN_JAIL.collects(player1, gameState));
+    }
+
+    @Test
+    public void testLeaveUnsoldOnDecline() {
+        Space boardwalk = board.getspace(39);
+
+        assertNull(DeclineRule.LEAVE_UNSOLD.declined(boardwalk, bank, gameState.getPlayers()));
+        assertNull(boardwalk.getOwner());
+        assertEquals(1500, player1.getMoney());
+        assertEquals(1500, player2.getMoney());
+    }
+
+    @Test
+    public void testAuctionOnDecline() {
+        Space boardwalk = board.getspace(39);
+
+        Player winner = DeclineRule.AUCTION.declined(boardwalk, bank, gameState.getPlayers());
+
+        assertNotNull(winner);
+        assertSame(winner, boardwalk.getOwner());
+    }
+
+    @Test
+    public void testApplyToBank() {
+        gameState.setRules(HouseRules.standard().withEvenBuilding(false).compile());
+        assertEquals(BuildingInventory.HOTEL, bank.getBuildingInventory().getMaxSpread());
+
+        gameState.setRules(RuleSet.standard());
+        assertEquals(1, bank.getBuildingInventory().getMaxSpread());
+    }
+
+    @Test
+    public void testTurnsAreCounted() {
+        assertEquals(0, gameState.getTurnsPlayed());
+        gameState.nextTurn();
+        gameState.nextTurn();
+        assertEquals(2, gameState.getTurnsPlayed());
+    }
+}
@@ -188,6 +188,22 @@ public class RailroadSpaceTest {
         assertTrue(outContent.toString().contains("Player landed on railroad Reading Railroad"));
     }
 
+    @Test
+    public void testMortgagedRailroadChargesNoRent() {
+        railroad.setOwner(player);
+        railroad.setMortgaged(true);
+
+        assertTrue(railroad.isMortgaged());
+        assertEquals(100, railroad.getMortgageValue());
+        assertEquals(110, railroad.getUnmortgageCost());
+        assertEquals(0, railroad.calculateRent(gameState));
+        assertEquals(100, player.getNetWorth().getAssetValue());
+
+        railroad.setMortgaged(false);
+        assertEquals(25, railroad.calculateRent(gameState, 7));
+        assertEquals(200, player.getNetWorth().getAssetValue());
+    }
+
     @After
     public void restoreStreams() {
         // Restore original System.out
@@ -0,0 +1,123 @@
+package Model.Termination;
+
+import Model.Board.Bank;
+import Model.Board.Gameboard;
+import Model.Board.Player;
+import Model.GameState;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the StalemateDetector class
+ */
+public class StalemateDetectorTest {
+
+    private GameState gameState;
+    private Gameboard board;
+    private Bank bank;
+    private List<Player> players;
+    private StalemateDetector detector;
+    private final PrintStream originalOut = System.out;
+
+    @Before
+    public void setUp() {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        board = new Gameboard();
+        bank = new Bank();
+        players = new ArrayList<>();
+        players.add(new Player("Alice"));
+        players.add(new Player("Bob"));
+        gameState = new GameState(players, board);
+        gameState.setBank(bank);
+        detector = new StalemateDetector(3);
+        gameState.addTerminationPolicy(detector);
+    }
+
+    @After
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    private void playTurns(int turns) {
+        for (int i = 0; i < turns; i++) {
+            gameState.nextTurn();
+        }
+    }
+
+    @Test
+    public void testStalemateAfterRoundsWithoutProgress() {
+        playTurns(5);
+        assertNull(detector.check(gameState));
+
+        playTurns(1);
+        assertEquals(GameEnd.STALEMATE, detector.check(gameState));
+    }
+
+    @Test
+    public void testCashMovingIsNotProgress() {
+        playTurns(5);
+        players.get(0).payRent(players.get(1), 100);
+        assertNull(detector.check(gameState));
+
+        playTurns(1);
+        assertEquals(GameEnd.STALEMATE, detector.check(gameState));
+    }
+
+    @Test
+    public void testChangeOfOwnerIsProgress() {
+        playTurns(5);
+        board.getspace(1).setOwner(players.get(0));
+
+        playTurns(1);
+        assertNull(detector.check(gameState));
+        assertEquals(6, detector.getLastProgressTurn());
+
+        playTurns(5);
+        assertNull(detector.check(gameState));
+        playTurns(1);
+        assertEquals(GameEnd.STALEMATE, detector.check(gameState));
+    }
+
+    @Test
+    public void testBuildingIsProgress() {
+        playTurns(5);
+        bank.getBuildingInventory().apply(board.getPropertiesByColorGroup("Brown"), new int[]{1, 0});
+
+        playTurns(1);
+        assertNull(detector.check(gameState));
+    }
+
+    @Test
+    public void testBankruptcyIsProgress() {
+        players.add(new Player("Carol"));
+        detector.reset(gameState);
+        playTurns(8);
+        players.remove(2);
+
+        playTurns(1);
+        assertNull(detector.check(gameState));
+        assertEquals(9, detector.getLastProgressTurn());
+    }
+
+    @Test
+    public void testReset() {
+        playTurns(6);
+        detector.reset(gameState);
+
+        assertNull(detector.check(gameState));
+        assertEquals(6, detector.getLastProgressTurn());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRounds() {
+        new StalemateDetector(0);
+    }
+}
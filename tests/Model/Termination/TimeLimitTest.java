@@ -0,0 +1,52 @@
+package Model.Termination;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the TimeLimit class
+ */
+public class TimeLimitTest {
+
+    private long now;
+    private TimeLimit limit;
+
+    @Before
+    public void setUp() {
+        now = 1_000;
+        limit = new TimeLimit(Duration.ofSeconds(2), () -> now);
+    }
+
+    @Test
+    public void testStopsAtTheLimit() {
+        now += Duration.ofMillis(1999).toNanos();
+        assertNull(limit.check(null));
+
+        now += Duration.ofMillis(1).toNanos();
+        assertEquals(GameEnd.TIME_LIMIT, limit.check(null));
+    }
+
+    @Test
+    public void testResetRestartsTheClock() {
+        now += Duration.ofSeconds(5).toNanos();
+        limit.reset(null);
+
+        assertNull(limit.check(null));
+        now += Duration.ofSeconds(2).toNanos();
+        assertEquals(GameEnd.TIME_LIMIT, limit.check(null));
+    }
+
+    @Test
+    public void testGetLimit() {
+        assertEquals(Duration.ofSeconds(2), limit.getLimit());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidLimit() {
+        new TimeLimit(Duration.ZERO);
+    }
+}
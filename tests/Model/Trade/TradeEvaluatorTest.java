@@ -0,0 +1,144 @@
+package Model.Trade;
+
+import Model.Board.Gameboard;
+import Model.Board.Player;
+import Model.Board.Strategy.OpponentTracker;
+import Model.Property.Property;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the TradeEvaluator class
+ */
+public class TradeEvaluatorTest {
+
+    private Gameboard gameboard;
+    private TradeEvaluator evaluator;
+    private Player alice;
+    private Player bob;
+    private Property mediterranean;
+    private Property baltic;
+
+    @Before
+    public void setUp() {
+        gameboard = new Gameboard();
+        evaluator = new TradeEvaluator(gameboard);
+        alice = new Player("Alice");
+        bob = new Player("Bob");
+
+        List<Property> brown = gameboard.getPropertiesByColorGroup("Brown");
+        mediterranean = brown.get(0);
+        baltic = brown.get(1);
+        mediterranean.setOwner(alice);
+        alice.addProperty(mediterranean);
+        baltic.setOwner(bob);
+        bob.addProperty(baltic);
+    }
+
+    @Test
+    public void testCashOnlyTrade() {
+        TradeOffer offer = new TradeOffer(alice, bob).giveCash(100).requestCash(30);
+
+        assertEquals(-70, evaluator.score(offer, alice));
+        assertEquals(70, evaluator.score(offer, bob));
+    }
+
+    @Test
+    public void testCompletingGroupIsWorthMore() {
+        TradeOffer offer = new TradeOffer(alice, bob).request(baltic).giveCash(baltic.getPrice());
+
+        // Alice completes the brown group; Bob hands it to her
+        assertTrue(evaluator.score(offer, alice) > 0);
+        assertTrue(evaluator.score(offer, bob) < 0);
+    }
+
+    @Test
+    public void testJailCardValue() {
+        TradeOffer offer = new TradeOffer(alice, bob).requestJailCard();
+
+        assertEquals(TradeEvaluator.JAIL_CARD_VALUE, evaluator.score(offer, alice));
+    }
+
+    @Test
+    public void testMortgagedPropertyWorthLess() {
+        bob.removeProperty(baltic);
+        baltic.setOwner(null);
+        alice.mortgageProperty(mediterranean);
+        TradeOffer offer = new TradeOffer(alice, bob).give(mediterranean);
+
+        assertEquals(mediterranean.getPrice() - mediterranean.getUnmortgageCost(), evaluator.score(offer, bob));
+    }
+
+    @Test
+    public void testRespondAcceptsFairTrade() {
+        Trade trade = new Trade(new TradeOffer(alice, bob).giveCash(10));
+
+        assertEquals(TradeStatus.ACCEPTED, evaluator.respond(trade));
+        assertEquals(1510, bob.getMoney());
+    }
+
+    @Test
+    public void testRespondCountersWithCash() {
+        Trade trade = new Trade(new TradeOffer(alice, bob).request(baltic).giveCash(60));
+
+        assertEquals(TradeStatus.PENDING, evaluator.respond(trade));
+
+        TradeOffer counter = trade.getCurrentOffer();
+        assertSame(bob, counter.getProposer());
+        assertTrue(counter.getCashRequested() > 60);
+        // The counter leaves Bob even
+        assertEquals(0, evaluator.score(counter, bob));
+    }
+
+    @Test
+    public void testRespondRejectsWhenProposerCannotPay() {
+        alice.subtractMoney(alice.getMoney());
+        Trade trade = new Trade(new TradeOffer(alice, bob).request(baltic));
+
+        assertEquals(TradeStatus.REJECTED, evaluator.respond(trade));
+        assertSame(bob, baltic.getOwner());
+    }
+
+    @Test
+    public void testScoringIsFast() {
+        TradeOffer offer = new TradeOffer(alice, bob).give(mediterranean).request(baltic).giveCash(20);
+        int rounds = 100000;
+        long start = System.nanoTime();
+        long total = 0;
+        for (int i = 0; i < rounds; i++) {
+            total += evaluator.score(offer, i % 2 == 0 ? alice : bob);
+        }
+        long perScore = (System.nanoTime() - start) / rounds;
+
+        assertTrue(total != Long.MIN_VALUE);
+        assertTrue("Scoring took " + perScore + "ns", perScore < 100_000);
+    }
+
+    @Test
+    public void testHandingGroupToBuilderCostsMore() {
+        TradeOffer offer = new TradeOffer(alice, bob).request(baltic).giveCash(baltic.getPrice());
+        int unknown = evaluator.score(offer, bob);
+
+        OpponentTracker tracker = new OpponentTracker();
+        tracker.buildingsBought(alice, 10, 500);
+        evaluator.setOpponentTracker(tracker);
+
+        // Ten buildings seen make Alice half again as dangerous with the group
+        int groupValue = mediterranean.getPrice() + baltic.getPrice();
+        assertEquals(unknown - groupValue / 2, evaluator.score(offer, bob));
+    }
+
+    @Test
+    public void testUnseenOpponentScoresAsBefore() {
+        TradeOffer offer = new TradeOffer(alice, bob).request(baltic).giveCash(baltic.getPrice());
+        int unknown = evaluator.score(offer, bob);
+
+        evaluator.setOpponentTracker(new OpponentTracker());
+
+        assertEquals(unknown, evaluator.score(offer, bob));
+    }
+}
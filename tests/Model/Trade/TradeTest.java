@@ -0,0 +1,159 @@
+package Model.Trade;
+
+import Model.Board.Player;
+import Model.Ledger.Ledger;
+import Model.Property.Property;
+import Model.Spaces.RailroadSpace;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the Trade and TradeOffer classes
+ */
+public class TradeTest {
+
+    private Player alice;
+    private Player bob;
+    private Property mediterranean;
+    private Property baltic;
+    private RailroadSpace reading;
+
+    @Before
+    public void setUp() {
+        alice = new Player("Alice");
+        bob = new Player("Bob");
+        mediterranean = new Property("Mediterranean Avenue", 1, 60, "Brown");
+        baltic = new Property("Baltic Avenue", 3, 60, "Brown");
+        reading = new RailroadSpace("Reading Railroad", 5);
+
+        mediterranean.setOwner(alice);
+        alice.addProperty(mediterranean);
+        baltic.setOwner(bob);
+        bob.addProperty(baltic);
+        reading.setOwner(bob);
+    }
+
+    @Test
+    public void testAcceptSettlesEverything() {
+        alice.setHasGetOutOfJailFreeCard(true);
+        Trade trade = new Trade(new TradeOffer(alice, bob)
+                .give(mediterranean).giveCash(100).giveJailCard()
+                .request(baltic).request(reading));
+
+        assertTrue(trade.accept(bob));
+
+        assertEquals(TradeStatus.ACCEPTED, trade.getStatus());
+        assertSame(bob, mediterranean.getOwner());
+        assertSame(alice, baltic.getOwner());
+        assertSame(alice, reading.getOwner());
+        assertTrue(alice.getProperties().contains(baltic));
+        assertFalse(alice.getProperties().contains(mediterranean));
+        assertTrue(bob.getProperties().contains(mediterranean));
+        assertEquals(1400, alice.getMoney());
+        assertEquals(1600, bob.getMoney());
+        assertFalse(alice.hasGetOutOfJailFreeCard());
+        assertTrue(bob.hasGetOutOfJailFreeCard());
+    }
+
+    @Test
+    public void testOnlyRecipientCanAccept() {
+        Trade trade = new Trade(new TradeOffer(alice, bob).give(mediterranean).request(baltic));
+
+        assertFalse(trade.accept(alice));
+        assertEquals(TradeStatus.PENDING, trade.getStatus());
+    }
+
+    @Test
+    public void testFailedCheckChangesNothing() {
+        Trade trade = new Trade(new TradeOffer(alice, bob).give(mediterranean).requestCash(5000));
+
+        assertFalse(trade.accept(bob));
+
+        assertSame(alice, mediterranean.getOwner());
+        assertEquals(1500, bob.getMoney());
+        assertEquals(TradeStatus.PENDING, trade.getStatus());
+    }
+
+    @Test
+    public void testCannotTradeWhatIsNotOwned() {
+        TradeOffer offer = new TradeOffer(alice, bob).give(baltic);
+
+        assertNotNull(Trade.check(offer));
+    }
+
+    @Test
+    public void testCannotTradeDevelopedGroup() {
+        Property vermont = new Property("Vermont Avenue", 8, 100, "Light Blue");
+        Property oriental = new Property("Oriental Avenue", 6, 100, "Light Blue");
+        vermont.setOwner(alice);
+        oriental.setOwner(alice);
+        alice.addProperty(vermont);
+        alice.addProperty(oriental);
+        oriental.setHouses(1);
+
+        assertNotNull(Trade.check(new TradeOffer(alice, bob).give(vermont)));
+    }
+
+    @Test
+    public void testCounterOfferThenAccept() {
+        Trade trade = new Trade(new TradeOffer(alice, bob).give(mediterranean).request(baltic));
+
+        TradeOffer counter = trade.getCurrentOffer().reverse().requestCash(50);
+        assertTrue(trade.counter(counter));
+        assertFalse(trade.accept(bob)); // now it is Alice's turn to answer
+        assertTrue(trade.accept(alice));
+
+        assertEquals(2, trade.getHistory().size());
+        assertSame(alice, baltic.getOwner());
+        assertEquals(1450, alice.getMoney());
+        assertEquals(1550, bob.getMoney());
+    }
+
+    @Test
+    public void testCounterMustAnswerCurrentOffer() {
+        Trade trade = new Trade(new TradeOffer(alice, bob).give(mediterranean));
+
+        assertFalse(trade.counter(new TradeOffer(alice, bob).giveCash(10)));
+    }
+
+    @Test
+    public void testReject() {
+        Trade trade = new Trade(new TradeOffer(alice, bob).give(mediterranean));
+
+        assertTrue(trade.reject(bob));
+        assertEquals(TradeStatus.REJECTED, trade.getStatus());
+        assertFalse(trade.accept(bob));
+    }
+
+    @Test
+    public void testMortgagedPropertyStaysMortgaged() {
+        alice.mortgageProperty(mediterranean);
+        Trade trade = new Trade(new TradeOffer(alice, bob).give(mediterranean));
+
+        assertTrue(trade.accept(bob));
+
+        assertTrue(bob.getMortgagedProperties().contains(mediterranean));
+        assertFalse(alice.getMortgagedProperties().contains(mediterranean));
+    }
+
+    @Test
+    public void testCashGoesThroughLedger() {
+        Ledger ledger = new Ledger();
+        ledger.open(alice);
+        ledger.open(bob);
+        Trade trade = new Trade(new TradeOffer(alice, bob).give(mediterranean).requestCash(80));
+
+        assertTrue(trade.accept(bob));
+
+        assertEquals(1, ledger.getTransactionCount());
+        assertEquals(1580, ledger.getBalance(alice));
+        assertTrue(ledger.reconcile());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCannotTradeWithSelf() {
+        new TradeOffer(alice, alice);
+    }
+}
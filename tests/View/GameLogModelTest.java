@@ -0,0 +1,127 @@
+package View;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the GameLogModel class.
+ * Tests the ring buffer wrapping around and old messages spilling to disk.
+ */
+public class GameLogModelTest {
+    private File spillFile;
+
+    @Before
+    public void setUp() throws IOException {
+        spillFile = File.createTempFile("game-log-test-", ".txt");
+    }
+
+    @After
+    public void tearDown() {
+        spillFile.delete();
+    }
+
+    @Test
+    public void testAppendBelowRetention() {
+        GameLogModel model = new GameLogModel(3, spillFile);
+        model.append("one");
+        model.append("two");
+
+        assertEquals(2, model.getSize());
+        assertEquals("one", model.getElementAt(0));
+        assertEquals("two", model.getElementAt(1));
+        assertEquals(0, model.getSpilledCount());
+    }
+
+    @Test
+    public void testWrapAroundKeepsNewestInOrder() {
+        GameLogModel model = new GameLogModel(3, spillFile);
+        for (int i = 1; i <= 8; i++) {
+            model.append("message " + i);
+        }
+
+        // Only the last three are kept, oldest first, however many times the buffer wrapped
+        assertEquals(3, model.getSize());
+        assertEquals("message 6", model.getElementAt(0));
+        assertEquals("message 7", model.getElementAt(1));
+        assertEquals("message 8", model.getElementAt(2));
+        assertEquals(5, model.getSpilledCount());
+    }
+
+    @Test
+    public void testEvictedMessagesAreSpilledInOrder() throws IOException {
+        GameLogModel model = new GameLogModel(2, spillFile);
+        for (int i = 1; i <= 5; i++) {
+            model.append("message " + i);
+        }
+        model.close();
+
+        List<String> spilled = Files.readAllLines(spillFile.toPath(), StandardCharsets.UTF_8);
+        assertEquals(Arrays.asList("message 1", "message 2", "message 3"), spilled);
+        assertEquals(3, model.getSpilledCount());
+    }
+
+    @Test
+    public void testSpillingDisabledStillCounts() {
+        GameLogModel model = new GameLogModel(1, null);
+        model.append("first");
+        model.append("second");
+
+        assertEquals(1, model.getSize());
+        assertEquals("second", model.getElementAt(0));
+        assertEquals(1, model.getSpilledCount());
+        assertNull(model.getSpillFile());
+    }
+
+    @Test
+    public void testEvictionFiresRemoveThenAdd() {
+        GameLogModel model = new GameLogModel(2, null);
+        List<String> events = new ArrayList<>();
+        model.addListDataListener(new ListDataListener() {
+            @Override
+            public void intervalAdded(ListDataEvent e) {
+                events.add("added " + e.getIndex0());
+            }
+
+            @Override
+            public void intervalRemoved(ListDataEvent e) {
+                events.add("removed " + e.getIndex0());
+            }
+
+            @Override
+            public void contentsChanged(ListDataEvent e) {
+                events.add("changed");
+            }
+        });
+
+        model.append("a");
+        model.append("b");
+        model.append("c");
+
+        assertEquals(Arrays.asList("added 0", "added 1", "removed 0", "added 1"), events);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetElementOutOfRange() {
+        GameLogModel model = new GameLogModel(2, null);
+        model.append("only");
+        model.getElementAt(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRetentionMustBePositive() {
+        new GameLogModel(0, null);
+    }
+}